@@ -97,6 +97,23 @@ namespace knn_jni {
          */
         void freeBinaryVectorData(jlong);
 
+        /**
+         * Allocate native memory and wrap it in a direct byte buffer. Unlike buffers allocated by the JVM, the memory is
+         * not released by the garbage collector and has to be freed with {@link freeDirectBuffer}.
+         *
+         * @param capacity size of the buffer in bytes
+         * @return direct byte buffer over the allocated memory
+         */
+        jobject allocateDirectBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong);
+
+        /**
+         * Free up the memory of a buffer returned by {@link allocateDirectBuffer}. The buffer must not be accessed
+         * afterwards.
+         *
+         * @param buffer direct byte buffer to be freed.
+         */
+        void freeDirectBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jobject);
+
         /**
          * Extracts query time efSearch from method parameters
          **/
@@ -43,6 +43,24 @@ namespace knn_jni {
                                          jlong vectorsAddressJ, jint dimJ, jobject output, jbyteArray templateIndexJ,
                                          jobject parametersJ);
 
+        // Initialize an index from a template index, so that vectors can be added in batches with InsertToIndex and the
+        // index can be written with WriteIndex, the same as an index created with InitIndex.
+        // The template cached for the model id by CacheTemplate is cloned for every new index. templateIndexJ is only
+        // deserialized, and not cached, when the template of the model id is not cached.
+        //
+        // Return a pointer to the initialized index
+        jlong InitIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong numDocs, jint dimJ,
+                                    jstring modelIdJ, jbyteArray templateIndexJ, jobject parametersJ);
+
+        // Deserialize templateIndexJ and cache it for the model id, unless a template of the model id is cached already.
+        // The cache is bounded and accounted by the caller, which evicts the template with EvictTemplate.
+        //
+        // Return the number of bytes allocated by the cached template
+        jlong CacheTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring modelIdJ, jbyteArray templateIndexJ);
+
+        // Evict the cached template of the model id, if any.
+        void EvictTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring modelIdJ);
+
         // Load an index from indexPathJ into memory.
         //
         // Return a pointer to the loaded index
@@ -53,6 +71,15 @@ namespace knn_jni {
         // Returns a pointer of the loaded index
         jlong LoadIndexWithStream(faiss::IOReader* ioReader);
 
+        // Loads an index with a reader implemented IOReader so that more vectors can be added to it with InsertToIndex and the
+        // index can be written with WriteIndex, the same as an index created with InitIndex. The index is not loaded read only,
+        // and the id of every vector is replaced with its entry in docIdMapJ, which maps the doc ids of the segment the index
+        // was built for to the doc ids of the merged segment. Fails if an id is mapped to a negative id.
+        //
+        // Returns a pointer of the loaded index
+        jlong LoadIndexWithStreamForUpdate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, faiss::IOReader* ioReader,
+                                           jintArray docIdMapJ, jobject parametersJ);
+
         // Loads an index with a reader implemented IOReader. The index
         // is expected to be a binary index. For ADC, it will be converted into a
         // float index.
@@ -111,6 +138,21 @@ namespace knn_jni {
                                            jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
                                            jint filterIdsTypeJ, jintArray parentIdsJ);
 
+        /**
+         *  Execute a query against the index located in memory at indexPointerJ along with Filters, with the search
+         *  parameters passed as primitives instead of a java map
+         *
+         * Parameters:
+         * efSearchJ: ef_search to use for HNSW indices, the value of the index is used when it is not positive
+         * nprobesJ: nprobes to use for IVF indices, the value of the index is used when it is not positive
+         * filterIdsJ: ids to search among, may be null
+         *
+         * Return an array of KNNQueryResults
+        */
+        jobjectArray QueryIndex_WithSearchParams(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                                 jfloatArray queryVectorJ, jint kJ, jint efSearchJ, jint nprobesJ,
+                                                 jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ);
+
         // Execute a query against the binary index located in memory at indexPointerJ along with Filters
         //
         // Return an array of KNNQueryResults
@@ -123,6 +165,13 @@ namespace knn_jni {
         // Free shared index state in memory at shareIndexStatePointerJ
         void FreeSharedIndexState(jlong shareIndexStatePointerJ);
 
+        // Return the number of bytes allocated by the index located in memory at indexPointer. The shared index
+        // state is not included, see GetSharedIndexStateMemoryUsage.
+        jlong GetIndexMemoryUsage(jlong indexPointer, jboolean isBinaryIndexJ);
+
+        // Return the number of bytes allocated by the shared index state in memory at shareIndexStatePointerJ
+        jlong GetSharedIndexStateMemoryUsage(jlong shareIndexStatePointerJ);
+
         // Perform initilization operations for the library
         void InitLibrary();
 
@@ -52,6 +52,11 @@ namespace knn_jni {
         // Find a java method given a particular class, name and signature
         virtual jmethodID FindMethod(JNIEnv * env, const std::string& className, const std::string& methodName) = 0;
 
+        // Find the KNNQueryResult class and its constructor. Both are resolved once at library init, so building the
+        // results of a query does not look them up by name
+        virtual jclass FindQueryResultClass(JNIEnv * env) = 0;
+        virtual jmethodID FindQueryResultConstructor(JNIEnv * env) = 0;
+
         // --------------------------------------------------------------------------
 
         // ------------------------- JAVA TO CPP CONVERTERS -------------------------
@@ -122,6 +127,10 @@ namespace knn_jni {
 
         virtual jbyteArray NewByteArray(JNIEnv *env, jsize len) = 0;
 
+        virtual jobject NewDirectByteBuffer(JNIEnv *env, void *address, jlong capacity) = 0;
+
+        virtual void * GetDirectBufferAddress(JNIEnv *env, jobject buffer) = 0;
+
         virtual void ReleaseByteArrayElements(JNIEnv *env, jbyteArray array, jbyte *elems, int mode) = 0;
 
         virtual void ReleaseFloatArrayElements(JNIEnv *env, jfloatArray array, jfloat *elems, int mode) = 0;
@@ -173,6 +182,8 @@ namespace knn_jni {
         void CatchCppExceptionAndThrowJava(JNIEnv* env) final;
         jclass FindClass(JNIEnv * env, const std::string& className) final;
         jmethodID FindMethod(JNIEnv * env, const std::string& className, const std::string& methodName) final;
+        jclass FindQueryResultClass(JNIEnv * env) final;
+        jmethodID FindQueryResultConstructor(JNIEnv * env) final;
         std::string ConvertJavaStringToCppString(JNIEnv * env, jstring javaString) final;
         std::unordered_map<std::string, jobject> ConvertJavaMapToCppMap(JNIEnv *env, jobject parametersJ) final;
         std::string ConvertJavaObjectToCppString(JNIEnv *env, jobject objectJ) final;
@@ -197,6 +208,8 @@ namespace knn_jni {
         jobject NewObject(JNIEnv *env, jclass clazz, jmethodID methodId, int id, float distance) final;
         jobjectArray NewObjectArray(JNIEnv *env, jsize len, jclass clazz, jobject init) final;
         jbyteArray NewByteArray(JNIEnv *env, jsize len) final;
+        jobject NewDirectByteBuffer(JNIEnv *env, void *address, jlong capacity) final;
+        void * GetDirectBufferAddress(JNIEnv *env, jobject buffer) final;
         void ReleaseByteArrayElements(JNIEnv *env, jbyteArray array, jbyte *elems, int mode) final;
         void ReleaseFloatArrayElements(JNIEnv *env, jfloatArray array, jfloat *elems, int mode) final;
         void ReleaseIntArrayElements(JNIEnv *env, jintArray array, jint *elems, jint mode) final;
@@ -219,6 +232,9 @@ namespace knn_jni {
     private:
         std::unordered_map<std::string, jclass> cachedClasses;
         std::unordered_map<std::string, jmethodID> cachedMethods;
+        // Global ref owned by cachedClasses
+        jclass queryResultClass = nullptr;
+        jmethodID queryResultConstructor = nullptr;
     };  // class JNIUtil
 
     /**
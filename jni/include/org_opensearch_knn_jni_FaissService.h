@@ -100,6 +100,30 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_writeByteIndex(J
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createIndexFromTemplate
     (JNIEnv *, jclass, jintArray, jlong, jint, jobject, jbyteArray, jobject);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    initIndexFromTemplate
+ * Signature: (JILjava/lang/String;[BLjava/util/Map;)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_initIndexFromTemplate
+    (JNIEnv *, jclass, jlong, jint, jstring, jbyteArray, jobject);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    evictTemplate
+ * Signature: (Ljava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_evictTemplate
+    (JNIEnv *, jclass, jstring);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    cacheTemplate
+ * Signature: (Ljava/lang/String;[B)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_cacheTemplate
+    (JNIEnv *, jclass, jstring, jbyteArray);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    createBinaryIndexFromTemplate
@@ -148,6 +172,14 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadBinaryIndex
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadBinaryIndexWithStream
   (JNIEnv *, jclass, jobject);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    loadIndexWithStreamForUpdate
+ * Signature: (Lorg/opensearch/knn/index/store/IndexInputWithBuffer;[ILjava/util/Map;)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithStreamForUpdate
+  (JNIEnv *, jclass, jobject, jintArray, jobject);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    loadIndexWithStreamADCParams
@@ -196,6 +228,14 @@ JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryInd
 JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithFilter
   (JNIEnv *, jclass, jlong, jfloatArray, jint, jobject, jlongArray, jint, jintArray);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    queryIndexWithSearchParams
+ * Signature: (J[FIII[JI[I)[Lorg/opensearch/knn/index/query/KNNQueryResult;
+ */
+JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithSearchParams
+  (JNIEnv *, jclass, jlong, jfloatArray, jint, jint, jint, jlongArray, jint, jintArray);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    queryBIndexWithFilter
@@ -220,6 +260,22 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_free
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_freeSharedIndexState
   (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    getIndexMemoryUsage
+ * Signature: (JZ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_getIndexMemoryUsage
+  (JNIEnv *, jclass, jlong, jboolean);
+
+/*
+ * Class:     org_opensearch_knn_jni_FaissService
+ * Method:    getSharedIndexStateMemoryUsage
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_getSharedIndexStateMemoryUsage
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     org_opensearch_knn_jni_FaissService
  * Method:    initLibrary
@@ -66,6 +66,22 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeBinaryVectorDa
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeByteVectorData
 (JNIEnv *, jclass, jlong);
 
+/*
+ * Class:     org_opensearch_knn_jni_JNICommons
+ * Method:    allocateDirectBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_org_opensearch_knn_jni_JNICommons_allocateDirectBuffer
+(JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_opensearch_knn_jni_JNICommons
+ * Method:    freeDirectBuffer
+ * Signature: (Ljava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeDirectBuffer
+(JNIEnv *, jclass, jobject);
+
 #ifdef __cplusplus
 }
 #endif
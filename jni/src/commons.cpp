@@ -10,6 +10,8 @@
  */
 #include <jni.h>
 
+#include <cstdlib>
+#include <new>
 #include <vector>
 
 #include "jni_util.h"
@@ -75,6 +77,31 @@ jlong knn_jni::commons::storeByteVectorData(knn_jni::JNIUtilInterface *jniUtil,
     return (jlong) vect;
 }
 
+jobject knn_jni::commons::allocateDirectBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong capacityJ) {
+    if (capacityJ <= 0) {
+        throw std::runtime_error("Capacity of a direct buffer must be positive");
+    }
+
+    void *address = std::malloc((size_t) capacityJ);
+    if (address == nullptr) {
+        throw std::bad_alloc();
+    }
+
+    try {
+        return jniUtil->NewDirectByteBuffer(env, address, capacityJ);
+    } catch (...) {
+        std::free(address);
+        throw;
+    }
+}
+
+void knn_jni::commons::freeDirectBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jobject bufferJ) {
+    if (bufferJ == nullptr) {
+        throw std::runtime_error("Buffer cannot be null");
+    }
+    std::free(jniUtil->GetDirectBufferAddress(env, bufferJ));
+}
+
 void knn_jni::commons::freeVectorData(jlong memoryAddressJ) {
     if (memoryAddressJ != 0) {
         auto *vect = reinterpret_cast<std::vector<float>*>(memoryAddressJ);
@@ -27,10 +27,17 @@
 #include "commons.h"
 #include "faiss/IndexBinaryIVF.h"
 #include "faiss/IndexBinaryHNSW.h"
+#include "faiss/IndexBinaryFlat.h"
+#include "faiss/IndexIDMap.h"
+#include "faiss/IndexScalarQuantizer.h"
+#include "faiss/clone_index.h"
 
 #include <algorithm>
 #include <jni.h>
+#include <memory>
+#include <mutex>
 #include <string>
+#include <unordered_map>
 #include <vector>
 
 // Defines type of IDSelector
@@ -89,6 +96,19 @@ void buildFilterIdsBitMap(const int* filterIds, int filterIdsLength, uint8_t* bi
 
 std::unique_ptr<faiss::IDGrouperBitmap> buildIDGrouperBitmap(knn_jni::JNIUtilInterface * jniUtil, JNIEnv *env, jintArray parentIdsJ, std::vector<uint64_t>* bitmap);
 
+// Deserialize a template index from a Java byte array.
+std::shared_ptr<faiss::Index> deserializeTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ);
+
+// Cache of deserialized template indices, keyed by model id. Templates are cached and evicted by the native memory cache
+// manager of the plugin, which bounds and accounts them with the size returned by CacheTemplate.
+struct CachedTemplate {
+    std::shared_ptr<faiss::Index> index;
+    size_t sizeInBytes;
+};
+
+std::mutex templateCacheMutex;
+std::unordered_map<std::string, CachedTemplate> templateCache;
+
 // Check if a loaded index is an IVFPQ index with l2 space type
 bool isIndexIVFPQL2(faiss::Index * index);
 
@@ -96,6 +116,44 @@ bool isIndexIVFPQL2(faiss::Index * index);
 // IndexIDMap which has member that will point to underlying index that stores the data
 faiss::IndexIVFPQ * extractIVFPQIndex(faiss::Index * index);
 
+// Return the number of bytes allocated by an index and the indices it wraps. Storage that is not owned by the index,
+// like a shared IVFPQ precomputed table, is not included.
+size_t computeMemoryUsage(const faiss::Index * index);
+
+// Return the number of bytes allocated by a binary index and the indices it wraps.
+size_t computeBinaryMemoryUsage(const faiss::IndexBinary * index);
+
+// Return the number of bytes allocated by the graph of an HNSW index.
+size_t computeHNSWMemoryUsage(const faiss::HNSW& hnsw);
+
+// Buffers receiving the top k ids and distances of a search. They are kept per thread and reused across queries, so
+// that a search does not allocate them on every call. Their size is bounded by the largest k queried on the thread.
+struct QueryScratch {
+    std::vector<float> distances;
+    std::vector<int32_t> binaryDistances;
+    std::vector<faiss::idx_t> ids;
+};
+
+QueryScratch& getQueryScratch();
+
+// Name of the class and constructor of the results returned to java. Both are cached when the library is loaded.
+// Converts the first resultSize ids and distances of a search into an array of KNNQueryResult
+template<typename T>
+jobjectArray buildQueryResults(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, int resultSize,
+                               const faiss::idx_t* ids, const T* distances) {
+    jclass resultClass = jniUtil->FindQueryResultClass(env);
+    jmethodID allArgs = jniUtil->FindQueryResultConstructor(env);
+
+    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
+
+    jobject result;
+    for (int i = 0; i < resultSize; ++i) {
+        result = jniUtil->NewObject(env, resultClass, allArgs, ids[i], distances[i]);
+        jniUtil->SetObjectArrayElement(env, results, i, result);
+    }
+    return results;
+}
+
 jlong knn_jni::faiss_wrapper::InitIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong numDocs, jint dimJ,
                                          jobject parametersJ, IndexService* indexService) {
 
@@ -436,6 +494,97 @@ void knn_jni::faiss_wrapper::CreateByteIndexFromTemplate(knn_jni::JNIUtilInterfa
     mediator.flush();
 }
 
+jlong knn_jni::faiss_wrapper::InitIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong numDocs, jint dimJ,
+                                                    jstring modelIdJ, jbyteArray templateIndexJ, jobject parametersJ) {
+    if (dimJ <= 0) {
+        throw std::runtime_error("Vectors dimensions cannot be less than or equal to 0");
+    }
+
+    if (modelIdJ == nullptr) {
+        throw std::runtime_error("Model id cannot be null");
+    }
+
+    if (templateIndexJ == nullptr) {
+        throw std::runtime_error("Template index cannot be null");
+    }
+
+    if (parametersJ == nullptr) {
+        throw std::runtime_error("Parameters cannot be null");
+    }
+
+    // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
+    auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
+    auto it = parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY);
+    if (it != parametersCpp.end()) {
+        auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, it->second);
+        omp_set_num_threads(threadCount);
+    }
+
+    // Look up the cached template first. A template that is not cached, because it did not fit into the native memory
+    // cache or was evicted since, is deserialized for this index only.
+    const std::string modelId = jniUtil->ConvertJavaStringToCppString(env, modelIdJ);
+    std::shared_ptr<faiss::Index> templateIndex;
+    {
+        std::lock_guard<std::mutex> lock(templateCacheMutex);
+        auto cached = templateCache.find(modelId);
+        if (cached != templateCache.end()) {
+            templateIndex = cached->second.index;
+        }
+    }
+    if (templateIndex == nullptr) {
+        templateIndex = deserializeTemplate(jniUtil, env, templateIndexJ);
+    }
+
+    if (templateIndex->d != (faiss::idx_t) dimJ) {
+        throw std::runtime_error("Dimension of template index " + std::to_string(templateIndex->d)
+                                 + " does not match vector dimension " + std::to_string(dimJ));
+    }
+
+    // Clone the trained but empty template
+    std::unique_ptr<faiss::Index> index;
+    try {
+        index.reset(faiss::clone_index(templateIndex.get()));
+    } catch (const std::exception &e) {
+        throw std::runtime_error("Unable to clone the template index of model " + modelId + ": " + e.what());
+    }
+
+    std::unique_ptr<faiss::IndexIDMap> idMap(new faiss::IndexIDMap(index.get()));
+    // Makes sure the index is deleted when the id map is deleted, which happens after writing it.
+    idMap->own_fields = true;
+    index.release();
+    return reinterpret_cast<jlong>(idMap.release());
+}
+
+jlong knn_jni::faiss_wrapper::CacheTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring modelIdJ,
+                                            jbyteArray templateIndexJ) {
+    if (modelIdJ == nullptr) {
+        throw std::runtime_error("Model id cannot be null");
+    }
+
+    if (templateIndexJ == nullptr) {
+        throw std::runtime_error("Template index cannot be null");
+    }
+
+    // Deserialization happens outside of the lock, a concurrent call for the same model id simply keeps the first one.
+    const std::string modelId = jniUtil->ConvertJavaStringToCppString(env, modelIdJ);
+    std::shared_ptr<faiss::Index> templateIndex = deserializeTemplate(jniUtil, env, templateIndexJ);
+    const size_t sizeInBytes = computeMemoryUsage(templateIndex.get());
+
+    std::lock_guard<std::mutex> lock(templateCacheMutex);
+    auto cached = templateCache.emplace(modelId, CachedTemplate {std::move(templateIndex), sizeInBytes});
+    return (jlong) cached.first->second.sizeInBytes;
+}
+
+void knn_jni::faiss_wrapper::EvictTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring modelIdJ) {
+    if (modelIdJ == nullptr) {
+        throw std::runtime_error("Model id cannot be null");
+    }
+
+    const std::string modelId = jniUtil->ConvertJavaStringToCppString(env, modelIdJ);
+    std::lock_guard<std::mutex> lock(templateCacheMutex);
+    templateCache.erase(modelId);
+}
+
 jlong knn_jni::faiss_wrapper::LoadIndex(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jstring indexPathJ) {
     if (indexPathJ == nullptr) {
         throw std::runtime_error("Index path cannot be null");
@@ -462,6 +611,46 @@ jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
 
     return (jlong) indexReader;
 }
+jlong knn_jni::faiss_wrapper::LoadIndexWithStreamForUpdate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, faiss::IOReader* ioReader,
+                                                           jintArray docIdMapJ, jobject parametersJ) {
+    if (ioReader == nullptr) {
+        throw std::runtime_error("IOReader cannot be null");
+    }
+
+    if (docIdMapJ == nullptr) {
+        throw std::runtime_error("Doc id map cannot be null");
+    }
+
+    if (parametersJ == nullptr) {
+        throw std::runtime_error("Parameters cannot be null");
+    }
+
+    // Set thread count if it is passed in as a parameter. Setting this variable will only impact the current thread
+    auto parametersCpp = jniUtil->ConvertJavaMapToCppMap(env, parametersJ);
+    auto it = parametersCpp.find(knn_jni::INDEX_THREAD_QUANTITY);
+    if (it != parametersCpp.end()) {
+        auto threadCount = jniUtil->ConvertJavaObjectToCppInteger(env, it->second);
+        omp_set_num_threads(threadCount);
+    }
+
+    // Tables skipped by read only loads are needed again once vectors are added.
+    std::unique_ptr<faiss::Index> index(faiss::read_index(ioReader, 0));
+    auto * idMap = dynamic_cast<faiss::IndexIDMap *>(index.get());
+    if (idMap == nullptr) {
+        throw std::runtime_error("Only indices with an id map can be loaded for update");
+    }
+
+    const std::vector<int64_t> docIdMap = jniUtil->ConvertJavaIntArrayToCppIntVector(env, docIdMapJ);
+    for (auto & id : idMap->id_map) {
+        if (id < 0 || id >= (faiss::idx_t) docIdMap.size() || docIdMap[id] < 0) {
+            throw std::runtime_error("Id " + std::to_string(id) + " of the loaded index is not mapped to a document");
+        }
+        id = docIdMap[id];
+    }
+
+    return reinterpret_cast<jlong>(index.release());
+}
+
 jlong knn_jni::faiss_wrapper::LoadIndexWithStreamADCParams(faiss::IOReader* ioReader, knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject methodParamsJ) {
     auto methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
 
@@ -648,6 +837,20 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex(knn_jni::JNIUtilInterface * jniU
 
 jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
                                                 jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ) {
+    // Only ef_search and nprobes are used at query time, so resolve them once and search with the primitive values.
+    int efSearch = -1;
+    int nprobes = -1;
+    if (methodParamsJ != nullptr) {
+        std::unordered_map<std::string, jobject> methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
+        efSearch = knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, EF_SEARCH, -1);
+        nprobes = knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, NPROBES, -1);
+    }
+    return knn_jni::faiss_wrapper::QueryIndex_WithSearchParams(jniUtil, env, indexPointerJ, queryVectorJ, kJ, efSearch, nprobes,
+                                                               filterIdsJ, filterIdsTypeJ, parentIdsJ);
+}
+
+jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithSearchParams(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                                jfloatArray queryVectorJ, jint kJ, jint efSearchJ, jint nprobesJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ) {
 
     if (queryVectorJ == nullptr) {
         throw std::runtime_error("Query Vector cannot be null");
@@ -659,14 +862,13 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
         throw std::runtime_error("Invalid pointer to index");
     }
 
-    std::unordered_map<std::string, jobject> methodParams;
-    if (methodParamsJ != nullptr) {
-        methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
-    }
     // The ids vector will hold the top k ids from the search and the dis vector will hold the top k distances from
     // the query point
-    std::vector<float> dis(kJ);
-    std::vector<faiss::idx_t> ids(kJ);
+    QueryScratch& scratch = getQueryScratch();
+    std::vector<float>& dis = scratch.distances;
+    std::vector<faiss::idx_t>& ids = scratch.ids;
+    dis.resize(kJ);
+    ids.resize(kJ);
     float* rawQueryvector = jniUtil->GetFloatArrayElements(env, queryVectorJ, nullptr);
     /*
         Setting the omp_set_num_threads to 1 to make sure that no new OMP threads are getting created.
@@ -683,7 +885,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
             faiss::idx_t* batchIndices = reinterpret_cast<faiss::idx_t*>(filteredIdsArray);
             idSelector.reset(new faiss::IDSelectorBatch(filterIdsLength, batchIndices));
         }
-        faiss::SearchParameters *searchParameters;
+        faiss::SearchParameters *searchParameters = nullptr;
         faiss::SearchParametersHNSW hnswParams;
         faiss::SearchParametersIVF ivfParams;
         std::unique_ptr<faiss::IDGrouperBitmap> idGrouper;
@@ -691,7 +893,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
         auto hnswReader = dynamic_cast<const faiss::IndexHNSW*>(indexReader->index);
         if(hnswReader) {
             // Query param efsearch supersedes ef_search provided during index setting.
-            hnswParams.efSearch = knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, EF_SEARCH, hnswReader->hnsw.efSearch);
+            hnswParams.efSearch = efSearchJ > 0 ? efSearchJ : hnswReader->hnsw.efSearch;
             hnswParams.sel = idSelector.get();
             if (parentIdsJ != nullptr) {
                 idGrouper = buildIDGrouperBitmap(jniUtil, env, parentIdsJ, &idGrouperBitmap);
@@ -704,7 +906,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
             
             if(ivfReader || ivfFlatReader) {
                 int indexNprobe = ivfReader == nullptr ? ivfFlatReader->nprobe : ivfReader->nprobe;
-                ivfParams.nprobe = commons::getIntegerMethodParameter(env, jniUtil, methodParams, NPROBES, indexNprobe);
+                ivfParams.nprobe = nprobesJ > 0 ? nprobesJ : indexNprobe;
                 ivfParams.sel = idSelector.get();
                 searchParameters = &ivfParams;
             }
@@ -726,7 +928,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
         auto hnswReader = dynamic_cast<const faiss::IndexHNSW*>(indexReader->index);
         if(hnswReader != nullptr) {
             // Query param efsearch supersedes ef_search provided during index setting.
-            hnswParams.efSearch = knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, EF_SEARCH, hnswReader->hnsw.efSearch);
+            hnswParams.efSearch = efSearchJ > 0 ? efSearchJ : hnswReader->hnsw.efSearch;
             if (parentIdsJ != nullptr) {
                 idGrouper = buildIDGrouperBitmap(jniUtil, env, parentIdsJ, &idGrouperBitmap);
                 hnswParams.grp = idGrouper.get();
@@ -736,7 +938,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
             auto ivfReader = dynamic_cast<const faiss::IndexIVF*>(indexReader->index);
             if (ivfReader) {
                 int indexNprobe = ivfReader->nprobe;
-                ivfParams.nprobe = commons::getIntegerMethodParameter(env, jniUtil, methodParams, NPROBES, indexNprobe);
+                ivfParams.nprobe = nprobesJ > 0 ? nprobesJ : indexNprobe;
                 searchParameters = &ivfParams;
             }
         }
@@ -757,17 +959,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
         resultSize = it - ids.begin();
     }
 
-    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
-    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
-
-    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
-
-    jobject result;
-    for(int i = 0; i < resultSize; ++i) {
-        result = jniUtil->NewObject(env, resultClass, allArgs, ids[i], dis[i]);
-        jniUtil->SetObjectArrayElement(env, results, i, result);
-    }
-    return results;
+    return buildQueryResults(jniUtil, env, resultSize, ids.data(), dis.data());
 }
 
 jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
@@ -790,8 +982,11 @@ jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUti
 
     // The ids vector will hold the top k ids from the search and the dis vector will hold the top k distances from
     // the query point
-    std::vector<int32_t> dis(kJ);
-    std::vector<faiss::idx_t> ids(kJ);
+    QueryScratch& scratch = getQueryScratch();
+    std::vector<int32_t>& dis = scratch.binaryDistances;
+    std::vector<faiss::idx_t>& ids = scratch.ids;
+    dis.resize(kJ);
+    ids.resize(kJ);
     int8_t* rawQueryvector = jniUtil->GetByteArrayElements(env, queryVectorJ, nullptr);
     /*
         Setting the omp_set_num_threads to 1 to make sure that no new OMP threads are getting created.
@@ -881,17 +1076,7 @@ jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUti
         resultSize = it - ids.begin();
     }
 
-    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
-    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
-
-    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
-
-    jobject result;
-    for(int i = 0; i < resultSize; ++i) {
-        result = jniUtil->NewObject(env, resultClass, allArgs, ids[i], dis[i]);
-        jniUtil->SetObjectArrayElement(env, results, i, result);
-    }
-    return results;
+    return buildQueryResults(jniUtil, env, resultSize, ids.data(), dis.data());
 }
 
 void knn_jni::faiss_wrapper::Free(jlong indexPointer, jboolean isBinaryIndexJ) {
@@ -915,6 +1100,19 @@ void knn_jni::faiss_wrapper::FreeSharedIndexState(jlong shareIndexStatePointerJ)
     delete alignTable;
 }
 
+jlong knn_jni::faiss_wrapper::GetIndexMemoryUsage(jlong indexPointer, jboolean isBinaryIndexJ) {
+    if (static_cast<bool>(isBinaryIndexJ)) {
+        return (jlong) computeBinaryMemoryUsage(reinterpret_cast<faiss::IndexBinary*>(indexPointer));
+    }
+    return (jlong) computeMemoryUsage(reinterpret_cast<faiss::Index*>(indexPointer));
+}
+
+jlong knn_jni::faiss_wrapper::GetSharedIndexStateMemoryUsage(jlong shareIndexStatePointerJ) {
+    // Same as FreeSharedIndexState, the only shared state is the AlignedTable of IVFPQ-l2 indices.
+    auto *alignTable = reinterpret_cast<faiss::AlignedTable<float>*>(shareIndexStatePointerJ);
+    return (jlong) (alignTable->size() * sizeof(float));
+}
+
 void knn_jni::faiss_wrapper::InitLibrary() {
     //set thread 1 cause ES has Search thread
     //TODO make it different at search and write
@@ -1207,6 +1405,87 @@ bool isIndexIVFPQL2(faiss::Index * index) {
     return false;
 }
 
+std::shared_ptr<faiss::Index> deserializeTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jbyteArray templateIndexJ) {
+    int indexBytesCount = jniUtil->GetJavaBytesArrayLength(env, templateIndexJ);
+    jbyte * indexBytesJ = jniUtil->GetByteArrayElements(env, templateIndexJ, nullptr);
+
+    faiss::VectorIOReader vectorIoReader;
+    vectorIoReader.data.assign((uint8_t *) indexBytesJ, ((uint8_t *) indexBytesJ) + indexBytesCount);
+    jniUtil->ReleaseByteArrayElements(env, templateIndexJ, indexBytesJ, JNI_ABORT);
+
+    return std::shared_ptr<faiss::Index>(faiss::read_index(&vectorIoReader, 0));
+}
+
+size_t computeHNSWMemoryUsage(const faiss::HNSW& hnsw) {
+    return hnsw.assign_probas.size() * sizeof(double)
+           + hnsw.cum_nneighbor_per_level.size() * sizeof(int)
+           + hnsw.levels.size() * sizeof(int)
+           + hnsw.offsets.size() * sizeof(size_t)
+           + hnsw.neighbors.size() * sizeof(faiss::HNSW::storage_idx_t);
+}
+
+size_t computeMemoryUsage(const faiss::Index * index) {
+    if (index == nullptr) {
+        return 0;
+    }
+
+    size_t bytes = 0;
+    if (auto indexIDMap = dynamic_cast<const faiss::IndexIDMap *>(index)) {
+        return indexIDMap->id_map.size() * sizeof(faiss::idx_t) + computeMemoryUsage(indexIDMap->index);
+    }
+    if (auto indexHNSW = dynamic_cast<const faiss::IndexHNSW *>(index)) {
+        return computeHNSWMemoryUsage(indexHNSW->hnsw) + computeMemoryUsage(indexHNSW->storage);
+    }
+    if (auto indexIVF = dynamic_cast<const faiss::IndexIVF *>(index)) {
+        // Each inverted list entry holds a code and its id.
+        bytes += indexIVF->ntotal * (indexIVF->code_size + sizeof(faiss::idx_t));
+        bytes += computeMemoryUsage(indexIVF->quantizer);
+        if (auto indexIVFPQ = dynamic_cast<const faiss::IndexIVFPQ *>(index)) {
+            bytes += indexIVFPQ->pq.centroids.size() * sizeof(float);
+            if (indexIVFPQ->owns_precomputed_table && indexIVFPQ->precomputed_table != nullptr) {
+                bytes += indexIVFPQ->precomputed_table->size() * sizeof(float);
+            }
+        }
+        return bytes;
+    }
+    if (auto indexBQ = dynamic_cast<const knn_jni::faiss_wrapper::FaissIndexBQ *>(index)) {
+        return indexBQ->codes_vector.size();
+    }
+    if (auto indexFlatCodes = dynamic_cast<const faiss::IndexFlatCodes *>(index)) {
+        bytes += indexFlatCodes->codes.size();
+        if (auto indexSQ = dynamic_cast<const faiss::IndexScalarQuantizer *>(index)) {
+            bytes += indexSQ->sq.trained.size() * sizeof(float);
+        }
+        return bytes;
+    }
+    return bytes;
+}
+
+size_t computeBinaryMemoryUsage(const faiss::IndexBinary * index) {
+    if (index == nullptr) {
+        return 0;
+    }
+
+    if (auto indexIDMap = dynamic_cast<const faiss::IndexBinaryIDMap *>(index)) {
+        return indexIDMap->id_map.size() * sizeof(faiss::idx_t) + computeBinaryMemoryUsage(indexIDMap->index);
+    }
+    if (auto indexHNSW = dynamic_cast<const faiss::IndexBinaryHNSW *>(index)) {
+        return computeHNSWMemoryUsage(indexHNSW->hnsw) + computeBinaryMemoryUsage(indexHNSW->storage);
+    }
+    if (auto indexIVF = dynamic_cast<const faiss::IndexBinaryIVF *>(index)) {
+        return indexIVF->ntotal * (indexIVF->code_size + sizeof(faiss::idx_t)) + computeBinaryMemoryUsage(indexIVF->quantizer);
+    }
+    if (auto indexFlat = dynamic_cast<const faiss::IndexBinaryFlat *>(index)) {
+        return indexFlat->xb.size();
+    }
+    return 0;
+}
+
+QueryScratch& getQueryScratch() {
+    thread_local QueryScratch scratch;
+    return scratch;
+}
+
 faiss::IndexIVFPQ * extractIVFPQIndex(faiss::Index * index) {
     faiss::Index * candidateIndex = index;
     if (auto indexIDMap = dynamic_cast<faiss::IndexIDMap *>(index)) {
@@ -1325,16 +1604,5 @@ jobjectArray knn_jni::faiss_wrapper::RangeSearchWithFilter(knn_jni::JNIUtilInter
         resultSize = maxResultWindowJ;
     }
 
-    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
-    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
-
-    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
-
-    jobject result;
-    for (int i = 0; i < resultSize; ++i) {
-        result = jniUtil->NewObject(env, resultClass, allArgs, res.labels[i], res.distances[i]);
-        jniUtil->SetObjectArrayElement(env, results, i, result);
-    }
-
-    return results;
+    return buildQueryResults(jniUtil, env, resultSize, res.labels, res.distances);
 }
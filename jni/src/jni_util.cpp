@@ -63,6 +63,8 @@ void knn_jni::JNIUtil::Initialize(JNIEnv *env) {
     tempLocalClassRef = env->FindClass("org/opensearch/knn/index/query/KNNQueryResult");
     this->cachedClasses["org/opensearch/knn/index/query/KNNQueryResult"] = (jclass) env->NewGlobalRef(tempLocalClassRef);
     this->cachedMethods["org/opensearch/knn/index/query/KNNQueryResult:<init>"] = env->GetMethodID(tempLocalClassRef, "<init>", "(IF)V");
+    this->queryResultClass = this->cachedClasses["org/opensearch/knn/index/query/KNNQueryResult"];
+    this->queryResultConstructor = this->cachedMethods["org/opensearch/knn/index/query/KNNQueryResult:<init>"];
     env->DeleteLocalRef(tempLocalClassRef);
 }
 
@@ -73,6 +75,8 @@ void knn_jni::JNIUtil::Uninitialize(JNIEnv* env) {
     }
     this->cachedClasses.clear();
     this->cachedMethods.clear();
+    this->queryResultClass = nullptr;
+    this->queryResultConstructor = nullptr;
 }
 
 void knn_jni::JNIUtil::ThrowJavaException(JNIEnv* env, const char* type, const char* message) {
@@ -129,6 +133,22 @@ jmethodID knn_jni::JNIUtil::FindMethod(JNIEnv * env, const std::string& classNam
     return this->cachedMethods[key];
 }
 
+jclass knn_jni::JNIUtil::FindQueryResultClass(JNIEnv * env) {
+    if (this->queryResultClass == nullptr) {
+        throw std::runtime_error("Unable to load class \"org/opensearch/knn/index/query/KNNQueryResult\"");
+    }
+
+    return this->queryResultClass;
+}
+
+jmethodID knn_jni::JNIUtil::FindQueryResultConstructor(JNIEnv * env) {
+    if (this->queryResultConstructor == nullptr) {
+        throw std::runtime_error("Unable to find \"<init>\" method");
+    }
+
+    return this->queryResultConstructor;
+}
+
 std::unordered_map<std::string, jobject> knn_jni::JNIUtil::ConvertJavaMapToCppMap(JNIEnv *env, jobject parametersJ) {
     // Here, we parse parametersJ, which is a java Map<String, Object>. In order to implement this, I referred to
     // https://stackoverflow.com/questions/4844022/jni-create-hashmap. All java references are local, so they will be
@@ -556,6 +576,25 @@ jbyteArray knn_jni::JNIUtil::NewByteArray(JNIEnv *env, jsize len) {
     return byteArray;
 }
 
+jobject knn_jni::JNIUtil::NewDirectByteBuffer(JNIEnv *env, void *address, jlong capacity) {
+    jobject buffer = env->NewDirectByteBuffer(address, capacity);
+    if (buffer == nullptr) {
+        this->HasExceptionInStack(env, "Unable to create direct byte buffer");
+        throw std::runtime_error("Unable to create direct byte buffer");
+    }
+
+    return buffer;
+}
+
+void * knn_jni::JNIUtil::GetDirectBufferAddress(JNIEnv *env, jobject buffer) {
+    void * address = env->GetDirectBufferAddress(buffer);
+    if (address == nullptr) {
+        throw std::runtime_error("Buffer is not a direct buffer");
+    }
+
+    return address;
+}
+
 void knn_jni::JNIUtil::ReleaseByteArrayElements(JNIEnv *env, jbyteArray array, jbyte *elems, int mode) {
     env->ReleaseByteArrayElements(array, elems, mode);
 }
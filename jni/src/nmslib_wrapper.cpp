@@ -334,8 +334,8 @@ jobjectArray knn_jni::nmslib_wrapper::QueryIndex(knn_jni::JNIUtilInterface *jniU
   neighbors.reset(query->Result()->Clone());
 
   int resultSize = neighbors->Size();
-  jclass resultClass = jniUtil->FindClass(env, "org/opensearch/knn/index/query/KNNQueryResult");
-  jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
+  jclass resultClass = jniUtil->FindQueryResultClass(env);
+  jmethodID allArgs = jniUtil->FindQueryResultConstructor(env);
 
   jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
 
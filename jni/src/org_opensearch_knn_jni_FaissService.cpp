@@ -189,6 +189,50 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createIndexFromT
     }
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_initIndexFromTemplate(JNIEnv * env,
+                                                                                       jclass cls,
+                                                                                       jlong numDocs,
+                                                                                       jint dimJ,
+                                                                                       jstring modelIdJ,
+                                                                                       jbyteArray templateIndexJ,
+                                                                                       jobject parametersJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::InitIndexFromTemplate(&jniUtil,
+                                                             env,
+                                                             numDocs,
+                                                             dimJ,
+                                                             modelIdJ,
+                                                             templateIndexJ,
+                                                             parametersJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return (jlong) 0;
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_evictTemplate(JNIEnv * env, jclass cls, jstring modelIdJ)
+{
+    try {
+        knn_jni::faiss_wrapper::EvictTemplate(&jniUtil, env, modelIdJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
+
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_cacheTemplate(JNIEnv * env,
+                                                                               jclass cls,
+                                                                               jstring modelIdJ,
+                                                                               jbyteArray templateIndexJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::CacheTemplate(&jniUtil, env, modelIdJ, templateIndexJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return (jlong) 0;
+}
+
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_createBinaryIndexFromTemplate(JNIEnv * env,
                                                                                               jclass cls,
                                                                                               jintArray idsJ,
@@ -298,6 +342,25 @@ JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadBinaryIndex
 
     return NULL;
 }
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithStreamForUpdate(JNIEnv * env,
+                                                                                              jclass cls,
+                                                                                              jobject readStream,
+                                                                                              jintArray docIdMapJ,
+                                                                                              jobject parametersJ)
+{
+    try {
+        knn_jni::stream::NativeEngineIndexInputMediator mediator {&jniUtil, env, readStream};
+        knn_jni::stream::FaissOpenSearchIOReader faissOpenSearchIOReader {&mediator};
+
+        return knn_jni::faiss_wrapper::LoadIndexWithStreamForUpdate(
+                 &jniUtil, env, &faissOpenSearchIOReader, docIdMapJ, parametersJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+
+    return NULL;
+}
+
 JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_loadIndexWithStreamADCParams
 (JNIEnv * env, jclass cls, jobject readStreamJ, jobject parametersJ) {
     try {
@@ -371,6 +434,18 @@ JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryInd
 
 }
 
+JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryIndexWithSearchParams
+  (JNIEnv * env, jclass cls, jlong indexPointerJ, jfloatArray queryVectorJ, jint kJ, jint efSearchJ, jint nprobesJ, jlongArray filteredIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ) {
+
+      try {
+          return knn_jni::faiss_wrapper::QueryIndex_WithSearchParams(&jniUtil, env, indexPointerJ, queryVectorJ, kJ, efSearchJ, nprobesJ, filteredIdsJ, filterIdsTypeJ, parentIdsJ);
+      } catch (...) {
+          jniUtil.CatchCppExceptionAndThrowJava(env);
+      }
+      return nullptr;
+
+}
+
 JNIEXPORT jobjectArray JNICALL Java_org_opensearch_knn_jni_FaissService_queryBinaryIndexWithFilter
   (JNIEnv * env, jclass cls, jlong indexPointerJ, jbyteArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filteredIdsJ, jint filterIdsTypeJ,  jintArray parentIdsJ) {
 
@@ -402,6 +477,28 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_freeSharedIndexS
     }
 }
 
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_getIndexMemoryUsage
+        (JNIEnv * env, jclass cls, jlong indexPointerJ, jboolean isBinaryIndexJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::GetIndexMemoryUsage(indexPointerJ, isBinaryIndexJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return 0;
+}
+
+JNIEXPORT jlong JNICALL Java_org_opensearch_knn_jni_FaissService_getSharedIndexStateMemoryUsage
+        (JNIEnv * env, jclass cls, jlong shareIndexStatePointerJ)
+{
+    try {
+        return knn_jni::faiss_wrapper::GetSharedIndexStateMemoryUsage(shareIndexStatePointerJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return 0;
+}
+
 JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_FaissService_initLibrary(JNIEnv * env, jclass cls)
 {
     try {
@@ -103,3 +103,24 @@ JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeByteVectorData
         jniUtil.CatchCppExceptionAndThrowJava(env);
     }
 }
+
+JNIEXPORT jobject JNICALL Java_org_opensearch_knn_jni_JNICommons_allocateDirectBuffer(JNIEnv * env, jclass cls,
+                                                                                       jlong capacityJ)
+{
+    try {
+        return knn_jni::commons::allocateDirectBuffer(&jniUtil, env, capacityJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+    return nullptr;
+}
+
+JNIEXPORT void JNICALL Java_org_opensearch_knn_jni_JNICommons_freeDirectBuffer(JNIEnv * env, jclass cls,
+                                                                               jobject bufferJ)
+{
+    try {
+        knn_jni::commons::freeDirectBuffer(&jniUtil, env, bufferJ);
+    } catch (...) {
+        jniUtil.CatchCppExceptionAndThrowJava(env);
+    }
+}
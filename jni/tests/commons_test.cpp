@@ -200,3 +200,23 @@ TEST(CommonTests, GetIntegerMethodParam) {
     int actualValue3 = knn_jni::commons::getIntegerMethodParameter(jniEnv, &mockJNIUtil, methodParams2, knn_jni::EF_SEARCH, 1);
     EXPECT_EQ(1, actualValue3);
 }
+
+TEST(CommonTests, AllocateAndFreeDirectBuffer) {
+    JNIEnv *jniEnv = nullptr;
+    testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    jobject buffer = knn_jni::commons::allocateDirectBuffer(&mockJNIUtil, jniEnv, 64);
+    ASSERT_NE(nullptr, buffer);
+
+    // The memory of the buffer is writable over its whole capacity
+    auto *floats = reinterpret_cast<float *>(mockJNIUtil.GetDirectBufferAddress(jniEnv, buffer));
+    for (int i = 0; i < 16; i++) {
+        floats[i] = (float) i;
+    }
+    ASSERT_EQ(15.0f, floats[15]);
+
+    knn_jni::commons::freeDirectBuffer(&mockJNIUtil, jniEnv, buffer);
+
+    EXPECT_THROW(knn_jni::commons::allocateDirectBuffer(&mockJNIUtil, jniEnv, 0), std::runtime_error);
+    EXPECT_THROW(knn_jni::commons::freeDirectBuffer(&mockJNIUtil, jniEnv, nullptr), std::runtime_error);
+}
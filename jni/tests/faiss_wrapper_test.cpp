@@ -269,6 +269,75 @@ TEST(FaissCreateIndexFromTemplateTest, BasicAssertions) {
     }  // End for
 }
 
+TEST(FaissInitIndexFromTemplateTest, BasicAssertions) {
+    // Define the data
+    faiss::idx_t numIds = 200;
+    std::vector<faiss::idx_t> ids;
+    int dim = 2;
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+    for (int64_t i = 0; i < numIds; ++i) {
+        ids.push_back(i);
+    }
+
+    // Train a template
+    std::unique_ptr<faiss::Index> templateIndex(test_util::FaissCreateIndex(dim, "IVF4,Flat", faiss::METRIC_L2));
+    test_util::FaissTrainIndex(templateIndex.get(), numIds, vectors.data());
+    auto vectorIoWriter = test_util::FaissGetSerializedIndex(templateIndex.get());
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    std::string modelId = test_util::RandomString(10, "model-", "");
+    std::unordered_map<std::string, jobject> parametersMap;
+    std::vector<uint8_t> emptyTemplate;
+    std::unique_ptr<FaissMethods> faissMethods(new FaissMethods());
+    IndexService indexService(std::move(faissMethods));
+
+    // A template that is not cached is deserialized for the index only. Once cached, it is not read anymore.
+    for (int round = 0; round < 2; ++round) {
+        std::vector<uint8_t> * templateBytes = round == 0 ? &vectorIoWriter.data : &emptyTemplate;
+        if (round == 1) {
+            ASSERT_GT(knn_jni::faiss_wrapper::CacheTemplate(&mockJNIUtil, &jniEnv, (jstring) &modelId,
+                                                            reinterpret_cast<jbyteArray>(&vectorIoWriter.data)), 0);
+        }
+        std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+        JavaFileIndexOutputMock javaFileIndexOutputMock {indexPath};
+        setUpJavaFileOutputMocking(javaFileIndexOutputMock, mockJNIUtil, false);
+
+        jlong indexAddress = knn_jni::faiss_wrapper::InitIndexFromTemplate(
+                &mockJNIUtil, &jniEnv, numIds, dim, (jstring) &modelId,
+                reinterpret_cast<jbyteArray>(templateBytes), (jobject) &parametersMap);
+
+        // Insert vectors in two batches
+        for (int batch = 0; batch < 2; ++batch) {
+            std::vector<faiss::idx_t> batchIds(ids.begin() + batch * numIds / 2, ids.begin() + (batch + 1) * numIds / 2);
+            std::vector<float> batchVectors(vectors.begin() + batch * dim * numIds / 2,
+                                            vectors.begin() + (batch + 1) * dim * numIds / 2);
+            knn_jni::faiss_wrapper::InsertToIndex(
+                    &mockJNIUtil, &jniEnv, reinterpret_cast<jintArray>(&batchIds), (jlong) &batchVectors, dim,
+                    indexAddress, 0, &indexService);
+        }
+        knn_jni::faiss_wrapper::WriteIndex(
+                &mockJNIUtil, &jniEnv, (jobject) &javaFileIndexOutputMock, indexAddress, &indexService);
+        javaFileIndexOutputMock.file_writer.close();
+
+        // Make sure index can be loaded and holds all vectors
+        std::unique_ptr<faiss::Index> index(test_util::FaissLoadIndex(indexPath));
+        ASSERT_EQ(numIds, index->ntotal);
+        ASSERT_NE(nullptr, dynamic_cast<faiss::IndexIVF *>(dynamic_cast<faiss::IndexIDMap *>(index.get())->index));
+
+        // Clean up
+        std::remove(indexPath.c_str());
+    }
+
+    // Once evicted, the template has to be provided again
+    knn_jni::faiss_wrapper::EvictTemplate(&mockJNIUtil, &jniEnv, (jstring) &modelId);
+    EXPECT_ANY_THROW(knn_jni::faiss_wrapper::InitIndexFromTemplate(
+            &mockJNIUtil, &jniEnv, numIds, dim, (jstring) &modelId,
+            reinterpret_cast<jbyteArray>(&emptyTemplate), (jobject) &parametersMap));
+}
+
 TEST(FaissCreateByteIndexFromTemplateTest, BasicAssertions) {
     for (auto throwIOException : std::array<bool, 2> {false, true}) {
         // Define the data
@@ -424,6 +493,74 @@ TEST(FaissLoadBinaryIndexTest, BasicAssertions) {
     std::remove(indexPath.c_str());
 }
 
+TEST(FaissLoadIndexWithStreamForUpdateTest, BasicAssertions) {
+    // Define the data
+    faiss::idx_t numIds = 100;
+    int dim = 2;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, 2 * numIds, randomDataMin, randomDataMax);
+
+    // Build an index over the first half of the vectors
+    std::unique_ptr<faiss::Index> createdIndex(test_util::FaissCreateIndex(dim, "HNSW32,Flat", faiss::METRIC_L2));
+    std::vector<float> firstVectors(vectors.begin(), vectors.begin() + dim * numIds);
+    auto createdIndexWithData = test_util::FaissAddData(createdIndex.get(), ids, firstVectors);
+    auto serializedIndex = test_util::FaissGetSerializedIndex(&createdIndexWithData);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    std::unordered_map<std::string, jobject> parametersMap;
+    std::unique_ptr<FaissMethods> faissMethods(new FaissMethods());
+    IndexService indexService(std::move(faissMethods));
+
+    // Docs of the reused segment land after the docs of a leading segment without vectors, and before the inserted docs,
+    // so that the id map of the merged index stays sorted
+    const faiss::idx_t leadingDocs = 10;
+    std::vector<faiss::idx_t> docIdMap;
+    std::vector<faiss::idx_t> newIds;
+    for (int64_t i = 0; i < numIds; ++i) {
+        docIdMap.push_back(leadingDocs + i);
+        newIds.push_back(leadingDocs + numIds + i);
+    }
+
+    faiss::VectorIOReader vectorIoReader;
+    vectorIoReader.data = serializedIndex.data;
+    jlong indexAddress = knn_jni::faiss_wrapper::LoadIndexWithStreamForUpdate(
+            &mockJNIUtil, &jniEnv, &vectorIoReader, reinterpret_cast<jintArray>(&docIdMap), (jobject) &parametersMap);
+
+    // Add the second half of the vectors, then write the merged index
+    std::vector<float> secondVectors(vectors.begin() + dim * numIds, vectors.end());
+    knn_jni::faiss_wrapper::InsertToIndex(
+            &mockJNIUtil, &jniEnv, reinterpret_cast<jintArray>(&newIds), (jlong) &secondVectors, dim,
+            indexAddress, 0, &indexService);
+
+    std::string indexPath = test_util::RandomString(10, "tmp/", ".faiss");
+    JavaFileIndexOutputMock javaFileIndexOutputMock {indexPath};
+    setUpJavaFileOutputMocking(javaFileIndexOutputMock, mockJNIUtil, false);
+    knn_jni::faiss_wrapper::WriteIndex(
+            &mockJNIUtil, &jniEnv, (jobject) &javaFileIndexOutputMock, indexAddress, &indexService);
+    javaFileIndexOutputMock.file_writer.close();
+
+    // Make sure the index holds both halves under their merged ids
+    std::unique_ptr<faiss::Index> index(test_util::FaissLoadIndex(indexPath));
+    auto * idMap = dynamic_cast<faiss::IndexIDMap *>(index.get());
+    ASSERT_NE(nullptr, idMap);
+    ASSERT_EQ(2 * numIds, idMap->ntotal);
+    for (int64_t i = 0; i < 2 * numIds; ++i) {
+        ASSERT_EQ(leadingDocs + i, idMap->id_map[i]);
+    }
+
+    // Ids mapped to deleted docs are rejected
+    docIdMap[0] = -1;
+    faiss::VectorIOReader deletedIoReader;
+    deletedIoReader.data = serializedIndex.data;
+    EXPECT_ANY_THROW(knn_jni::faiss_wrapper::LoadIndexWithStreamForUpdate(
+            &mockJNIUtil, &jniEnv, &deletedIoReader, reinterpret_cast<jintArray>(&docIdMap), (jobject) &parametersMap));
+
+    // Clean up
+    std::remove(indexPath.c_str());
+}
+
 TEST(FaissLoadIndexTest, HNSWPQDisableSdcTable) {
     // Check that when we load an HNSWPQ index, the sdc table is not present.
     faiss::idx_t numIds = 256;
@@ -545,6 +682,67 @@ TEST(FaissQueryIndexTest, BasicAssertions) {
     }
 }
 
+TEST(FaissQueryIndexWithSearchParamsTest, BasicAssertions) {
+    // Define the index data
+    faiss::idx_t numIds = 100;
+    int dim = 16;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Define query data
+    int k = 10;
+    int efSearch = 20;
+    std::unordered_map<std::string, jobject> methodParams;
+    methodParams[knn_jni::EF_SEARCH] = reinterpret_cast<jobject>(&efSearch);
+    std::vector<float> query = test_util::RandomVectors(dim, 1, randomDataMin, randomDataMax);
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+
+    std::unique_ptr<std::vector<std::pair<int, float> *>> expectedResults(
+            reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                    knn_jni::faiss_wrapper::QueryIndex(
+                            &mockJNIUtil, &jniEnv,
+                            reinterpret_cast<jlong>(&createdIndexWithData),
+                            reinterpret_cast<jfloatArray>(&query), k, reinterpret_cast<jobject>(&methodParams), nullptr)));
+
+    // Search parameters passed as primitives must not go through the java map
+    EXPECT_CALL(mockJNIUtil, ConvertJavaMapToCppMap(_, _)).Times(0);
+    // Smaller k first, the per thread buffers must not leak results of the previous query
+    for (int queryK : {k / 2, k}) {
+        std::unique_ptr<std::vector<std::pair<int, float> *>> results(
+                reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                        knn_jni::faiss_wrapper::QueryIndex_WithSearchParams(
+                                &mockJNIUtil, &jniEnv,
+                                reinterpret_cast<jlong>(&createdIndexWithData),
+                                reinterpret_cast<jfloatArray>(&query), queryK, efSearch, -1, nullptr, 0, nullptr)));
+
+        ASSERT_EQ(queryK, results->size());
+        for (int i = 0; i < queryK; i++) {
+            ASSERT_EQ(expectedResults->at(i)->first, results->at(i)->first);
+            ASSERT_FLOAT_EQ(expectedResults->at(i)->second, results->at(i)->second);
+        }
+
+        for (auto it : *results.get()) {
+            delete it;
+        }
+    }
+
+    for (auto it : *expectedResults.get()) {
+        delete it;
+    }
+}
+
 TEST(FaissQueryBinaryIndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 200;
@@ -960,6 +1158,43 @@ TEST(FaissBinaryFreeTest, BasicAssertions) {
     knn_jni::faiss_wrapper::Free(reinterpret_cast<jlong>(createdIndex), JNI_TRUE);
 }
 
+TEST(FaissGetIndexMemoryUsageTest, BasicAssertions) {
+    faiss::idx_t numIds = 100;
+    int dim = 16;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    std::unique_ptr<faiss::Index> faissIndex(test_util::FaissCreateIndex(dim, "HNSW32,Flat", faiss::METRIC_L2));
+    auto faissIndexWithIDMap = test_util::FaissAddData(faissIndex.get(), ids, vectors);
+    auto indexHNSW = dynamic_cast<faiss::IndexHNSW *>(faissIndex.get());
+    ASSERT_NE(indexHNSW, nullptr);
+
+    // Vectors and ids are accounted exactly, on top of the graph.
+    jlong expectedFloor = numIds * dim * sizeof(float) + numIds * sizeof(faiss::idx_t)
+                          + indexHNSW->hnsw.neighbors.size() * sizeof(faiss::HNSW::storage_idx_t);
+    jlong usage = knn_jni::faiss_wrapper::GetIndexMemoryUsage((jlong) &faissIndexWithIDMap, JNI_FALSE);
+    ASSERT_GE(usage, expectedFloor);
+    ASSERT_LT(usage, 2 * expectedFloor);
+    ASSERT_EQ(usage - numIds * (jlong) sizeof(faiss::idx_t),
+              knn_jni::faiss_wrapper::GetIndexMemoryUsage((jlong) faissIndex.get(), JNI_FALSE));
+}
+
+TEST(FaissGetBinaryIndexMemoryUsageTest, BasicAssertions) {
+    faiss::idx_t numIds = 100;
+    int dim = 128;
+    std::vector<faiss::idx_t> ids = test_util::Range(numIds);
+    std::vector<uint8_t> vectors;
+    for (int i = 0; i < numIds * (dim / 8); i++) {
+        vectors.push_back(test_util::RandomInt(0, 255));
+    }
+
+    std::unique_ptr<faiss::IndexBinary> faissIndex(test_util::FaissCreateBinaryIndex(dim, "BHNSW32"));
+    auto faissIndexWithIDMap = test_util::FaissAddBinaryData(faissIndex.get(), ids, vectors);
+
+    jlong expectedFloor = numIds * (dim / 8) + numIds * sizeof(faiss::idx_t);
+    ASSERT_GE(knn_jni::faiss_wrapper::GetIndexMemoryUsage((jlong) &faissIndexWithIDMap, JNI_TRUE), expectedFloor);
+}
+
 TEST(FaissInitLibraryTest, BasicAssertions) {
     knn_jni::faiss_wrapper::InitLibrary();
 }
@@ -1179,6 +1414,8 @@ TEST(FaissInitAndSetSharedIndexState, BasicAssertions) {
     ASSERT_EQ(sharedModelAddress, (jlong) ivfpqIndex->precomputed_table);
     ASSERT_NE(0, ivfpqIndex->precomputed_table->size());
     ASSERT_EQ(1, ivfpqIndex->use_precomputed_table);
+    ASSERT_EQ((jlong) (ivfpqIndex->precomputed_table->size() * sizeof(float)),
+              knn_jni::faiss_wrapper::GetSharedIndexStateMemoryUsage(sharedModelAddress));
     knn_jni::faiss_wrapper::FreeSharedIndexState(sharedModelAddress);
 }
 
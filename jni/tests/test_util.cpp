@@ -115,6 +115,20 @@ test_util::MockJNIUtil::MockJNIUtil() {
                         return (jmethodID)1;
                     });
 
+    // Return any value that isnt 0. This function should not return anything
+    // meaningful in the unit tests
+    ON_CALL(*this, FindQueryResultClass)
+            .WillByDefault([this](JNIEnv *env) {
+                return (jclass)1;
+            });
+
+    // Return any value that isnt 0. This function should not return anything
+    // meaningful in the unit tests
+    ON_CALL(*this, FindQueryResultConstructor)
+            .WillByDefault([this](JNIEnv *env) {
+                return (jmethodID)1;
+            });
+
     // arrayJ is re-interpreted as a std::vector<uint8_t> *
     ON_CALL(*this, GetJavaBytesArrayLength)
             .WillByDefault([this](JNIEnv *env, jbyteArray arrayJ) {
@@ -206,6 +220,19 @@ test_util::MockJNIUtil::MockJNIUtil() {
         return reinterpret_cast<jbyteArray>(new std::vector<uint8_t>());
     });
 
+    // The address is re-interpreted as the buffer, so that the buffer is the
+    // allocated memory itself
+    ON_CALL(*this, NewDirectByteBuffer)
+            .WillByDefault([this](JNIEnv *env, void *address, jlong capacity) {
+                return reinterpret_cast<jobject>(address);
+            });
+
+    // The buffer is re-interpreted as the address of its memory
+    ON_CALL(*this, GetDirectBufferAddress)
+            .WillByDefault([this](JNIEnv *env, jobject buffer) {
+                return reinterpret_cast<void *>(buffer);
+            });
+
     // Create a new std::pair<int, float> with the id and distance and then
     // re-interpret it as a jobject
     ON_CALL(*this, NewObject)
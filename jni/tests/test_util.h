@@ -63,6 +63,8 @@ namespace test_util {
         MOCK_METHOD(void, DeleteLocalRef, (JNIEnv * env, jobject obj));
         MOCK_METHOD(jclass, FindClass, (JNIEnv * env, const std::string& className));
         MOCK_METHOD(jmethodID, FindMethod, (JNIEnv * env, const std::string& className, const std::string& methodName));
+        MOCK_METHOD(jclass, FindQueryResultClass, (JNIEnv * env));
+        MOCK_METHOD(jmethodID, FindQueryResultConstructor, (JNIEnv * env));
         MOCK_METHOD(jbyte*, GetByteArrayElements,
                     (JNIEnv * env, jbyteArray array, jboolean* isCopy));
         MOCK_METHOD(jfloat*, GetFloatArrayElements,
@@ -87,6 +89,9 @@ namespace test_util {
         MOCK_METHOD(void, HasExceptionInStack,
                     (JNIEnv * env, const char* message));
         MOCK_METHOD(jbyteArray, NewByteArray, (JNIEnv * env, jsize len));
+        MOCK_METHOD(jobject, NewDirectByteBuffer,
+                    (JNIEnv * env, void* address, jlong capacity));
+        MOCK_METHOD(void*, GetDirectBufferAddress, (JNIEnv * env, jobject buffer));
         MOCK_METHOD(jobject, NewObject,
                     (JNIEnv * env, jclass clazz, jmethodID methodId, int id,
                             float distance));
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Helpers shared by the micro-benchmarks. Benchmarks run without a cluster, so settings read through {@link KNNSettings} are
+ * served by a standalone {@link ClusterService} holding default values.
+ */
+@UtilityClass
+public class BenchmarkUtils {
+    public static final long SEED = 42;
+
+    /**
+     * Make {@link KNNSettings} return default values of all node scope k-NN settings.
+     */
+    public static void initKNNSettings() {
+        initKNNSettings(Settings.EMPTY);
+    }
+
+    /**
+     * Make {@link KNNSettings} return the given values of node scope k-NN settings, and default values of the others.
+     *
+     * @param nodeSettings values of the settings to override
+     * @return cluster service serving the settings, without cluster state until one is set through its applier service
+     */
+    public static ClusterService initKNNSettings(final Settings nodeSettings) {
+        final Set<Setting<?>> settings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        KNNSettings.state()
+            .getSettings()
+            .stream()
+            .filter(setting -> setting.getProperties().contains(Setting.Property.NodeScope))
+            .forEach(settings::add);
+        final ClusterSettings clusterSettings = new ClusterSettings(nodeSettings, settings);
+        final ClusterService clusterService = new ClusterService(nodeSettings, clusterSettings, null);
+        KNNSettings.state().setClusterService(clusterService);
+        return clusterService;
+    }
+
+    /**
+     * @param random source of randomness
+     * @param dimension dimension of the vector
+     * @return vector with coordinates uniformly distributed in [-1, 1)
+     */
+    public static float[] randomFloatVector(final Random random, final int dimension) {
+        final float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+
+    /**
+     * @param random source of randomness
+     * @param numVectors number of vectors
+     * @param dimension dimension of the vectors
+     * @return vectors with coordinates uniformly distributed in [-1, 1)
+     */
+    public static float[][] randomFloatVectors(final Random random, final int numVectors, final int dimension) {
+        final float[][] vectors = new float[numVectors][];
+        for (int i = 0; i < numVectors; i++) {
+            vectors[i] = randomFloatVector(random, dimension);
+        }
+        return vectors;
+    }
+
+    /**
+     * @param random source of randomness
+     * @param length number of bytes
+     * @return random bytes
+     */
+    public static byte[] randomByteVector(final Random random, final int length) {
+        final byte[] vector = new byte[length];
+        random.nextBytes(vector);
+        return vector;
+    }
+}
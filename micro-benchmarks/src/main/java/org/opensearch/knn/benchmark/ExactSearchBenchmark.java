@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.ExactSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top k loop of {@link ExactSearcher} over a single in memory segment of float vectors, with and without a filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactSearchBenchmark {
+    private static final String FIELD_NAME = "vector";
+
+    @Param({ "10000" })
+    private int numDocs;
+
+    @Param({ "128" })
+    private int dimension;
+
+    @Param({ "10", "100" })
+    private int k;
+
+    // 1.0 means no filter
+    @Param({ "1.0", "0.1" })
+    private double filterRatio;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReaderContext leafReaderContext;
+    private ExactSearcher exactSearcher;
+    private FixedBitSet filterBitSet;
+    private int filterCardinality;
+    private float[] queryVector;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        // Field attributes normally set by the k-NN codec, needed to resolve the space type and vector data type.
+        final FieldType fieldType = new FieldType(KnnFloatVectorField.createFieldType(dimension, VectorSimilarityFunction.EUCLIDEAN));
+        fieldType.putAttribute(KNNConstants.KNN_ENGINE, KNNEngine.LUCENE.getName());
+        fieldType.putAttribute(KNNConstants.SPACE_TYPE, SpaceType.L2.getValue());
+        fieldType.putAttribute(KNNConstants.VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue());
+        fieldType.freeze();
+
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                document.add(new KnnFloatVectorField(FIELD_NAME, BenchmarkUtils.randomFloatVector(random, dimension), fieldType));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        leafReaderContext = reader.leaves().get(0);
+        exactSearcher = new ExactSearcher(null);
+        queryVector = BenchmarkUtils.randomFloatVector(random, dimension);
+
+        filterBitSet = new FixedBitSet(numDocs);
+        for (int docId = 0; docId < numDocs; docId++) {
+            if (random.nextDouble() < filterRatio) {
+                filterBitSet.set(docId);
+            }
+        }
+        filterCardinality = filterBitSet.cardinality();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public TopDocs searchLeaf() throws IOException {
+        final ExactSearcher.ExactSearcherContext.ExactSearcherContextBuilder context = ExactSearcher.ExactSearcherContext.builder()
+            .field(FIELD_NAME)
+            .floatQueryVector(queryVector)
+            .k(k)
+            .isMemoryOptimizedSearchEnabled(false);
+        if (filterCardinality < numDocs) {
+            context.matchedDocsIterator(new BitSetIterator(filterBitSet, filterCardinality)).numberOfMatchedDocs(filterCardinality);
+        }
+        return exactSearcher.searchLeaf(leafReaderContext, context.build());
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.hnsw.HnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissCompactHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissCompactHnswNeighbors;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbor list traversal of a FAISS HNSW graph as done by memory optimized search, on the FAISS layout and on the compact
+ * layout. The graph is synthetic: levels follow the HNSW level distribution and neighbors are picked at random, which is
+ * enough to measure the cost of reading neighbor lists without building a real index through JNI.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FaissHnswGraphBenchmark {
+    private static final String HNSW_FILE_NAME = "hnsw.bin";
+    private static final int NUM_SEEKS = 1000;
+
+    @Param({ "100000" })
+    private int numVectors;
+
+    @Param({ "16", "32" })
+    private int m;
+
+    @Param({ "false", "true" })
+    private boolean compact;
+
+    private Path tempDirectory;
+    private Directory directory;
+    private IndexInput indexInput;
+    private HnswGraph graph;
+    private int[] seekNodes;
+    private FixedBitSet visited;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        tempDirectory = Files.createTempDirectory(FaissHnswGraphBenchmark.class.getSimpleName());
+        directory = new MMapDirectory(tempDirectory);
+        try (IndexOutput output = directory.createOutput(HNSW_FILE_NAME, IOContext.DEFAULT)) {
+            writeSyntheticHnsw(output, random);
+        }
+        indexInput = directory.openInput(HNSW_FILE_NAME, IOContext.DEFAULT);
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(indexInput.clone(), numVectors);
+        if (compact) {
+            graph = new FaissCompactHnswGraph(faissHNSW, FaissCompactHnswNeighbors.build(faissHNSW, indexInput), indexInput.clone());
+        } else {
+            graph = new FaissHnswGraph(faissHNSW, indexInput.clone());
+        }
+
+        seekNodes = new int[NUM_SEEKS];
+        for (int i = 0; i < NUM_SEEKS; i++) {
+            seekNodes[i] = random.nextInt(numVectors);
+        }
+        visited = new FixedBitSet(numVectors);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        IOUtils.close(indexInput, directory);
+        IOUtils.rm(tempDirectory);
+    }
+
+    /**
+     * Read the level 0 neighbor lists of random nodes.
+     */
+    @Benchmark
+    public long seekRandomNodes() throws IOException {
+        long sum = 0;
+        for (int node : seekNodes) {
+            graph.seek(0, node);
+            for (int neighbor = graph.nextNeighbor(); neighbor != DocIdSetIterator.NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+                sum += neighbor;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Visit level 0 breadth first from the entry node, close to the access pattern of a search with a large ef.
+     */
+    @Benchmark
+    public int breadthFirstVisit() throws IOException {
+        visited.clear();
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(graph.entryNode());
+        visited.set(graph.entryNode());
+        int numVisited = 0;
+        while (queue.isEmpty() == false && numVisited < NUM_SEEKS) {
+            graph.seek(0, queue.poll());
+            numVisited++;
+            for (int neighbor = graph.nextNeighbor(); neighbor != DocIdSetIterator.NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+                if (visited.getAndSet(neighbor) == false) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return numVisited;
+    }
+
+    /**
+     * Write the HNSW section of a FAISS index file, in the order read by {@link FaissHNSW#load}.
+     */
+    private void writeSyntheticHnsw(final IndexOutput output, final Random random) throws IOException {
+        // Level of every node, following the level distribution of HNSW.
+        final double levelMultiplier = 1 / Math.log(m);
+        final int[] numLevels = new int[numVectors];
+        int topLevel = 0;
+        int entryPoint = 0;
+        for (int node = 0; node < numVectors; node++) {
+            final int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+            numLevels[node] = level + 1;
+            if (level > topLevel) {
+                topLevel = level;
+                entryPoint = node;
+            }
+        }
+        final List<List<Integer>> nodesPerLevel = new ArrayList<>();
+        for (int level = 0; level <= topLevel; level++) {
+            nodesPerLevel.add(new ArrayList<>());
+        }
+        for (int node = 0; node < numVectors; node++) {
+            for (int level = 0; level < numLevels[node]; level++) {
+                nodesPerLevel.get(level).add(node);
+            }
+        }
+
+        // Level 0 has 2 * M neighbor slots, upper levels M.
+        final int[] cumNumberNeighborPerLevel = new int[topLevel + 2];
+        for (int level = 0; level <= topLevel; level++) {
+            cumNumberNeighborPerLevel[level + 1] = cumNumberNeighborPerLevel[level] + (level == 0 ? 2 * m : m);
+        }
+
+        // Assign probabilities, unused by search.
+        output.writeLong(0);
+        output.writeLong(cumNumberNeighborPerLevel.length);
+        for (int cumNumberNeighbor : cumNumberNeighborPerLevel) {
+            output.writeInt(cumNumberNeighbor);
+        }
+        output.writeLong(numVectors);
+        for (int node = 0; node < numVectors; node++) {
+            output.writeInt(numLevels[node]);
+        }
+        output.writeLong(numVectors + 1);
+        long offset = 0;
+        output.writeLong(offset);
+        for (int node = 0; node < numVectors; node++) {
+            offset += cumNumberNeighborPerLevel[numLevels[node]];
+            output.writeLong(offset);
+        }
+        output.writeLong(offset);
+        for (int node = 0; node < numVectors; node++) {
+            for (int level = 0; level < numLevels[node]; level++) {
+                final List<Integer> candidates = nodesPerLevel.get(level);
+                final int maxNumNeighbors = cumNumberNeighborPerLevel[level + 1] - cumNumberNeighborPerLevel[level];
+                // Most lists are not full, the rest of the slots is padded with -1.
+                final int numNeighbors = Math.min(candidates.size() - 1, maxNumNeighbors / 2 + random.nextInt(maxNumNeighbors / 2 + 1));
+                for (int i = 0; i < maxNumNeighbors; i++) {
+                    output.writeInt(i < numNeighbors ? candidates.get(random.nextInt(candidates.size())) : -1);
+                }
+            }
+        }
+        output.writeInt(entryPoint);
+        output.writeInt(topLevel);
+        // efConstruction, efSearch and a deprecated field.
+        output.writeInt(100);
+        output.writeInt(100);
+        output.writeInt(0);
+    }
+}
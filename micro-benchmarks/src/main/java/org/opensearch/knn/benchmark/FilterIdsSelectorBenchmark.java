@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.knn.index.query.FilterIdsSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of filter results to the id selector passed to the native engines, for dense and sparse filters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterIdsSelectorBenchmark {
+    @Param({ "1000000" })
+    private int maxDoc;
+
+    @Param({ "0.001", "0.01", "0.1", "0.5" })
+    private double filterRatio;
+
+    @Param({ "true", "false" })
+    private boolean sparse;
+
+    private BitSet filterIdsBitSet;
+    private int cardinality;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        filterIdsBitSet = sparse ? new SparseFixedBitSet(maxDoc) : new FixedBitSet(maxDoc);
+        for (int docId = 0; docId < maxDoc; docId++) {
+            if (random.nextDouble() < filterRatio) {
+                filterIdsBitSet.set(docId);
+            }
+        }
+        cardinality = filterIdsBitSet.cardinality();
+    }
+
+    @Benchmark
+    public FilterIdsSelector getFilterIdSelector() throws IOException {
+        return FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
+    }
+}
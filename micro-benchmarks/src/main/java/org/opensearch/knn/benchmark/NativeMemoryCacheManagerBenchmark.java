@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
+import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits of {@link NativeMemoryCacheManager#get}, as done by every search on a segment, from one thread and from many
+ * threads. Entries are stubs that do not allocate native memory, so only the cache bookkeeping is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NativeMemoryCacheManagerBenchmark {
+    @Param({ "100" })
+    private int numEntries;
+
+    @Param({ "false", "true" })
+    private boolean forceEvict;
+
+    private NativeMemoryCacheManager cacheManager;
+    private StubEntryContext[] entryContexts;
+
+    @Setup(Level.Trial)
+    public void setup() throws ExecutionException {
+        BenchmarkUtils.initKNNSettings(
+            Settings.builder().put(KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING.getKey(), forceEvict).build()
+        );
+        cacheManager = NativeMemoryCacheManager.getInstance();
+        entryContexts = new StubEntryContext[numEntries];
+        for (int i = 0; i < numEntries; i++) {
+            entryContexts[i] = new StubEntryContext("segment_" + i + ".faiss");
+            cacheManager.get(entryContexts[i], true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheManager.invalidateAll();
+        cacheManager.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        // Thread states are created by their worker thread, so that every thread gets its own sequence of keys.
+        private final SplittableRandom random = new SplittableRandom(BenchmarkUtils.SEED + Thread.currentThread().threadId());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public NativeMemoryAllocation getSingleThread(final ThreadState threadState) throws ExecutionException {
+        return get(threadState);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public NativeMemoryAllocation getContended(final ThreadState threadState) throws ExecutionException {
+        return get(threadState);
+    }
+
+    private NativeMemoryAllocation get(final ThreadState threadState) throws ExecutionException {
+        return cacheManager.get(entryContexts[threadState.random.nextInt(numEntries)], true);
+    }
+
+    private static class StubEntryContext extends NativeMemoryEntryContext<StubAllocation> {
+        StubEntryContext(final String key) {
+            super(key);
+        }
+
+        @Override
+        public Integer calculateSizeInKB() {
+            return StubAllocation.SIZE_IN_KB;
+        }
+
+        @Override
+        public StubAllocation load() {
+            return new StubAllocation();
+        }
+    }
+
+    private static class StubAllocation implements NativeMemoryAllocation {
+        private static final int SIZE_IN_KB = 1;
+
+        @Override
+        public void close() {}
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public long getMemoryAddress() {
+            return 0;
+        }
+
+        @Override
+        public void readLock() {}
+
+        @Override
+        public void writeLock() {}
+
+        @Override
+        public void readUnlock() {}
+
+        @Override
+        public void writeUnlock() {}
+
+        @Override
+        public int getSizeInKB() {
+            return SIZE_IN_KB;
+        }
+    }
+}
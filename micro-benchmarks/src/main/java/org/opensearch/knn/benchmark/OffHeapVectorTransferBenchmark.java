@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
+import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfer of float vectors to native memory before building a native index. This is the only benchmark needing the k-NN
+ * JNI libraries: it fails at setup when they are not on java.library.path, while the other benchmarks keep running.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapVectorTransferBenchmark {
+    @Param({ "10000" })
+    private int numVectors;
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    private float[][] vectors;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchmarkUtils.initKNNSettings();
+        vectors = BenchmarkUtils.randomFloatVectors(new Random(BenchmarkUtils.SEED), numVectors, dimension);
+        try {
+            transfer();
+        } catch (UnsatisfiedLinkError e) {
+            throw new IllegalStateException("k-NN JNI libraries not found, build them under jni/build/release to run this benchmark", e);
+        }
+    }
+
+    @Benchmark
+    public long transfer() throws IOException {
+        final OffHeapVectorTransfer<float[]> vectorTransfer = OffHeapVectorTransferFactory.getVectorTransfer(
+            VectorDataType.FLOAT,
+            dimension * Float.BYTES,
+            numVectors
+        );
+        try {
+            for (float[] vector : vectors) {
+                vectorTransfer.transfer(vector, true);
+            }
+            vectorTransfer.flush(true);
+            return vectorTransfer.getVectorAddress();
+        } finally {
+            vectorTransfer.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.requests.TrainingRequest;
+import org.opensearch.knn.quantization.quantizer.MultiBitScalarQuantizer;
+import org.opensearch.knn.quantization.quantizer.OneBitScalarQuantizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quantization of a single vector with quantizers trained on random vectors, and ADC transformation of a query vector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuantizationBenchmark {
+    private static final int NUM_TRAINING_VECTORS = 1000;
+
+    @Param({ "128", "768" })
+    private int dimension;
+
+    @Param({ "false", "true" })
+    private boolean randomRotation;
+
+    private float[] vector;
+    private OneBitScalarQuantizer oneBitQuantizer;
+    private QuantizationState oneBitState;
+    private MultiBitScalarQuantizer twoBitQuantizer;
+    private QuantizationState twoBitState;
+    private MultiBitScalarQuantizer fourBitQuantizer;
+    private QuantizationState fourBitState;
+    private BinaryQuantizationOutput oneBitOutput;
+    private BinaryQuantizationOutput twoBitOutput;
+    private BinaryQuantizationOutput fourBitOutput;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        final float[][] trainingVectors = BenchmarkUtils.randomFloatVectors(random, NUM_TRAINING_VECTORS, dimension);
+        final TrainingRequest<float[]> trainingRequest = new TrainingRequest<>(NUM_TRAINING_VECTORS) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                return trainingVectors[position];
+            }
+
+            @Override
+            public void resetVectorValues() {}
+        };
+        vector = BenchmarkUtils.randomFloatVector(random, dimension);
+
+        oneBitQuantizer = new OneBitScalarQuantizer(randomRotation);
+        oneBitState = oneBitQuantizer.train(trainingRequest);
+        oneBitOutput = new BinaryQuantizationOutput(1);
+        // Multi bit quantizers do not support random rotation.
+        twoBitQuantizer = new MultiBitScalarQuantizer(2);
+        twoBitState = twoBitQuantizer.train(trainingRequest);
+        twoBitOutput = new BinaryQuantizationOutput(2);
+        fourBitQuantizer = new MultiBitScalarQuantizer(4);
+        fourBitState = fourBitQuantizer.train(trainingRequest);
+        fourBitOutput = new BinaryQuantizationOutput(4);
+    }
+
+    @Benchmark
+    public byte[] quantizeOneBit() {
+        oneBitQuantizer.quantize(vector, oneBitState, oneBitOutput);
+        return oneBitOutput.getQuantizedVector();
+    }
+
+    @Benchmark
+    public byte[] quantizeTwoBits() {
+        twoBitQuantizer.quantize(vector, twoBitState, twoBitOutput);
+        return twoBitOutput.getQuantizedVector();
+    }
+
+    @Benchmark
+    public byte[] quantizeFourBits() {
+        fourBitQuantizer.quantize(vector, fourBitState, fourBitOutput);
+        return fourBitOutput.getQuantizedVector();
+    }
+
+    @Benchmark
+    public float[] transformWithADCL2() {
+        // The transformation is in place, work on a copy so that every invocation sees the same input.
+        final float[] query = vector.clone();
+        oneBitQuantizer.transformWithADC(query, oneBitState, SpaceType.L2);
+        return query;
+    }
+
+    @Benchmark
+    public float[] transformWithADCInnerProduct() {
+        final float[] query = vector.clone();
+        oneBitQuantizer.transformWithADC(query, oneBitState, SpaceType.INNER_PRODUCT);
+        return query;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.quantization.quantizer.RandomGaussianRotation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of the rotation matrix, done once per segment at training time, and its application to a vector, done for every
+ * indexed and query vector when random rotation is enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomGaussianRotationBenchmark {
+    @Param({ "128", "768" })
+    private int dimension;
+
+    private float[][] rotationMatrix;
+    private float[] vector;
+
+    @Setup
+    public void setup() {
+        rotationMatrix = RandomGaussianRotation.generateRotationMatrix(dimension);
+        vector = BenchmarkUtils.randomFloatVector(new Random(BenchmarkUtils.SEED), dimension);
+    }
+
+    @Benchmark
+    public float[][] generateRotationMatrix() {
+        return RandomGaussianRotation.generateRotationMatrix(dimension);
+    }
+
+    @Benchmark
+    public float[] applyRotation() {
+        return RandomGaussianRotation.applyRotation(vector, rotationMatrix);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark;
+
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distance functions of {@link KNNScoringUtil} used by exact search, script scoring and rescoring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorScoringBenchmark {
+    @Param({ "128", "768" })
+    private int dimension;
+
+    private float[] floatQuery;
+    private float[] floatVector;
+    private byte[] byteQuery;
+    private byte[] byteVector;
+    private byte[] binaryQuery;
+    private byte[] binaryVector;
+    private float normQuery;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        floatQuery = BenchmarkUtils.randomFloatVector(random, dimension);
+        floatVector = BenchmarkUtils.randomFloatVector(random, dimension);
+        byteQuery = BenchmarkUtils.randomByteVector(random, dimension);
+        byteVector = BenchmarkUtils.randomByteVector(random, dimension);
+        // One bit per coordinate, as with binary vectors or 32x compression.
+        binaryQuery = BenchmarkUtils.randomByteVector(random, dimension / Byte.SIZE);
+        binaryVector = BenchmarkUtils.randomByteVector(random, dimension / Byte.SIZE);
+        normQuery = KNNScoringUtil.innerProduct(floatQuery, floatQuery);
+    }
+
+    @Benchmark
+    public float l2SquaredFloat() {
+        return KNNScoringUtil.l2Squared(floatQuery, floatVector);
+    }
+
+    @Benchmark
+    public float l2SquaredByte() {
+        return KNNScoringUtil.l2Squared(byteQuery, byteVector);
+    }
+
+    @Benchmark
+    public float innerProductFloat() {
+        return KNNScoringUtil.innerProduct(floatQuery, floatVector);
+    }
+
+    @Benchmark
+    public float innerProductByte() {
+        return KNNScoringUtil.innerProduct(byteQuery, byteVector);
+    }
+
+    @Benchmark
+    public float cosineSimilarityFloat() {
+        return KNNScoringUtil.cosinesimil(floatQuery, floatVector);
+    }
+
+    @Benchmark
+    public float cosineSimilarityOptimizedFloat() {
+        return KNNScoringUtil.cosinesimilOptimized(floatQuery, floatVector, normQuery);
+    }
+
+    @Benchmark
+    public float l1NormFloat() {
+        return KNNScoringUtil.l1Norm(floatQuery, floatVector);
+    }
+
+    @Benchmark
+    public float lInfNormFloat() {
+        return KNNScoringUtil.lInfNorm(floatQuery, floatVector);
+    }
+
+    @Benchmark
+    public float hammingBinary() {
+        return KNNScoringUtil.calculateHammingBit(binaryQuery, binaryVector);
+    }
+
+    @Benchmark
+    public float l2SquaredADC() {
+        return KNNScoringUtil.l2SquaredADC(floatQuery, binaryVector);
+    }
+
+    @Benchmark
+    public float innerProductADC() {
+        return KNNScoringUtil.innerProductADC(floatQuery, binaryVector);
+    }
+}
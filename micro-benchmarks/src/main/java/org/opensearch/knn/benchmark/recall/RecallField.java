@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.Getter;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.index.VectorEncoding;
+import org.opensearch.Version;
+import org.opensearch.common.ValidationException;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.EngineResolver;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.KNNLibraryIndexingContext;
+import org.opensearch.knn.index.engine.KNNMethodConfigContext;
+import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.engine.ResolvedMethodContext;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
+import org.opensearch.knn.index.engine.qframe.QuantizationConfigParser;
+import org.opensearch.knn.index.mapper.CompressionLevel;
+import org.opensearch.knn.index.mapper.KNNMappingConfig;
+import org.opensearch.knn.index.mapper.KNNVectorFieldMapper;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.index.mapper.VectorTransformer;
+import org.opensearch.knn.index.mapper.VectorTransformerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.opensearch.knn.common.KNNConstants.DIMENSION;
+import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
+import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_CONSTRUCTION;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_M;
+import static org.opensearch.knn.common.KNNConstants.PARAMETERS;
+import static org.opensearch.knn.common.KNNConstants.QFRAMEWORK_CONFIG;
+import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
+import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
+
+/**
+ * Float vector field of an evaluated index, resolved from engine, method parameters, mode and compression level the same way
+ * {@link KNNVectorFieldMapper} resolves a mapping. It provides the mapped field type used by the codec and the query
+ * factory, and the Lucene fields indexed for every vector.
+ */
+public class RecallField {
+    @Getter
+    private final String name;
+    @Getter
+    private final KNNVectorFieldType fieldType;
+    private final KNNLibraryIndexingContext libraryIndexingContext;
+    private final VectorTransformer vectorTransformer;
+    private final FieldType luceneFieldType;
+
+    /**
+     * @param name name of the field
+     * @param dimension dimension of the vectors
+     * @param config configuration of the evaluated run
+     */
+    public RecallField(final String name, final int dimension, final RecallRunConfig config) {
+        this.name = name;
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put(METHOD_PARAMETER_M, config.m());
+        parameters.put(METHOD_PARAMETER_EF_CONSTRUCTION, config.efConstruction());
+        final KNNMethodContext knnMethodContext = new KNNMethodContext(
+            config.engine(),
+            config.spaceType(),
+            new MethodComponentContext(METHOD_HNSW, parameters)
+        );
+        final KNNMethodConfigContext knnMethodConfigContext = KNNMethodConfigContext.builder()
+            .vectorDataType(VectorDataType.FLOAT)
+            .versionCreated(Version.CURRENT)
+            .dimension(dimension)
+            .mode(config.mode())
+            .compressionLevel(config.compressionLevel())
+            .build();
+        // Fill in the parameters implied by mode and compression level, e.g. the encoder.
+        final KNNEngine knnEngine = EngineResolver.INSTANCE.resolveEngine(knnMethodConfigContext, knnMethodContext, false, Version.CURRENT);
+        final ResolvedMethodContext resolvedMethodContext = knnEngine.resolveMethod(
+            knnMethodContext,
+            knnMethodConfigContext,
+            false,
+            config.spaceType()
+        );
+        final KNNMethodContext resolvedKnnMethodContext = resolvedMethodContext.getKnnMethodContext();
+        knnMethodConfigContext.setCompressionLevel(resolvedMethodContext.getCompressionLevel());
+        final ValidationException validationException = resolvedKnnMethodContext.validate(knnMethodConfigContext);
+        if (validationException != null) {
+            throw validationException;
+        }
+        this.libraryIndexingContext = knnEngine.getKNNLibraryIndexingContext(resolvedKnnMethodContext, knnMethodConfigContext);
+
+        this.fieldType = new KNNVectorFieldType(name, Map.of(), VectorDataType.FLOAT, new KNNMappingConfig() {
+            @Override
+            public Optional<KNNMethodContext> getKnnMethodContext() {
+                return Optional.of(resolvedKnnMethodContext);
+            }
+
+            @Override
+            public int getDimension() {
+                return dimension;
+            }
+
+            @Override
+            public Mode getMode() {
+                return config.mode();
+            }
+
+            @Override
+            public CompressionLevel getCompressionLevel() {
+                return knnMethodConfigContext.getCompressionLevel();
+            }
+
+            @Override
+            public Version getIndexCreatedVersion() {
+                return Version.CURRENT;
+            }
+
+            @Override
+            public QuantizationConfig getQuantizationConfig() {
+                return Optional.ofNullable(libraryIndexingContext.getQuantizationConfig()).orElse(QuantizationConfig.EMPTY);
+            }
+
+            @Override
+            public KNNLibraryIndexingContext getKnnLibraryIndexingContext() {
+                return libraryIndexingContext;
+            }
+        });
+        // Lucene handles normalization itself, only native engines transform vectors on ingestion.
+        this.vectorTransformer = knnEngine == KNNEngine.LUCENE
+            ? VectorTransformerFactory.NOOP_VECTOR_TRANSFORMER
+            : libraryIndexingContext.getVectorTransformer();
+        this.luceneFieldType = createLuceneFieldType(knnEngine, resolvedKnnMethodContext, dimension);
+    }
+
+    /**
+     * @param vector vector to index, transformed in place as on ingestion, e.g. normalized for cosine similarity
+     * @return field to add to the document of the vector
+     */
+    public Field createField(final float[] vector) {
+        if (vectorTransformer != null) {
+            vectorTransformer.transform(vector);
+        }
+        return new KnnFloatVectorField(name, vector, luceneFieldType);
+    }
+
+    /**
+     * Same attributes as set by the field mapper on indices created on the current version.
+     */
+    private FieldType createLuceneFieldType(final KNNEngine knnEngine, final KNNMethodContext knnMethodContext, final int dimension) {
+        if (knnEngine == KNNEngine.LUCENE) {
+            return VectorDataType.FLOAT.createKnnVectorFieldType(dimension, knnMethodContext.getSpaceType().getKnnVectorSimilarityFunction());
+        }
+
+        final FieldType type = new FieldType(KNNVectorFieldMapper.Defaults.FIELD_TYPE);
+        type.putAttribute(DIMENSION, String.valueOf(dimension));
+        type.putAttribute(SPACE_TYPE, knnMethodContext.getSpaceType().getValue());
+        final QuantizationConfig quantizationConfig = libraryIndexingContext.getQuantizationConfig();
+        if (quantizationConfig != null && quantizationConfig != QuantizationConfig.EMPTY) {
+            type.putAttribute(QFRAMEWORK_CONFIG, QuantizationConfigParser.toCsv(quantizationConfig));
+        }
+        type.putAttribute(VECTOR_DATA_TYPE_FIELD, VectorDataType.FLOAT.getValue());
+        type.putAttribute(KNN_ENGINE, knnEngine.getName());
+        try {
+            type.putAttribute(PARAMETERS, XContentFactory.jsonBuilder().map(libraryIndexingContext.getLibraryParameters()).toString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to serialize library parameters", e);
+        }
+        type.setVectorAttributes(
+            dimension,
+            VectorEncoding.FLOAT32,
+            knnMethodContext.getSpaceType().getKnnVectorSimilarityFunction().getVectorSimilarityFunction()
+        );
+        type.freeze();
+        return type;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Recall and latency of the plugin for a sweep of engines, HNSW parameters, modes and compression levels, measured in
+ * process on a local dataset. This answers how a configuration trades recall for speed and memory before running end to end
+ * benchmarks on a cluster.
+ * <p>
+ * Arguments are {@code key=value} pairs, and sweep parameters take comma separated values, e.g.
+ * {@code base=sift_base.fvecs queries=sift_query.fvecs ground_truth=sift_groundtruth.ivecs engine=faiss,lucene m=16,32}.
+ * Without a base file, uniformly distributed random vectors are generated.
+ */
+@Log4j2
+public class RecallHarness {
+    private static final String BASE = "base";
+    private static final String QUERIES = "queries";
+    private static final String GROUND_TRUTH = "ground_truth";
+    private static final String MAX_VECTORS = "max_vectors";
+    private static final String NUM_VECTORS = "num_vectors";
+    private static final String NUM_QUERIES = "num_queries";
+    private static final String DIMENSION = "dimension";
+    private static final String WARMUP_QUERIES = "warmup_queries";
+    private static final String OUTPUT = "output";
+
+    public static void main(final String[] args) throws IOException {
+        final Map<String, String> params = parseArgs(args);
+        final List<RecallRunConfig> configs = RecallRunConfig.expand(params);
+        final int maxK = configs.stream().mapToInt(RecallRunConfig::k).max().orElseThrow();
+        final int warmupQueries = Integer.parseInt(params.getOrDefault(WARMUP_QUERIES, "100"));
+        final Path workDirectory = Files.createTempDirectory(RecallHarness.class.getSimpleName());
+
+        RecallRunner.initSettings();
+        final List<RecallResult> results = new ArrayList<>();
+        // The ground truth depends on the space, load the dataset once per space of the sweep.
+        final Map<SpaceType, List<RecallRunConfig>> configsBySpaceType = new LinkedHashMap<>();
+        for (RecallRunConfig config : configs) {
+            configsBySpaceType.computeIfAbsent(config.spaceType(), spaceType -> new ArrayList<>()).add(config);
+        }
+        for (Map.Entry<SpaceType, List<RecallRunConfig>> entry : configsBySpaceType.entrySet()) {
+            final VectorDataset dataset = loadDataset(params, entry.getKey(), maxK);
+            try (RecallRunner runner = new RecallRunner(dataset, warmupQueries, workDirectory)) {
+                for (RecallRunConfig config : entry.getValue()) {
+                    results.add(run(runner, config));
+                }
+            }
+        }
+        Files.deleteIfExists(workDirectory);
+
+        printTable(results);
+        if (params.containsKey(OUTPUT)) {
+            writeJson(results, Path.of(params.get(OUTPUT)));
+        }
+    }
+
+    private static RecallResult run(final RecallRunner runner, final RecallRunConfig config) {
+        try {
+            return runner.run(config);
+        } catch (UnsatisfiedLinkError e) {
+            return RecallResult.failed(
+                config,
+                new IllegalStateException("k-NN JNI libraries not found, build them under jni/build/release to run native engines", e)
+            );
+        } catch (Exception e) {
+            // Some combinations are not supported by every engine, report them and keep going with the sweep.
+            log.error("Run [{}] failed", config, e);
+            return RecallResult.failed(config, e);
+        }
+    }
+
+    private static VectorDataset loadDataset(final Map<String, String> params, final SpaceType spaceType, final int k)
+        throws IOException {
+        if (params.containsKey(BASE) == false) {
+            return VectorDataset.generate(
+                Integer.parseInt(params.getOrDefault(NUM_VECTORS, "10000")),
+                Integer.parseInt(params.getOrDefault(NUM_QUERIES, "1000")),
+                Integer.parseInt(params.getOrDefault(DIMENSION, "128")),
+                spaceType,
+                k
+            );
+        }
+        if (params.containsKey(QUERIES) == false) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] is required with [%s]", QUERIES, BASE));
+        }
+        return VectorDataset.load(
+            Path.of(params.get(BASE)),
+            Path.of(params.get(QUERIES)),
+            params.containsKey(GROUND_TRUTH) ? Path.of(params.get(GROUND_TRUTH)) : null,
+            Integer.parseInt(params.getOrDefault(MAX_VECTORS, String.valueOf(Integer.MAX_VALUE))),
+            Integer.parseInt(params.getOrDefault(NUM_QUERIES, String.valueOf(Integer.MAX_VALUE))),
+            spaceType,
+            k
+        );
+    }
+
+    private static Map<String, String> parseArgs(final String[] args) {
+        final Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "Invalid argument [%s], expected key=value", arg));
+            }
+            params.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return params;
+    }
+
+    private static void printTable(final List<RecallResult> results) {
+        final String format = "%-90s %10s %12s %8s %10s %10s %10s %12s%n";
+        System.out.printf(Locale.ROOT, format, "config", "build(ms)", "size(bytes)", "recall", "qps", "p50(ms)", "p99(ms)", "native(kb)");
+        for (RecallResult result : results) {
+            if (result.error() != null) {
+                System.out.printf(Locale.ROOT, "%-90s failed: %s%n", result.config(), result.error());
+                continue;
+            }
+            System.out.printf(
+                Locale.ROOT,
+                format,
+                result.config(),
+                result.buildTimeMillis(),
+                result.indexSizeInBytes(),
+                String.format(Locale.ROOT, "%.4f", result.recall()),
+                String.format(Locale.ROOT, "%.1f", result.queriesPerSecond()),
+                String.format(Locale.ROOT, "%.3f", result.p50LatencyMillis()),
+                String.format(Locale.ROOT, "%.3f", result.p99LatencyMillis()),
+                result.nativeMemoryInKB()
+            );
+        }
+    }
+
+    private static void writeJson(final List<RecallResult> results, final Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream stream = Files.newOutputStream(path); XContentBuilder builder = XContentFactory.jsonBuilder(stream)) {
+            builder.prettyPrint();
+            builder.startArray();
+            for (RecallResult result : results) {
+                result.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            }
+            builder.endArray();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import org.opensearch.knn.index.codec.KNN9120Codec.KNN9120PerFieldKnnVectorsFormat;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+
+import java.util.Optional;
+
+/**
+ * Per field format of the current codec, with the field type of the evaluated field served without a mapper service.
+ * Native engine indices are built for every segment, whatever its number of vectors.
+ */
+public class RecallPerFieldKnnVectorsFormat extends KNN9120PerFieldKnnVectorsFormat {
+    private final RecallField field;
+
+    /**
+     * @param field evaluated field
+     */
+    public RecallPerFieldKnnVectorsFormat(final RecallField field) {
+        super(Optional.empty());
+        this.field = field;
+    }
+
+    @Override
+    protected KNNVectorFieldType getKnnVectorFieldType(final String fieldName) {
+        return field.getName().equals(fieldName) ? field.getFieldType() : null;
+    }
+
+    @Override
+    protected int getApproximateThresholdValue() {
+        return 0;
+    }
+}
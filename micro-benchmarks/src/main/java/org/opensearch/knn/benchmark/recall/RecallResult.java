@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Measurements of one run of a recall sweep.
+ *
+ * @param config configuration of the run
+ * @param buildTimeMillis time to index all vectors and merge them into one segment
+ * @param indexSizeInBytes size of the index files on disk
+ * @param recall mean recall@k over all queries
+ * @param queriesPerSecond throughput of queries run one after the other
+ * @param p50LatencyMillis median latency of a query
+ * @param p99LatencyMillis 99th percentile latency of a query
+ * @param nativeMemoryInKB native memory used by the loaded indices after running all queries
+ * @param error message of the failure of the run, null if it succeeded
+ */
+public record RecallResult(RecallRunConfig config, long buildTimeMillis, long indexSizeInBytes, double recall, double queriesPerSecond,
+    double p50LatencyMillis, double p99LatencyMillis, long nativeMemoryInKB, String error) implements ToXContentObject {
+
+    /**
+     * @param config configuration of the run
+     * @param error failure of the run
+     * @return result of a failed run
+     */
+    public static RecallResult failed(final RecallRunConfig config, final Throwable error) {
+        final String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return new RecallResult(config, 0, 0, 0, 0, 0, 0, 0, message);
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field(RecallRunConfig.ENGINE, config.engine().getName());
+        builder.field(RecallRunConfig.SPACE_TYPE, config.spaceType().getValue());
+        builder.field(RecallRunConfig.M, config.m());
+        builder.field(RecallRunConfig.EF_CONSTRUCTION, config.efConstruction());
+        builder.field(RecallRunConfig.EF_SEARCH, config.efSearch());
+        builder.field(RecallRunConfig.MODE, config.mode().getName());
+        builder.field(RecallRunConfig.COMPRESSION, config.compressionLevel().getName());
+        builder.field(RecallRunConfig.OVERSAMPLE_FACTOR, config.oversampleFactor());
+        builder.field(RecallRunConfig.MEMORY_OPTIMIZED_SEARCH, config.memoryOptimizedSearch());
+        builder.field(RecallRunConfig.K, config.k());
+        if (error != null) {
+            builder.field("error", error);
+        } else {
+            builder.field("build_time_ms", buildTimeMillis);
+            builder.field("index_size_bytes", indexSizeInBytes);
+            builder.field("recall", recall);
+            builder.field("qps", queriesPerSecond);
+            builder.field("p50_latency_ms", p50LatencyMillis);
+            builder.field("p99_latency_ms", p99LatencyMillis);
+            builder.field("native_memory_kb", nativeMemoryInKB);
+        }
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.mapper.CompressionLevel;
+import org.opensearch.knn.index.mapper.Mode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One point of a recall sweep: how the index is built and how it is searched.
+ *
+ * @param engine engine of the field
+ * @param spaceType space of the field
+ * @param m number of HNSW neighbors per node
+ * @param efConstruction size of the HNSW candidate queue while building
+ * @param efSearch size of the HNSW candidate queue while searching
+ * @param mode mode of the field, {@link Mode#NOT_CONFIGURED} for the default
+ * @param compressionLevel compression level of the field, {@link CompressionLevel#NOT_CONFIGURED} for the default
+ * @param oversampleFactor oversample factor of rescoring, 0 for the default of the field
+ * @param memoryOptimizedSearch whether index.knn.memory_optimized_search is enabled
+ * @param k number of neighbors to retrieve
+ */
+public record RecallRunConfig(KNNEngine engine, SpaceType spaceType, int m, int efConstruction, int efSearch, Mode mode,
+    CompressionLevel compressionLevel, float oversampleFactor, boolean memoryOptimizedSearch, int k) {
+
+    public static final String ENGINE = "engine";
+    public static final String SPACE_TYPE = "space_type";
+    public static final String M = "m";
+    public static final String EF_CONSTRUCTION = "ef_construction";
+    public static final String EF_SEARCH = "ef_search";
+    public static final String MODE = "mode";
+    public static final String COMPRESSION = "compression";
+    public static final String OVERSAMPLE_FACTOR = "oversample_factor";
+    public static final String MEMORY_OPTIMIZED_SEARCH = "memory_optimized_search";
+    public static final String K = "k";
+
+    /**
+     * Expand comma separated values of the sweep parameters into every combination, e.g. {@code m=16,32 ef_search=100,200}
+     * gives four runs. Parameters that are not given take their default value.
+     *
+     * @param params values of the sweep parameters by name
+     * @return configurations of all runs of the sweep
+     */
+    public static List<RecallRunConfig> expand(final Map<String, String> params) {
+        final List<KNNEngine> engines = values(params, ENGINE, "faiss", KNNEngine::getEngine);
+        final List<SpaceType> spaceTypes = values(params, SPACE_TYPE, SpaceType.L2.getValue(), SpaceType::getSpace);
+        final List<Integer> ms = values(params, M, "16", Integer::parseInt);
+        final List<Integer> efConstructions = values(params, EF_CONSTRUCTION, "100", Integer::parseInt);
+        final List<Integer> efSearches = values(params, EF_SEARCH, "100", Integer::parseInt);
+        final List<Mode> modes = values(params, MODE, "", Mode::fromName);
+        final List<CompressionLevel> compressionLevels = values(params, COMPRESSION, "", CompressionLevel::fromName);
+        final List<Float> oversampleFactors = values(params, OVERSAMPLE_FACTOR, "0", Float::parseFloat);
+        final List<Boolean> memoryOptimizedSearches = values(params, MEMORY_OPTIMIZED_SEARCH, "false", Boolean::parseBoolean);
+        final List<Integer> ks = values(params, K, "10", Integer::parseInt);
+
+        final List<RecallRunConfig> configs = new ArrayList<>();
+        for (KNNEngine engine : engines) {
+            for (SpaceType spaceType : spaceTypes) {
+                for (int m : ms) {
+                    for (int efConstruction : efConstructions) {
+                        for (Mode mode : modes) {
+                            for (CompressionLevel compressionLevel : compressionLevels) {
+                                for (boolean memoryOptimizedSearch : memoryOptimizedSearches) {
+                                    for (int efSearch : efSearches) {
+                                        for (float oversampleFactor : oversampleFactors) {
+                                            for (int k : ks) {
+                                                configs.add(
+                                                    new RecallRunConfig(
+                                                        engine,
+                                                        spaceType,
+                                                        m,
+                                                        efConstruction,
+                                                        efSearch,
+                                                        mode,
+                                                        compressionLevel,
+                                                        oversampleFactor,
+                                                        memoryOptimizedSearch,
+                                                        k
+                                                    )
+                                                );
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * @param other configuration of another run
+     * @return true if both runs search the same index, so that it does not need to be rebuilt
+     */
+    public boolean hasSameIndex(final RecallRunConfig other) {
+        return other != null
+            && engine == other.engine
+            && spaceType == other.spaceType
+            && m == other.m
+            && efConstruction == other.efConstruction
+            && mode == other.mode
+            && compressionLevel == other.compressionLevel;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ROOT,
+            "%s=%s %s=%s %s=%d %s=%d %s=%d %s=%s %s=%s %s=%s %s=%s %s=%d",
+            ENGINE,
+            engine.getName(),
+            SPACE_TYPE,
+            spaceType.getValue(),
+            M,
+            m,
+            EF_CONSTRUCTION,
+            efConstruction,
+            EF_SEARCH,
+            efSearch,
+            MODE,
+            mode == Mode.NOT_CONFIGURED ? "default" : mode.getName(),
+            COMPRESSION,
+            compressionLevel == CompressionLevel.NOT_CONFIGURED ? "default" : compressionLevel.getName(),
+            OVERSAMPLE_FACTOR,
+            oversampleFactor == 0 ? "default" : oversampleFactor,
+            MEMORY_OPTIMIZED_SEARCH,
+            memoryOptimizedSearch,
+            K,
+            k
+        );
+    }
+
+    private static <T> List<T> values(
+        final Map<String, String> params,
+        final String name,
+        final String defaultValue,
+        final Function<String, T> parser
+    ) {
+        final List<T> values = new ArrayList<>();
+        for (String value : params.getOrDefault(name, defaultValue).split(",", -1)) {
+            values.add(parser.apply(value.trim()));
+        }
+        return values;
+    }
+}
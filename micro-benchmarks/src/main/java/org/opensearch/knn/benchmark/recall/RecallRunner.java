@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.knn.benchmark.BenchmarkUtils;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNN10010Codec.KNN10010Codec;
+import org.opensearch.knn.index.codec.KNNCodecVersion;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.query.KNNQueryFactory;
+import org.opensearch.knn.index.query.KNNWeight;
+import org.opensearch.knn.index.query.rescore.RescoreContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
+
+/**
+ * Builds the index of every run of a recall sweep in a local directory, with the codec, the field types and the query factory
+ * used by the plugin, and measures it. Consecutive runs differing only by search parameters reuse the same index.
+ */
+@Log4j2
+public class RecallRunner implements Closeable {
+    private static final String FIELD_NAME = "vector";
+    // Memory optimized search is an index setting, so runs with and without it search indices of different names.
+    private static final String INDEX_NAME = "recall-harness";
+    private static final String MEMORY_OPTIMIZED_INDEX_NAME = "recall-harness-memory-optimized";
+    // Large enough to index most datasets in one segment, so that merging does not add to the build time.
+    private static final double RAM_BUFFER_SIZE_MB = 1024;
+
+    private final VectorDataset dataset;
+    private final int warmupQueries;
+    private final Path workDirectory;
+
+    private RecallRunConfig indexedConfig;
+    private RecallField field;
+    private Path indexPath;
+    private Directory directory;
+    private DirectoryReader reader;
+    private long buildTimeMillis;
+    private long indexSizeInBytes;
+
+    /**
+     * @param dataset vectors to index and to search
+     * @param warmupQueries number of queries run before measuring every run
+     * @param workDirectory directory in which indices are built
+     */
+    public RecallRunner(final VectorDataset dataset, final int warmupQueries, final Path workDirectory) {
+        this.dataset = dataset;
+        this.warmupQueries = warmupQueries;
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * Serve k-NN settings, including the index settings of the harness indices, without a cluster.
+     */
+    public static void initSettings() {
+        final ClusterService clusterService = BenchmarkUtils.initKNNSettings(Settings.EMPTY);
+        final Metadata metadata = Metadata.builder()
+            .put(createIndexMetadata(INDEX_NAME, false), false)
+            .put(createIndexMetadata(MEMORY_OPTIMIZED_INDEX_NAME, true), false)
+            .build();
+        clusterService.getClusterApplierService().setInitialState(ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build());
+        KNNWeight.initialize(null);
+    }
+
+    /**
+     * @param config configuration of the run
+     * @return measurements of the run
+     * @throws IOException if the index cannot be built or searched
+     */
+    public RecallResult run(final RecallRunConfig config) throws IOException {
+        if (config.hasSameIndex(indexedConfig) == false) {
+            closeIndex();
+            buildIndex(config);
+        }
+        // Start from an empty cache, so that every run reports the memory of its own search path.
+        NativeMemoryCacheManager.getInstance().invalidateAll();
+
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        searcher.setQueryCache(null);
+        final float[][] queryVectors = dataset.getQueryVectors();
+        for (int i = 0; i < warmupQueries; i++) {
+            searcher.search(createQuery(config, queryVectors[i % queryVectors.length]), config.k());
+        }
+
+        final long[] latenciesNanos = new long[queryVectors.length];
+        final TopDocs[] results = new TopDocs[queryVectors.length];
+        for (int i = 0; i < queryVectors.length; i++) {
+            final long start = System.nanoTime();
+            results[i] = searcher.search(createQuery(config, queryVectors[i]), config.k());
+            latenciesNanos[i] = System.nanoTime() - start;
+        }
+
+        double recallSum = 0;
+        for (int i = 0; i < queryVectors.length; i++) {
+            recallSum += computeRecall(results[i], dataset.getGroundTruth()[i], config.k());
+        }
+        final long totalNanos = Arrays.stream(latenciesNanos).sum();
+        Arrays.sort(latenciesNanos);
+        return new RecallResult(
+            config,
+            buildTimeMillis,
+            indexSizeInBytes,
+            recallSum / queryVectors.length,
+            queryVectors.length / (totalNanos / (double) TimeUnit.SECONDS.toNanos(1)),
+            percentileMillis(latenciesNanos, 0.5),
+            percentileMillis(latenciesNanos, 0.99),
+            NativeMemoryCacheManager.getInstance().getCacheSizeInKilobytes(),
+            null
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeIndex();
+    }
+
+    private void buildIndex(final RecallRunConfig config) throws IOException {
+        field = new RecallField(FIELD_NAME, dataset.getDimension(), config);
+        indexPath = Files.createTempDirectory(workDirectory, "index");
+        directory = new MMapDirectory(indexPath);
+        final IndexWriterConfig writerConfig = new IndexWriterConfig().setCodec(
+            KNN10010Codec.builder()
+                .delegate(KNNCodecVersion.CURRENT_DEFAULT_DELEGATE)
+                .knnVectorsFormat(new RecallPerFieldKnnVectorsFormat(field))
+                .build()
+        )
+            .setRAMBufferSizeMB(RAM_BUFFER_SIZE_MB)
+            // Merges of adjacent segments keep documents in insertion order, so that doc ids are the ids of the ground truth.
+            .setMergePolicy(new LogByteSizeMergePolicy());
+
+        log.info("Building index for [{}]", config);
+        final long start = System.nanoTime();
+        try (IndexWriter writer = new IndexWriter(directory, writerConfig)) {
+            for (float[] vector : dataset.getBaseVectors()) {
+                final Document document = new Document();
+                // The field may transform the vector in place, keep the dataset intact for the next runs.
+                document.add(field.createField(vector.clone()));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        buildTimeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        indexSizeInBytes = 0;
+        for (String fileName : directory.listAll()) {
+            indexSizeInBytes += directory.fileLength(fileName);
+        }
+        reader = DirectoryReader.open(directory);
+        indexedConfig = config;
+    }
+
+    private void closeIndex() throws IOException {
+        try {
+            IOUtils.close(reader, directory);
+            if (indexPath != null) {
+                IOUtils.rm(indexPath);
+            }
+        } finally {
+            NativeMemoryCacheManager.getInstance().invalidateAll();
+            reader = null;
+            directory = null;
+            indexPath = null;
+            indexedConfig = null;
+        }
+    }
+
+    /**
+     * Create the query the same way as KNNQueryBuilder does for a float field.
+     */
+    private Query createQuery(final RecallRunConfig config, final float[] queryVector) {
+        final KNNVectorFieldType fieldType = field.getFieldType();
+        final KNNEngine knnEngine = fieldType.getKnnMappingConfig()
+            .getKnnMethodContext()
+            .orElseThrow(() -> new IllegalStateException("KNN method context cannot be empty"))
+            .getKnnEngine();
+        final String indexName = config.memoryOptimizedSearch() ? MEMORY_OPTIMIZED_INDEX_NAME : INDEX_NAME;
+        final RescoreContext rescoreContext = config.oversampleFactor() > 0
+            ? RescoreContext.builder().oversampleFactor(config.oversampleFactor()).userProvided(true).build()
+            : null;
+        final float[] vector = queryVector.clone();
+        fieldType.transformQueryVector(vector);
+        return KNNQueryFactory.create(
+            KNNQueryFactory.CreateQueryRequest.builder()
+                .knnEngine(knnEngine)
+                .indexName(indexName)
+                .fieldName(FIELD_NAME)
+                .vector(vector)
+                .vectorDataType(VectorDataType.FLOAT)
+                .k(config.k())
+                .methodParameters(Map.of(METHOD_PARAMETER_EF_SEARCH, config.efSearch()))
+                .rescoreContext(fieldType.resolveRescoreContext(rescoreContext))
+                .memoryOptimizedSearchEnabled(MemoryOptimizedSearchSupportSpec.isSupportedFieldType(fieldType, indexName))
+                .build()
+        );
+    }
+
+    private static double computeRecall(final TopDocs topDocs, final int[] groundTruth, final int k) {
+        final int numRelevant = Math.min(k, groundTruth.length);
+        if (numRelevant == 0) {
+            return 1;
+        }
+        int numFound = 0;
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            for (int i = 0; i < numRelevant; i++) {
+                if (groundTruth[i] == scoreDoc.doc) {
+                    numFound++;
+                    break;
+                }
+            }
+        }
+        return numFound / (double) numRelevant;
+    }
+
+    private static double percentileMillis(final long[] sortedNanos, final double percentile) {
+        final int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static IndexMetadata createIndexMetadata(final String indexName, final boolean memoryOptimizedSearch) {
+        return IndexMetadata.builder(indexName)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(KNNSettings.KNN_INDEX, true)
+                    .put(KNNSettings.MEMORY_OPTIMIZED_KNN_SEARCH_MODE, memoryOptimizedSearch)
+            )
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.benchmark.recall;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opensearch.knn.benchmark.BenchmarkUtils;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Base vectors, query vectors and ground truth of a recall evaluation.
+ * <p>
+ * Vectors are read from the TEXMEX formats used by the public ANN datasets: every vector is stored as its little endian int32
+ * dimension followed by its coordinates, as float32 in .fvecs files, uint8 in .bvecs files and int32 in .ivecs files, the
+ * latter holding ground truth neighbor ids. bvecs coordinates are read as floats.
+ */
+@Getter
+@AllArgsConstructor
+public class VectorDataset {
+    private final float[][] baseVectors;
+    private final float[][] queryVectors;
+    // Ids of the nearest base vectors of every query, closest first
+    private final int[][] groundTruth;
+
+    /**
+     * @param basePath path of the base vectors
+     * @param queryPath path of the query vectors
+     * @param groundTruthPath path of the ground truth, null to compute it by brute force
+     * @param maxVectors maximum number of base vectors to read
+     * @param maxQueries maximum number of query vectors to read
+     * @param spaceType space used to compute the ground truth
+     * @param k number of neighbors to compute per query
+     * @return dataset
+     * @throws IOException if a file cannot be read
+     */
+    public static VectorDataset load(
+        final Path basePath,
+        final Path queryPath,
+        final Path groundTruthPath,
+        final int maxVectors,
+        final int maxQueries,
+        final SpaceType spaceType,
+        final int k
+    ) throws IOException {
+        final float[][] baseVectors = readVectors(basePath, maxVectors);
+        final float[][] queryVectors = readVectors(queryPath, maxQueries);
+        // Ground truth files are computed over the full base set, so they are only valid if it was read entirely.
+        if (groundTruthPath != null && baseVectors.length < maxVectors) {
+            return new VectorDataset(baseVectors, queryVectors, readIds(groundTruthPath, queryVectors.length));
+        }
+        return new VectorDataset(baseVectors, queryVectors, computeGroundTruth(baseVectors, queryVectors, spaceType, k));
+    }
+
+    /**
+     * @param numVectors number of base vectors
+     * @param numQueries number of query vectors
+     * @param dimension dimension of the vectors
+     * @param spaceType space used to compute the ground truth
+     * @param k number of neighbors to compute per query
+     * @return dataset of vectors with coordinates uniformly distributed in [-1, 1)
+     */
+    public static VectorDataset generate(
+        final int numVectors,
+        final int numQueries,
+        final int dimension,
+        final SpaceType spaceType,
+        final int k
+    ) {
+        final Random random = new Random(BenchmarkUtils.SEED);
+        final float[][] baseVectors = BenchmarkUtils.randomFloatVectors(random, numVectors, dimension);
+        final float[][] queryVectors = BenchmarkUtils.randomFloatVectors(random, numQueries, dimension);
+        return new VectorDataset(baseVectors, queryVectors, computeGroundTruth(baseVectors, queryVectors, spaceType, k));
+    }
+
+    /**
+     * @return dimension of the vectors
+     */
+    public int getDimension() {
+        return baseVectors[0].length;
+    }
+
+    /**
+     * Compute the exact nearest neighbors of every query.
+     *
+     * @param baseVectors base vectors
+     * @param queryVectors query vectors
+     * @param spaceType space to compare vectors in
+     * @param k number of neighbors per query
+     * @return ids of the nearest base vectors of every query, closest first
+     */
+    static int[][] computeGroundTruth(final float[][] baseVectors, final float[][] queryVectors, final SpaceType spaceType, final int k) {
+        final int[][] groundTruth = new int[queryVectors.length][];
+        // Every query is independent, spread them over the available cores.
+        Arrays.parallelSetAll(groundTruth, query -> {
+            final PriorityQueue<float[]> topK = new PriorityQueue<>(k, (a, b) -> Float.compare(a[1], b[1]));
+            for (int id = 0; id < baseVectors.length; id++) {
+                final float score = spaceType.getKnnVectorSimilarityFunction().compare(queryVectors[query], baseVectors[id]);
+                if (topK.size() < k) {
+                    topK.add(new float[] { id, score });
+                } else if (score > topK.peek()[1]) {
+                    topK.poll();
+                    topK.add(new float[] { id, score });
+                }
+            }
+            final int[] ids = new int[topK.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = (int) topK.poll()[0];
+            }
+            return ids;
+        });
+        return groundTruth;
+    }
+
+    private static float[][] readVectors(final Path path, final int maxVectors) throws IOException {
+        final String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        final boolean isByteVectors = fileName.endsWith(".bvecs");
+        if (isByteVectors == false && fileName.endsWith(".fvecs") == false) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Unsupported vector file [%s], expected .fvecs or .bvecs", path));
+        }
+        final List<float[]> vectors = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            while (vectors.size() < maxVectors) {
+                final int dimension;
+                try {
+                    dimension = Integer.reverseBytes(input.readInt());
+                } catch (EOFException e) {
+                    break;
+                }
+                final float[] vector = new float[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = isByteVectors ? input.readUnsignedByte() : Float.intBitsToFloat(Integer.reverseBytes(input.readInt()));
+                }
+                vectors.add(vector);
+            }
+        }
+        return vectors.toArray(float[][]::new);
+    }
+
+    private static int[][] readIds(final Path path, final int maxRows) throws IOException {
+        final List<int[]> rows = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(path); DataInputStream input = new DataInputStream(new BufferedInputStream(stream))) {
+            while (rows.size() < maxRows) {
+                final int length;
+                try {
+                    length = Integer.reverseBytes(input.readInt());
+                } catch (EOFException e) {
+                    break;
+                }
+                final int[] ids = new int[length];
+                for (int i = 0; i < length; i++) {
+                    ids[i] = Integer.reverseBytes(input.readInt());
+                }
+                rows.add(ids);
+            }
+        }
+        return rows.toArray(int[][]::new);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.knn.benchmark.BenchmarkUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of protecting a hot {@link NativeMemoryAllocation.IndexAllocation} from being freed while searching it, from one thread
+ * and from 32 threads: the read lock with a reference count, as searches used to do, against pinning it. The search itself
+ * is simulated by a short amount of CPU work. This benchmark lives in the package of the allocation to create it without
+ * loading a native index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexAllocationPinBenchmark {
+    private static final int SEARCH_WORK_TOKENS = 100;
+
+    private ExecutorService executorService;
+    private NativeMemoryAllocation.IndexAllocation indexAllocation;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkUtils.initKNNSettings();
+        executorService = Executors.newSingleThreadExecutor();
+        indexAllocation = new NativeMemoryAllocation.IndexAllocation(executorService, 0, 1, null, "_0_165_field.faiss", "index");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        indexAllocation.close();
+        executorService.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void readLockSingleThread() {
+        readLock();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void readLockContended() {
+        readLock();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void pinSingleThread() {
+        pin();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void pinContended() {
+        pin();
+    }
+
+    private void readLock() {
+        indexAllocation.readLock();
+        indexAllocation.incRef();
+        try {
+            Blackhole.consumeCPU(SEARCH_WORK_TOKENS);
+        } finally {
+            indexAllocation.readUnlock();
+            indexAllocation.decRef();
+        }
+    }
+
+    private void pin() {
+        if (indexAllocation.tryPin() == false) {
+            throw new IllegalStateException("Allocation is closed");
+        }
+        try {
+            Blackhole.consumeCPU(SEARCH_WORK_TOKENS);
+        } finally {
+            indexAllocation.unpin();
+        }
+    }
+}
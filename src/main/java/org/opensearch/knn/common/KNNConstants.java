@@ -44,6 +44,9 @@ public class KNNConstants {
     public static final String MODELS = "models";
     public static final String MODEL_ID = "model_id";
     public static final String MODEL_BLOB_PARAMETER = "model_blob";
+    public static final String MODEL_BLOB_CHUNKS = "model_blob_chunks";
+    public static final String MODEL_BLOB_LENGTH = "model_blob_length";
+    public static final String MODEL_BLOB_CHUNK_OF = "model_blob_chunk_of";
     public static final String MODEL_INDEX_MAPPING_PATH = "mappings/model-index.json";
     public static final String MODEL_INDEX_NAME = ".opensearch-knn-models";
     public static final String PLUGIN_NAME = "knn";
@@ -63,6 +66,9 @@ public class KNNConstants {
 
     public static final String KNN_THREAD_POOL_PREFIX = "knn";
     public static final String TRAIN_THREAD_POOL = "training";
+    public static final String PREFETCH_THREAD_POOL = "knn_prefetch";
+    public static final String PREFETCH_THREAD_POOL_PREFIX = KNN_THREAD_POOL_PREFIX + ".prefetch";
+    public static final Integer PREFETCH_THREAD_POOL_QUEUE_SIZE = 1000;
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
     public static final String NODES_KEY = "nodes";
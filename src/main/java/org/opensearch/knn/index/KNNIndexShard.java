@@ -326,8 +326,16 @@ public class KNNIndexShard {
             .collect(Collectors.toList());
     }
 
-    @VisibleForTesting
-    VectorDataType determineVectorDataType(
+    /**
+     * Determines the vector data type a field's native index has to be loaded with, based on its quantization state and
+     * whether ADC is enabled.
+     *
+     * @param fieldInfo {@link FieldInfo} of the field
+     * @param segmentLevelQuantizationInfo quantization info of the segment, or null if the field is not quantized
+     * @param segmentVersion Lucene version of the segment
+     * @return {@link VectorDataType} used at loading time
+     */
+    public static VectorDataType determineVectorDataType(
         FieldInfo fieldInfo,
         SegmentLevelQuantizationInfo segmentLevelQuantizationInfo,
         org.apache.lucene.util.Version segmentVersion
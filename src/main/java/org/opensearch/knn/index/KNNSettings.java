@@ -25,10 +25,14 @@ import org.opensearch.core.common.settings.SecureString;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexModule;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManagerDto;
 import org.opensearch.knn.index.util.IndexHyperParametersUtil;
+import org.opensearch.knn.index.query.FilterBitSetCache;
+import org.opensearch.knn.index.query.ParentIdsCache;
+import org.opensearch.knn.index.vectorvalues.FlatVectorCache;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
 import org.opensearch.monitor.jvm.JvmInfo;
 import org.opensearch.monitor.os.OsProbe;
@@ -97,12 +101,23 @@ public class KNNSettings {
     public static final String MODEL_INDEX_NUMBER_OF_REPLICAS = "knn.model.index.number_of_replicas";
     public static final String MODEL_CACHE_SIZE_LIMIT = "knn.model.cache.size.limit";
     public static final String ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD = "index.knn.advanced.filtered_exact_search_threshold";
+    public static final String ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED = "index.knn.advanced.cost_based_exact_search.enabled";
     public static final String KNN_FAISS_AVX2_DISABLED = "knn.faiss.avx2.disabled";
     public static final String QUANTIZATION_STATE_CACHE_SIZE_LIMIT = "knn.quantization.cache.size.limit";
     public static final String QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES = "knn.quantization.cache.expiry.minutes";
+    public static final String KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT = "knn.flat_vector_cache.size.limit";
+    public static final String KNN_FILTER_BITSET_CACHE_SIZE_LIMIT = "knn.filter_bitset_cache.size.limit";
+    public static final String KNN_PARENT_IDS_CACHE_SIZE_LIMIT = "knn.parent_ids_cache.size.limit";
+    public static final String KNN_INDEX_BUILD_THREAD_POOL_SIZE = "knn.index_build.thread_pool.size";
+    public static final String KNN_MERGE_GRAPH_REUSE_MIN_RATIO = "knn.merge.graph_reuse.min_ratio";
+    public static final String KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT = "knn.merge.quantization_state_reuse.max_drift";
+    public static final String KNN_CONCURRENT_SEARCH_MIN_SLICE_COST = "knn.concurrent_search.min_slice_cost";
     public static final String KNN_FAISS_AVX512_DISABLED = "knn.faiss.avx512.disabled";
     public static final String KNN_FAISS_AVX512_SPR_DISABLED = "knn.faiss.avx512_spr.disabled";
     public static final String KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED = "index.knn.disk.vector.shard_level_rescoring_disabled";
+    public static final String KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED = "index.knn.disk.vector.adaptive_oversampling.enabled";
+    public static final String KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL =
+        "index.knn.disk.vector.adaptive_oversampling.target_recall";
     public static final String KNN_DERIVED_SOURCE_ENABLED = "index.knn.derived_source.enabled";
     // Remote index build index settings
     public static final String KNN_INDEX_REMOTE_VECTOR_BUILD = "index.knn.remote_index_build.enabled";
@@ -123,6 +138,20 @@ public class KNNSettings {
     public static final String MEMORY_OPTIMIZED_KNN_SEARCH_MODE = "index.knn.memory_optimized_search";
     public static final boolean DEFAULT_MEMORY_OPTIMIZED_KNN_SEARCH_MODE = false;
 
+    /**
+     * When enabled, memory optimized searchers transcode FAISS HNSW neighbor lists into a compact off heap layout at load time.
+     * See {@link org.opensearch.knn.memoryoptsearch.faiss.FaissCompactHnswNeighbors}.
+     */
+    public static final String KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED = "knn.memory_optimized_search.compact_graph.enabled";
+    public static final boolean KNN_DEFAULT_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED = false;
+
+    /**
+     * When enabled, native indices of newly opened segments are loaded in the background. See
+     * {@link org.opensearch.knn.index.memory.NativeIndexPrefetcher}.
+     */
+    public static final String KNN_INDEX_AUTO_WARMUP_ENABLED = "index.knn.auto_warmup.enabled";
+    public static final boolean KNN_DEFAULT_INDEX_AUTO_WARMUP_ENABLED = false;
+
     /**
      * Default setting values
      *
@@ -146,12 +175,15 @@ public class KNNSettings {
     public static final String KNN_DEFAULT_VECTOR_STREAMING_MEMORY_LIMIT_PCT = "1%";
 
     public static final Integer ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_DEFAULT_VALUE = -1;
+    public static final boolean ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_DEFAULT_VALUE = false;
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_SIZE_LIMIT_PERCENTAGE = 5; // By default, set aside 5% of the JVM for
     // the limit
     public static final Integer KNN_MAX_QUANTIZATION_STATE_CACHE_SIZE_LIMIT_PERCENTAGE = 10; // Quantization state cache limit cannot exceed
     // 10% of the JVM heap
     public static final Integer KNN_DEFAULT_QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES = 60;
     public static final boolean KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_VALUE = false;
+    public static final boolean KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_VALUE = false;
+    public static final double KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_VALUE = 0.95;
     public static final ByteSizeValue KNN_REMOTE_VECTOR_BUILD_SIZE_LIMIT_DEFAULT_VALUE = new ByteSizeValue(0, ByteSizeUnit.MB);
     // TODO: Tune this default value based on benchmarking
     public static final ByteSizeValue KNN_INDEX_REMOTE_VECTOR_BUILD_THRESHOLD_DEFAULT_VALUE = new ByteSizeValue(50, ByteSizeUnit.MB);
@@ -183,6 +215,30 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * This setting controls whether the oversample factor of disk-based vectors is learned per shard and field from
+     * observed rescoring results, instead of using the dimension-based default. It only applies when the oversample
+     * factor is not provided by the query.
+     */
+    public static final Setting<Boolean> KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING = Setting.boolSetting(
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED,
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_VALUE,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Fraction of the rescored top k that the first pass should contain when adaptive oversampling is enabled.
+     */
+    public static final Setting<Double> KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_SETTING = Setting.doubleSetting(
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL,
+        KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_VALUE,
+        0.0,
+        1.0,
+        IndexScope,
+        Dynamic
+    );
+
     // This setting controls how much memory should be used to transfer vectors from Java to JNI Layer. The default
     // 1% of the JVM heap
     public static final Setting<ByteSizeValue> KNN_VECTOR_STREAMING_MEMORY_LIMIT_PCT_SETTING = Setting.memorySizeSetting(
@@ -243,6 +299,18 @@ public class KNNSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Index level setting to let {@link org.opensearch.knn.index.query.KNNSearchCostModel} choose between exact and approximate
+     * filtered search for each segment, instead of the fixed max distance computations rule. The setting is ignored when
+     * {@link #ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_SETTING} is set.
+     */
+    public static final Setting<Boolean> ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_SETTING = Setting.boolSetting(
+        ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED,
+        ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_DEFAULT_VALUE,
+        IndexScope,
+        Setting.Property.Dynamic
+    );
+
     public static final Setting<ByteSizeValue> MODEL_CACHE_SIZE_LIMIT_SETTING = new Setting<>(
         MODEL_CACHE_SIZE_LIMIT,
         percentageAsString(KNN_DEFAULT_MODEL_CACHE_SIZE_LIMIT_PERCENTAGE),
@@ -314,6 +382,27 @@ public class KNNSettings {
         IndexScope
     );
 
+    /**
+     * Applies to memory optimized searchers loaded after the setting is updated.
+     */
+    public static final Setting<Boolean> KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED_SETTING = Setting.boolSetting(
+        KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED,
+        KNN_DEFAULT_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Index level setting to control whether native indices of newly created segments (after refresh or merge) are loaded
+     * asynchronously, so that the first query touching a segment does not absorb the load time.
+     */
+    public static final Setting<Boolean> KNN_INDEX_AUTO_WARMUP_ENABLED_SETTING = Setting.boolSetting(
+        KNN_INDEX_AUTO_WARMUP_ENABLED,
+        KNN_DEFAULT_INDEX_AUTO_WARMUP_ENABLED,
+        IndexScope,
+        Dynamic
+    );
+
     /**
      * index_thread_quantity - the parameter specifies how many threads the nms library should use to create the graph.
      * By default, the nms library sets this value to NUM_CORES. However, because ES can spawn NUM_CORES threads for
@@ -395,6 +484,90 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * Size limit of the off heap cache of full precision vectors used by exact search and rescoring. The cache is
+     * allocated from native memory within the native memory limit of k-NN, shared with graphs, and is disabled by
+     * default.
+     */
+    public static final Setting<ByteSizeValue> KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT_SETTING = Setting.byteSizeSetting(
+        KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT,
+        ByteSizeValue.ZERO,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Size limit of the heap cache of documents matching k-NN filters per segment, either in bytes or as a percentage of the
+     * heap. The cache is disabled by default.
+     */
+    public static final Setting<ByteSizeValue> KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING = Setting.memorySizeSetting(
+        KNN_FILTER_BITSET_CACHE_SIZE_LIMIT,
+        ByteSizeValue.ZERO,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Size limit of the heap cache of parent doc ids passed to native engines for nested fields, either in bytes or as a
+     * percentage of the heap. Setting it to 0 disables the cache.
+     */
+    public static final Setting<ByteSizeValue> KNN_PARENT_IDS_CACHE_SIZE_LIMIT_SETTING = Setting.memorySizeSetting(
+        KNN_PARENT_IDS_CACHE_SIZE_LIMIT,
+        "1%",
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Number of threads shared by the local native index builds of a node. Builds wait until the threads they use fit in
+     * the pool, flushes before merges. Builds are not limited by default.
+     */
+    public static final Setting<Integer> KNN_INDEX_BUILD_THREAD_POOL_SIZE_SETTING = Setting.intSetting(
+        KNN_INDEX_BUILD_THREAD_POOL_SIZE,
+        0,
+        0,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Smallest ratio of the vectors of a merged segment that the graph of one of the merged segments must hold for merges to
+     * insert the other vectors into that graph instead of building a new one. 0 disables graph reuse, which is the default.
+     */
+    public static final Setting<Double> KNN_MERGE_GRAPH_REUSE_MIN_RATIO_SETTING = Setting.doubleSetting(
+        KNN_MERGE_GRAPH_REUSE_MIN_RATIO,
+        0.0,
+        0.0,
+        1.0,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Largest distance between the per dimension means of merged segments and their pooled means, in standard deviations, for
+     * merges to derive the quantization state from the states of the merged segments instead of training it again. 0 always
+     * trains the quantization state.
+     */
+    public static final Setting<Double> KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT_SETTING = Setting.doubleSetting(
+        KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT,
+        0.1,
+        0.0,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Smallest estimated number of vectors a k-NN query must visit per slice for concurrent segment search to be worth its
+     * overhead. 0, the default, enables concurrent segment search for every k-NN query.
+     */
+    public static final Setting<Long> KNN_CONCURRENT_SEARCH_MIN_SLICE_COST_SETTING = Setting.longSetting(
+        KNN_CONCURRENT_SEARCH_MIN_SLICE_COST,
+        0L,
+        0L,
+        NodeScope,
+        Dynamic
+    );
+
     public static final Setting<Boolean> KNN_FAISS_AVX512_DISABLED_SETTING = Setting.boolSetting(
         KNN_FAISS_AVX512_DISABLED,
         KNN_DEFAULT_FAISS_AVX512_DISABLED_VALUE,
@@ -604,6 +777,18 @@ public class KNNSettings {
         clusterService.getClusterSettings().addSettingsUpdateConsumer(QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES_SETTING, it -> {
             quantizationStateCacheManager.rebuildCache();
         });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT_SETTING, it -> {
+            FlatVectorCache.getInstance().rebuild(it.getBytes());
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING, it -> {
+            FilterBitSetCache.getInstance().rebuild(it.getBytes());
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(KNN_PARENT_IDS_CACHE_SIZE_LIMIT_SETTING, it -> {
+            ParentIdsCache.getInstance().rebuild(it.getBytes());
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(KNN_INDEX_BUILD_THREAD_POOL_SIZE_SETTING, it -> {
+            NativeIndexBuildScheduler.getInstance().setPoolSize(it);
+        });
     }
 
     /**
@@ -667,9 +852,49 @@ public class KNNSettings {
             return QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES_SETTING;
         }
 
+        if (KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT.equals(key)) {
+            return KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT_SETTING;
+        }
+
+        if (KNN_FILTER_BITSET_CACHE_SIZE_LIMIT.equals(key)) {
+            return KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING;
+        }
+
+        if (KNN_PARENT_IDS_CACHE_SIZE_LIMIT.equals(key)) {
+            return KNN_PARENT_IDS_CACHE_SIZE_LIMIT_SETTING;
+        }
+
+        if (KNN_INDEX_BUILD_THREAD_POOL_SIZE.equals(key)) {
+            return KNN_INDEX_BUILD_THREAD_POOL_SIZE_SETTING;
+        }
+
+        if (KNN_MERGE_GRAPH_REUSE_MIN_RATIO.equals(key)) {
+            return KNN_MERGE_GRAPH_REUSE_MIN_RATIO_SETTING;
+        }
+
+        if (KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT.equals(key)) {
+            return KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT_SETTING;
+        }
+
+        if (KNN_CONCURRENT_SEARCH_MIN_SLICE_COST.equals(key)) {
+            return KNN_CONCURRENT_SEARCH_MIN_SLICE_COST_SETTING;
+        }
+
+        if (KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED.equals(key)) {
+            return KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED_SETTING;
+        }
+
         if (KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED.equals(key)) {
             return KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING;
         }
+
+        if (KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED.equals(key)) {
+            return KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING;
+        }
+
+        if (KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL.equals(key)) {
+            return KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_SETTING;
+        }
         if (KNN_DERIVED_SOURCE_ENABLED.equals(key)) {
             return KNN_DERIVED_SOURCE_ENABLED_SETTING;
         }
@@ -729,15 +954,27 @@ public class KNNSettings {
             MODEL_INDEX_NUMBER_OF_REPLICAS_SETTING,
             MODEL_CACHE_SIZE_LIMIT_SETTING,
             ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD_SETTING,
+            ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_SETTING,
             KNN_FAISS_AVX2_DISABLED_SETTING,
             KNN_VECTOR_STREAMING_MEMORY_LIMIT_PCT_SETTING,
             KNN_FAISS_AVX512_DISABLED_SETTING,
             KNN_FAISS_AVX512_SPR_DISABLED_SETTING,
             QUANTIZATION_STATE_CACHE_SIZE_LIMIT_SETTING,
             QUANTIZATION_STATE_CACHE_EXPIRY_TIME_MINUTES_SETTING,
+            KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT_SETTING,
+            KNN_FILTER_BITSET_CACHE_SIZE_LIMIT_SETTING,
+            KNN_PARENT_IDS_CACHE_SIZE_LIMIT_SETTING,
+            KNN_INDEX_BUILD_THREAD_POOL_SIZE_SETTING,
+            KNN_MERGE_GRAPH_REUSE_MIN_RATIO_SETTING,
+            KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT_SETTING,
+            KNN_CONCURRENT_SEARCH_MIN_SLICE_COST_SETTING,
             KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED_SETTING,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_SETTING,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_SETTING,
             KNN_DERIVED_SOURCE_ENABLED_SETTING,
             MEMORY_OPTIMIZED_KNN_SEARCH_MODE_SETTING,
+            KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED_SETTING,
+            KNN_INDEX_AUTO_WARMUP_ENABLED_SETTING,
             // Index level remote vector build settings
             KNN_INDEX_REMOTE_VECTOR_BUILD_SETTING,
             KNN_INDEX_REMOTE_VECTOR_BUILD_SIZE_MIN_SETTING,
@@ -910,6 +1147,15 @@ public class KNNSettings {
         }
     }
 
+    public static boolean isMemoryOptimizedSearchCompactGraphEnabled() {
+        try {
+            return KNNSettings.state().getSettingValue(KNN_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED);
+        } catch (Exception e) {
+            // Cluster settings are not available in some UTs, fall back to the default value.
+            return KNN_DEFAULT_MEMORY_OPTIMIZED_SEARCH_COMPACT_GRAPH_ENABLED;
+        }
+    }
+
     /**
      * check this index enabled/disabled derived source
      * @param settings Settings
@@ -943,10 +1189,31 @@ public class KNNSettings {
         );
     }
 
+    public static boolean isCostBasedExactSearchEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(
+            ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED,
+            ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_DEFAULT_VALUE
+        );
+    }
+
     public static boolean isShardLevelRescoringDisabledForDiskBasedVector(final String indexName) {
         return getIndexSettings(indexName).getAsBoolean(KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED, false);
     }
 
+    public static boolean isAdaptiveOversamplingEnabledForDiskBasedVector(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_ENABLED_VALUE
+        );
+    }
+
+    public static double getAdaptiveOversamplingTargetRecallForDiskBasedVector(final String indexName) {
+        return getIndexSettings(indexName).getAsDouble(
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL,
+            KNN_DISK_VECTOR_ADAPTIVE_OVERSAMPLING_TARGET_RECALL_VALUE
+        );
+    }
+
     public void initialize(Client client, ClusterService clusterService) {
         this.client = client;
         this.clusterService = clusterService;
@@ -1039,6 +1306,16 @@ public class KNNSettings {
         return getIndexSettings(indexName).getAsBoolean(MEMORY_OPTIMIZED_KNN_SEARCH_MODE, DEFAULT_MEMORY_OPTIMIZED_KNN_SEARCH_MODE);
     }
 
+    /**
+     * Return whether native indices of newly opened segments should be loaded in the background for the given index.
+     *
+     * @param indexName The name of target index.
+     * @return True if auto warm-up is enabled, otherwise False.
+     */
+    public static boolean isAutoWarmupEnabled(@NonNull final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(KNN_INDEX_AUTO_WARMUP_ENABLED, KNN_DEFAULT_INDEX_AUTO_WARMUP_ENABLED);
+    }
+
     public static Settings getIndexSettings(@NonNull final String indexName) {
         return KNNSettings.state().clusterService.state().getMetadata().index(indexName).getSettings();
     }
@@ -1093,6 +1370,30 @@ public class KNNSettings {
         return KNNSettings.state().getSettingValue(KNN_ALGO_PARAM_INDEX_THREAD_QTY);
     }
 
+    /**
+     * Get the smallest ratio of merged vectors a graph must hold to be reused by merges.
+     * @return double, 0 if graphs are never reused
+     */
+    public static double getMergeGraphReuseMinRatio() {
+        return KNNSettings.state().getSettingValue(KNN_MERGE_GRAPH_REUSE_MIN_RATIO);
+    }
+
+    /**
+     * Get the largest drift of segment means for merges to derive quantization states from the merged segments.
+     * @return double, 0 if quantization states are always trained
+     */
+    public static double getMergeQuantizationStateReuseMaxDrift() {
+        return KNNSettings.state().getSettingValue(KNN_MERGE_QUANTIZATION_STATE_REUSE_MAX_DRIFT);
+    }
+
+    /**
+     * Get the smallest estimated number of vectors a k-NN query must visit per slice to use concurrent segment search.
+     * @return long, 0 if concurrent segment search is always used
+     */
+    public static long getConcurrentSearchMinSliceCost() {
+        return KNNSettings.state().getSettingValue(KNN_CONCURRENT_SEARCH_MIN_SLICE_COST);
+    }
+
     private static String percentageAsString(Integer percentage) {
         return percentage + "%";
     }
@@ -17,6 +17,7 @@ import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public abstract class KNNVectorScriptDocValues<T> extends ScriptDocValues<T> {
@@ -42,6 +43,30 @@ public abstract class KNNVectorScriptDocValues<T> extends ScriptDocValues<T> {
     }
 
     public T getValue() {
+        ensureDocExists();
+        try {
+            return doGetValue();
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #getValue()}, except that the returned vector may be overwritten once the next doc is set. This is
+     * meant for scoring, where the vector is consumed right away, so that no vector needs to be allocated per doc.
+     *
+     * @return vector of the current doc
+     */
+    public T getScoringValue() {
+        ensureDocExists();
+        try {
+            return doGetScoringValue();
+        } catch (IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private void ensureDocExists() {
         if (!docExists) {
             String errorMessage = String.format(
                 "One of the document doesn't have a value for field '%s'. "
@@ -52,15 +77,14 @@ public abstract class KNNVectorScriptDocValues<T> extends ScriptDocValues<T> {
             );
             throw new IllegalStateException(errorMessage);
         }
-        try {
-            return doGetValue();
-        } catch (IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
-        }
     }
 
     protected abstract T doGetValue() throws IOException;
 
+    protected T doGetScoringValue() throws IOException {
+        return doGetValue();
+    }
+
     @Override
     public int size() {
         return docExists ? 1 : 0;
@@ -153,6 +177,8 @@ public abstract class KNNVectorScriptDocValues<T> extends ScriptDocValues<T> {
 
     private static final class KNNNativeVectorScriptDocValues<T> extends KNNVectorScriptDocValues<T> {
         private final BinaryDocValues values;
+        // Float vectors are deserialized into this buffer when scoring
+        private float[] scoringBuffer;
 
         KNNNativeVectorScriptDocValues(BinaryDocValues values, String field, VectorDataType type) {
             super(values, field, type);
@@ -163,6 +189,16 @@ public abstract class KNNVectorScriptDocValues<T> extends ScriptDocValues<T> {
         protected T doGetValue() throws IOException {
             return getVectorDataType().getVectorFromBytesRef(values.binaryValue());
         }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected T doGetScoringValue() throws IOException {
+            if (getVectorDataType() != VectorDataType.FLOAT) {
+                return doGetValue();
+            }
+            scoringBuffer = KNNVectorAsCollectionOfFloatsSerializer.INSTANCE.byteToFloatArray(values.binaryValue(), scoringBuffer);
+            return (T) scoringBuffer;
+        }
     }
 
     /**
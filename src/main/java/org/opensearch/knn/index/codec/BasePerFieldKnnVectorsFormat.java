@@ -80,7 +80,8 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
 
     @Override
     public KnnVectorsFormat getKnnVectorsFormatForField(final String field) {
-        if (isKnnVectorFieldType(field) == false) {
+        final KNNVectorFieldType mappedFieldType = getKnnVectorFieldType(field);
+        if (mappedFieldType == null) {
             log.debug(
                 "Initialize KNN vector format for field [{}] with default params [{}] = \"{}\" and [{}] = \"{}\"",
                 field,
@@ -91,12 +92,6 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
             );
             return defaultFormatSupplier.get();
         }
-        KNNVectorFieldType mappedFieldType = (KNNVectorFieldType) mapperService.orElseThrow(
-            () -> new IllegalStateException(
-                String.format("Cannot read field type for field [%s] because mapper service is not available", field)
-            )
-        ).fieldType(field);
-
         final KNNMappingConfig knnMappingConfig = mappedFieldType.getKnnMappingConfig();
         if (knnMappingConfig.getModelId().isPresent()) {
             return nativeEngineVectorsFormat();
@@ -154,8 +149,6 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
     }
 
     private NativeEngines990KnnVectorsFormat nativeEngineVectorsFormat() {
-        // mapperService is already checked for null or valid instance type at caller, hence we don't need
-        // addition isPresent check here.
         final int approximateThreshold = getApproximateThresholdValue();
         return new NativeEngines990KnnVectorsFormat(
             new Lucene99FlatVectorsFormat(FlatVectorScorerUtil.getLucene99FlatVectorsScorer()),
@@ -164,9 +157,12 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
         );
     }
 
-    private int getApproximateThresholdValue() {
-        // This is private method and mapperService is already checked for null or valid instance type before this call
-        // at caller, hence we don't need additional isPresent check here.
+    /**
+     * @return number of vectors from which native engine indices are built, read from the settings of the index
+     */
+    protected int getApproximateThresholdValue() {
+        // This is only called for k-NN fields, which are resolved through the mapper service, hence we don't need
+        // additional isPresent check here.
         final IndexSettings indexSettings = mapperService.get().getIndexSettings();
         final Integer approximateThresholdValue = indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_APPROXIMATE_THRESHOLD_SETTING);
         return approximateThresholdValue != null
@@ -179,7 +175,14 @@ public abstract class BasePerFieldKnnVectorsFormat extends PerFieldKnnVectorsFor
         return getKnnVectorsFormatForField(fieldName).getMaxDimensions(fieldName);
     }
 
-    private boolean isKnnVectorFieldType(final String field) {
-        return mapperService.isPresent() && mapperService.get().fieldType(field) instanceof KNNVectorFieldType;
+    /**
+     * @param field name of the field
+     * @return k-NN field type of the field, or null if the field is not a k-NN field
+     */
+    protected KNNVectorFieldType getKnnVectorFieldType(final String field) {
+        if (mapperService.isPresent() && mapperService.get().fieldType(field) instanceof KNNVectorFieldType knnVectorFieldType) {
+            return knnVectorFieldType;
+        }
+        return null;
     }
 }
@@ -16,6 +16,7 @@ import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.codecs.hnsw.FlatVectorsReader;
+import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FloatVectorValues;
@@ -24,16 +25,30 @@ import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOSupplier;
 import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.Version;
 import org.opensearch.common.UUIDs;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
+import org.opensearch.knn.index.KNNIndexShard;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.memory.NativeIndexPrefetcher;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
+import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcherFactory;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
@@ -46,8 +61,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
 import static org.opensearch.knn.index.mapper.KNNVectorFieldMapper.KNN_FIELD;
+import static org.opensearch.knn.index.util.IndexUtil.getParametersAtLoading;
 
 /**
  * Vectors reader class for reading the flat vectors for native engines. The class provides methods for iterating
@@ -63,6 +82,8 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
     private final SegmentReadState segmentReadState;
     private final List<String> cacheKeys;
     private volatile Map<String, VectorSearcherHolder> vectorSearchers;
+    private final List<Future<?>> prefetchTasks = new ArrayList<>();
+    private volatile boolean closed;
 
     public NativeEngines990KnnVectorsReader(final SegmentReadState state, final FlatVectorsReader flatVectorsReader) {
         this.flatVectorsReader = flatVectorsReader;
@@ -71,6 +92,7 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
 
         loadCacheKeyMap();
         fillVectorSearcherTable();
+        schedulePrefetch();
     }
 
     /**
@@ -138,18 +160,7 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
     public void search(String field, float[] target, KnnCollector knnCollector, Bits acceptDocs) throws IOException {
         // TODO: This is a temporary hack where we are using KNNCollector to initialize the quantization state.
         if (knnCollector instanceof QuantizationConfigKNNCollector) {
-            String cacheKey = quantizationStateCacheKeyPerField.get(field);
-            FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
-            QuantizationState quantizationState = QuantizationStateCacheManager.getInstance()
-                .getQuantizationState(
-                    new QuantizationStateReadConfig(
-                        segmentReadState,
-                        QuantizationService.getInstance().getQuantizationParams(fieldInfo, segmentReadState.segmentInfo.getVersion()),
-                        field,
-                        cacheKey
-                    )
-                );
-            ((QuantizationConfigKNNCollector) knnCollector).setQuantizationState(quantizationState);
+            ((QuantizationConfigKNNCollector) knnCollector).setQuantizationState(getQuantizationState(field));
             return;
         }
         if (trySearchWithMemoryOptimizedSearch(field, target, knnCollector, acceptDocs, true)) {
@@ -194,6 +205,61 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         throw new UnsupportedOperationException("Search functionality using codec is not supported with Native Engine Reader");
     }
 
+    /**
+     * Gets the quantization state of a field in this segment.
+     *
+     * @param field name of the field
+     * @return quantization state of the field
+     * @throws IOException if the state cannot be read
+     */
+    public QuantizationState getQuantizationState(final String field) throws IOException {
+        final String cacheKey = quantizationStateCacheKeyPerField.get(field);
+        final FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
+        return QuantizationStateCacheManager.getInstance()
+            .getQuantizationState(
+                new QuantizationStateReadConfig(
+                    segmentReadState,
+                    QuantizationService.getInstance().getQuantizationParams(fieldInfo, segmentReadState.segmentInfo.getVersion()),
+                    field,
+                    cacheKey
+                )
+            );
+    }
+
+    /**
+     * Gets the reader of a field of a segment being merged, when the field is read by this class.
+     *
+     * @param knnVectorsReader vectors reader of the segment, possibly per field
+     * @param field name of the field
+     * @return reader of the field, or null if the field is read by another reader
+     */
+    public static NativeEngines990KnnVectorsReader unwrap(final KnnVectorsReader knnVectorsReader, final String field) {
+        KnnVectorsReader reader = knnVectorsReader;
+        if (reader instanceof PerFieldKnnVectorsFormat.FieldsReader fieldsReader) {
+            reader = fieldsReader.getFieldReader(field);
+        }
+        return reader instanceof NativeEngines990KnnVectorsReader nativeReader ? nativeReader : null;
+    }
+
+    /**
+     * Opens the native engine file of a field, so that merges can start from the graph already built for this segment.
+     *
+     * @param field name of the field
+     * @return input over the native engine file, or null if the field has no native engine file in this segment
+     * @throws IOException if the file cannot be opened
+     */
+    public IndexInput openNativeEngineFile(final String field) throws IOException {
+        final FieldInfo fieldInfo = segmentReadState.fieldInfos.fieldInfo(field);
+        if (fieldInfo == null) {
+            return null;
+        }
+        final String fileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentReadState.segmentInfo);
+        if (fileName == null) {
+            return null;
+        }
+        return segmentReadState.directory.openInput(fileName, IOContext.READONCE);
+    }
+
     /**
      * Closes this stream and releases any system resources associated
      * with it. If the stream is already closed then invoking this
@@ -209,6 +275,13 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
      */
     @Override
     public void close() throws IOException {
+        // Cancel background loads that did not start yet, e.g. the segment got merged away before being prefetched.
+        closed = true;
+        synchronized (prefetchTasks) {
+            prefetchTasks.forEach(task -> task.cancel(false));
+            prefetchTasks.clear();
+        }
+
         // Clean up allocated vector indices resources from cache.
         final NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
         cacheKeys.forEach(nativeMemoryCacheManager::invalidate);
@@ -217,11 +290,15 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         final List<Closeable> closeables = new ArrayList<>();
         closeables.add(flatVectorsReader);
 
-        // Close vector searchers if loaded.
+        // Close vector searchers if loaded. Synchronizing on each holder waits for an in-flight background load.
         if (vectorSearchers != null) {
-            closeables.addAll(
-                vectorSearchers.values().stream().filter(VectorSearcherHolder::isSet).map(VectorSearcherHolder::getVectorSearcher).toList()
-            );
+            for (final VectorSearcherHolder searcherHolder : vectorSearchers.values()) {
+                synchronized (searcherHolder) {
+                    if (searcherHolder.isSet()) {
+                        closeables.add(searcherHolder.getVectorSearcher());
+                    }
+                }
+            }
         }
 
         IOUtils.close(closeables);
@@ -256,6 +333,124 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
         return false;
     }
 
+    private void schedulePrefetch() {
+        final NativeIndexPrefetcher prefetcher = NativeIndexPrefetcher.getInstance();
+        final NativeIndexPrefetcher.ShardContext shardContext = prefetcher.getShardContextIfEnabled(segmentReadState.segmentInfo);
+        if (shardContext == null) {
+            return;
+        }
+
+        for (final FieldInfo fieldInfo : segmentReadState.fieldInfos) {
+            if (fieldInfo.attributes().containsKey(KNN_FIELD) == false) {
+                continue;
+            }
+            final Future<?> task = prefetcher.submit(() -> prefetchField(fieldInfo, shardContext));
+            if (task != null) {
+                synchronized (prefetchTasks) {
+                    prefetchTasks.add(task);
+                }
+            }
+        }
+    }
+
+    private void prefetchField(final FieldInfo fieldInfo, final NativeIndexPrefetcher.ShardContext shardContext) {
+        if (closed) {
+            return;
+        }
+
+        final String indexName = shardContext.getIndexName();
+        try {
+            final MappedFieldType fieldType = shardContext.getMapperService().fieldType(fieldInfo.getName());
+            if (fieldType instanceof KNNVectorFieldType knnFieldType
+                && MemoryOptimizedSearchSupportSpec.isSupportedFieldType(knnFieldType, indexName)) {
+                // Partial load of the index, the same way a query would trigger it.
+                loadMemoryOptimizedSearcherIfRequired(fieldInfo.getName());
+                return;
+            }
+
+            final String vectorIndexFileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentReadState.segmentInfo);
+            if (vectorIndexFileName == null) {
+                return;
+            }
+            final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, segmentReadState.segmentInfo);
+            final SpaceType spaceType = SpaceType.getSpace(fieldInfo.attributes().getOrDefault(SPACE_TYPE, SpaceType.L2.getValue()));
+            final Version segmentVersion = segmentReadState.segmentInfo.getVersion();
+            final SegmentLevelQuantizationInfo segmentLevelQuantizationInfo = SegmentLevelQuantizationInfo.build(
+                this,
+                fieldInfo,
+                segmentVersion
+            );
+            final VectorDataType vectorDataType = KNNIndexShard.determineVectorDataType(
+                fieldInfo,
+                segmentLevelQuantizationInfo,
+                segmentVersion
+            );
+
+            // Only load the graph if it fits, a background load must not evict graphs that queries are using.
+            final NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+            nativeMemoryCacheManager.get(
+                new NativeMemoryEntryContext.IndexEntryContext(
+                    segmentReadState.segmentInfo.dir,
+                    cacheKey,
+                    NativeMemoryLoadStrategy.IndexLoadStrategy.getInstance(),
+                    getParametersAtLoading(
+                        spaceType,
+                        KNNEngine.getEngineNameFromPath(vectorIndexFileName),
+                        indexName,
+                        vectorDataType,
+                        segmentLevelQuantizationInfo
+                    ),
+                    indexName,
+                    fieldInfo.attributes().get(MODEL_ID)
+                ),
+                false
+            );
+
+            // The reader may have been closed while loading, make sure the allocation does not outlive the segment.
+            if (closed) {
+                nativeMemoryCacheManager.invalidate(cacheKey);
+            }
+        } catch (OutOfNativeMemoryException e) {
+            log.debug(
+                "[KNN] Skipping prefetch of field [{}] of segment [{}] in index [{}], it does not fit in the cache without eviction",
+                fieldInfo.getName(),
+                segmentReadState.segmentInfo.name,
+                indexName
+            );
+        } catch (Exception e) {
+            log.warn(
+                "[KNN] Failed to prefetch field [{}] of segment [{}] in index [{}]",
+                fieldInfo.getName(),
+                segmentReadState.segmentInfo.name,
+                indexName,
+                e
+            );
+        }
+    }
+
+    private void scheduleWarmUp(final String fieldName, final VectorSearcher searcher) {
+        // Keep building optional in-memory structures off the query path, searches work without them in the meantime.
+        final Future<?> task = NativeIndexPrefetcher.getInstance().submit(() -> warmUp(fieldName, searcher));
+        if (task != null) {
+            synchronized (prefetchTasks) {
+                prefetchTasks.add(task);
+            }
+        }
+    }
+
+    private void warmUp(final String fieldName, final VectorSearcher searcher) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            searcher.warmUp();
+        } catch (Exception e) {
+            // The reader may have been closed in the meantime, searches keep working on the index file.
+            log.debug("[KNN] Failed to warm up field [{}] of segment [{}]", fieldName, segmentReadState.segmentInfo.name, e);
+        }
+    }
+
     private void loadCacheKeyMap() {
         quantizationStateCacheKeyPerField = new HashMap<>();
         for (FieldInfo fieldInfo : segmentReadState.fieldInfos) {
@@ -309,6 +504,11 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
                 return searcherHolder.getVectorSearcher();
             }
 
+            if (closed) {
+                // Do not open a new searcher once the reader was closed, as nobody would close it afterward.
+                return null;
+            }
+
             VectorSearcher searcher = null;
 
             try {
@@ -322,6 +522,7 @@ public class NativeEngines990KnnVectorsReader extends KnnVectorsReader {
                             // KNNEngine
                             // itself supports memory optimized searching.
                             searcherHolder.setVectorSearcher(searcher);
+                            scheduleWarmUp(fieldName, searcher);
                         }
                     }
                 }
@@ -16,14 +16,19 @@ import org.apache.lucene.codecs.KnnFieldVectorsWriter;
 import org.apache.lucene.codecs.KnnVectorsWriter;
 import org.apache.lucene.codecs.hnsw.FlatVectorsWriter;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.index.Sorter;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.StopWatch;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.MergeBaseGraph;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildStrategyFactory;
 import org.opensearch.knn.index.codec.nativeindex.NativeIndexWriter;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
@@ -34,6 +39,7 @@ import org.opensearch.knn.quantization.models.quantizationState.QuantizationStat
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -106,7 +112,7 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
                 field.getFlatFieldVectorsWriter().getDocsWithFieldSet(),
                 field.getVectors()
             );
-            final QuantizationState quantizationState = train(field.getFieldInfo(), knnVectorValuesSupplier, totalLiveDocs);
+            final QuantizationState quantizationState = train(field.getFieldInfo(), knnVectorValuesSupplier, totalLiveDocs, null);
             // should skip graph building only for non quantization use case and if threshold is met
             if (quantizationState == null && shouldSkipBuildingVectorDataStructure(totalLiveDocs)) {
                 log.debug(
@@ -149,7 +155,7 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
             return;
         }
 
-        final QuantizationState quantizationState = train(fieldInfo, knnVectorValuesSupplier, totalLiveDocs);
+        final QuantizationState quantizationState = train(fieldInfo, knnVectorValuesSupplier, totalLiveDocs, mergeState);
         // should skip graph building only for non quantization use case and if threshold is met
         if (quantizationState == null && shouldSkipBuildingVectorDataStructure(totalLiveDocs)) {
             log.debug(
@@ -169,7 +175,13 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
 
         StopWatch stopWatch = new StopWatch().start();
 
-        writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+        try (MergeBaseGraph mergeBaseGraph = MergeBaseGraph.select(fieldInfo, mergeState, quantizationState, totalLiveDocs)) {
+            if (mergeBaseGraph == null) {
+                writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs);
+            } else {
+                writer.mergeIndex(knnVectorValuesSupplier, totalLiveDocs, mergeBaseGraph);
+            }
+        }
 
         long time_in_millis = stopWatch.stop().totalTime().millis();
         KNNGraphValue.MERGE_TOTAL_TIME_IN_MILLIS.incrementBy(time_in_millis);
@@ -225,7 +237,8 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
     private QuantizationState train(
         final FieldInfo fieldInfo,
         final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
-        final int totalLiveDocs
+        final int totalLiveDocs,
+        @Nullable final MergeState mergeState
     ) throws IOException {
 
         final QuantizationService quantizationService = QuantizationService.getInstance();
@@ -236,13 +249,83 @@ public class NativeEngines990KnnVectorsWriter extends KnnVectorsWriter {
         QuantizationState quantizationState = null;
         if (quantizationParams != null && totalLiveDocs > 0) {
             initQuantizationStateWriterIfNecessary();
-            quantizationState = quantizationService.train(quantizationParams, knnVectorValuesSupplier, totalLiveDocs);
+            if (mergeState != null) {
+                quantizationState = mergeQuantizationStates(fieldInfo, quantizationParams, mergeState);
+            }
+            if (quantizationState == null) {
+                quantizationState = quantizationService.train(quantizationParams, knnVectorValuesSupplier, totalLiveDocs);
+            }
             quantizationStateWriter.writeState(fieldInfo.getFieldNumber(), quantizationState);
         }
 
         return quantizationState;
     }
 
+    /**
+     * Derives the quantization state of the merged segment from the quantization states of the merged segments, weighted by
+     * their number of live vectors. Returns null when the quantizer has to be trained over the merged vectors instead.
+     */
+    private QuantizationState mergeQuantizationStates(
+        final FieldInfo fieldInfo,
+        final QuantizationParams quantizationParams,
+        final MergeState mergeState
+    ) throws IOException {
+        if (mergeState.knnVectorsReaders == null) {
+            return null;
+        }
+        final List<QuantizationState> states = new ArrayList<>();
+        final long[] liveVectors = new long[mergeState.knnVectorsReaders.length];
+        for (int i = 0; i < mergeState.knnVectorsReaders.length; i++) {
+            final FieldInfo segmentFieldInfo = mergeState.fieldInfos[i].fieldInfo(fieldInfo.name);
+            if (segmentFieldInfo == null || segmentFieldInfo.hasVectorValues() == false) {
+                continue;
+            }
+            final NativeEngines990KnnVectorsReader reader = NativeEngines990KnnVectorsReader.unwrap(
+                mergeState.knnVectorsReaders[i],
+                fieldInfo.name
+            );
+            if (reader == null) {
+                return null;
+            }
+            final long segmentLiveVectors = countLiveVectors(reader.getFloatVectorValues(fieldInfo.name), mergeState.liveDocs[i]);
+            if (segmentLiveVectors == 0) {
+                continue;
+            }
+            final QuantizationState state = reader.getQuantizationState(fieldInfo.name);
+            if (state == null) {
+                return null;
+            }
+            liveVectors[states.size()] = segmentLiveVectors;
+            states.add(state);
+        }
+        final QuantizationState quantizationState = QuantizationService.getInstance()
+            .merge(quantizationParams, states, Arrays.copyOf(liveVectors, states.size()));
+        log.debug(
+            "[Merge] {} quantization state of field {} from {} segments",
+            quantizationState == null ? "Training" : "Derived",
+            fieldInfo.name,
+            states.size()
+        );
+        return quantizationState;
+    }
+
+    private static long countLiveVectors(final FloatVectorValues vectorValues, final Bits liveDocs) throws IOException {
+        if (vectorValues == null) {
+            return 0;
+        }
+        if (liveDocs == null) {
+            return vectorValues.size();
+        }
+        long count = 0;
+        final KnnVectorValues.DocIndexIterator iterator = vectorValues.iterator();
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            if (liveDocs.get(doc)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * The {@link KNNVectorValues} will be exhausted after this function run. So make sure that you are not sending the
      * vectorsValues object which you plan to use later
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.store.IndexInputWithBuffer;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.jni.JNIService;
 
@@ -21,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.opensearch.knn.common.KNNConstants.MODEL_BLOB_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
 import static org.opensearch.knn.common.KNNVectorUtil.intListToArray;
 import static org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory.getVectorTransfer;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
@@ -28,7 +32,9 @@ import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorV
 /**
  * Iteratively builds the index. Iterative builds are memory optimized as it does not require all vectors
  * to be transferred. It transfers vectors in small batches, builds index and can clear the offheap space where
- * the vectors were transferred
+ * the vectors were transferred. Fields backed by a model start from a copy of the trained template index, which is cached
+ * natively per model id. Merges given a {@link MergeBaseGraph} start from that graph and only insert the vectors of the other
+ * merged segments.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStrategy {
@@ -57,28 +63,57 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
         KNNEngine engine = indexInfo.getKnnEngine();
         Map<String, Object> indexParameters = indexInfo.getParameters();
         IndexBuildSetup indexBuildSetup = QuantizationIndexUtils.prepareIndexBuild(knnVectorValues, indexInfo);
+        final MergeBaseGraph mergeBaseGraph = indexInfo.getMergeBaseGraph();
 
-        // Initialize the index
-        long indexMemoryAddress = AccessController.doPrivileged(
-            (PrivilegedAction<Long>) () -> JNIService.initIndex(
-                indexInfo.getTotalLiveDocs(),
-                indexBuildSetup.getDimensions(),
-                indexParameters,
-                engine
-            )
-        );
+        // Initialize the index, from the trained template when the field is backed by a model, or from the graph of a merged
+        // segment
+        long indexMemoryAddress = AccessController.doPrivileged((PrivilegedAction<Long>) () -> {
+            if (mergeBaseGraph != null) {
+                return JNIService.loadIndexForUpdate(
+                    new IndexInputWithBuffer(mergeBaseGraph.getIndexInput()),
+                    mergeBaseGraph.getDocIdMap(),
+                    indexParameters,
+                    engine
+                );
+            }
+            if (indexParameters.containsKey(MODEL_ID)) {
+                final String modelId = (String) indexParameters.get(MODEL_ID);
+                final byte[] templateIndex = (byte[]) indexParameters.get(MODEL_BLOB_PARAMETER);
+                NativeMemoryCacheManager.getInstance().cacheTemplate(modelId, templateIndex, engine);
+                return JNIService.initIndexFromTemplate(
+                    indexInfo.getTotalLiveDocs(),
+                    indexBuildSetup.getDimensions(),
+                    modelId,
+                    templateIndex,
+                    indexParameters,
+                    engine
+                );
+            }
+            return JNIService.initIndex(indexInfo.getTotalLiveDocs(), indexBuildSetup.getDimensions(), indexParameters, engine);
+        });
 
         try (
             final OffHeapVectorTransfer vectorTransfer = getVectorTransfer(
                 indexInfo.getVectorDataType(),
                 indexBuildSetup.getBytesPerVector(),
-                indexInfo.getTotalLiveDocs()
+                mergeBaseGraph == null ? indexInfo.getTotalLiveDocs() : indexInfo.getTotalLiveDocs() - mergeBaseGraph.getNumVectors()
             )
         ) {
 
             final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
+            // Inserted docs must come after the docs of the reused graph to keep the id map sorted
+            final int lastDocInGraph = mergeBaseGraph == null ? -1 : mergeBaseGraph.getDocIdMap()[mergeBaseGraph.getDocIdMap().length - 1];
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
+                if (mergeBaseGraph != null && mergeBaseGraph.getDocsInGraph().get(knnVectorValues.docId())) {
+                    knnVectorValues.nextDoc();
+                    continue;
+                }
+                if (knnVectorValues.docId() <= lastDocInGraph) {
+                    throw new IllegalStateException(
+                        "Doc [" + knnVectorValues.docId() + "] cannot be inserted before the docs of the reused graph"
+                    );
+                }
                 Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
                 // append is false to be able to reuse the memory location
                 boolean transferred = vectorTransfer.transfer(vector, false);
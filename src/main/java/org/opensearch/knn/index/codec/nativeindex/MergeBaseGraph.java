@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.Nullable;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsReader;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import static org.opensearch.knn.common.FieldInfoExtractor.extractKNNEngine;
+import static org.opensearch.knn.common.FieldInfoExtractor.extractVectorDataType;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
+import static org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsReader.unwrap;
+
+/**
+ * Graph of one of the segments being merged, to which a merge adds the vectors of the other segments instead of building a
+ * new graph from every vector.
+ * <p>
+ * Faiss writes the id map of the graph in insertion order, and memory optimized search requires that id map to be sorted by
+ * doc id. So the reused graph must hold the first doc ids of the merged segment: without index sorting, merged doc ids
+ * follow the order of the merged segments, and only the first merged segment holding the field qualifies. Its graph is
+ * reused when it holds at least {@link KNNSettings#KNN_MERGE_GRAPH_REUSE_MIN_RATIO} of the merged vectors, and when the
+ * segment has no deleted documents since faiss graphs cannot drop nodes. Its doc ids are remapped to the merged segment
+ * through {@link MergeState#docMaps}. Only faiss graphs over float vectors, without quantization or model, are reused.
+ */
+@Log4j2
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class MergeBaseGraph implements Closeable {
+    private final IndexInput indexInput;
+    // Doc id in the merged segment of every doc id of the reused segment, strictly increasing
+    private final int[] docIdMap;
+    // Docs of the merged segment whose vectors are already in the graph
+    private final FixedBitSet docsInGraph;
+    private final int numVectors;
+
+    /**
+     * Picks the graph a merge can start from.
+     *
+     * @param fieldInfo field being merged
+     * @param mergeState state of the merge
+     * @param quantizationState quantization state of the merged field, if any
+     * @param totalLiveDocs number of vectors of the merged segment
+     * @return graph to start from, to be closed by the caller, or null if the merge has to build a new graph
+     * @throws IOException if the vectors or the graph of a segment cannot be read
+     */
+    public static MergeBaseGraph select(
+        final FieldInfo fieldInfo,
+        final MergeState mergeState,
+        @Nullable final QuantizationState quantizationState,
+        final int totalLiveDocs
+    ) throws IOException {
+        if (mergeState.knnVectorsReaders == null || quantizationState != null || isReusable(fieldInfo) == false) {
+            return null;
+        }
+        final double minRatio = KNNSettings.getMergeGraphReuseMinRatio();
+        if (minRatio <= 0) {
+            return null;
+        }
+        return select(
+            fieldInfo.name,
+            mergeState.knnVectorsReaders,
+            mergeState.fieldInfos,
+            mergeState.liveDocs,
+            mergeState.docMaps,
+            mergeState.maxDocs,
+            mergeState.segmentInfo.maxDoc(),
+            mergeState.segmentInfo.getIndexSort() != null,
+            minRatio,
+            totalLiveDocs
+        );
+    }
+
+    static MergeBaseGraph select(
+        final String field,
+        final KnnVectorsReader[] knnVectorsReaders,
+        final FieldInfos[] fieldInfos,
+        final Bits[] liveDocs,
+        final MergeState.DocMap[] docMaps,
+        final int[] maxDocs,
+        final int mergedMaxDoc,
+        final boolean indexSorted,
+        final double minRatio,
+        final int totalLiveDocs
+    ) throws IOException {
+        if (indexSorted) {
+            // Docs of the merged segments are interleaved
+            return null;
+        }
+        int base = 0;
+        while (base < fieldInfos.length && fieldInfos[base].fieldInfo(field) == null) {
+            base++;
+        }
+        if (base == fieldInfos.length || liveDocs[base] != null) {
+            return null;
+        }
+        final NativeEngines990KnnVectorsReader baseReader = unwrap(knnVectorsReaders[base], field);
+        if (baseReader == null) {
+            return null;
+        }
+        final FloatVectorValues vectorValues = baseReader.getFloatVectorValues(field);
+        if (vectorValues == null || vectorValues.size() == 0 || vectorValues.size() < minRatio * totalLiveDocs) {
+            return null;
+        }
+
+        final MergeState.DocMap docMap = docMaps[base];
+        final int[] docIdMap = new int[maxDocs[base]];
+        final FixedBitSet docsInGraph = new FixedBitSet(mergedMaxDoc);
+        for (int doc = 0; doc < docIdMap.length; doc++) {
+            docIdMap[doc] = docMap.get(doc);
+            if (docIdMap[doc] < 0 || (doc > 0 && docIdMap[doc] <= docIdMap[doc - 1])) {
+                // The id map of the merged graph would not be sorted
+                return null;
+            }
+            docsInGraph.set(docIdMap[doc]);
+        }
+
+        final IndexInput indexInput = baseReader.openNativeEngineFile(field);
+        if (indexInput == null) {
+            // The segment was too small to get a graph
+            return null;
+        }
+        log.debug(
+            "[Merge] Reusing the graph of {} vectors out of {} of segment {} for field {}",
+            vectorValues.size(),
+            totalLiveDocs,
+            base,
+            field
+        );
+        return new MergeBaseGraph(indexInput, docIdMap, docsInGraph, vectorValues.size());
+    }
+
+    private static boolean isReusable(final FieldInfo fieldInfo) {
+        return extractKNNEngine(fieldInfo) == KNNEngine.FAISS
+            && fieldInfo.attributes().containsKey(MODEL_ID) == false
+            && extractVectorDataType(fieldInfo) == VectorDataType.FLOAT;
+    }
+
+    @Override
+    public void close() throws IOException {
+        indexInput.close();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.opensearch.knn.index.KNNSettings.KNN_INDEX_BUILD_THREAD_POOL_SIZE;
+
+/**
+ * Node level admission of local native index builds into a fixed budget of build threads.
+ * <p>
+ * Native engines build a graph with as many OpenMP threads as {@link KNNSettings#KNN_ALGO_PARAM_INDEX_THREAD_QTY} on the
+ * thread running the flush or merge, and OpenMP thread teams are per calling thread. Concurrent builds therefore use the
+ * sum of their thread counts, which oversubscribes cores when flushes and merges pile up. With a pool size set by
+ * {@link KNNSettings#KNN_INDEX_BUILD_THREAD_POOL_SIZE}, a build is admitted only once its threads fit in the pool, and
+ * waiting builds are admitted in order of priority, flushes before merges, then of arrival. A build never asks for more
+ * threads than the pool has.
+ * <p>
+ * Builds are admitted right away with the threads they ask for when the pool size is 0, which is the default.
+ */
+@Log4j2
+public final class NativeIndexBuildScheduler {
+    private static volatile NativeIndexBuildScheduler instance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition threadsReleased = lock.newCondition();
+    private final PriorityQueue<PendingBuild> pendingBuilds = new PriorityQueue<>(
+        Comparator.comparing(PendingBuild::priority).thenComparingLong(PendingBuild::sequence)
+    );
+    private long nextSequence;
+    @Getter
+    private volatile int poolSize;
+    @Getter
+    private volatile int activeThreads;
+    @Getter
+    private volatile int queueDepth;
+    private final LongAdder flushBuildCount = new LongAdder();
+    private final LongAdder mergeBuildCount = new LongAdder();
+    private final LongAdder waitTimeNanos = new LongAdder();
+
+    /**
+     * Priority of a build, in the order in which waiting builds are admitted.
+     */
+    public enum Priority {
+        // Flushes block refreshes and indexing buffers, merges only reduce the segment count.
+        FLUSH,
+        MERGE
+    }
+
+    @VisibleForTesting
+    NativeIndexBuildScheduler(final int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets the singleton instance of the scheduler.
+     *
+     * @return NativeIndexBuildScheduler
+     */
+    public static NativeIndexBuildScheduler getInstance() {
+        if (instance == null) {
+            synchronized (NativeIndexBuildScheduler.class) {
+                if (instance == null) {
+                    instance = new NativeIndexBuildScheduler(KNNSettings.state().getSettingValue(KNN_INDEX_BUILD_THREAD_POOL_SIZE));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Resize the pool. Builds already admitted keep their threads, waiting builds are admitted as soon as they fit.
+     *
+     * @param poolSize number of build threads of the node, 0 to admit builds without limit
+     */
+    public void setPoolSize(final int poolSize) {
+        lock.lock();
+        try {
+            this.poolSize = poolSize;
+            threadsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.info("[KNN] Native index build thread pool resized to {} threads", poolSize);
+    }
+
+    /**
+     * Wait until a build can run, and reserve its threads.
+     *
+     * @param requestedThreads number of threads the build would use without a pool
+     * @param priority priority of the build
+     * @return permit holding the threads the build may use, to be closed once the build is done
+     * @throws InterruptedException if the thread is interrupted while waiting, in which case no thread is reserved
+     */
+    public Permit acquire(final int requestedThreads, final Priority priority) throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        final int threads;
+        lock.lock();
+        try {
+            final PendingBuild pendingBuild = new PendingBuild(priority, nextSequence++);
+            pendingBuilds.add(pendingBuild);
+            queueDepth = pendingBuilds.size();
+            try {
+                while (pendingBuilds.peek() != pendingBuild || fits(requestedThreads) == false) {
+                    threadsReleased.await();
+                }
+            } finally {
+                pendingBuilds.remove(pendingBuild);
+                queueDepth = pendingBuilds.size();
+                // The next build in line may fit in what is left.
+                threadsReleased.signalAll();
+            }
+            threads = poolSize > 0 ? Math.min(requestedThreads, poolSize) : requestedThreads;
+            activeThreads += threads;
+        } finally {
+            lock.unlock();
+        }
+        waitTimeNanos.add(System.nanoTime() - startNanos);
+        (priority == Priority.FLUSH ? flushBuildCount : mergeBuildCount).increment();
+        return new Permit(threads);
+    }
+
+    private boolean fits(final int requestedThreads) {
+        return poolSize <= 0 || activeThreads + Math.min(requestedThreads, poolSize) <= poolSize;
+    }
+
+    private void release(final int threads) {
+        lock.lock();
+        try {
+            activeThreads -= threads;
+            threadsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return ratio of the pool used by running builds, 0 if the pool is not limited
+     */
+    public double getUtilization() {
+        final int size = poolSize;
+        return size <= 0 ? 0 : Math.min(1.0, (double) activeThreads / size);
+    }
+
+    /**
+     * @return number of flushes admitted
+     */
+    public long getFlushBuildCount() {
+        return flushBuildCount.sum();
+    }
+
+    /**
+     * @return number of merges admitted
+     */
+    public long getMergeBuildCount() {
+        return mergeBuildCount.sum();
+    }
+
+    /**
+     * @return total time builds waited to be admitted, in milliseconds
+     */
+    public long getWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTimeNanos.sum());
+    }
+
+    private record PendingBuild(Priority priority, long sequence) {
+    }
+
+    /**
+     * Threads reserved for an admitted build, released when closed.
+     */
+    public final class Permit implements Releasable {
+        @Getter
+        private final int threads;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(final int threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(threads);
+            }
+        }
+    }
+}
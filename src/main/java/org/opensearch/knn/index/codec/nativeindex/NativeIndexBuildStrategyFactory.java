@@ -22,6 +22,7 @@ import static org.opensearch.knn.common.FieldInfoExtractor.extractKNNEngine;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
 import static org.opensearch.knn.index.KNNSettings.isKNNRemoteVectorBuildEnabled;
 import static org.opensearch.knn.index.codec.util.KNNCodecUtil.initializeVectorValues;
+import static org.opensearch.knn.index.util.IndexUtil.isBinaryIndex;
 
 /**
  * Creates the {@link NativeIndexBuildStrategy}
@@ -59,16 +60,21 @@ public final class NativeIndexBuildStrategyFactory {
     ) throws IOException {
         final KNNEngine knnEngine = extractKNNEngine(fieldInfo);
         boolean isTemplate = fieldInfo.attributes().containsKey(MODEL_ID);
-        boolean iterative = !isTemplate && KNNEngine.FAISS == knnEngine;
+        // Templates are built iteratively from a cached copy of the trained index, except binary ones.
+        boolean iterative = KNNEngine.FAISS == knnEngine
+            && (!isTemplate || !isBinaryIndex(knnEngine, indexInfo.getParameters()));
 
-        NativeIndexBuildStrategy strategy = iterative
-            ? MemOptimizedNativeIndexBuildStrategy.getInstance()
-            : DefaultIndexBuildStrategy.getInstance();
+        // Local builds, including the fallback of remote builds, share the build threads of the node.
+        NativeIndexBuildStrategy strategy = new ScheduledIndexBuildStrategy(
+            iterative ? MemOptimizedNativeIndexBuildStrategy.getInstance() : DefaultIndexBuildStrategy.getInstance()
+        );
 
         initializeVectorValues(knnVectorValues);
         long vectorBlobLength = ((long) knnVectorValues.bytesPerVector()) * totalLiveDocs;
 
+        // Adding vectors to the graph of a merged segment is cheaper than building the whole graph remotely.
         if (isKNNRemoteVectorBuildEnabled()
+            && indexInfo.getMergeBaseGraph() == null
             && repositoriesServiceSupplier != null
             && indexSettings != null
             && knnEngine.supportsRemoteIndexBuild(knnLibraryIndexingContext)
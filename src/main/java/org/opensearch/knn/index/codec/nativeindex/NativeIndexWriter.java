@@ -102,7 +102,7 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void flushIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
-        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, true);
+        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, true, null);
         recordRefreshStats();
     }
 
@@ -112,6 +112,21 @@ public class NativeIndexWriter {
      * @throws IOException
      */
     public void mergeIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs) throws IOException {
+        mergeIndex(knnVectorValuesSupplier, totalLiveDocs, null);
+    }
+
+    /**
+     * Merges kNN index, starting from the graph of one of the merged segments when there is one
+     * @param knnVectorValuesSupplier
+     * @param totalLiveDocs
+     * @param mergeBaseGraph graph the vectors of the other segments are added to, null to build a new graph
+     * @throws IOException
+     */
+    public void mergeIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        @Nullable final MergeBaseGraph mergeBaseGraph
+    ) throws IOException {
         KNNVectorValues<?> knnVectorValues = knnVectorValuesSupplier.get();
         initializeVectorValues(knnVectorValues);
         if (knnVectorValues.docId() == NO_MORE_DOCS) {
@@ -122,12 +137,16 @@ public class NativeIndexWriter {
 
         long bytesPerVector = knnVectorValues.bytesPerVector();
         startMergeStats(totalLiveDocs, bytesPerVector);
-        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, false);
+        buildAndWriteIndex(knnVectorValuesSupplier, totalLiveDocs, false, mergeBaseGraph);
         endMergeStats(totalLiveDocs, bytesPerVector);
     }
 
-    private void buildAndWriteIndex(final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier, int totalLiveDocs, boolean isFlush)
-        throws IOException {
+    private void buildAndWriteIndex(
+        final Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
+        int totalLiveDocs,
+        boolean isFlush,
+        @Nullable final MergeBaseGraph mergeBaseGraph
+    ) throws IOException {
         if (totalLiveDocs == 0) {
             log.debug("No live docs for field {}", fieldInfo.name);
             return;
@@ -148,7 +167,8 @@ public class NativeIndexWriter {
                 knnEngine,
                 knnVectorValuesSupplier,
                 totalLiveDocs,
-                isFlush
+                isFlush,
+                mergeBaseGraph
             );
             NativeIndexBuildStrategy indexBuilder = indexBuilderFactory.getBuildStrategy(
                 fieldInfo,
@@ -170,7 +190,8 @@ public class NativeIndexWriter {
         KNNEngine knnEngine,
         Supplier<KNNVectorValues<?>> knnVectorValuesSupplier,
         int totalLiveDocs,
-        boolean isFlush
+        boolean isFlush,
+        MergeBaseGraph mergeBaseGraph
     ) throws IOException {
         final Map<String, Object> parameters;
         VectorDataType vectorDataType;
@@ -180,8 +201,7 @@ public class NativeIndexWriter {
             vectorDataType = extractVectorDataType(fieldInfo);
         }
         if (fieldInfo.attributes().containsKey(MODEL_ID)) {
-            Model model = getModel(fieldInfo);
-            parameters = getTemplateParameters(fieldInfo, model);
+            parameters = getTemplateParameters(fieldInfo);
         } else {
             parameters = getParameters(fieldInfo, vectorDataType, knnEngine);
         }
@@ -197,6 +217,7 @@ public class NativeIndexWriter {
             .totalLiveDocs(totalLiveDocs)
             .segmentWriteState(state)
             .isFlush(isFlush)
+            .mergeBaseGraph(mergeBaseGraph)
             .build();
     }
 
@@ -269,11 +290,24 @@ public class NativeIndexWriter {
         IndexUtil.updateVectorDataTypeToParameters(parameters, VectorDataType.BINARY);
     }
 
-    private Map<String, Object> getTemplateParameters(FieldInfo fieldInfo, Model model) throws IOException {
+    private Map<String, Object> getTemplateParameters(FieldInfo fieldInfo) throws IOException {
+        String modelId = fieldInfo.attributes().get(MODEL_ID);
+        Model model = ModelCache.getInstance().get(modelId);
+        // The blob is read once per build, as a blob kept in a file is read from disk on every call
+        byte[] modelBlob = model.getModelBlob();
+        if (modelBlob == null) {
+            // The file of the blob is deleted when the model is evicted from the cache, in which case the cache loads it again
+            model = ModelCache.getInstance().get(modelId);
+            modelBlob = model.getModelBlob();
+        }
+        if (modelBlob == null) {
+            throw new RuntimeException(String.format("There is no trained model with id \"%s\"", modelId));
+        }
+
         Map<String, Object> parameters = new HashMap<>();
         parameters.put(KNNConstants.INDEX_THREAD_QTY, KNNSettings.getIndexThreadQty());
-        parameters.put(KNNConstants.MODEL_ID, fieldInfo.attributes().get(MODEL_ID));
-        parameters.put(KNNConstants.MODEL_BLOB_PARAMETER, model.getModelBlob());
+        parameters.put(KNNConstants.MODEL_ID, modelId);
+        parameters.put(KNNConstants.MODEL_BLOB_PARAMETER, modelBlob);
         if (FieldInfoExtractor.extractQuantizationConfig(fieldInfo, state.segmentInfo.getVersion()) != QuantizationConfig.EMPTY) {
             IndexUtil.updateVectorDataTypeToParameters(parameters, VectorDataType.BINARY);
         } else {
@@ -283,15 +317,6 @@ public class NativeIndexWriter {
         return parameters;
     }
 
-    private Model getModel(FieldInfo fieldInfo) {
-        String modelId = fieldInfo.attributes().get(MODEL_ID);
-        Model model = ModelCache.getInstance().get(modelId);
-        if (model.getModelBlob() == null) {
-            throw new RuntimeException(String.format("There is no trained model with id \"%s\"", modelId));
-        }
-        return model;
-    }
-
     private void startMergeStats(int numDocs, long bytesPerVector) {
         KNNGraphValue.MERGE_CURRENT_OPERATIONS.increment();
         KNNGraphValue.MERGE_CURRENT_DOCS.incrementBy(numDocs);
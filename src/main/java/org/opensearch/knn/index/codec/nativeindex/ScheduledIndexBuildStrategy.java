@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.AllArgsConstructor;
+import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Runs a local build once it is admitted by the {@link NativeIndexBuildScheduler}, with the number of threads it was
+ * granted.
+ */
+@AllArgsConstructor
+final class ScheduledIndexBuildStrategy implements NativeIndexBuildStrategy {
+    private final NativeIndexBuildStrategy delegate;
+    private final NativeIndexBuildScheduler scheduler;
+
+    ScheduledIndexBuildStrategy(final NativeIndexBuildStrategy delegate) {
+        this(delegate, NativeIndexBuildScheduler.getInstance());
+    }
+
+    @Override
+    public void buildAndWriteIndex(final BuildIndexParams indexInfo) throws IOException {
+        final Map<String, Object> parameters = indexInfo.getParameters();
+        final int requestedThreads = (int) parameters.getOrDefault(KNNConstants.INDEX_THREAD_QTY, KNNSettings.getIndexThreadQty());
+        final NativeIndexBuildScheduler.Priority priority = indexInfo.isFlush()
+            ? NativeIndexBuildScheduler.Priority.FLUSH
+            : NativeIndexBuildScheduler.Priority.MERGE;
+
+        final NativeIndexBuildScheduler.Permit permit;
+        try {
+            permit = scheduler.acquire(requestedThreads, priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to build index for field [" + indexInfo.getFieldName() + "]", e);
+        }
+        try (permit) {
+            parameters.put(KNNConstants.INDEX_THREAD_QTY, permit.getThreads());
+            delegate.buildAndWriteIndex(indexInfo);
+        }
+    }
+}
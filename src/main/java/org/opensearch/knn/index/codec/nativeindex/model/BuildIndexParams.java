@@ -11,6 +11,7 @@ import lombok.Value;
 import org.apache.lucene.index.SegmentWriteState;
 import org.opensearch.common.Nullable;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.nativeindex.MergeBaseGraph;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.store.IndexOutputWithBuffer;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -37,4 +38,9 @@ public class BuildIndexParams {
     int totalLiveDocs;
     SegmentWriteState segmentWriteState;
     boolean isFlush;
+    /**
+     * An optional graph of a merged segment to add the other vectors to, instead of building a new graph
+     */
+    @Nullable
+    MergeBaseGraph mergeBaseGraph;
 }
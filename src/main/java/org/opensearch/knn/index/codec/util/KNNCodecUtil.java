@@ -59,6 +59,27 @@ public class KNNCodecUtil {
         return String.format("_%s%s", fieldName, extension);
     }
 
+    /**
+     * Extract the field name from an engine file name built by {@link #buildEngineFileName}.
+     * Ex: _0_165_my_field.faiss -> my_field
+     *
+     * @param engineFileName engine file name
+     * @return field name, or the file name without extension when it was not built by {@link #buildEngineFileName}
+     */
+    public static String extractFieldName(String engineFileName) {
+        final int extensionIndex = engineFileName.lastIndexOf('.');
+        final String baseName = extensionIndex == -1 ? engineFileName : engineFileName.substring(0, extensionIndex);
+        // Segment names start with '_' and do not contain another one, and the build version is followed by '_'.
+        if (baseName.startsWith("_")) {
+            final int versionIndex = baseName.indexOf('_', 1);
+            final int fieldIndex = versionIndex == -1 ? -1 : baseName.indexOf('_', versionIndex + 1);
+            if (fieldIndex != -1) {
+                return baseName.substring(fieldIndex + 1);
+            }
+        }
+        return baseName;
+    }
+
     public static long getTotalLiveDocsCount(final BinaryDocValues binaryDocValues) {
         long totalLiveDocs;
         if (binaryDocValues instanceof KNN80BinaryDocValues) {
@@ -7,6 +7,8 @@ package org.opensearch.knn.index.codec.util;
 
 import org.apache.lucene.util.BytesRef;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.stream.IntStream;
@@ -16,6 +18,7 @@ import java.util.stream.IntStream;
  */
 public class KNNVectorAsCollectionOfFloatsSerializer implements KNNVectorSerializer {
     private static final int BYTES_IN_FLOAT = 4;
+    private static final VarHandle FLOAT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
 
     public static final KNNVectorAsCollectionOfFloatsSerializer INSTANCE = new KNNVectorAsCollectionOfFloatsSerializer();
 
@@ -30,12 +33,20 @@ public class KNNVectorAsCollectionOfFloatsSerializer implements KNNVectorSeriali
 
     @Override
     public float[] byteToFloatArray(BytesRef bytesRef) {
+        return byteToFloatArray(bytesRef, null);
+    }
+
+    @Override
+    public float[] byteToFloatArray(BytesRef bytesRef, float[] reuse) {
         if (bytesRef == null || bytesRef.length % BYTES_IN_FLOAT != 0) {
             throw new IllegalArgumentException("Byte stream cannot be deserialized to array of floats");
         }
         final int sizeOfFloatArray = bytesRef.length / BYTES_IN_FLOAT;
-        final float[] vector = new float[sizeOfFloatArray];
-        ByteBuffer.wrap(bytesRef.bytes, bytesRef.offset, bytesRef.length).asFloatBuffer().get(vector);
+        final float[] vector = reuse != null && reuse.length == sizeOfFloatArray ? reuse : new float[sizeOfFloatArray];
+        // Read floats in place, without wrapping the bytes into buffers
+        for (int i = 0, offset = bytesRef.offset; i < sizeOfFloatArray; i++, offset += BYTES_IN_FLOAT) {
+            vector[i] = (float) FLOAT_BIG_ENDIAN.get(bytesRef.bytes, offset);
+        }
         return vector;
     }
 }
@@ -25,4 +25,13 @@ public interface KNNVectorSerializer {
      * @return array of floats deserialized from the stream
      */
     float[] byteToFloatArray(BytesRef bytesRef);
+
+    /**
+     * Deserializes all bytes from the stream to array of floats, reusing the given array when it has the right length
+     *
+     * @param bytesRef bytes that will be used for deserialization to array of floats
+     * @param reuse array to deserialize into, can be null
+     * @return array of floats deserialized from the stream, either reuse or a new array
+     */
+    float[] byteToFloatArray(BytesRef bytesRef, float[] reuse);
 }
@@ -6,11 +6,13 @@
 package org.opensearch.knn.index.engine;
 
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.KNNMappingConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
@@ -20,9 +22,11 @@ import java.util.Set;
 
 import static org.opensearch.knn.common.KNNConstants.ENCODER_BINARY;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_PQ;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_SQ;
 import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
 
 /**
  * This class encapsulates a determination logic for memory optimized search.
@@ -32,11 +36,14 @@ import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
  */
 public class MemoryOptimizedSearchSupportSpec {
     private static final Set<String> SUPPORTED_HNSW_ENCODING = Set.of(ENCODER_FLAT, ENCODER_SQ, ENCODER_BINARY);
+    private static final Set<String> SUPPORTED_IVF_ENCODING = Set.of(ENCODER_FLAT, ENCODER_PQ);
 
     /**
      * Determines whether a memory optimized searching should be applied during search.
      * Note that even when `memory_optimized_search` is not enabled, it will enable memory optimized searching for `on_disk` mode
      * with 1x compression.
+     * For a field built from a trained model, the model is only resolved when `memory_optimized_search` is enabled, and only once per
+     * field type. See {@link KNNVectorFieldType#isModelMemoryOptimizedSearchSupported()}.
      *
      * @param fieldType Field type
      * @param indexName Name of the index
@@ -53,9 +60,40 @@ public class MemoryOptimizedSearchSupportSpec {
             return mappingConfig.getMode() == Mode.ON_DISK && mappingConfig.getCompressionLevel() == CompressionLevel.x1;
         }
 
+        if (fieldType.getKnnMappingConfig().getModelId().isPresent() && KNNSettings.isMemoryOptimizedKnnSearchModeEnabled(indexName)) {
+            return fieldType.isModelMemoryOptimizedSearchSupported();
+        }
+
         return false;
     }
 
+    /**
+     * Determine whether an index built from a trained model supports memory-optimized-search.
+     * Only FAISS IVF with Flat or PQ encoder on float vectors is supported.
+     *
+     * @param modelMetadata Model metadata.
+     * @return True if memory-optimized-search is supported, otherwise false.
+     */
+    public static boolean isSupportedModel(final ModelMetadata modelMetadata) {
+        if (modelMetadata == null
+            || modelMetadata.getKnnEngine() != KNNEngine.FAISS
+            || modelMetadata.getVectorDataType() != VectorDataType.FLOAT) {
+            return false;
+        }
+
+        final MethodComponentContext methodComponentContext = modelMetadata.getMethodComponentContext();
+        if (methodComponentContext == null || METHOD_IVF.equals(methodComponentContext.getName()) == false) {
+            return false;
+        }
+
+        // No encoder means IVF Flat.
+        final Object encoderObj = methodComponentContext.getParameters().get(METHOD_ENCODER_PARAMETER);
+        if (encoderObj == null) {
+            return true;
+        }
+        return encoderObj instanceof MethodComponentContext encoder && SUPPORTED_IVF_ENCODING.contains(encoder.getName());
+    }
+
     /**
      * Determine whether if a KNN field supports memory-optimized-search.
      * If it is supported, then the field can perform memory-optimized search via {@link VectorSearcher}.
@@ -71,7 +109,8 @@ public class MemoryOptimizedSearchSupportSpec {
         final QuantizationConfig quantizationConfig,
         final Optional<String> modelId
     ) {
-        // PQ is not supported.
+        // Model based fields are resolved lazily on first use, as model metadata may not be available yet.
+        // See KNNVectorFieldType#isModelMemoryOptimizedSearchSupported.
         if (modelId.isPresent()) {
             return false;
         }
@@ -5,6 +5,7 @@
 
 package org.opensearch.knn.index.mapper;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,6 +25,7 @@ import org.opensearch.knn.index.engine.KNNMethodContext;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.knn.indices.ModelUtil;
 import org.opensearch.knn.index.engine.MemoryOptimizedSearchSupportSpec;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.lookup.SearchLookup;
@@ -47,6 +49,9 @@ public class KNNVectorFieldType extends MappedFieldType {
     VectorDataType vectorDataType;
     // Whether this field type can be benefit from memory optimized search?
     boolean memoryOptimizedSearchAvailable;
+    // Whether the model of this field supports memory optimized search, resolved once from the model metadata.
+    @Getter(AccessLevel.NONE)
+    volatile Boolean modelMemoryOptimizedSearchSupported;
 
     /**
      * Constructor for KNNVectorFieldType.
@@ -67,6 +72,33 @@ public class KNNVectorFieldType extends MappedFieldType {
         );
     }
 
+    /**
+     * Determine whether the model this field was built from supports memory optimized search. Model metadata relies on cluster state
+     * which may not be available during field type creation, thus it is resolved on first use and remembered afterward, as a model
+     * cannot change once created. Until the model metadata can be resolved, this fails closed and the native path is used.
+     *
+     * @return True if the field is built from a model supporting memory optimized search, otherwise false.
+     */
+    public boolean isModelMemoryOptimizedSearchSupported() {
+        Boolean supported = modelMemoryOptimizedSearchSupported;
+        if (supported != null) {
+            return supported;
+        }
+
+        final Optional<String> modelId = knnMappingConfig.getModelId();
+        if (modelId.isEmpty()) {
+            return false;
+        }
+        try {
+            supported = MemoryOptimizedSearchSupportSpec.isSupportedModel(ModelUtil.getModelMetadata(modelId.get()));
+        } catch (Exception e) {
+            logger.debug("[KNN] Unable to resolve model [{}] of field [{}], memory optimized search is not used", modelId.get(), name(), e);
+            return false;
+        }
+        modelMemoryOptimizedSearchSupported = supported;
+        return supported;
+    }
+
     @Override
     public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
         return new ArraySourceValueFetcher(name(), context) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.opensearch.knn.common.KNNConstants.PREFETCH_THREAD_POOL;
+
+/**
+ * Schedules background loading of native indices (or memory optimized searchers) for segments that were just opened,
+ * typically after a refresh or a merge. Without it, the first query that touches a new segment pays for the load.
+ *
+ * Segments only know their {@link Directory}, so shards of k-NN indices register themselves through
+ * {@link IndexEventListener} callbacks, which lets a segment be mapped back to its OpenSearch index and mapping.
+ * Loads are executed on the {@link org.opensearch.knn.common.KNNConstants#PREFETCH_THREAD_POOL} pool, whose size bounds
+ * the number of concurrent loads. A query arriving while a load is in flight waits on it through
+ * {@link NativeMemoryCacheManager#get}, which never loads the same key twice concurrently. Native indices are only
+ * prefetched when they fit in the cache without evicting other entries.
+ */
+@Log4j2
+public class NativeIndexPrefetcher implements IndexEventListener {
+    private static NativeIndexPrefetcher INSTANCE;
+    @Setter
+    private static ThreadPool threadPool;
+
+    private final Map<Directory, ShardContext> shardContexts = new ConcurrentHashMap<>();
+
+    NativeIndexPrefetcher() {}
+
+    /**
+     * Make sure we just have one instance of prefetcher.
+     *
+     * @return NativeIndexPrefetcher instance
+     */
+    public static synchronized NativeIndexPrefetcher getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new NativeIndexPrefetcher();
+        }
+        return INSTANCE;
+    }
+
+    @Override
+    public void afterIndexShardCreated(IndexShard indexShard) {
+        final Directory directory = FilterDirectory.unwrap(indexShard.store().directory());
+        shardContexts.put(directory, new ShardContext(indexShard.shardId().getIndexName(), indexShard.mapperService()));
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        if (indexShard == null) {
+            return;
+        }
+        shardContexts.remove(FilterDirectory.unwrap(indexShard.store().directory()));
+    }
+
+    /**
+     * Returns the context of the shard owning the given segment, when auto warm-up is enabled for its index.
+     *
+     * @param segmentInfo Segment that was just opened.
+     * @return {@link ShardContext} of the owning shard, or null if the segment should not be prefetched.
+     */
+    public ShardContext getShardContextIfEnabled(final SegmentInfo segmentInfo) {
+        if (threadPool == null || shardContexts.isEmpty() || segmentInfo == null || segmentInfo.dir == null) {
+            return null;
+        }
+
+        final ShardContext shardContext = shardContexts.get(FilterDirectory.unwrap(segmentInfo.dir));
+        if (shardContext == null) {
+            return null;
+        }
+
+        try {
+            return KNNSettings.isAutoWarmupEnabled(shardContext.getIndexName()) ? shardContext : null;
+        } catch (Exception e) {
+            // Index metadata may already be gone, e.g. while the index is being deleted.
+            log.debug("[KNN] Unable to resolve auto warm-up setting for index [{}]", shardContext.getIndexName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Submits a load task to the prefetch thread pool.
+     *
+     * @param task Load task
+     * @return Future of the task which can be used for cancellation, or null if the task was rejected.
+     */
+    public Future<?> submit(final Runnable task) {
+        if (threadPool == null) {
+            return null;
+        }
+        try {
+            return threadPool.executor(PREFETCH_THREAD_POOL).submit(task);
+        } catch (RejectedExecutionException e) {
+            // The queue is bounded on purpose. The segment will simply be loaded by the first query instead.
+            log.debug("[KNN] Prefetch queue is full, skipping background load", e);
+            return null;
+        }
+    }
+
+    /**
+     * Shard level information required to load a segment's native index in the background.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class ShardContext {
+        private final String indexName;
+        private final MapperService mapperService;
+    }
+}
@@ -17,6 +17,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.common.concurrent.RefCountedReleasable;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.query.KNNWeight;
 import org.opensearch.knn.jni.JNIService;
@@ -24,6 +25,7 @@ import org.opensearch.knn.index.engine.KNNEngine;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -73,6 +75,28 @@ public interface NativeMemoryAllocation {
      */
     void writeUnlock();
 
+    /**
+     * Pins allocation for a search, so that its native memory is not freed until {@link #unpin()} is called. The default
+     * implementation obtains the read lock.
+     *
+     * @return true if the allocation is pinned; false if it is closed or being closed and must not be searched
+     */
+    default boolean tryPin() {
+        readLock();
+        if (isClosed()) {
+            readUnlock();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Unpins allocation pinned by a successful call to {@link #tryPin()} from the same thread.
+     */
+    default void unpin() {
+        readUnlock();
+    }
+
     /**
      * Get the size of the native memory allocation in kilobytes.
      *
@@ -105,17 +129,25 @@ public interface NativeMemoryAllocation {
      * freed when file is deleted.
      */
     class IndexAllocation implements NativeMemoryAllocation {
+        // Time a thread evicting the allocation waits for in flight searches, before leaving the close to the executor
+        private static final long BLOCKING_GRACE_PERIOD_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
         private final ExecutorService executor;
         private final long memoryAddress;
         private final int sizeKb;
         private volatile boolean closed;
+        // Set before waiting for in flight searches to exit, so that no new search pins the allocation.
+        private volatile boolean retired;
         @Getter
         private final KNNEngine knnEngine;
         @Getter
         private final String vectorFileName;
         @Getter
         private final String openSearchIndexName;
+        @Getter
+        private final String fieldName;
+        @Getter
+        private final String shardId;
         private final ReadWriteLock readWriteLock;
         private final SharedIndexState sharedIndexState;
         @Getter
@@ -163,12 +195,50 @@ public interface NativeMemoryAllocation {
             String openSearchIndexName,
             SharedIndexState sharedIndexState,
             boolean isBinaryIndex
+        ) {
+            this(
+                executorService,
+                memoryAddress,
+                sizeKb,
+                knnEngine,
+                vectorFileName,
+                openSearchIndexName,
+                sharedIndexState,
+                isBinaryIndex,
+                null
+            );
+        }
+
+        /**
+         * Constructor
+         *
+         * @param executorService Executor service used to close the allocation
+         * @param memoryAddress Pointer in memory to the index
+         * @param sizeKb Size this index consumes in kilobytes
+         * @param knnEngine KNNEngine associated with the index allocation
+         * @param vectorFileName Vector file name. Ex: _0_165_my_field.faiss
+         * @param openSearchIndexName Name of OpenSearch index this index is associated with
+         * @param sharedIndexState Shared index state. If not shared state present, pass null.
+         * @param shardId Id of the shard the index belongs to. If unknown, pass null.
+         */
+        IndexAllocation(
+            ExecutorService executorService,
+            long memoryAddress,
+            int sizeKb,
+            KNNEngine knnEngine,
+            String vectorFileName,
+            String openSearchIndexName,
+            SharedIndexState sharedIndexState,
+            boolean isBinaryIndex,
+            String shardId
         ) {
             this.executor = executorService;
             this.closed = false;
             this.knnEngine = knnEngine;
             this.vectorFileName = vectorFileName;
             this.openSearchIndexName = openSearchIndexName;
+            this.fieldName = vectorFileName == null ? null : KNNCodecUtil.extractFieldName(vectorFileName);
+            this.shardId = shardId;
             this.memoryAddress = memoryAddress;
             this.readWriteLock = new ReentrantReadWriteLock();
             this.sizeKb = sizeKb;
@@ -178,21 +248,32 @@ public interface NativeMemoryAllocation {
         }
 
         protected void closeInternal() {
-            Runnable onClose = () -> {
-                writeLock();
-                try {
-                    cleanup();
-                } finally {
-                    writeUnlock();
-                }
-            };
+            retired = true;
+            final SearchEpochManager searchEpochManager = SearchEpochManager.getInstance();
 
             // The close operation needs to be blocking to prevent overflow
             // This blocks any entry until the close has completed, preventing creation before close scenarios
-            if (KNNFeatureFlags.isForceEvictCacheEnabled()) {
-                onClose.run();
+            // In flight searches pin the allocation without taking the read lock. The evicting thread only waits for them
+            // for a bounded time, and cannot wait at all while it is itself searching, so the close is left to the executor
+            // in those cases
+            if (KNNFeatureFlags.isForceEvictCacheEnabled()
+                && searchEpochManager.isInSearch() == false
+                && searchEpochManager.awaitGracePeriod(BLOCKING_GRACE_PERIOD_TIMEOUT_NANOS)) {
+                closeWithWriteLock();
             } else {
-                executor.execute(onClose);
+                executor.execute(() -> {
+                    searchEpochManager.awaitGracePeriod();
+                    closeWithWriteLock();
+                });
+            }
+        }
+
+        private void closeWithWriteLock() {
+            writeLock();
+            try {
+                cleanup();
+            } finally {
+                writeUnlock();
             }
         }
 
@@ -231,9 +312,8 @@ public interface NativeMemoryAllocation {
         }
 
         /**
-         * The read lock will be obtained in the
-         * {@link KNNWeight#scorer(LeafReaderContext context) scorer} when a native index needs
-         * to be queried.
+         * The read lock prevents the index from being freed while it is held. Searches from
+         * {@link KNNWeight#scorer(LeafReaderContext context) scorer} use {@link #tryPin()} instead.
          */
         @Override
         public void readLock() {
@@ -260,6 +340,27 @@ public interface NativeMemoryAllocation {
             readWriteLock.writeLock().unlock();
         }
 
+        /**
+         * Searches pin the allocation in {@link KNNWeight} without the read lock: pinning only writes to a slot of the
+         * searching thread, so that threads searching the same hot index do not contend. Closing waits for all pinning
+         * searches to unpin before freeing the index.
+         */
+        @Override
+        public boolean tryPin() {
+            final SearchEpochManager searchEpochManager = SearchEpochManager.getInstance();
+            searchEpochManager.enter();
+            if (retired || closed) {
+                searchEpochManager.exit();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void unpin() {
+            SearchEpochManager.getInstance().exit();
+        }
+
         @Override
         public int getSizeInKB() {
             return sizeKb;
@@ -500,4 +601,70 @@ public interface NativeMemoryAllocation {
             return size;
         }
     }
+
+    /**
+     * Represents the template index of a model cached by the native library to initialize the indices built from the model.
+     * Templates are only cloned under the lock of the native cache, so closing evicts the template right away.
+     */
+    class TemplateAllocation implements NativeMemoryAllocation {
+
+        @Getter
+        private final String modelId;
+        private final KNNEngine knnEngine;
+        private final int sizeKb;
+        private volatile boolean closed;
+        private final ReadWriteLock readWriteLock;
+
+        TemplateAllocation(String modelId, KNNEngine knnEngine, int sizeKb) {
+            this.modelId = modelId;
+            this.knnEngine = knnEngine;
+            this.sizeKb = sizeKb;
+            this.closed = false;
+            this.readWriteLock = new ReentrantReadWriteLock();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            JNIService.evictTemplate(modelId, knnEngine);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public long getMemoryAddress() {
+            throw new UnsupportedOperationException("Cannot get memory address for a TemplateAllocation.");
+        }
+
+        @Override
+        public void readLock() {
+            readWriteLock.readLock().lock();
+        }
+
+        @Override
+        public void writeLock() {
+            readWriteLock.writeLock().lock();
+        }
+
+        @Override
+        public void readUnlock() {
+            readWriteLock.readLock().unlock();
+        }
+
+        @Override
+        public void writeUnlock() {
+            readWriteLock.writeLock().unlock();
+        }
+
+        @Override
+        public int getSizeInKB() {
+            return sizeKb;
+        }
+    }
 }
@@ -25,11 +25,14 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.vectorvalues.FlatVectorCache;
 import org.opensearch.knn.plugin.stats.StatNames;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.Scheduler.Cancellable;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -42,6 +45,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -59,6 +63,9 @@ public class NativeMemoryCacheManager implements Closeable {
     private Cache<String, NativeMemoryAllocation> cache;
     private Deque<String> accessRecencyQueue;
     private final ConcurrentHashMap<String, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    private final NativeMemoryUsageBreakdown usageBreakdown = new NativeMemoryUsageBreakdown();
+    private final AtomicLong reservedSizeInBytes = new AtomicLong();
+    private final AtomicLong templateSizeInKB = new AtomicLong();
     private final ExecutorService executor;
     private AtomicBoolean cacheCapacityReached;
     private long maxWeight;
@@ -174,12 +181,87 @@ public class NativeMemoryCacheManager implements Closeable {
     }
 
     /**
-     * Getter for current cache size in Kilobytes.
+     * Getter for current cache size in Kilobytes, including the shared index states referenced by cached indices and the
+     * memory reserved outside of the cache.
      *
      * @return current size of the cache
      */
     public long getCacheSizeInKilobytes() {
-        return cache.asMap().values().stream().mapToLong(NativeMemoryAllocation::getSizeInKB).sum();
+        final long allocationsSizeInKB = cache.asMap().values().stream().mapToLong(NativeMemoryAllocation::getSizeInKB).sum();
+        final long sharedIndexStateSizeInKB = SharedIndexStateManager.getInstance().getSizeInKilobytes();
+        return allocationsSizeInKB + sharedIndexStateSizeInKB + getReservedSizeInKilobytes();
+    }
+
+    /**
+     * Getter for the size in Kilobytes of the native memory reserved outside of the cache, by the blocks of the
+     * {@link FlatVectorCache}.
+     *
+     * @return size of the reserved memory
+     */
+    public long getReservedSizeInKilobytes() {
+        return reservedSizeInBytes.get() / 1024;
+    }
+
+    /**
+     * Reserve native memory allocated outside of the cache against the limit of the cache, if it fits. Reserved memory is
+     * reclaimed from the {@link FlatVectorCache} when an entry of the cache needs its room.
+     *
+     * @param sizeInBytes size of the memory to reserve
+     * @return true if the memory was reserved, false if it does not fit
+     */
+    public boolean tryReserve(long sizeInBytes) {
+        reservedSizeInBytes.addAndGet(sizeInBytes);
+        if (getCacheSizeInKilobytes() <= maxWeight) {
+            return true;
+        }
+        reservedSizeInBytes.addAndGet(-sizeInBytes);
+        return false;
+    }
+
+    /**
+     * Release native memory reserved with {@link #tryReserve(long)}, once it is freed.
+     *
+     * @param sizeInBytes size of the released memory
+     */
+    public void release(long sizeInBytes) {
+        reservedSizeInBytes.addAndGet(-sizeInBytes);
+    }
+
+    /**
+     * Getter for the size in Kilobytes of the template indices cached by the native library to build indices from models.
+     * The size is maintained when templates are cached and evicted, so this does not scan the cache.
+     *
+     * @return size of the cached template indices
+     */
+    public long getTemplateCacheSizeInKilobytes() {
+        return templateSizeInKB.get();
+    }
+
+    /**
+     * Cache the template index of a model in the native library, if it fits without evicting other entries. Templates are
+     * weighed as other entries of the cache. Indices built from a model whose template is not cached deserialize it instead.
+     *
+     * @param modelId id of the model
+     * @param templateIndex serialized template index of the model
+     * @param knnEngine engine caching the template index
+     */
+    public void cacheTemplate(String modelId, byte[] templateIndex, KNNEngine knnEngine) {
+        try {
+            get(new NativeMemoryEntryContext.TemplateEntryContext(modelId, templateIndex, knnEngine), false);
+        } catch (OutOfNativeMemoryException e) {
+            logger.debug("[KNN] Template index of model {} is not cached: {}", modelId, e.getMessage());
+        } catch (ExecutionException e) {
+            logger.warn("[KNN] Unable to cache the template index of model {}", modelId, e);
+        }
+    }
+
+    /**
+     * Evict the template index of a model from the cache, if any.
+     *
+     * @param modelId id of the model
+     */
+    public void evictTemplate(String modelId) {
+        cache.invalidate(NativeMemoryEntryContext.TemplateEntryContext.generateKey(modelId));
     }
 
     /**
@@ -192,17 +274,18 @@ public class NativeMemoryCacheManager implements Closeable {
     }
 
     /**
-     * Getter for current size of all indices in Kilobytes.
+     * Getter for current size of all indices in Kilobytes, including the shared index states they reference.
      *
      * @return current size of the cache
      */
     public long getIndicesSizeInKilobytes() {
+        final long sharedIndexStateSizeInKB = SharedIndexStateManager.getInstance().getSizeInKilobytes();
         return cache.asMap()
             .values()
             .stream()
             .filter(nativeMemoryAllocation -> nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation)
             .mapToLong(NativeMemoryAllocation::getSizeInKB)
-            .sum();
+            .sum() + sharedIndexStateSizeInKB;
     }
 
     /**
@@ -300,6 +383,16 @@ public class NativeMemoryCacheManager implements Closeable {
         ).intValue();
     }
 
+    /**
+     * Check if an entry is loaded in the cache, without loading it nor updating its recency.
+     *
+     * @param key key of the entry
+     * @return true if the entry is in the cache
+     */
+    public boolean isCached(String key) {
+        return cache.asMap().containsKey(key);
+    }
+
     /**
      * Getter for cache stats.
      *
@@ -412,6 +505,7 @@ public class NativeMemoryCacheManager implements Closeable {
                 if (result != null) {
                     return result;
                 }
+                reclaimReservedMemory(nativeMemoryEntryContext);
                 if (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight) {
                     Iterator<String> lruIterator = accessRecencyQueue.iterator();
                     while (lruIterator.hasNext()
@@ -427,7 +521,7 @@ public class NativeMemoryCacheManager implements Closeable {
                     }
                 }
 
-                result = cache.get(key, nativeMemoryEntryContext::load);
+                result = cache.get(key, () -> loadAndTrack(nativeMemoryEntryContext));
                 accessRecencyQueue.addLast(key);
 
                 return result;
@@ -439,14 +533,43 @@ public class NativeMemoryCacheManager implements Closeable {
                 // heavy throughput cases, since open() function do locking while opening and mapping the graph file to
                 // memory.
                 return cache.get(key, () -> {
+                    reclaimReservedMemory(nativeMemoryEntryContext);
                     // open graphFile before load
                     open(key, nativeMemoryEntryContext);
-                    return nativeMemoryEntryContext.load();
+                    return loadAndTrack(nativeMemoryEntryContext);
                 });
             }
         }
     }
 
+    /**
+     * Entries of the cache take precedence over memory reserved outside of it. Reclaim as much reserved memory as the entry
+     * needs to fit, before graphs are evicted for it.
+     */
+    private void reclaimReservedMemory(NativeMemoryEntryContext<?> nativeMemoryEntryContext) {
+        if (reservedSizeInBytes.get() == 0) {
+            return;
+        }
+        final long overflowInKB = getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() - maxWeight;
+        if (overflowInKB > 0) {
+            FlatVectorCache.getInstance().reclaim(overflowInKB * 1024);
+        }
+    }
+
+    /**
+     * Loads an entry and accounts it in the usage breakdown, before the cache inserts it.
+     */
+    private NativeMemoryAllocation loadAndTrack(NativeMemoryEntryContext<?> nativeMemoryEntryContext) throws IOException {
+        NativeMemoryAllocation nativeMemoryAllocation = nativeMemoryEntryContext.load();
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation) {
+            usageBreakdown.add((NativeMemoryAllocation.IndexAllocation) nativeMemoryAllocation);
+        }
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.TemplateAllocation) {
+            templateSizeInKB.addAndGet(nativeMemoryAllocation.getSizeInKB());
+        }
+        return nativeMemoryAllocation;
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -523,9 +646,43 @@ public class NativeMemoryCacheManager implements Closeable {
         return statValues;
     }
 
+    /**
+     * Get the native memory used by indices in the cache per engine. Totals are maintained on load and eviction, so
+     * this does not scan the cache.
+     *
+     * @return Map of engine name to size in kilobytes
+     */
+    public Map<String, Long> getIndicesSizeInKilobytesByEngine() {
+        return usageBreakdown.getByEngine();
+    }
+
+    /**
+     * Get the native memory used by indices in the cache per OpenSearch index and field.
+     *
+     * @return Map of OpenSearch index name to map of field name to size in kilobytes
+     */
+    public Map<String, Map<String, Long>> getIndicesSizeInKilobytesByField() {
+        return usageBreakdown.getByField();
+    }
+
+    /**
+     * Get the native memory used by indices in the cache per OpenSearch index and shard.
+     *
+     * @return Map of OpenSearch index name to map of shard id to size in kilobytes
+     */
+    public Map<String, Map<String, Long>> getIndicesSizeInKilobytesByShard() {
+        return usageBreakdown.getByShard();
+    }
+
     private void onRemoval(RemovalNotification<String, NativeMemoryAllocation> removalNotification) {
         NativeMemoryAllocation nativeMemoryAllocation = removalNotification.getValue();
         nativeMemoryAllocation.close();
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.IndexAllocation) {
+            usageBreakdown.remove((NativeMemoryAllocation.IndexAllocation) nativeMemoryAllocation);
+        }
+        if (nativeMemoryAllocation instanceof NativeMemoryAllocation.TemplateAllocation) {
+            templateSizeInKB.addAndGet(-nativeMemoryAllocation.getSizeInKB());
+        }
 
         if (RemovalCause.SIZE == removalNotification.getCause()) {
             KNNSettings.state().updateCircuitBreakerSettings(true);
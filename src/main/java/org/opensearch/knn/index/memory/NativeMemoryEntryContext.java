@@ -19,9 +19,11 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.store.IndexInputWithBuffer;
+import org.opensearch.knn.jni.JNIService;
 
 import java.io.IOException;
 import java.util.Map;
@@ -363,4 +365,52 @@ public abstract class NativeMemoryEntryContext<T extends NativeMemoryAllocation>
             return loadStrategy.load(this);
         }
     }
+
+    public static class TemplateEntryContext extends NativeMemoryEntryContext<NativeMemoryAllocation.TemplateAllocation> {
+
+        private static final String KEY_PREFIX = "template:";
+
+        @Getter
+        private final String modelId;
+        private final byte[] templateIndex;
+        private final KNNEngine knnEngine;
+
+        /**
+         * Constructor
+         *
+         * @param modelId id of the model the template index belongs to
+         * @param templateIndex serialized template index of the model
+         * @param knnEngine engine caching the template index
+         */
+        public TemplateEntryContext(String modelId, byte[] templateIndex, KNNEngine knnEngine) {
+            super(generateKey(modelId));
+            this.modelId = modelId;
+            this.templateIndex = templateIndex;
+            this.knnEngine = knnEngine;
+        }
+
+        /**
+         * The deserialized template is estimated to be the size of the serialized one.
+         */
+        @Override
+        public Integer calculateSizeInKB() {
+            return templateIndex.length / 1024;
+        }
+
+        @Override
+        public NativeMemoryAllocation.TemplateAllocation load() {
+            final long sizeInBytes = JNIService.cacheTemplate(modelId, templateIndex, knnEngine);
+            return new NativeMemoryAllocation.TemplateAllocation(modelId, knnEngine, Math.toIntExact(sizeInBytes / 1024));
+        }
+
+        /**
+         * Generate the key of the template index of a model in the cache
+         *
+         * @param modelId id of the model
+         * @return key of the template index
+         */
+        public static String generateKey(String modelId) {
+            return KEY_PREFIX + modelId;
+        }
+    }
 }
@@ -13,6 +13,8 @@ package org.opensearch.knn.index.memory;
 
 import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
@@ -24,6 +26,7 @@ import org.opensearch.knn.training.VectorReader;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -114,18 +117,63 @@ public interface NativeMemoryLoadStrategy<T extends NativeMemoryAllocation, U ex
                 JNIService.setSharedIndexState(indexAddress, sharedIndexState.getSharedIndexStateAddress(), knnEngine);
             }
 
+            final boolean isBinaryIndex = IndexUtil.isBinaryIndex(knnEngine, indexEntryContext.getParameters());
             return new NativeMemoryAllocation.IndexAllocation(
                 executor,
                 indexAddress,
-                indexSizeKb,
+                computeSizeInKB(knnEngine, indexAddress, isBinaryIndex, indexSizeKb),
                 knnEngine,
                 vectorFileName,
                 indexEntryContext.getOpenSearchIndexName(),
                 sharedIndexState,
-                IndexUtil.isBinaryIndex(knnEngine, indexEntryContext.getParameters())
+                isBinaryIndex,
+                extractShardId(indexEntryContext.getDirectory())
             );
         }
 
+        /**
+         * Compute the size of a loaded index from what the engine actually allocated. The file size is not accurate as
+         * loading may skip or build tables that are not in the file. The shared index state is not included, as it is
+         * accounted once by {@link SharedIndexStateManager}. Falls back to the file size for engines not reporting their
+         * allocations.
+         */
+        private static int computeSizeInKB(
+            final KNNEngine knnEngine,
+            final long indexAddress,
+            final boolean isBinaryIndex,
+            final int fileSizeKb
+        ) {
+            if (KNNEngine.FAISS != knnEngine) {
+                return fileSizeKb;
+            }
+            final long sizeInBytes = JNIService.getIndexMemoryUsage(indexAddress, knnEngine, isBinaryIndex);
+            if (sizeInBytes <= 0) {
+                return fileSizeKb;
+            }
+            return Math.toIntExact(Math.ceilDiv(sizeInBytes, 1024L));
+        }
+
+        /**
+         * Extract the shard id from the shard's data path, which is laid out as `.../indices/{index uuid}/{shard id}/index`.
+         *
+         * @param directory Directory of the shard
+         * @return Shard id, or null if the directory is not backed by a shard's data path
+         */
+        static String extractShardId(final Directory directory) {
+            if (directory == null) {
+                return null;
+            }
+            final Directory unwrapped = FilterDirectory.unwrap(directory);
+            if (unwrapped instanceof FSDirectory == false) {
+                return null;
+            }
+            final Path shardPath = ((FSDirectory) unwrapped).getDirectory().getParent();
+            if (shardPath == null || shardPath.getFileName() == null) {
+                return null;
+            }
+            return shardPath.getFileName().toString();
+        }
+
         @Override
         public void close() {
             executor.shutdown();
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.knn.index.engine.KNNEngine;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running totals of the native memory used by index allocations, broken down per engine, per field and per shard. Totals
+ * are updated when an allocation enters or leaves the cache, so that reading them does not scan the cache. Field and
+ * shard totals are grouped by OpenSearch index, and their inner maps are replaced on update so they can be returned as is.
+ */
+final class NativeMemoryUsageBreakdown {
+    static final String UNKNOWN = "_na";
+
+    private final ConcurrentHashMap<String, Long> byEngine = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, Long>> byField = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, Long>> byShard = new ConcurrentHashMap<>();
+
+    /**
+     * Account an allocation that entered the cache.
+     *
+     * @param indexAllocation allocation that entered the cache
+     */
+    void add(final NativeMemoryAllocation.IndexAllocation indexAllocation) {
+        update(indexAllocation, indexAllocation.getSizeInKB());
+    }
+
+    /**
+     * Account an allocation that left the cache.
+     *
+     * @param indexAllocation allocation that left the cache
+     */
+    void remove(final NativeMemoryAllocation.IndexAllocation indexAllocation) {
+        update(indexAllocation, -indexAllocation.getSizeInKB());
+    }
+
+    /**
+     * @return size in kilobytes per engine name
+     */
+    Map<String, Long> getByEngine() {
+        return new HashMap<>(byEngine);
+    }
+
+    /**
+     * @return size in kilobytes per OpenSearch index, then per field
+     */
+    Map<String, Map<String, Long>> getByField() {
+        return new HashMap<>(byField);
+    }
+
+    /**
+     * @return size in kilobytes per OpenSearch index, then per shard
+     */
+    Map<String, Map<String, Long>> getByShard() {
+        return new HashMap<>(byShard);
+    }
+
+    private void update(final NativeMemoryAllocation.IndexAllocation indexAllocation, final long deltaKb) {
+        if (deltaKb == 0) {
+            return;
+        }
+        final String indexName = orUnknown(indexAllocation.getOpenSearchIndexName());
+        final KNNEngine knnEngine = indexAllocation.getKnnEngine();
+        byEngine.merge(orUnknown(knnEngine == null ? null : knnEngine.getName()), deltaKb, (a, b) -> a + b == 0 ? null : a + b);
+        updateNested(byField, indexName, orUnknown(indexAllocation.getFieldName()), deltaKb);
+        updateNested(byShard, indexName, orUnknown(indexAllocation.getShardId()), deltaKb);
+    }
+
+    private static void updateNested(
+        final ConcurrentHashMap<String, Map<String, Long>> totals,
+        final String indexName,
+        final String key,
+        final long deltaKb
+    ) {
+        totals.compute(indexName, (k, current) -> {
+            final Map<String, Long> updated = current == null ? new HashMap<>() : new HashMap<>(current);
+            final long sizeKb = updated.getOrDefault(key, 0L) + deltaKb;
+            if (sizeKb == 0) {
+                updated.remove(key);
+            } else {
+                updated.put(key, sizeKb);
+            }
+            return updated.isEmpty() ? null : Collections.unmodifiableMap(updated);
+        });
+    }
+
+    private static String orUnknown(final String value) {
+        return value == null ? UNKNOWN : value;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Epoch based reclamation of the native memory of allocations searched by many threads. A searching thread announces the
+ * epoch in which it started in a slot only written by itself, so that entering and exiting a search does not write to memory
+ * shared with other searching threads, unlike a read lock or a reference count. Before freeing an allocation, the closing
+ * thread retires it so that no new search can start on it, then waits for a grace period: every search started in an
+ * earlier epoch has to exit.
+ * <p>
+ * A single manager serves all allocations of the node, so that each thread has one slot, and an allocation only keeps its
+ * retired flag. A grace period therefore also waits for searches of other allocations that were in flight when it started.
+ * {@link #enter()} and {@link #exit()} must be called by the same thread, and may be nested.
+ */
+final class SearchEpochManager {
+    private static final SearchEpochManager INSTANCE = new SearchEpochManager();
+    private static final long IDLE = Long.MAX_VALUE;
+    private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AtomicLong epoch;
+    private final Queue<Slot> slots;
+    private final ThreadLocal<Slot> threadSlot;
+
+    @VisibleForTesting
+    SearchEpochManager() {
+        this.epoch = new AtomicLong();
+        this.slots = new ConcurrentLinkedQueue<>();
+        this.threadSlot = ThreadLocal.withInitial(() -> {
+            final Slot slot = new Slot(Thread.currentThread());
+            slots.add(slot);
+            return slot;
+        });
+    }
+
+    /**
+     * @return the manager shared by all allocations of the node
+     */
+    static SearchEpochManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enter a search. If the searched allocation was not retired when this returns, it stays allocated until {@link #exit()}
+     * is called.
+     */
+    void enter() {
+        final Slot slot = threadSlot.get();
+        if (slot.depth++ == 0) {
+            // Volatile write, ordered before the read of the retired flag of the allocation by the caller.
+            slot.epoch = epoch.get();
+        }
+    }
+
+    /**
+     * Exit the search entered by the last call to {@link #enter()} of this thread.
+     */
+    void exit() {
+        final Slot slot = threadSlot.get();
+        if (slot.depth == 0) {
+            throw new IllegalStateException("Exiting a search that was not entered");
+        }
+        if (--slot.depth == 0) {
+            slot.epoch = IDLE;
+        }
+    }
+
+    /**
+     * @return true if the calling thread is inside a search, and so cannot wait for a grace period
+     */
+    boolean isInSearch() {
+        return threadSlot.get().depth > 0;
+    }
+
+    /**
+     * Wait until all searches that were entered before this call have exited. The caller must have retired the allocation to
+     * free before calling this, so that searches entered afterward see it as retired.
+     *
+     * @throws IllegalStateException if the calling thread is inside a search, which would never exit
+     */
+    void awaitGracePeriod() {
+        awaitGracePeriod(Long.MAX_VALUE);
+    }
+
+    /**
+     * Wait until all searches that were entered before this call have exited, or until the timeout elapses.
+     *
+     * @param timeoutNanos maximum time to wait, in nanoseconds
+     * @return true if the grace period elapsed, false if the timeout elapsed first
+     * @throws IllegalStateException if the calling thread is inside a search, which would never exit
+     */
+    boolean awaitGracePeriod(final long timeoutNanos) {
+        if (isInSearch()) {
+            throw new IllegalStateException("Grace period cannot be awaited from inside a search");
+        }
+        final long start = System.nanoTime();
+        final long currentEpoch = epoch.incrementAndGet();
+        final Iterator<Slot> iterator = slots.iterator();
+        while (iterator.hasNext()) {
+            final Slot slot = iterator.next();
+            while (slot.epoch < currentEpoch) {
+                if (System.nanoTime() - start >= timeoutNanos) {
+                    return false;
+                }
+                LockSupport.parkNanos(WAIT_NANOS);
+            }
+            // Slots of terminated threads are idle forever, stop scanning them.
+            final Thread owner = slot.owner.get();
+            if (owner == null || owner.isAlive() == false) {
+                iterator.remove();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Padding laid out before the epoch of a slot. Fields of a superclass are laid out before the fields of its subclasses,
+     * so the epoch is surrounded by padding and the slots of different threads do not share a cache line.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class SlotPaddingBefore {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private abstract static class SlotEpoch extends SlotPaddingBefore {
+        protected volatile long epoch = IDLE;
+    }
+
+    @SuppressWarnings("unused")
+    private abstract static class SlotPaddingAfter extends SlotEpoch {
+        private long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    /**
+     * Epoch announced by one thread.
+     */
+    private static final class Slot extends SlotPaddingAfter {
+        private final WeakReference<Thread> owner;
+        // Only accessed by the owner thread
+        private int depth;
+
+        private Slot(final Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+    }
+}
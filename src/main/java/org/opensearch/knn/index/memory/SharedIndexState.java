@@ -18,4 +18,9 @@ public class SharedIndexState {
     private final long sharedIndexStateAddress;
     private final String modelId;
     private final KNNEngine knnEngine;
+    private final long sizeInBytes;
+
+    public SharedIndexState(long sharedIndexStateAddress, String modelId, KNNEngine knnEngine) {
+        this(sharedIndexStateAddress, modelId, knnEngine, 0);
+    }
 }
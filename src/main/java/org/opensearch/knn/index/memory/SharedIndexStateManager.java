@@ -27,6 +27,8 @@ class SharedIndexStateManager {
     // Map storing the shared index state with key being the modelId.
     private final ConcurrentHashMap<String, SharedIndexStateEntry> sharedIndexStateCache;
     private final ReadWriteLock readWriteLock;
+    // Native memory used by all shared index states. Each state is accounted once, from its creation until it is freed.
+    private final AtomicLong sizeInBytes;
 
     private static SharedIndexStateManager INSTANCE;
 
@@ -45,6 +47,7 @@ class SharedIndexStateManager {
     SharedIndexStateManager() {
         this.sharedIndexStateCache = new ConcurrentHashMap<>();
         this.readWriteLock = new ReentrantReadWriteLock();
+        this.sizeInBytes = new AtomicLong(0);
     }
 
     /**
@@ -76,7 +79,9 @@ class SharedIndexStateManager {
             SharedIndexStateEntry entry = sharedIndexStateCache.computeIfAbsent(modelId, m -> {
                 log.info("Loading entry to shared index state cache for model {}", modelId);
                 long sharedIndexStateAddress = JNIService.initSharedIndexState(indexAddress, knnEngine);
-                return new SharedIndexStateEntry(new SharedIndexState(sharedIndexStateAddress, modelId, knnEngine));
+                long stateSizeInBytes = JNIService.getSharedIndexStateMemoryUsage(sharedIndexStateAddress, knnEngine);
+                sizeInBytes.addAndGet(stateSizeInBytes);
+                return new SharedIndexStateEntry(new SharedIndexState(sharedIndexStateAddress, modelId, knnEngine, stateSizeInBytes));
             });
             entry.incRef();
             return entry.getSharedIndexState();
@@ -108,12 +113,24 @@ class SharedIndexStateManager {
                 log.info("Evicting entry from shared index state cache for key {}", sharedIndexState.getModelId());
                 sharedIndexStateCache.remove(sharedIndexState.getModelId());
                 JNIService.freeSharedIndexState(sharedIndexState.getSharedIndexStateAddress(), sharedIndexState.getKnnEngine());
+                sizeInBytes.addAndGet(-sharedIndexStateEntry.getSharedIndexState().getSizeInBytes());
             }
         } finally {
             this.readWriteLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Get the native memory used by the shared index states currently referenced by loaded indices. A shared state is
+     * charged when it is first acquired and released when its last reference is released, independently of the
+     * allocations referencing it.
+     *
+     * @return size of the shared index states in kilobytes
+     */
+    public long getSizeInKilobytes() {
+        return Math.ceilDiv(sizeInBytes.get(), 1024L);
+    }
+
     private static final class SharedIndexStateEntry {
         @Getter
         private final SharedIndexState sharedIndexState;
@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.util.Version;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
@@ -19,8 +20,10 @@ import org.opensearch.knn.quantization.models.quantizationOutput.QuantizationOut
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.quantizer.QuantizationStateMerger;
 import org.opensearch.knn.quantization.quantizer.Quantizer;
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.extractQuantizationConfig;
@@ -82,6 +85,27 @@ public final class QuantizationService<T, R> {
         return quantizer.train(trainingRequest);
     }
 
+    /**
+     * Derives the {@link QuantizationState} of a merged segment from the states of the merged segments, without reading
+     * vectors. See {@link QuantizationStateMerger}.
+     *
+     * @param quantizationParams The {@link QuantizationParams} of the merged segment.
+     * @param states The {@link QuantizationState} of every merged segment with live vectors.
+     * @param liveVectors The number of live vectors of every merged segment, in the same order as the states.
+     * @return The {@link QuantizationState} of the merged segment, or null if the quantizer has to be trained.
+     */
+    public QuantizationState merge(
+        final QuantizationParams quantizationParams,
+        final List<QuantizationState> states,
+        final long[] liveVectors
+    ) {
+        final double maxDrift = KNNSettings.getMergeQuantizationStateReuseMaxDrift();
+        if (maxDrift <= 0 || quantizationParams instanceof ScalarQuantizationParams == false) {
+            return null;
+        }
+        return QuantizationStateMerger.merge((ScalarQuantizationParams) quantizationParams, states, liveVectors, maxDrift);
+    }
+
     /**
      * Applies quantization to the given vector using the specified {@link QuantizationState} and
      * {@link QuantizationOutput}.
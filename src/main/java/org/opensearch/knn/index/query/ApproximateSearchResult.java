@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+
+/**
+ * Results of the approximate search of a segment, along with the time spent searching the vector index itself. Loading the
+ * index beforehand is not part of the search time.
+ */
+@Getter
+@AllArgsConstructor
+public class ApproximateSearchResult {
+    public static final ApproximateSearchResult EMPTY_RESULT = new ApproximateSearchResult(TopDocsCollector.EMPTY_TOPDOCS, 0);
+
+    private final TopDocs topDocs;
+    private final long searchTimeNanos;
+}
@@ -46,7 +46,7 @@ public class DefaultKNNWeight extends KNNWeight {
     }
 
     @Override
-    protected TopDocs doANNSearch(
+    protected ApproximateSearchResult doANNSearch(
         final LeafReaderContext context,
         final SegmentReader reader,
         final FieldInfo fieldInfo,
@@ -97,74 +97,44 @@ public class DefaultKNNWeight extends KNNWeight {
         }
 
         // From cardinality select different filterIds type
-        FilterIdsSelector filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
+        FilterIdsSelector filterIdsSelector = getFilterIdsSelector(context, filterIdsBitSet, cardinality);
         long[] filterIds = filterIdsSelector.getFilterIds();
         FilterIdsSelector.FilterIdsSelectorType filterType = filterIdsSelector.getFilterType();
-        // Now that we have the allocation, we need to readLock it
-        indexAllocation.readLock();
-        try {
-            indexAllocation.incRef();
-        } catch (IllegalStateException e) {
-            indexAllocation.readUnlock();
-            log.error("[KNN] Exception when allocation getting evicted: ", e);
-            throw new RuntimeException("Failed to do kNN search when vector data structures getting evicted ", e);
+        // Now that we have the allocation, we need to pin it so that it is not freed while searching
+        if (indexAllocation.tryPin() == false) {
+            log.error("[KNN] Allocation [{}] got evicted before searching it", cacheKey);
+            throw new RuntimeException("Failed to do kNN search when vector data structures getting evicted");
         }
         KNNQueryResult[] results;
+        final long searchTimeNanos;
         try {
-            if (indexAllocation.isClosed()) {
-                throw new RuntimeException("Index has already been closed");
-            }
             final int[] parentIds = getParentIdsArray(context);
-            if (k > 0) {
-                if (knnQuery.getVectorDataType() == VectorDataType.BINARY
-                    || quantizedVector != null
-                        && quantizationService.getVectorDataTypeForTransfer(fieldInfo, segmentLuceneVersion) == VectorDataType.BINARY) {
-                    results = JNIService.queryBinaryIndex(
-                        indexAllocation.getMemoryAddress(),
-                        // TODO: In the future, quantizedVector can have other data types than byte
-                        quantizedVector == null ? knnQuery.getByteQueryVector() : quantizedVector,
-                        k,
-                        knnQuery.getMethodParameters(),
-                        knnEngine,
-                        filterIds,
-                        filterType.getValue(),
-                        parentIds
-                    );
-                } else {
-                    results = JNIService.queryIndex(
-                        indexAllocation.getMemoryAddress(),
-                        transformedVector == null ? knnQuery.getQueryVector() : transformedVector,
-                        k,
-                        knnQuery.getMethodParameters(),
-                        knnEngine,
-                        filterIds,
-                        filterType.getValue(),
-                        parentIds
-                    );
-                }
-            } else {
-                results = JNIService.radiusQueryIndex(
-                    indexAllocation.getMemoryAddress(),
-                    knnQuery.getQueryVector(),
-                    knnQuery.getRadius(),
-                    knnQuery.getMethodParameters(),
-                    knnEngine,
-                    knnQuery.getContext().getMaxResultWindow(),
-                    filterIds,
-                    filterType.getValue(),
-                    parentIds
-                );
-            }
+            final long searchStartTime = System.nanoTime();
+            results = queryIndex(
+                context,
+                indexAllocation,
+                fieldInfo,
+                knnEngine,
+                quantizedVector,
+                transformedVector,
+                segmentLuceneVersion,
+                filterIds,
+                filterType.getValue(),
+                parentIds,
+                k
+            );
+            searchTimeNanos = System.nanoTime() - searchStartTime;
         } catch (Exception e) {
             GRAPH_QUERY_ERRORS.increment();
             throw new RuntimeException(e);
         } finally {
-            indexAllocation.readUnlock();
-            indexAllocation.decRef();
+            indexAllocation.unpin();
         }
 
+        // Radial search results are already capped at max result window by the native layer, so the collector only needs to
+        // fit what was returned instead of being sized to the window.
         TopApproxKnnCollector collector = new TopApproxKnnCollector(
-            k > 0 ? k : knnQuery.getContext().getMaxResultWindow(),
+            k > 0 ? k : Math.max(1, results.length),
             knnEngine,
             quantizedVector != null ? SpaceType.HAMMING : spaceType
         );
@@ -174,7 +144,65 @@ public class DefaultKNNWeight extends KNNWeight {
         }
         TopDocs topDocs = collector.topDocs();
         addExplainIfRequired(results, knnEngine, spaceType);
-        return topDocs;
+        return new ApproximateSearchResult(topDocs, searchTimeNanos);
+    }
+
+    /**
+     * Searches the native index of the segment through JNI. The allocation must be pinned by the caller.
+     */
+    protected KNNQueryResult[] queryIndex(
+        final LeafReaderContext context,
+        final NativeMemoryAllocation indexAllocation,
+        final FieldInfo fieldInfo,
+        final KNNEngine knnEngine,
+        final byte[] quantizedVector,
+        final float[] transformedVector,
+        final Version segmentLuceneVersion,
+        final long[] filterIds,
+        final int filterType,
+        final int[] parentIds,
+        final int k
+    ) throws IOException {
+        if (k > 0) {
+            if (knnQuery.getVectorDataType() == VectorDataType.BINARY
+                || quantizedVector != null
+                    && quantizationService.getVectorDataTypeForTransfer(fieldInfo, segmentLuceneVersion) == VectorDataType.BINARY) {
+                return JNIService.queryBinaryIndex(
+                    indexAllocation.getMemoryAddress(),
+                    // TODO: In the future, quantizedVector can have other data types than byte
+                    quantizedVector == null ? knnQuery.getByteQueryVector() : quantizedVector,
+                    k,
+                    knnQuery.getMethodParameters(),
+                    knnEngine,
+                    filterIds,
+                    filterType,
+                    parentIds
+                );
+            } else {
+                return JNIService.queryIndex(
+                    indexAllocation.getMemoryAddress(),
+                    transformedVector == null ? knnQuery.getQueryVector() : transformedVector,
+                    k,
+                    knnQuery.getMethodParameters(),
+                    knnEngine,
+                    filterIds,
+                    filterType,
+                    parentIds
+                );
+            }
+        } else {
+            return JNIService.radiusQueryIndex(
+                indexAllocation.getMemoryAddress(),
+                knnQuery.getQueryVector(),
+                knnQuery.getRadius(),
+                knnQuery.getMethodParameters(),
+                knnEngine,
+                knnQuery.getContext().getMaxResultWindow(),
+                filterIds,
+                filterType,
+                parentIds
+            );
+        }
     }
 
     /**
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Reasons for which a segment is searched exactly instead of, or after, approximate search. Each reason has a stable code
+ * reported in the profile output, 0 meaning that the segment was only searched approximately.
+ */
+@AllArgsConstructor
+@Getter
+public enum ExactSearchReason {
+    // Filter matches at most k documents
+    FILTER_CARDINALITY_BELOW_K(1),
+    // Filter matches at most index.knn.advanced.filtered_exact_search_threshold documents
+    FILTERED_EXACT_SEARCH_THRESHOLD(2),
+    // Cost model estimated exact search to be cheaper
+    COST_MODEL(3),
+    // Filter matches few enough documents to stay under the maximum number of distance computations
+    MAX_DISTANCE_COMPUTATIONS(4),
+    // Segment has no native engine files
+    MISSING_NATIVE_ENGINE_FILES(5),
+    // Approximate search returned less than k results while the filter matches at least k documents
+    ANN_RESULTS_BELOW_K(6);
+
+    private final int code;
+}
@@ -26,6 +26,7 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.query.common.DocAndScoreBuffer;
 import org.opensearch.knn.index.query.iterators.BinaryVectorIdsKNNIterator;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.iterators.ByteVectorIdsKNNIterator;
@@ -44,10 +45,8 @@ import org.opensearch.knn.indices.ModelDao;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.function.Predicate;
 
 @Log4j2
@@ -128,7 +127,6 @@ public class ExactSearcher {
         // Creating min heap and init with MAX DocID and Score as -INF.
         final HitQueue queue = new HitQueue(limit, true);
         ScoreDoc topDoc = queue.top();
-        final Map<Integer, Float> docToScore = new HashMap<>();
         int docId;
         while ((docId = iterator.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
             final float currentScore = iterator.score();
@@ -157,10 +155,30 @@ public class ExactSearcher {
         return new TopDocs(totalHits, topScoreDocs);
     }
 
+    /**
+     * Collects the docs scoring at least minScore, keeping at most max result window of them. Unlike
+     * {@link #searchTopCandidates}, nothing is sized to the max result window upfront: qualifying docs are appended to a
+     * primitive buffer that grows with the number of hits. Once the buffer holds twice the window, it is cut down to the best
+     * window and the min score is raised accordingly, which bounds memory while keeping the amortized cost linear.
+     */
     private TopDocs filterDocsByMinScore(ExactSearcherContext context, KNNIterator iterator, float minScore) throws IOException {
-        int maxResultWindow = context.getMaxResultWindow();
-        Predicate<Float> scoreGreaterThanOrEqualToMinScore = score -> score >= minScore;
-        return searchTopCandidates(iterator, maxResultWindow, scoreGreaterThanOrEqualToMinScore);
+        final int maxResultWindow = context.getMaxResultWindow();
+        final DocAndScoreBuffer buffer = new DocAndScoreBuffer();
+        float minCompetitiveScore = minScore;
+        int docId;
+        while ((docId = iterator.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+            final float score = iterator.score();
+            if (score < minCompetitiveScore) {
+                continue;
+            }
+            buffer.add(docId, score);
+            if (buffer.size() >= 2L * maxResultWindow) {
+                // Docs come in increasing order, so a later doc with the same score as the cut off is never better.
+                minCompetitiveScore = Math.nextUp(buffer.keepTop(maxResultWindow));
+            }
+        }
+        buffer.keepTop(maxResultWindow);
+        return buffer.toTopDocs();
     }
 
     private KNNIterator getKNNIterator(LeafReaderContext leafReaderContext, ExactSearcherContext exactSearcherContext) throws IOException {
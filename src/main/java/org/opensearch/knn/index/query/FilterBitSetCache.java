@@ -0,0 +1,299 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.opensearch.knn.index.KNNSettings.KNN_FILTER_BITSET_CACHE_SIZE_LIMIT;
+
+/**
+ * A node level, size bounded cache of the documents matching k-NN filters in a segment.
+ * <p>
+ * Filters are cached by segment core and rewritten filter query, so that a filter repeated across queries is run once per
+ * segment, and its bitset is converted once into the {@link FilterIdsSelector} passed to native engines. Deleted documents are
+ * not applied to cached bitsets, as they change without the segment core changing. Entries are weighed by their heap usage and
+ * evicted once the size limit set by {@link KNNSettings#KNN_FILTER_BITSET_CACHE_SIZE_LIMIT} is reached. Entries of a segment are
+ * invalidated when the segment is closed.
+ * <p>
+ * Cached bitsets are shared by concurrent queries and must not be modified. The cache is disabled when its size limit is 0,
+ * which is the default.
+ */
+@Log4j2
+public final class FilterBitSetCache {
+    // Same default as Lucene's query cache for queries that do not report their size.
+    private static final long QUERY_DEFAULT_RAM_BYTES_USED = 1024;
+
+    private static volatile FilterBitSetCache instance;
+
+    private volatile Filters filters;
+    @Getter
+    private volatile long maxSizeInBytes;
+    private final Set<IndexReader.CacheKey> registeredSegments = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @VisibleForTesting
+    FilterBitSetCache(final long maxSizeInBytes) {
+        rebuild(maxSizeInBytes);
+    }
+
+    /**
+     * Gets the singleton instance of the cache.
+     *
+     * @return FilterBitSetCache
+     */
+    public static FilterBitSetCache getInstance() {
+        if (instance == null) {
+            synchronized (FilterBitSetCache.class) {
+                if (instance == null) {
+                    final ByteSizeValue maxSize = KNNSettings.state().getSettingValue(KNN_FILTER_BITSET_CACHE_SIZE_LIMIT);
+                    instance = new FilterBitSetCache(maxSize.getBytes());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Drop all cached filters and apply a new size limit.
+     *
+     * @param maxSizeInBytes size limit of the cache, 0 to disable it
+     */
+    public synchronized void rebuild(final long maxSizeInBytes) {
+        final Filters current = filters;
+        if (current != null) {
+            current.cache.invalidateAll();
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.filters = maxSizeInBytes > 0 ? new Filters(maxSizeInBytes) : null;
+        log.info("[KNN] Filter bitset cache rebuilt with size limit of {} bytes", maxSizeInBytes);
+    }
+
+    /**
+     * @return true if filters are cached
+     */
+    public boolean isEnabled() {
+        return filters != null;
+    }
+
+    /**
+     * Get the documents matching a filter in a segment, running the filter only if it is not cached yet.
+     *
+     * @param context segment to filter
+     * @param filterWeight weight of the filter
+     * @return matching documents, including deleted ones, or null if the cache is disabled or the filter cannot be cached in
+     *         this segment
+     * @throws IOException if the filter cannot be run
+     */
+    @Nullable
+    public CachedFilter get(final LeafReaderContext context, final Weight filterWeight) throws IOException {
+        final Filters current = filters;
+        if (current == null || filterWeight.isCacheable(context) == false) {
+            return null;
+        }
+        final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        final IndexReader.CacheKey segmentKey = cacheHelper.getKey();
+        if (registeredSegments.add(segmentKey)) {
+            cacheHelper.addClosedListener(this::onSegmentClosed);
+        }
+        final FilterKey key = new FilterKey(segmentKey, filterWeight.getQuery());
+        final CachedFilter cachedFilter = current.cache.getIfPresent(key);
+        if (cachedFilter != null) {
+            hitCount.increment();
+            return cachedFilter;
+        }
+        missCount.increment();
+        try {
+            return current.cache.get(key, () -> current.load(context, filterWeight));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Unable to load filter [" + key.query() + "] into cache", e.getCause());
+        }
+    }
+
+    /**
+     * Get a filter of a segment if it is cached, without counting a hit or a miss.
+     *
+     * @param context segment to filter
+     * @param filterWeight weight of the filter
+     * @return matching documents, or null if the filter is not cached
+     */
+    @Nullable
+    public CachedFilter getIfPresent(final LeafReaderContext context, final Weight filterWeight) {
+        final Filters current = filters;
+        final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        if (current == null || cacheHelper == null) {
+            return null;
+        }
+        return current.cache.getIfPresent(new FilterKey(cacheHelper.getKey(), filterWeight.getQuery()));
+    }
+
+    /**
+     * @return heap usage of cached filters in kilobytes
+     */
+    public long getSizeInKilobytes() {
+        final Filters current = filters;
+        return current == null ? 0 : current.sizeInBytes.get() / 1024;
+    }
+
+    /**
+     * @return number of filters read from the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of filters missing from the cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return ratio of filters read from the cache, 0 if no filter was requested
+     */
+    public double getHitRatio() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private void onSegmentClosed(final IndexReader.CacheKey segmentKey) {
+        registeredSegments.remove(segmentKey);
+        final Filters current = filters;
+        if (current != null) {
+            current.cache.asMap().keySet().removeIf(key -> key.segmentKey() == segmentKey);
+        }
+    }
+
+    private record FilterKey(IndexReader.CacheKey segmentKey, Query query) {
+    }
+
+    /**
+     * Documents of a segment matching a filter, along with their native engine representation.
+     */
+    public static final class CachedFilter {
+        @Getter
+        private final BitSet bitSet;
+        @Getter
+        private final int cardinality;
+        private final long ramBytesUsed;
+        private volatile FilterIdsSelector filterIdsSelector;
+
+        @VisibleForTesting
+        CachedFilter(final BitSet bitSet, final Query query) {
+            this.bitSet = bitSet;
+            this.cardinality = bitSet.cardinality();
+            final long queryRamBytesUsed = query instanceof Accountable accountable
+                ? accountable.ramBytesUsed()
+                : QUERY_DEFAULT_RAM_BYTES_USED;
+            this.ramBytesUsed = bitSet.ramBytesUsed() + selectorRamBytesUsed(bitSet, cardinality) + queryRamBytesUsed;
+        }
+
+        /**
+         * Get the ids selector of the filter, converted from its bitset on first use. Only valid for segments without deleted
+         * documents, as deleted documents are not applied to the bitset.
+         *
+         * @return ids selector of the filter
+         * @throws IOException if the bitset cannot be iterated
+         */
+        public FilterIdsSelector getFilterIdsSelector() throws IOException {
+            FilterIdsSelector selector = filterIdsSelector;
+            if (selector == null) {
+                // Racing threads compute the same selector, keep either.
+                selector = FilterIdsSelector.getFilterIdSelector(bitSet, cardinality);
+                filterIdsSelector = selector;
+            }
+            return selector;
+        }
+
+        /**
+         * Heap usage of the selector of a bitset, which is accounted for up front as it is computed lazily. Bits of a
+         * {@link FixedBitSet} are shared with its selector.
+         */
+        private static long selectorRamBytesUsed(final BitSet bitSet, final int cardinality) {
+            if (bitSet instanceof FixedBitSet) {
+                return 0;
+            }
+            if ((long) cardinality * Long.BYTES * Byte.SIZE <= bitSet.length()) {
+                return (long) cardinality * Long.BYTES;
+            }
+            return (long) FixedBitSet.bits2words(bitSet.length()) * Long.BYTES;
+        }
+    }
+
+    /**
+     * Filters cached under a size limit. Replaced as a whole when the cache is rebuilt, so that in flight loads into a
+     * previous cache do not account for the current one.
+     */
+    private static final class Filters {
+        private final Cache<FilterKey, CachedFilter> cache;
+        private final AtomicLong sizeInBytes = new AtomicLong();
+
+        private Filters(final long maxSizeInBytes) {
+            // A single segment, so that the size limit applies to the whole cache rather than being split across segments.
+            this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maxSizeInBytes)
+                .weigher((FilterKey k, CachedFilter v) -> (int) Math.min(Integer.MAX_VALUE, v.ramBytesUsed))
+                .removalListener(this::onRemoval)
+                .build();
+        }
+
+        private CachedFilter load(final LeafReaderContext context, final Weight filterWeight) throws IOException {
+            final Scorer scorer = filterWeight.scorer(context);
+            final BitSet bitSet;
+            if (scorer == null) {
+                bitSet = new FixedBitSet(0);
+            } else {
+                final DocIdSetIterator iterator = scorer.iterator();
+                // Filters already backed by a bitset, e.g. from a bitset producer, are cached as is.
+                bitSet = iterator instanceof BitSetIterator
+                    ? ((BitSetIterator) iterator).getBitSet()
+                    : BitSet.of(iterator, context.reader().maxDoc());
+            }
+            final CachedFilter cachedFilter = new CachedFilter(bitSet, filterWeight.getQuery());
+            sizeInBytes.addAndGet(cachedFilter.ramBytesUsed);
+            return cachedFilter;
+        }
+
+        private void onRemoval(final RemovalNotification<FilterKey, CachedFilter> removalNotification) {
+            sizeInBytes.addAndGet(-removalNotification.getValue().ramBytesUsed);
+        }
+    }
+}
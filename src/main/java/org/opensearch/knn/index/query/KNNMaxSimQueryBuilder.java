@@ -0,0 +1,393 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.Getter;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.opensearch.common.ValidationException;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ObjectParser;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.AbstractQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.WithFieldName;
+import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.query.parser.MethodParametersParser;
+import org.opensearch.knn.index.util.IndexUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.knn.index.query.KNNQueryBuilder.FILTER_FIELD;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.K_FIELD;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.K_MAX;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.METHOD_PARAMS_FIELD;
+import static org.opensearch.knn.index.query.parser.MethodParametersParser.validateMethodParameters;
+
+/**
+ * Builder of the late interaction (MaxSim) query on a nested k-NN field. It takes several query vectors, e.g. the token
+ * embeddings of a multi-vector model, and scores each parent document by the sum over the query vectors of their best
+ * similarity to the vectors of its nested documents. The query must be run inside a nested query on the path of the field:
+ * <pre>
+ *  "knn_maxsim": {
+ *      "tokens.vector": {
+ *          "vectors": [[1, 2], [3, 4]],
+ *          "k": 10,
+ *          "num_candidates": 50
+ *      }
+ *  }
+ * </pre>
+ * {@code num_candidates} is the k of the approximate search run for every query vector to find candidate parents, and
+ * defaults to k.
+ */
+@Getter
+public class KNNMaxSimQueryBuilder extends AbstractQueryBuilder<KNNMaxSimQueryBuilder> implements WithFieldName {
+    public static final String NAME = "knn_maxsim";
+    public static final ParseField VECTORS_FIELD = new ParseField("vectors");
+    public static final ParseField NUM_CANDIDATES_FIELD = new ParseField("num_candidates");
+
+    private static final ObjectParser<Builder, Void> INTERNAL_PARSER = createInternalObjectParser();
+
+    private final String fieldName;
+    private final float[][] vectors;
+    private final int k;
+    private final Integer numCandidates;
+    private final QueryBuilder filter;
+    private final Map<String, ?> methodParameters;
+
+    private KNNMaxSimQueryBuilder(
+        final String fieldName,
+        final float[][] vectors,
+        final int k,
+        final Integer numCandidates,
+        final QueryBuilder filter,
+        final Map<String, ?> methodParameters
+    ) {
+        this.fieldName = fieldName;
+        this.vectors = vectors;
+        this.k = k;
+        this.numCandidates = numCandidates;
+        this.filter = filter;
+        this.methodParameters = methodParameters;
+    }
+
+    /**
+     * @param in Reads from stream
+     * @throws IOException Throws IO Exception
+     */
+    public KNNMaxSimQueryBuilder(final StreamInput in) throws IOException {
+        super(in);
+        fieldName = in.readString();
+        vectors = new float[in.readVInt()][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = in.readFloatArray();
+        }
+        k = in.readInt();
+        numCandidates = in.readOptionalInt();
+        filter = in.readOptionalNamedWriteable(QueryBuilder.class);
+        methodParameters = MethodParametersParser.streamInput(in, IndexUtil::isClusterOnOrAfterMinRequiredVersion);
+    }
+
+    @Override
+    protected void doWriteTo(final StreamOutput out) throws IOException {
+        out.writeString(fieldName);
+        out.writeVInt(vectors.length);
+        for (float[] vector : vectors) {
+            out.writeFloatArray(vector);
+        }
+        out.writeInt(k);
+        out.writeOptionalInt(numCandidates);
+        out.writeOptionalNamedWriteable(filter);
+        MethodParametersParser.streamOutput(out, methodParameters, IndexUtil::isClusterOnOrAfterMinRequiredVersion);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    protected void doXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject(NAME);
+        builder.startObject(fieldName);
+        builder.startArray(VECTORS_FIELD.getPreferredName());
+        for (float[] vector : vectors) {
+            builder.startArray();
+            for (float value : vector) {
+                builder.value(value);
+            }
+            builder.endArray();
+        }
+        builder.endArray();
+        builder.field(K_FIELD.getPreferredName(), k);
+        if (numCandidates != null) {
+            builder.field(NUM_CANDIDATES_FIELD.getPreferredName(), numCandidates);
+        }
+        if (filter != null) {
+            builder.field(FILTER_FIELD.getPreferredName(), filter);
+        }
+        MethodParametersParser.doXContent(builder, methodParameters);
+        printBoostAndQueryName(builder);
+        builder.endObject();
+        builder.endObject();
+    }
+
+    /**
+     * Convert XContent to KNNMaxSimQueryBuilder
+     *
+     * @param parser input parser
+     * @return KNNMaxSimQueryBuilder
+     * @throws IOException on parsing failure
+     */
+    public static KNNMaxSimQueryBuilder fromXContent(final XContentParser parser) throws IOException {
+        String fieldName = null;
+        Builder builder = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                if (fieldName != null) {
+                    throw new ParsingException(
+                        parser.getTokenLocation(),
+                        "[" + NAME + "] query doesn't support multiple fields, found [" + fieldName + "] and [" + parser.currentName() + "]"
+                    );
+                }
+                fieldName = parser.currentName();
+            } else if (token == XContentParser.Token.START_OBJECT) {
+                builder = INTERNAL_PARSER.apply(parser, null);
+            } else {
+                throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] unexpected token [" + token + "]");
+            }
+        }
+        if (builder == null) {
+            throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] requires an object for field [" + fieldName + "]");
+        }
+        return builder.fieldName(fieldName).build();
+    }
+
+    private static ObjectParser<Builder, Void> createInternalObjectParser() {
+        final ObjectParser<Builder, Void> internalParser = new ObjectParser<>(NAME, Builder::new);
+        internalParser.declareFloat(Builder::boost, BOOST_FIELD);
+        internalParser.declareString(Builder::queryName, NAME_FIELD);
+        internalParser.declareField((p, b, c) -> b.vectors(parseVectors(p)), VECTORS_FIELD, ObjectParser.ValueType.VALUE_ARRAY);
+        internalParser.declareInt(Builder::k, K_FIELD);
+        internalParser.declareInt(Builder::numCandidates, NUM_CANDIDATES_FIELD);
+        internalParser.declareObject(Builder::filter, (p, v) -> parseInnerQueryBuilder(p), FILTER_FIELD);
+        internalParser.declareObject(Builder::methodParameters, (p, v) -> MethodParametersParser.fromXContent(p), METHOD_PARAMS_FIELD);
+        return internalParser;
+    }
+
+    private static float[][] parseVectors(final XContentParser parser) throws IOException {
+        final List<float[]> vectors = new ArrayList<>();
+        for (Object vector : parser.list()) {
+            if ((vector instanceof List<?> values) == false) {
+                throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] field 'vectors' requires an array of vectors");
+            }
+            final float[] floats = new float[values.size()];
+            for (int i = 0; i < values.size(); i++) {
+                if ((values.get(i) instanceof Number number) == false) {
+                    throw new ParsingException(parser.getTokenLocation(), "[" + NAME + "] field 'vectors' requires arrays of numbers");
+                }
+                floats[i] = number.floatValue();
+            }
+            vectors.add(floats);
+        }
+        return vectors.toArray(new float[0][]);
+    }
+
+    @Override
+    protected Query doToQuery(final QueryShardContext context) throws IOException {
+        final MappedFieldType mappedFieldType = context.fieldMapper(fieldName);
+        if ((mappedFieldType instanceof KNNVectorFieldType) == false) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Field '%s' is not knn_vector type.", fieldName));
+        }
+        final KNNVectorFieldType knnVectorFieldType = (KNNVectorFieldType) mappedFieldType;
+        if (knnVectorFieldType.getVectorDataType() != VectorDataType.FLOAT) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "[%s] only supports fields of data type [%s]", NAME, VectorDataType.FLOAT.getValue())
+            );
+        }
+        final BitSetProducer parentFilter = context.getParentFilter();
+        if (parentFilter == null) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] must be used inside a nested query", NAME));
+        }
+
+        // The approximate search of every query vector reuses the k-NN query, along with its validations.
+        final int candidatesPerVector = numCandidates == null ? k : numCandidates;
+        final List<Query> tokenQueries = new ArrayList<>(vectors.length);
+        final float[][] queryVectors = new float[vectors.length][];
+        for (int i = 0; i < vectors.length; i++) {
+            tokenQueries.add(
+                KNNQueryBuilder.builder()
+                    .fieldName(fieldName)
+                    .vector(vectors[i].clone())
+                    .k(candidatesPerVector)
+                    .filter(filter)
+                    .methodParameters(methodParameters)
+                    .build()
+                    .toQuery(context)
+            );
+            queryVectors[i] = vectors[i].clone();
+            knnVectorFieldType.transformQueryVector(queryVectors[i]);
+        }
+
+        final Query filterQuery = BaseQueryFactory.getFilterQuery(
+            BaseQueryFactory.CreateQueryRequest.builder()
+                .indexName(context.index().getName())
+                .fieldName(fieldName)
+                .filter(filter)
+                .context(context)
+                .build()
+        );
+        return new MaxSimQuery(fieldName, queryVectors, tokenQueries, k, filterQuery, parentFilter);
+    }
+
+    @Override
+    protected QueryBuilder doRewrite(final QueryRewriteContext queryShardContext) throws IOException {
+        if (filter != null) {
+            final QueryBuilder rewrittenFilter = filter.rewrite(queryShardContext);
+            if (rewrittenFilter != filter) {
+                return builder().fieldName(fieldName)
+                    .vectors(vectors)
+                    .k(k)
+                    .numCandidates(numCandidates)
+                    .filter(rewrittenFilter)
+                    .methodParameters(methodParameters)
+                    .boost(boost)
+                    .queryName(queryName)
+                    .build();
+            }
+        }
+        return super.doRewrite(queryShardContext);
+    }
+
+    @Override
+    protected boolean doEquals(final KNNMaxSimQueryBuilder other) {
+        return Objects.equals(fieldName, other.fieldName)
+            && Arrays.deepEquals(vectors, other.vectors)
+            && k == other.k
+            && Objects.equals(numCandidates, other.numCandidates)
+            && Objects.equals(filter, other.filter)
+            && Objects.equals(methodParameters, other.methodParameters);
+    }
+
+    @Override
+    protected int doHashCode() {
+        return Objects.hash(fieldName, Arrays.deepHashCode(vectors), k, numCandidates, filter, methodParameters);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    public static class Builder {
+        private String fieldName;
+        private float[][] vectors;
+        private Integer k;
+        private Integer numCandidates;
+        private QueryBuilder filter;
+        private Map<String, ?> methodParameters;
+        private String queryName;
+        private float boost = DEFAULT_BOOST;
+
+        public Builder fieldName(final String fieldName) {
+            this.fieldName = fieldName;
+            return this;
+        }
+
+        public Builder vectors(final float[][] vectors) {
+            this.vectors = vectors;
+            return this;
+        }
+
+        public Builder k(final Integer k) {
+            this.k = k;
+            return this;
+        }
+
+        public Builder numCandidates(final Integer numCandidates) {
+            this.numCandidates = numCandidates;
+            return this;
+        }
+
+        public Builder filter(final QueryBuilder filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public Builder methodParameters(final Map<String, ?> methodParameters) {
+            this.methodParameters = methodParameters;
+            return this;
+        }
+
+        public Builder queryName(final String queryName) {
+            this.queryName = queryName;
+            return this;
+        }
+
+        public Builder boost(final float boost) {
+            this.boost = boost;
+            return this;
+        }
+
+        public KNNMaxSimQueryBuilder build() {
+            validate();
+            return new KNNMaxSimQueryBuilder(fieldName, vectors, k, numCandidates, filter, methodParameters).boost(boost)
+                .queryName(queryName);
+        }
+
+        private void validate() {
+            if (Strings.isNullOrEmpty(fieldName)) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] requires fieldName", NAME));
+            }
+            if (vectors == null || vectors.length == 0) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] requires at least one query vector", NAME));
+            }
+            for (float[] vector : vectors) {
+                if (vector == null || vector.length != vectors[0].length || vector.length == 0) {
+                    throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "[%s] query vectors must be non-empty and of the same dimension", NAME)
+                    );
+                }
+            }
+            if (k == null || k <= 0 || k > K_MAX) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT, "[%s] requires k to be in the range (0, %d]", NAME, K_MAX));
+            }
+            if (numCandidates != null && (numCandidates < k || numCandidates > K_MAX)) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "[%s] requires num_candidates to be in the range [k, %d]", NAME, K_MAX)
+                );
+            }
+            if (methodParameters != null) {
+                final ValidationException validationException = validateMethodParameters(methodParameters);
+                if (validationException != null) {
+                    throw new IllegalArgumentException(
+                        String.format(Locale.ROOT, "[%s] errors in method parameter [%s]", NAME, validationException.getMessage())
+                    );
+                }
+            }
+        }
+    }
+}
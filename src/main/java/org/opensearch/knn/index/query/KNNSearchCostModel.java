@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+
+/**
+ * Node local cost model used to pick between exact and approximate search for a segment before running either of them.
+ * <p>
+ * The work done by each plan is expressed in bytes of vector data to compare against the query:
+ * <ul>
+ *   <li>Exact search scores every filtered document, so its work is {@code cardinality * bytesPerVector}.</li>
+ *   <li>Approximate search visits roughly {@code max(k, ef_search) * log2(n)} nodes of the graph. With a filter, only a
+ *       {@code cardinality / n} fraction of the visited nodes is accepted, so the number of visited nodes grows inversely with
+ *       the selectivity, bounded by the size of the graph.</li>
+ * </ul>
+ * The work is converted into nanoseconds using the observed latency per byte of each plan, tracked in a histogram that is
+ * fed by every search executed while the cost model is enabled. Until enough samples are collected, conservative priors are
+ * used. Since an approximate search that yields less than k results is followed by an exact search, the expected cost of
+ * approximate search also includes the exact search cost weighted by the observed fallback rate for a similar selectivity.
+ */
+public class KNNSearchCostModel {
+    private static KNNSearchCostModel INSTANCE;
+
+    // Priors used until enough latencies are observed, in picoseconds per byte of vector data.
+    static final long DEFAULT_EXACT_SEARCH_PICOS_PER_BYTE = 250;
+    static final long DEFAULT_ANN_SEARCH_PICOS_PER_BYTE = 1000;
+    static final int MIN_SAMPLES = 32;
+    static final int MAX_SAMPLES = 4096;
+    // Selectivity is bucketed by order of magnitude: [0.1, 1], [0.01, 0.1), ..., anything lower goes to the last bucket.
+    private static final int NUM_SELECTIVITY_BUCKETS = 8;
+
+    private final LatencyHistogram exactSearchLatencies;
+    private final LatencyHistogram annSearchLatencies;
+    private final long[] annSearchCounts = new long[NUM_SELECTIVITY_BUCKETS];
+    private final long[] annFallbackCounts = new long[NUM_SELECTIVITY_BUCKETS];
+
+    @VisibleForTesting
+    KNNSearchCostModel() {
+        this.exactSearchLatencies = new LatencyHistogram(DEFAULT_EXACT_SEARCH_PICOS_PER_BYTE);
+        this.annSearchLatencies = new LatencyHistogram(DEFAULT_ANN_SEARCH_PICOS_PER_BYTE);
+    }
+
+    /**
+     * Make sure we just have one instance of cost model.
+     *
+     * @return KNNSearchCostModel instance
+     */
+    public static synchronized KNNSearchCostModel getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new KNNSearchCostModel();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Estimates the cost of both plans for a segment.
+     *
+     * @param k Number of results to return
+     * @param efSearch Size of the candidate queue used by approximate search
+     * @param cardinality Number of documents matching the filter
+     * @param numVectors Number of vectors in the segment
+     * @param bytesPerVector Number of bytes compared per vector
+     * @return {@link SearchCostEstimate}
+     */
+    public SearchCostEstimate estimate(
+        final int k,
+        final int efSearch,
+        final int cardinality,
+        final int numVectors,
+        final int bytesPerVector
+    ) {
+        final int graphSize = Math.max(1, numVectors);
+        final double selectivity = Math.min(1.0, Math.max(cardinality, 1) / (double) graphSize);
+        final double visitedNodes = Math.min(graphSize, Math.max(k, efSearch) * log2(graphSize) / selectivity);
+
+        final long exactSearchBytes = (long) cardinality * bytesPerVector;
+        final long annSearchBytes = (long) Math.ceil(visitedNodes) * bytesPerVector;
+        final long exactSearchCost = toNanos(exactSearchBytes, exactSearchLatencies.picosPerByte());
+        final long annSearchCost = toNanos(annSearchBytes, annSearchLatencies.picosPerByte());
+
+        final int selectivityBucket = selectivityBucket(selectivity);
+        final long expectedAnnSearchCost = annSearchCost + (long) (fallbackRate(selectivityBucket) * exactSearchCost);
+        return new SearchCostEstimate(
+            exactSearchCost <= expectedAnnSearchCost,
+            exactSearchCost,
+            expectedAnnSearchCost,
+            exactSearchBytes,
+            annSearchBytes,
+            selectivityBucket
+        );
+    }
+
+    /**
+     * Records the latency of an exact search planned through {@link #estimate}.
+     *
+     * @param estimate Estimate the search was planned with
+     * @param tookNanos Observed latency
+     */
+    public void recordExactSearch(final SearchCostEstimate estimate, final long tookNanos) {
+        exactSearchLatencies.record(tookNanos, estimate.getExactSearchBytes());
+    }
+
+    /**
+     * Records the latency of an approximate search planned through {@link #estimate}.
+     *
+     * @param estimate Estimate the search was planned with
+     * @param tookNanos Observed latency of the approximate search alone
+     * @param fellBackToExactSearch Whether an exact search had to be executed afterward
+     */
+    public void recordApproximateSearch(final SearchCostEstimate estimate, final long tookNanos, final boolean fellBackToExactSearch) {
+        annSearchLatencies.record(tookNanos, estimate.getAnnSearchBytes());
+        final int bucket = estimate.getSelectivityBucket();
+        synchronized (annSearchCounts) {
+            annSearchCounts[bucket]++;
+            if (fellBackToExactSearch) {
+                annFallbackCounts[bucket]++;
+            }
+            if (annSearchCounts[bucket] >= MAX_SAMPLES) {
+                annSearchCounts[bucket] /= 2;
+                annFallbackCounts[bucket] /= 2;
+            }
+        }
+    }
+
+    private double fallbackRate(final int bucket) {
+        synchronized (annSearchCounts) {
+            if (annSearchCounts[bucket] < MIN_SAMPLES) {
+                return 0;
+            }
+            return annFallbackCounts[bucket] / (double) annSearchCounts[bucket];
+        }
+    }
+
+    private static int selectivityBucket(final double selectivity) {
+        return (int) Math.min(NUM_SELECTIVITY_BUCKETS - 1, Math.max(0, Math.floor(-Math.log10(selectivity))));
+    }
+
+    private static double log2(final int value) {
+        return Math.max(1.0, Math.log(value) / Math.log(2));
+    }
+
+    private static long toNanos(final long bytes, final long picosPerByte) {
+        return (long) (bytes * (picosPerByte / 1000.0));
+    }
+
+    /**
+     * Estimated cost of both plans for a segment. Costs are in nanoseconds.
+     */
+    @Value
+    public static class SearchCostEstimate {
+        boolean exactSearchPreferred;
+        long exactSearchCost;
+        long annSearchCost;
+        long exactSearchBytes;
+        long annSearchBytes;
+        int selectivityBucket;
+    }
+
+    /**
+     * Histogram of observed latencies in picoseconds per byte. Buckets are logarithmic with 8 linear sub-buckets per power of
+     * two, which bounds the error of the reported median to about 6%. Counts are halved once {@link #MAX_SAMPLES} is reached so
+     * that the histogram follows changes of the node's load.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int NUM_BUCKETS = SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS + 1);
+
+        private final long[] counts = new long[NUM_BUCKETS];
+        private final long prior;
+        private long total;
+
+        LatencyHistogram(final long prior) {
+            this.prior = prior;
+        }
+
+        synchronized void record(final long tookNanos, final long bytes) {
+            if (bytes <= 0 || tookNanos < 0) {
+                return;
+            }
+            counts[bucket(Math.max(1, tookNanos * 1000 / bytes))]++;
+            if (++total >= MAX_SAMPLES) {
+                total = 0;
+                for (int i = 0; i < NUM_BUCKETS; i++) {
+                    counts[i] /= 2;
+                    total += counts[i];
+                }
+            }
+        }
+
+        synchronized long picosPerByte() {
+            if (total < MIN_SAMPLES) {
+                return prior;
+            }
+            long remaining = total / 2;
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                remaining -= counts[i];
+                if (remaining < 0) {
+                    return midpoint(i);
+                }
+            }
+            return prior;
+        }
+
+        private static int bucket(final long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+            return SUB_BUCKETS * (shift + 1) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+        }
+
+        private static long midpoint(final int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return Math.max(1, bucket);
+            }
+            final int shift = bucket / SUB_BUCKETS - 1;
+            final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return lowerBound + ((1L << shift) >>> 1);
+        }
+    }
+}
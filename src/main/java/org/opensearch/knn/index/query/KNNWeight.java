@@ -8,9 +8,13 @@ package org.opensearch.knn.index.query;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.FilteredDocIdSetIterator;
@@ -36,6 +40,7 @@ import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.query.ExactSearcher.ExactSearcherContext.ExactSearcherContextBuilder;
+import org.opensearch.knn.index.query.KNNSearchCostModel.SearchCostEstimate;
 import org.opensearch.knn.index.query.explain.KnnExplanation;
 import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
@@ -47,6 +52,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
 import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
@@ -170,6 +176,7 @@ public abstract class KNNWeight extends Weight {
     private StringBuilder getLeafLevelExplanation(LeafReaderContext context) {
         int filterThresholdValue = KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName());
         int cardinality = knnExplanation.getCardinality();
+        final SearchCostEstimate costEstimate = knnExplanation.getCostEstimate(context.id());
         final StringBuilder sb = new StringBuilder("the type of knn search executed at leaf was ");
         if (filterWeight != null) {
             if (isFilterIdCountLessThanK(cardinality)) {
@@ -184,6 +191,22 @@ public abstract class KNNWeight extends Weight {
                     .append(filterThresholdValue)
                     .append(" is greater than or equal to cardinality = ")
                     .append(cardinality);
+            } else if (costEstimate != null) {
+                if (costEstimate.isExactSearchPreferred()) {
+                    sb.append(KNNConstants.EXACT_SEARCH)
+                        .append(" since estimated exact search cost = ")
+                        .append(costEstimate.getExactSearchCost())
+                        .append("ns is less than or equal to estimated ANN search cost = ")
+                        .append(costEstimate.getAnnSearchCost())
+                        .append("ns");
+                } else {
+                    sb.append(KNNConstants.ANN_SEARCH)
+                        .append(" since estimated ANN search cost = ")
+                        .append(costEstimate.getAnnSearchCost())
+                        .append("ns is less than estimated exact search cost = ")
+                        .append(costEstimate.getExactSearchCost())
+                        .append("ns");
+                }
             } else if (!isExactSearchThresholdSettingSet(filterThresholdValue) && isMDCGreaterThanFilterIdCnt(cardinality)) {
                 sb.append(KNNConstants.EXACT_SEARCH)
                     .append(" since max distance computation = ")
@@ -203,7 +226,12 @@ public abstract class KNNWeight extends Weight {
                 .append(" and there are more than K filtered Ids = ")
                 .append(cardinality);
         }
-        if (annResult != null && annResult > 0 && !isFilteredExactSearchRequireAfterANNSearch(cardinality, annResult)) {
+        // When chosen by the cost model, approximate search is already explained along with both costs.
+        final boolean annSearchExplained = costEstimate != null && !costEstimate.isExactSearchPreferred();
+        if (annResult != null
+            && annResult > 0
+            && !isFilteredExactSearchRequireAfterANNSearch(cardinality, annResult)
+            && !annSearchExplained) {
             sb.append(KNNConstants.ANN_SEARCH);
         }
         sb.append(" with vectorDataType = ").append(knnQuery.getVectorDataType());
@@ -312,13 +340,27 @@ public abstract class KNNWeight extends Weight {
             knnExplanation.setCardinality(cardinality);
         }
 
+        final SearchCostEstimate costEstimate = estimateSearchCost(context, cardinality, k);
+        if (costEstimate != null) {
+            onSearchCostEstimated(context, costEstimate);
+            if (knnQuery.isExplain()) {
+                knnExplanation.addCostEstimate(context.id(), costEstimate);
+            }
+        }
+
         /*
          * The idea for this optimization is to get K results, we need to at least look at K vectors in the HNSW graph
          * . Hence, if filtered results are less than K and filter query is present we should shift to exact search.
          * This improves the recall.
          */
-        if (isFilteredExactSearchPreferred(cardinality)) {
+        final ExactSearchReason filteredExactSearchReason = getFilteredExactSearchReason(cardinality, costEstimate);
+        if (filteredExactSearchReason != null) {
+            onExactSearchChosen(context, filteredExactSearchReason);
+            final long exactStartTime = System.nanoTime();
             TopDocs result = doExactSearch(context, new BitSetIterator(filterBitSet, cardinality), cardinality, k);
+            if (costEstimate != null) {
+                KNNSearchCostModel.getInstance().recordExactSearch(costEstimate, System.nanoTime() - exactStartTime);
+            }
             return new PerLeafResult(filterWeight == null ? null : filterBitSet, result);
         }
 
@@ -329,7 +371,8 @@ public abstract class KNNWeight extends Weight {
         final BitSet annFilter = (filterWeight != null && cardinality == maxDoc) ? null : filterBitSet;
 
         StopWatch annStopWatch = startStopWatch();
-        final TopDocs topDocs = approximateSearch(context, annFilter, cardinality, k);
+        final ApproximateSearchResult approximateSearchResult = approximateSearch(context, annFilter, cardinality, k);
+        final TopDocs topDocs = approximateSearchResult.getTopDocs();
         stopStopWatchAndLog(annStopWatch, "ANN search", segmentName);
         if (knnQuery.isExplain()) {
             knnExplanation.addLeafResult(context.id(), topDocs.scoreDocs.length);
@@ -337,9 +380,21 @@ public abstract class KNNWeight extends Weight {
         // See whether we have to perform exact search based on approx search results
         // This is required if there are no native engine files or if approximate search returned
         // results less than K, though we have more than k filtered docs
-        if (isExactSearchRequire(context, cardinality, topDocs.scoreDocs.length)) {
+        final ExactSearchReason exactSearchReason = getExactSearchReasonAfterANNSearch(context, cardinality, topDocs.scoreDocs.length);
+        final boolean exactSearchRequired = exactSearchReason != null;
+        if (costEstimate != null && (topDocs.scoreDocs.length > 0 || !isMissingNativeEngineFiles(context))) {
+            // Segments without native engine files never reached the graph, so their latency would skew the histogram.
+            KNNSearchCostModel.getInstance()
+                .recordApproximateSearch(costEstimate, approximateSearchResult.getSearchTimeNanos(), exactSearchRequired);
+        }
+        if (exactSearchRequired) {
+            onExactSearchChosen(context, exactSearchReason);
             final BitSetIterator docs = filterWeight != null ? new BitSetIterator(filterBitSet, cardinality) : null;
+            final long exactStartTime = System.nanoTime();
             TopDocs result = doExactSearch(context, docs, cardinality, k);
+            if (costEstimate != null) {
+                KNNSearchCostModel.getInstance().recordExactSearch(costEstimate, System.nanoTime() - exactStartTime);
+            }
             return new PerLeafResult(filterWeight == null ? null : filterBitSet, result);
         }
         return new PerLeafResult(filterWeight == null ? null : filterBitSet, topDocs);
@@ -361,6 +416,12 @@ public abstract class KNNWeight extends Weight {
         final Bits liveDocs = ctx.reader().getLiveDocs();
         final int maxDoc = ctx.reader().maxDoc();
 
+        final FilterBitSetCache.CachedFilter cachedFilter = FilterBitSetCache.getInstance().get(ctx, filterWeight);
+        if (cachedFilter != null) {
+            // Cached bitsets are shared, deleted docs are applied to a copy
+            return createBitSet(new BitSetIterator(cachedFilter.getBitSet(), cachedFilter.getCardinality()), liveDocs, maxDoc);
+        }
+
         final Scorer scorer = filterWeight.scorer(ctx);
         if (scorer == null) {
             return new FixedBitSet(0);
@@ -369,6 +430,26 @@ public abstract class KNNWeight extends Weight {
         return createBitSet(scorer.iterator(), liveDocs, maxDoc);
     }
 
+    /**
+     * Get the ids selector of the filter bitset passed to native engines, reusing the one of the cached filter when the bitset
+     * is the cached one.
+     *
+     * @param ctx segment being searched
+     * @param filterIdsBitSet filtered docs, or null if all docs are accepted
+     * @param cardinality number of filtered docs
+     * @return {@link FilterIdsSelector}
+     */
+    protected FilterIdsSelector getFilterIdsSelector(final LeafReaderContext ctx, final BitSet filterIdsBitSet, final int cardinality)
+        throws IOException {
+        if (filterWeight != null && filterIdsBitSet != null) {
+            final FilterBitSetCache.CachedFilter cachedFilter = FilterBitSetCache.getInstance().getIfPresent(ctx, filterWeight);
+            if (cachedFilter != null && cachedFilter.getBitSet() == filterIdsBitSet) {
+                return cachedFilter.getFilterIdsSelector();
+            }
+        }
+        return FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
+    }
+
     private BitSet createBitSet(final DocIdSetIterator filteredDocIdsIterator, final Bits liveDocs, int maxDoc) throws IOException {
         if (liveDocs == null && filteredDocIdsIterator instanceof BitSetIterator) {
             // If we already have a BitSet and no deletions, reuse the BitSet
@@ -411,14 +492,18 @@ public abstract class KNNWeight extends Weight {
         return exactSearch(context, exactSearcherContextBuilder.build());
     }
 
-    protected TopDocs approximateSearch(final LeafReaderContext context, final BitSet filterIdsBitSet, final int cardinality, final int k)
-        throws IOException {
+    protected ApproximateSearchResult approximateSearch(
+        final LeafReaderContext context,
+        final BitSet filterIdsBitSet,
+        final int cardinality,
+        final int k
+    ) throws IOException {
         final SegmentReader reader = Lucene.segmentReader(context.reader());
         FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, knnQuery.getField());
 
         if (fieldInfo == null) {
             log.debug("[KNN] Field info not found for {}:{}", knnQuery.getField(), reader.getSegmentName());
-            return EMPTY_TOPDOCS;
+            return ApproximateSearchResult.EMPTY_RESULT;
         }
 
         KNNEngine knnEngine;
@@ -457,7 +542,7 @@ public abstract class KNNWeight extends Weight {
         List<String> engineFiles = KNNCodecUtil.getEngineFiles(knnEngine.getExtension(), knnQuery.getField(), reader.getSegmentInfo().info);
         if (engineFiles.isEmpty()) {
             log.debug("[KNN] No native engine files found for field {} for segment {}", knnQuery.getField(), reader.getSegmentName());
-            return EMPTY_TOPDOCS;
+            return ApproximateSearchResult.EMPTY_RESULT;
         }
 
         // TODO: Change type of vector once more quantization methods are supported
@@ -465,7 +550,7 @@ public abstract class KNNWeight extends Weight {
         float[] transformedVector = maybeTransformVector(segmentLevelQuantizationInfo, spaceType);
 
         KNNCounter.GRAPH_QUERY_REQUESTS.increment();
-        final TopDocs results = doANNSearch(
+        final ApproximateSearchResult results = doANNSearch(
             context,
             reader,
             fieldInfo,
@@ -480,9 +565,9 @@ public abstract class KNNWeight extends Weight {
             k
         );
 
-        if (results.scoreDocs.length == 0) {
+        if (results.getTopDocs().scoreDocs.length == 0) {
             log.debug("[KNN] Query yielded 0 results");
-            return EMPTY_TOPDOCS;
+            return new ApproximateSearchResult(EMPTY_TOPDOCS, results.getSearchTimeNanos());
         }
 
         return results;
@@ -502,10 +587,10 @@ public abstract class KNNWeight extends Weight {
      * @param filterIdsBitSet Bit set for filtering a valid document for collecting.
      * @param cardinality Cardinality of filtering bit set. It will be the total number of documents if no filtering presents.
      * @param k The number of documents to be collected
-     * @return A table maps document id to its Lucene score.
+     * @return Collected results, along with the time spent searching the index. Loading the index is not part of the search time.
      * @throws IOException
      */
-    abstract protected TopDocs doANNSearch(
+    abstract protected ApproximateSearchResult doANNSearch(
         final LeafReaderContext context,
         final SegmentReader reader,
         final FieldInfo fieldInfo,
@@ -568,9 +653,78 @@ public abstract class KNNWeight extends Weight {
         return -score + 1;
     }
 
-    private boolean isFilteredExactSearchPreferred(final int filterIdsCount) {
+    /**
+     * Estimates the cost of exact and approximate search for the segment through {@link KNNSearchCostModel}, when enabled with
+     * {@link KNNSettings#ADVANCED_COST_BASED_EXACT_SEARCH_ENABLED_SETTING}. Only filtered k-NN searches that are not already
+     * decided by a fixed rule are estimated.
+     *
+     * @param context LeafReaderContext
+     * @param cardinality count of filtered Doc ids
+     * @param k Number of results to return
+     * @return {@link SearchCostEstimate}, or null if the plan is not chosen by the cost model.
+     */
+    private SearchCostEstimate estimateSearchCost(final LeafReaderContext context, final int cardinality, final int k) throws IOException {
+        if (filterWeight == null || knnQuery.getRadius() != null || isFilterIdCountLessThanK(cardinality)) {
+            return null;
+        }
+        if (!KNNSettings.isCostBasedExactSearchEnabled(knnQuery.getIndexName())
+            || isExactSearchThresholdSettingSet(KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName()))) {
+            return null;
+        }
+        return KNNSearchCostModel.getInstance().estimate(k, getEfSearch(), cardinality, getNumVectors(context), getBytesPerVector());
+    }
+
+    /**
+     * Called once the cost of both plans has been estimated for a segment, before any search is executed.
+     *
+     * @param context LeafReaderContext
+     * @param costEstimate {@link SearchCostEstimate} of the segment
+     */
+    protected void onSearchCostEstimated(final LeafReaderContext context, final SearchCostEstimate costEstimate) {}
+
+    /**
+     * Called once a segment is decided to be searched exactly, before exact search is executed.
+     *
+     * @param context LeafReaderContext
+     * @param reason {@link ExactSearchReason} of the segment
+     */
+    protected void onExactSearchChosen(final LeafReaderContext context, final ExactSearchReason reason) {}
+
+    private int getEfSearch() {
+        if (knnQuery.getMethodParameters() != null && knnQuery.getMethodParameters().get(METHOD_PARAMETER_EF_SEARCH) instanceof Integer) {
+            return (Integer) knnQuery.getMethodParameters().get(METHOD_PARAMETER_EF_SEARCH);
+        }
+        return KNNSettings.getEfSearchParam(knnQuery.getIndexName());
+    }
+
+    /**
+     * @return number of vectors of the field in the segment, which is the size of its graph, deleted documents included
+     */
+    private int getNumVectors(final LeafReaderContext context) throws IOException {
+        final LeafReader reader = context.reader();
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, knnQuery.getField());
+        if (fieldInfo == null) {
+            return 0;
+        }
+        if (fieldInfo.hasVectorValues()) {
+            final KnnVectorValues vectorValues = fieldInfo.getVectorEncoding() == VectorEncoding.BYTE
+                ? reader.getByteVectorValues(knnQuery.getField())
+                : reader.getFloatVectorValues(knnQuery.getField());
+            return vectorValues == null ? 0 : vectorValues.size();
+        }
+        final BinaryDocValues binaryDocValues = reader.getBinaryDocValues(knnQuery.getField());
+        return binaryDocValues == null ? 0 : (int) KNNCodecUtil.getTotalLiveDocsCount(binaryDocValues);
+    }
+
+    private int getBytesPerVector() {
+        return knnQuery.getVectorDataType() == VectorDataType.FLOAT
+            ? knnQuery.getQueryVector().length * Float.BYTES
+            : knnQuery.getByteQueryVector().length;
+    }
+
+    private ExactSearchReason getFilteredExactSearchReason(final int filterIdsCount, final SearchCostEstimate costEstimate) {
         if (filterWeight == null) {
-            return false;
+            return null;
         }
         log.debug(
             "Info for doing exact search filterIdsLength : {}, Threshold value: {}",
@@ -579,13 +733,18 @@ public abstract class KNNWeight extends Weight {
         );
         int filterThresholdValue = KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName());
         // Refer this GitHub around more details https://github.com/opensearch-project/k-NN/issues/1049 on the logic
-        if (isFilterIdCountLessThanK(filterIdsCount)) return true;
+        if (isFilterIdCountLessThanK(filterIdsCount)) return ExactSearchReason.FILTER_CARDINALITY_BELOW_K;
         // See user has defined Exact Search filtered threshold. if yes, then use that setting.
         if (isExactSearchThresholdSettingSet(filterThresholdValue)) {
             if (filterThresholdValue >= filterIdsCount) {
-                return true;
+                return ExactSearchReason.FILTERED_EXACT_SEARCH_THRESHOLD;
             }
-            return false;
+            return null;
+        }
+
+        // When enabled, the cost model replaces the max distance computation rule.
+        if (costEstimate != null) {
+            return costEstimate.isExactSearchPreferred() ? ExactSearchReason.COST_MODEL : null;
         }
 
         // if no setting is set, then use the default max distance computation value to see if we can do exact search.
@@ -593,7 +752,7 @@ public abstract class KNNWeight extends Weight {
          * TODO we can have a different MAX_DISTANCE_COMPUTATIONS for binary index as computation cost for binary index
          * is cheaper than computation cost for non binary vector
          */
-        return isMDCGreaterThanFilterIdCnt(filterIdsCount);
+        return isMDCGreaterThanFilterIdCnt(filterIdsCount) ? ExactSearchReason.MAX_DISTANCE_COMPUTATIONS : null;
     }
 
     private boolean isMDCGreaterThanFilterIdCnt(int filterIdsCount) {
@@ -621,12 +780,16 @@ public abstract class KNNWeight extends Weight {
      * @param context LeafReaderContext
      * @param filterIdsCount count of filtered Doc ids
      * @param annResultCount Count of Nearest Neighbours we got after doing filtered ANN Search.
-     * @return boolean - true if exactSearch needs to be done after ANNSearch.
+     * @return {@link ExactSearchReason} if exactSearch needs to be done after ANNSearch, null otherwise.
      */
-    private boolean isExactSearchRequire(final LeafReaderContext context, final int filterIdsCount, final int annResultCount) {
+    private ExactSearchReason getExactSearchReasonAfterANNSearch(
+        final LeafReaderContext context,
+        final int filterIdsCount,
+        final int annResultCount
+    ) {
         if (annResultCount == 0 && isMissingNativeEngineFiles(context)) {
             log.debug("Perform exact search after approximate search since no native engine files are available");
-            return true;
+            return ExactSearchReason.MISSING_NATIVE_ENGINE_FILES;
         }
         if (isFilteredExactSearchRequireAfterANNSearch(filterIdsCount, annResultCount)) {
             log.debug(
@@ -636,9 +799,9 @@ public abstract class KNNWeight extends Weight {
                 annResultCount,
                 filterIdsCount
             );
-            return true;
+            return ExactSearchReason.ANN_RESULTS_BELOW_K;
         }
-        return false;
+        return null;
     }
 
     /**
@@ -683,7 +846,7 @@ public abstract class KNNWeight extends Weight {
         if (knnQuery.getParentsFilter() == null) {
             return null;
         }
-        return bitSetToIntArray(knnQuery.getParentsFilter().getBitSet(context));
+        return ParentIdsCache.getInstance().get(knnQuery.getParentsFilter().getBitSet(context));
     }
 
     /**
@@ -715,18 +878,4 @@ public abstract class KNNWeight extends Weight {
 
         return null;
     }
-
-    private static int[] bitSetToIntArray(final BitSet bitSet) {
-        final int cardinality = bitSet.cardinality();
-        final int[] intArray = new int[cardinality];
-        final BitSetIterator bitSetIterator = new BitSetIterator(bitSet, cardinality);
-        int index = 0;
-        int docId = bitSetIterator.nextDoc();
-        while (docId != DocIdSetIterator.NO_MORE_DOCS) {
-            assert index < intArray.length;
-            intArray[index++] = docId;
-            docId = bitSetIterator.nextDoc();
-        }
-        return intArray;
-    }
 }
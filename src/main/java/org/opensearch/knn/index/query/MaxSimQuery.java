@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.Getter;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.Bits;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNVectorSimilarityFunction;
+import org.opensearch.knn.index.query.common.DocAndScoreBuffer;
+import org.opensearch.knn.index.query.common.QueryUtils;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
+import org.opensearch.knn.index.vectorvalues.KNNVectorValuesFactory;
+import org.opensearch.knn.indices.ModelDao;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Late interaction (MaxSim) query over the vectors of nested documents. Each parent document is represented by the vectors
+ * of its nested documents, one per token, and is scored by the sum over the query vectors of the best similarity to any of
+ * its vectors.
+ * <p>
+ * Candidate parents are found by one approximate k-NN query per query vector. The vectors of all nested documents of the
+ * candidates are then read once and scored exactly against every query vector. The best k parents are returned as one hit
+ * each, on the first of their nested documents that has a vector, so that they score the same under any score mode of the
+ * enclosing nested query.
+ */
+@Getter
+public class MaxSimQuery extends Query {
+    private final String field;
+    private final float[][] queryVectors;
+    private final List<Query> tokenQueries;
+    private final int k;
+    private final Query filterQuery;
+    private final BitSetProducer parentsFilter;
+    private final QueryUtils queryUtils;
+
+    public MaxSimQuery(
+        final String field,
+        final float[][] queryVectors,
+        final List<Query> tokenQueries,
+        final int k,
+        final Query filterQuery,
+        final BitSetProducer parentsFilter
+    ) {
+        this.field = field;
+        this.queryVectors = queryVectors;
+        this.tokenQueries = tokenQueries;
+        this.k = k;
+        this.filterQuery = filterQuery;
+        this.parentsFilter = parentsFilter;
+        this.queryUtils = QueryUtils.getInstance();
+    }
+
+    @Override
+    public Weight createWeight(final IndexSearcher indexSearcher, final ScoreMode scoreMode, final float boost) throws IOException {
+        final IndexReader reader = indexSearcher.getIndexReader();
+        final List<LeafReaderContext> leafReaderContexts = reader.leaves();
+        final List<DocAndScoreBuffer> candidates = collectCandidates(indexSearcher, leafReaderContexts);
+
+        final Weight filterWeight = filterQuery == null
+            ? null
+            : indexSearcher.createWeight(indexSearcher.rewrite(filterQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        final List<Callable<DocAndScoreBuffer>> tasks = new ArrayList<>(leafReaderContexts.size());
+        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
+            tasks.add(() -> scoreLeaf(leafReaderContext, candidates.get(leafReaderContext.ord), filterWeight));
+        }
+        final List<DocAndScoreBuffer> perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
+
+        final DocAndScoreBuffer topK = new DocAndScoreBuffer();
+        for (DocAndScoreBuffer perLeafResult : perLeafResults) {
+            for (int i = 0; i < perLeafResult.size(); i++) {
+                topK.add(perLeafResult.getDoc(i), perLeafResult.getScore(i));
+            }
+        }
+        topK.keepTop(k);
+        if (topK.isEmpty()) {
+            return new MatchNoDocsQuery().createWeight(indexSearcher, scoreMode, boost);
+        }
+        return queryUtils.createDocAndScoreQuery(reader, topK).createWeight(indexSearcher, scoreMode, boost);
+    }
+
+    /**
+     * Run the approximate query of every query vector, and group the nested documents they return by segment.
+     */
+    private List<DocAndScoreBuffer> collectCandidates(final IndexSearcher indexSearcher, final List<LeafReaderContext> leafReaderContexts)
+        throws IOException {
+        final List<DocAndScoreBuffer> candidates = new ArrayList<>(leafReaderContexts.size());
+        for (int i = 0; i < leafReaderContexts.size(); i++) {
+            candidates.add(new DocAndScoreBuffer());
+        }
+        for (Query tokenQuery : tokenQueries) {
+            final Weight tokenWeight = indexSearcher.createWeight(indexSearcher.rewrite(tokenQuery), ScoreMode.COMPLETE, 1f);
+            final List<DocAndScoreBuffer> perLeafResults = queryUtils.doSearch(indexSearcher, leafReaderContexts, tokenWeight);
+            for (int leaf = 0; leaf < perLeafResults.size(); leaf++) {
+                final DocAndScoreBuffer perLeafResult = perLeafResults.get(leaf);
+                for (int i = 0; i < perLeafResult.size(); i++) {
+                    candidates.get(leaf).add(perLeafResult.getDoc(i), perLeafResult.getScore(i));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Score the candidate parents of a segment over all of their nested documents.
+     *
+     * @return best k parents of the segment, as shard level ids of their representative nested documents
+     */
+    private DocAndScoreBuffer scoreLeaf(
+        final LeafReaderContext leafReaderContext,
+        final DocAndScoreBuffer candidates,
+        final Weight filterWeight
+    ) throws IOException {
+        final LeafReader reader = leafReaderContext.reader();
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, field);
+        if (candidates.isEmpty() || fieldInfo == null) {
+            return new DocAndScoreBuffer(0);
+        }
+        final KNNVectorSimilarityFunction similarityFunction = FieldInfoExtractor.getSpaceType(
+            ModelDao.OpenSearchKNNModelDao.getInstance(),
+            fieldInfo
+        ).getKnnVectorSimilarityFunction();
+        final KNNVectorValues<float[]> vectorValues = KNNVectorValuesFactory.getVectorValues(fieldInfo, reader);
+        final BitSet parentBitSet = parentsFilter.getBitSet(leafReaderContext);
+        final Bits liveDocs = reader.getLiveDocs();
+        final DocIdSetIterator siblings = queryUtils.getAllSiblings(
+            leafReaderContext,
+            candidates,
+            parentsFilter,
+            queryUtils.createBits(leafReaderContext, filterWeight)
+        );
+
+        final DocAndScoreBuffer results = new DocAndScoreBuffer();
+        final float[] maxScores = new float[queryVectors.length];
+        int parentId = -1;
+        int representativeId = -1;
+        for (int doc = siblings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = siblings.nextDoc()) {
+            if (liveDocs != null && liveDocs.get(doc) == false) {
+                continue;
+            }
+            if (vectorValues.docId() < doc) {
+                vectorValues.advance(doc);
+            }
+            if (vectorValues.docId() != doc) {
+                continue;
+            }
+            if (doc > parentId) {
+                // Siblings are in doc id order, so every nested document of a parent is seen before the next parent.
+                if (representativeId != -1) {
+                    results.add(leafReaderContext.docBase + representativeId, sum(maxScores));
+                }
+                parentId = parentBitSet.nextSetBit(doc);
+                representativeId = doc;
+                Arrays.fill(maxScores, Float.NEGATIVE_INFINITY);
+            }
+            // Each vector is read once and scored against all query vectors.
+            final float[] vector = vectorValues.getVector();
+            for (int i = 0; i < queryVectors.length; i++) {
+                maxScores[i] = Math.max(maxScores[i], similarityFunction.compare(queryVectors[i], vector));
+            }
+        }
+        if (representativeId != -1) {
+            results.add(leafReaderContext.docBase + representativeId, sum(maxScores));
+        }
+        results.keepTop(k);
+        return results;
+    }
+
+    private static float sum(final float[] scores) {
+        float sum = 0;
+        for (float score : scores) {
+            sum += score;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString(final String s) {
+        return getClass().getSimpleName() + "[" + field + "]..." + queryVectors.length + " vectors, k=" + k;
+    }
+
+    @Override
+    public void visit(final QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (sameClassAs(other) == false) {
+            return false;
+        }
+        final MaxSimQuery that = (MaxSimQuery) other;
+        return k == that.k
+            && field.equals(that.field)
+            && Arrays.deepEquals(queryVectors, that.queryVectors)
+            && tokenQueries.equals(that.tokenQueries)
+            && Objects.equals(filterQuery, that.filterQuery)
+            && Objects.equals(parentsFilter, that.parentsFilter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, Arrays.deepHashCode(queryVectors), tokenQueries, k, filterQuery, parentsFilter);
+    }
+}
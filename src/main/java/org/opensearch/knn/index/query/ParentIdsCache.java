@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.knn.index.KNNSettings;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.knn.index.KNNSettings.KNN_PARENT_IDS_CACHE_SIZE_LIMIT;
+
+/**
+ * A node level, size bounded cache of the parent doc ids passed to native engines for nested fields.
+ * <p>
+ * The parent filter of a nested query hands out the same bitset for a segment until the segment is closed, so its ids are
+ * converted once and shared by all queries. Entries are keyed by bitset identity and held weakly, so they go away once the
+ * bitset of a closed segment is garbage collected. Entries are weighed by their heap usage and evicted once the size limit set
+ * by {@link KNNSettings#KNN_PARENT_IDS_CACHE_SIZE_LIMIT} is reached. The cache is disabled when its size limit is 0.
+ */
+@Log4j2
+public final class ParentIdsCache {
+    private static volatile ParentIdsCache instance;
+
+    private volatile ParentIds parentIds;
+    @Getter
+    private volatile long maxSizeInBytes;
+
+    @VisibleForTesting
+    ParentIdsCache(final long maxSizeInBytes) {
+        rebuild(maxSizeInBytes);
+    }
+
+    /**
+     * Gets the singleton instance of the cache.
+     *
+     * @return ParentIdsCache
+     */
+    public static ParentIdsCache getInstance() {
+        if (instance == null) {
+            synchronized (ParentIdsCache.class) {
+                if (instance == null) {
+                    final ByteSizeValue maxSize = KNNSettings.state().getSettingValue(KNN_PARENT_IDS_CACHE_SIZE_LIMIT);
+                    instance = new ParentIdsCache(maxSize.getBytes());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Drop all cached parent ids and apply a new size limit.
+     *
+     * @param maxSizeInBytes size limit of the cache, 0 to disable it
+     */
+    public synchronized void rebuild(final long maxSizeInBytes) {
+        final ParentIds current = parentIds;
+        if (current != null) {
+            current.cache.invalidateAll();
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.parentIds = maxSizeInBytes > 0 ? new ParentIds(maxSizeInBytes) : null;
+        log.info("[KNN] Parent ids cache rebuilt with size limit of {} bytes", maxSizeInBytes);
+    }
+
+    /**
+     * Get the ids of the parent docs of a segment, converting them only if they are not cached yet.
+     *
+     * @param parentBitSet parent docs of a segment, as handed out by the parent filter
+     * @return sorted ids of the parent docs
+     */
+    public int[] get(final BitSet parentBitSet) {
+        final ParentIds current = parentIds;
+        if (current == null) {
+            return toIntArray(parentBitSet);
+        }
+        try {
+            return current.cache.get(parentBitSet, () -> current.load(parentBitSet));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new IllegalStateException("Unable to convert parent ids of segment", e.getCause());
+        }
+    }
+
+    /**
+     * @return heap usage of cached parent ids in kilobytes
+     */
+    public long getSizeInKilobytes() {
+        final ParentIds current = parentIds;
+        return current == null ? 0 : current.sizeInBytes.get() / 1024;
+    }
+
+    /**
+     * @return stats of the cache since it was last rebuilt
+     */
+    public CacheStats getStats() {
+        final ParentIds current = parentIds;
+        return current == null ? new CacheStats(0, 0, 0, 0, 0, 0) : current.cache.stats();
+    }
+
+    private static int[] toIntArray(final BitSet bitSet) {
+        final int cardinality = bitSet.cardinality();
+        final int[] intArray = new int[cardinality];
+        final BitSetIterator bitSetIterator = new BitSetIterator(bitSet, cardinality);
+        int index = 0;
+        int docId = bitSetIterator.nextDoc();
+        while (docId != DocIdSetIterator.NO_MORE_DOCS) {
+            assert index < intArray.length;
+            intArray[index++] = docId;
+            docId = bitSetIterator.nextDoc();
+        }
+        return intArray;
+    }
+
+    /**
+     * Parent ids cached under a size limit. Replaced as a whole when the cache is rebuilt, so that in flight loads into a
+     * previous cache do not account for the current one.
+     */
+    private static final class ParentIds {
+        private final Cache<BitSet, int[]> cache;
+        private final AtomicLong sizeInBytes = new AtomicLong();
+
+        private ParentIds(final long maxSizeInBytes) {
+            // A single segment, so that the size limit applies to the whole cache rather than being split across segments.
+            this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .weakKeys()
+                .maximumWeight(maxSizeInBytes)
+                .weigher((BitSet k, int[] v) -> (int) Math.min(Integer.MAX_VALUE, RamUsageEstimator.sizeOf(v)))
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+        }
+
+        private int[] load(final BitSet parentBitSet) {
+            final int[] ids = toIntArray(parentBitSet);
+            sizeInBytes.addAndGet(RamUsageEstimator.sizeOf(ids));
+            return ids;
+        }
+
+        private void onRemoval(final RemovalNotification<BitSet, int[]> removalNotification) {
+            sizeInBytes.addAndGet(-RamUsageEstimator.sizeOf(removalNotification.getValue()));
+        }
+    }
+}
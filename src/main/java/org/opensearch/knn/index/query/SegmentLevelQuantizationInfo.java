@@ -8,6 +8,7 @@ package org.opensearch.knn.index.query;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.Version;
@@ -48,4 +49,30 @@ public class SegmentLevelQuantizationInfo {
         final QuantizationState quantizationState = SegmentLevelQuantizationUtil.getQuantizationState(leafReader, fieldName);
         return new SegmentLevelQuantizationInfo(quantizationParams, quantizationState);
     }
+
+    /**
+     * Same as {@link #build(LeafReader, FieldInfo, String, Version)}, but reads the quantization state straight from the
+     * segment's {@link KnnVectorsReader}. This is useful while the owning {@link LeafReader} is not yet available.
+     *
+     * @param knnVectorsReader {@link KnnVectorsReader}
+     * @param fieldInfo {@link FieldInfo}
+     * @param luceneVersion {@link Version} lucene version present in the segment, used for BWC.
+     * @return {@link SegmentLevelQuantizationInfo}
+     * @throws IOException exception while creating the {@link SegmentLevelQuantizationInfo} object.
+     */
+    public static SegmentLevelQuantizationInfo build(
+        final KnnVectorsReader knnVectorsReader,
+        final FieldInfo fieldInfo,
+        Version luceneVersion
+    ) throws IOException {
+        final QuantizationParams quantizationParams = QuantizationService.getInstance().getQuantizationParams(fieldInfo, luceneVersion);
+        if (quantizationParams == null) {
+            return null;
+        }
+        final QuantizationState quantizationState = SegmentLevelQuantizationUtil.getQuantizationState(
+            knnVectorsReader,
+            fieldInfo.getName()
+        );
+        return new SegmentLevelQuantizationInfo(quantizationParams, quantizationState);
+    }
 }
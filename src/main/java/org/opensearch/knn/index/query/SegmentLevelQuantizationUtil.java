@@ -6,6 +6,7 @@
 package org.opensearch.knn.index.query;
 
 import lombok.experimental.UtilityClass;
+import org.apache.lucene.codecs.KnnVectorsReader;
 import org.apache.lucene.index.LeafReader;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.codec.KNN990Codec.QuantizationConfigKNNCollector;
@@ -85,6 +86,23 @@ public class SegmentLevelQuantizationUtil {
     static QuantizationState getQuantizationState(final LeafReader leafReader, String fieldName) throws IOException {
         final QuantizationConfigKNNCollector tempCollector = new QuantizationConfigKNNCollector();
         leafReader.searchNearestVectors(fieldName, new float[0], tempCollector, null);
+        return getQuantizationState(tempCollector, fieldName);
+    }
+
+    /**
+     * A utility function to get {@link QuantizationState} for a given field directly from a segment's vectors reader.
+     * @param knnVectorsReader {@link KnnVectorsReader}
+     * @param fieldName {@link String}
+     * @return {@link QuantizationState}
+     * @throws IOException exception during reading the {@link QuantizationState}
+     */
+    static QuantizationState getQuantizationState(final KnnVectorsReader knnVectorsReader, String fieldName) throws IOException {
+        final QuantizationConfigKNNCollector tempCollector = new QuantizationConfigKNNCollector();
+        knnVectorsReader.search(fieldName, new float[0], tempCollector, null);
+        return getQuantizationState(tempCollector, fieldName);
+    }
+
+    private static QuantizationState getQuantizationState(final QuantizationConfigKNNCollector tempCollector, String fieldName) {
         if (tempCollector.getQuantizationState() == null) {
             throw new IllegalStateException(String.format(Locale.ROOT, "No quantization state found for field %s", fieldName));
         }
@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IntroSelector;
+import org.apache.lucene.util.IntroSorter;
+
+/**
+ * Growable buffer of doc ids and their scores, backed by primitive arrays.
+ * <p>
+ * Used to collect results whose count is not known upfront, such as radial search results, without boxing every hit into a
+ * map entry or sizing a heap to the max result window. The arrays grow geometrically as hits are added.
+ */
+public class DocAndScoreBuffer {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private int[] docs;
+    private float[] scores;
+    private int size;
+    // Pivot shared by the sorters and selectors of this buffer
+    private int pivotDoc;
+    private float pivotScore;
+
+    public DocAndScoreBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public DocAndScoreBuffer(final int initialCapacity) {
+        final int capacity = Math.max(1, initialCapacity);
+        this.docs = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    public void add(final int doc, final float score) {
+        if (size == docs.length) {
+            docs = ArrayUtil.grow(docs, size + 1);
+            scores = ArrayUtil.growExact(scores, docs.length);
+        }
+        docs[size] = doc;
+        scores[size] = score;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getDoc(final int index) {
+        return docs[index];
+    }
+
+    public float getScore(final int index) {
+        return scores[index];
+    }
+
+    /**
+     * Keeps only the {@code n} best scoring hits, in no particular order. Ties are broken in favor of smaller doc ids.
+     *
+     * @param n Number of hits to keep
+     * @return the lowest score among the kept hits, or {@link Float#NEGATIVE_INFINITY} if nothing was removed
+     */
+    public float keepTop(final int n) {
+        if (size <= n) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        if (n <= 0) {
+            size = 0;
+            return Float.NEGATIVE_INFINITY;
+        }
+        selectByScore(n - 1);
+        size = n;
+        float minScore = scores[0];
+        for (int i = 1; i < size; i++) {
+            minScore = Math.min(minScore, scores[i]);
+        }
+        return minScore;
+    }
+
+    /**
+     * Sorts the hits in increasing order of doc id.
+     */
+    public void sortByDoc() {
+        new IntroSorter() {
+            @Override
+            protected void setPivot(int i) {
+                pivotDoc = docs[i];
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return Integer.compare(pivotDoc, docs[j]);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                DocAndScoreBuffer.this.swap(i, j);
+            }
+        }.sort(0, size);
+    }
+
+    /**
+     * Sorts the hits by decreasing score and converts them into {@link TopDocs}.
+     *
+     * @return TopDocs with all hits of the buffer
+     */
+    public TopDocs toTopDocs() {
+        sortByScore();
+        final ScoreDoc[] scoreDocs = new ScoreDoc[size];
+        for (int i = 0; i < size; i++) {
+            scoreDocs[i] = new ScoreDoc(docs[i], scores[i]);
+        }
+        return new TopDocs(new TotalHits(size, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
+    /**
+     * @return doc ids, trimmed to the size of the buffer
+     */
+    public int[] docs() {
+        return docs.length == size ? docs : ArrayUtil.copyOfSubArray(docs, 0, size);
+    }
+
+    /**
+     * @return scores, trimmed to the size of the buffer
+     */
+    public float[] scores() {
+        return scores.length == size ? scores : ArrayUtil.copyOfSubArray(scores, 0, size);
+    }
+
+    private void swap(final int i, final int j) {
+        final int doc = docs[i];
+        docs[i] = docs[j];
+        docs[j] = doc;
+        final float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    // Score order is decreasing score, then increasing doc id.
+    private void setScorePivot(final int i) {
+        pivotDoc = docs[i];
+        pivotScore = scores[i];
+    }
+
+    private int compareScorePivot(final int j) {
+        final int cmp = Float.compare(scores[j], pivotScore);
+        return cmp != 0 ? cmp : Integer.compare(pivotDoc, docs[j]);
+    }
+
+    private void selectByScore(final int k) {
+        new IntroSelector() {
+            @Override
+            protected void setPivot(int i) {
+                setScorePivot(i);
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return compareScorePivot(j);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                DocAndScoreBuffer.this.swap(i, j);
+            }
+        }.select(0, size, k);
+    }
+
+    private void sortByScore() {
+        new IntroSorter() {
+            @Override
+            protected void setPivot(int i) {
+                setScorePivot(i);
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return compareScorePivot(j);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                DocAndScoreBuffer.this.swap(i, j);
+            }
+        }.sort(0, size);
+    }
+}
@@ -24,12 +24,8 @@ import org.opensearch.knn.index.query.iterators.GroupedNestedDocIdSetIterator;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -71,6 +67,22 @@ public class QueryUtils {
         return new DocAndScoreQuery(len, docs, scores, segmentStarts, reader.getContext().id(), knnWeight);
     }
 
+    /**
+     * Returns a query that represents the hits of the given buffer. Doc ids of the buffer must already be shard level ids.
+     * The arrays of the buffer are handed to the query as is, without going through {@link TopDocs}.
+     *
+     * @param reader the index reader
+     * @param buffer hits to be returned by the query. The buffer is sorted by doc id as a side effect.
+     * @return a query representing the given hits
+     */
+    public Query createDocAndScoreQuery(final IndexReader reader, final DocAndScoreBuffer buffer) {
+        buffer.sortByDoc();
+        final int[] docs = buffer.docs();
+        final float[] scores = buffer.scores();
+        int[] segmentStarts = findSegmentStarts(reader, docs);
+        return new DocAndScoreQuery(docs.length, docs, scores, segmentStarts, reader.getContext().id(), null);
+    }
+
     private int[] findSegmentStarts(final IndexReader reader, final int[] docs) {
         int[] starts = new int[reader.leaves().size() + 1];
         starts[starts.length - 1] = docs.length;
@@ -95,32 +107,32 @@ public class QueryUtils {
      * @param indexSearcher the index searcher
      * @param leafReaderContexts the leaf reader contexts
      * @param weight the search weight
-     * @return a list of maps, each mapping document IDs to their scores
+     * @return a list of buffers, each holding the document IDs of a leaf and their scores
      * @throws IOException
      */
-    public List<Map<Integer, Float>> doSearch(
+    public List<DocAndScoreBuffer> doSearch(
         final IndexSearcher indexSearcher,
         final List<LeafReaderContext> leafReaderContexts,
         final Weight weight
     ) throws IOException {
-        List<Callable<Map<Integer, Float>>> tasks = new ArrayList<>(leafReaderContexts.size());
+        List<Callable<DocAndScoreBuffer>> tasks = new ArrayList<>(leafReaderContexts.size());
         for (LeafReaderContext leafReaderContext : leafReaderContexts) {
             tasks.add(() -> searchLeaf(leafReaderContext, weight));
         }
         return indexSearcher.getTaskExecutor().invokeAll(tasks);
     }
 
-    private Map<Integer, Float> searchLeaf(final LeafReaderContext ctx, final Weight weight) throws IOException {
-        Map<Integer, Float> leafDocScores = new HashMap<>();
+    private DocAndScoreBuffer searchLeaf(final LeafReaderContext ctx, final Weight weight) throws IOException {
         Scorer scorer = weight.scorer(ctx);
         if (scorer == null) {
-            return Collections.emptyMap();
+            return new DocAndScoreBuffer(0);
         }
 
+        DocAndScoreBuffer leafDocScores = new DocAndScoreBuffer();
         DocIdSetIterator iterator = scorer.iterator();
         iterator.nextDoc();
         while (iterator.docID() != DocIdSetIterator.NO_MORE_DOCS) {
-            leafDocScores.put(scorer.docID(), scorer.score());
+            leafDocScores.add(scorer.docID(), scorer.score());
             iterator.nextDoc();
         }
         return leafDocScores;
@@ -137,11 +149,11 @@ public class QueryUtils {
      */
     public DocIdSetIterator getAllSiblings(
         final LeafReaderContext leafReaderContext,
-        final Set<Integer> docIds,
+        final int[] docIds,
         final BitSetProducer parentsFilter,
         final Bits queryFilter
     ) throws IOException {
-        if (docIds.isEmpty()) {
+        if (docIds.length == 0) {
             return DocIdSetIterator.empty();
         }
 
@@ -149,6 +161,29 @@ public class QueryUtils {
         return new GroupedNestedDocIdSetIterator(parentBitSet, docIds, queryFilter);
     }
 
+    /**
+     * For the specified nested field document IDs, retrieves all sibling nested field document IDs.
+     *
+     * @param leafReaderContext the leaf reader context
+     * @param docIds the document IDs of the nested field and their scores
+     * @param parentsFilter a bitset mapping parent document IDs to their nested field document IDs
+     * @return an iterator of document IDs for all filtered sibling nested field documents corresponding to the given document IDs
+     * @throws IOException
+     */
+    public DocIdSetIterator getAllSiblings(
+        final LeafReaderContext leafReaderContext,
+        final DocAndScoreBuffer docIds,
+        final BitSetProducer parentsFilter,
+        final Bits queryFilter
+    ) throws IOException {
+        if (docIds.isEmpty()) {
+            return DocIdSetIterator.empty();
+        }
+
+        BitSet parentBitSet = parentsFilter.getBitSet(leafReaderContext);
+        return new GroupedNestedDocIdSetIterator(parentBitSet, docIds.docs(), queryFilter);
+    }
+
     /**
      * Converts the specified search weight into a {@link Bits} containing document IDs.
      *
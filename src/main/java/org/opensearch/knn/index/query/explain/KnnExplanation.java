@@ -8,6 +8,7 @@ package org.opensearch.knn.index.query.explain;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.lucene.search.Scorer;
+import org.opensearch.knn.index.query.KNNSearchCostModel.SearchCostEstimate;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,6 +25,8 @@ public class KnnExplanation {
 
     private final Map<Object, Scorer> knnScorerPerLeaf;
 
+    private final Map<Object, SearchCostEstimate> costEstimatePerLeaf;
+
     @Setter
     @Getter
     private int cardinality;
@@ -32,6 +35,7 @@ public class KnnExplanation {
         this.annResultPerLeaf = new ConcurrentHashMap<>();
         this.rawScores = new ConcurrentHashMap<>();
         this.knnScorerPerLeaf = new ConcurrentHashMap<>();
+        this.costEstimatePerLeaf = new ConcurrentHashMap<>();
         this.cardinality = 0;
     }
 
@@ -47,6 +51,10 @@ public class KnnExplanation {
         this.knnScorerPerLeaf.put(leafId, knnScorer);
     }
 
+    public void addCostEstimate(Object leafId, SearchCostEstimate costEstimate) {
+        this.costEstimatePerLeaf.put(leafId, costEstimate);
+    }
+
     public Integer getAnnResult(Object leafId) {
         return this.annResultPerLeaf.get(leafId);
     }
@@ -55,6 +63,10 @@ public class KnnExplanation {
         return this.rawScores.get(docId);
     }
 
+    public SearchCostEstimate getCostEstimate(Object leafId) {
+        return this.costEstimatePerLeaf.get(leafId);
+    }
+
     public Scorer getKnnScorer(Object leafId) {
         return this.knnScorerPerLeaf.get(leafId);
     }
@@ -6,39 +6,39 @@
 package org.opensearch.knn.index.query.iterators;
 
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.Bits;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * A `DocIdSetIterator` that iterates over all nested document IDs belongs to the same parent document for a given
  * set of nested document IDs.
  *
- * It is permissible for {@link #docIds} to contain multiple nested document IDs linked to a single parent document.
+ * It is permissible for docIds to contain multiple nested document IDs linked to a single parent document.
  * In such cases, this iterator will still iterate over each nested document ID only once.
+ *
+ * Siblings are collected into a sorted int array in a single pass over the child ranges of the parents, on the first call to
+ * {@link #cost()} or {@link #nextDoc()}, so that the cost is exact without walking the ranges twice.
  */
 public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
     private final BitSet parentBitSet;
     private final Bits filterBits;
-    private final List<Integer> docIds;
-    private long cost;
+    private final int[] docIds;
+    private int[] siblings;
+    private int numSiblings;
     private int currentIndex;
     private int currentDocId;
-    private int currentParentId;
 
-    public GroupedNestedDocIdSetIterator(final BitSet parentBitSet, final Set<Integer> docIds, final Bits filterBits) {
+    public GroupedNestedDocIdSetIterator(final BitSet parentBitSet, final int[] docIds, final Bits filterBits) {
         this.parentBitSet = parentBitSet;
-        this.docIds = new ArrayList<>(docIds);
-        this.docIds.sort(Comparator.naturalOrder());
+        this.docIds = docIds.clone();
+        Arrays.sort(this.docIds);
         this.filterBits = filterBits;
         currentIndex = -1;
         currentDocId = -1;
-        cost = -1;
     }
 
     @Override
@@ -48,34 +48,12 @@ public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
 
     @Override
     public int nextDoc() throws IOException {
-        while (true) {
-            if (doNextDoc() != NO_MORE_DOCS) {
-                if (!filterBits.get(currentDocId)) {
-                    continue;
-                }
-
-                return currentDocId;
-            }
-
-            return currentDocId;
-        }
-    }
-
-    public int doNextDoc() throws IOException {
         if (currentDocId == NO_MORE_DOCS) {
             return currentDocId;
         }
-
-        if (currentDocId == -1) {
-            moveToNextIndex();
-            return currentDocId;
-        }
-
-        currentDocId++;
-        assert currentDocId <= currentParentId;
-        if (currentDocId == currentParentId) {
-            moveToNextIndex();
-        }
+        collectSiblings();
+        currentIndex++;
+        currentDocId = currentIndex < numSiblings ? siblings[currentIndex] : NO_MORE_DOCS;
         return currentDocId;
     }
 
@@ -90,44 +68,30 @@ public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
 
     @Override
     public long cost() {
-        if (cost == -1) {
-            cost = calculateCost();
-        }
-        return cost;
+        collectSiblings();
+        return numSiblings;
     }
 
-    private long calculateCost() {
-        long numDocs = 0;
-        int lastDocId = -1;
+    private void collectSiblings() {
+        if (siblings != null) {
+            return;
+        }
+        siblings = new int[docIds.length];
+        int lastParentId = -1;
         for (int docId : docIds) {
-            if (docId < lastDocId) {
+            // Doc ids are sorted, so the children of a parent that was already collected are next to each other.
+            if (docId < lastParentId) {
                 continue;
             }
-
-            for (lastDocId = parentBitSet.prevSetBit(docId) + 1; lastDocId < parentBitSet.nextSetBit(docId); lastDocId++) {
-                if (filterBits.get(lastDocId)) {
-                    numDocs++;
+            final int firstChildId = parentBitSet.prevSetBit(docId) + 1;
+            lastParentId = parentBitSet.nextSetBit(docId);
+            assert lastParentId != NO_MORE_DOCS;
+            siblings = ArrayUtil.grow(siblings, numSiblings + lastParentId - firstChildId);
+            for (int childId = firstChildId; childId < lastParentId; childId++) {
+                if (filterBits.get(childId)) {
+                    siblings[numSiblings++] = childId;
                 }
             }
         }
-        return numDocs;
-    }
-
-    private void moveToNextIndex() {
-        currentIndex++;
-        while (currentIndex < docIds.size()) {
-            // Advance currentIndex until the docId at the currentIndex is greater than currentDocId.
-            // This ensures proper handling when docIds contain multiple entries under the same parent ID
-            // that have already been iterated.
-            if (docIds.get(currentIndex) <= currentDocId) {
-                currentIndex++;
-                continue;
-            }
-            currentDocId = parentBitSet.prevSetBit(docIds.get(currentIndex)) + 1;
-            currentParentId = parentBitSet.nextSetBit(docIds.get(currentIndex));
-            assert currentParentId != NO_MORE_DOCS;
-            return;
-        }
-        currentDocId = NO_MORE_DOCS;
     }
 }
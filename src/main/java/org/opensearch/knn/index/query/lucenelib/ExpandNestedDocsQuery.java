@@ -21,12 +21,12 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
+import org.opensearch.knn.index.query.common.DocAndScoreBuffer;
 import org.opensearch.knn.index.query.common.QueryUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -49,24 +49,30 @@ public class ExpandNestedDocsQuery extends Query {
         Weight weight = docAndScoreQuery.createWeight(searcher, scoreMode, boost);
         IndexReader reader = searcher.getIndexReader();
         List<LeafReaderContext> leafReaderContexts = reader.leaves();
-        List<Map<Integer, Float>> perLeafResults;
+        List<DocAndScoreBuffer> perLeafResults;
         perLeafResults = queryUtils.doSearch(searcher, leafReaderContexts, weight);
         TopDocs[] topDocs = retrieveAll(searcher, leafReaderContexts, perLeafResults);
         int sum = 0;
         for (TopDocs topDoc : topDocs) {
             sum += topDoc.scoreDocs.length;
         }
-        TopDocs topK = TopDocs.merge(sum, topDocs);
-        if (topK.scoreDocs.length == 0) {
+        if (sum == 0) {
             return new MatchNoDocsQuery().createWeight(searcher, scoreMode, boost);
         }
-        return queryUtils.createDocAndScoreQuery(reader, topK).createWeight(searcher, scoreMode, boost);
+        // Every retrieved doc is returned, so there is no need to merge by score. Hits go straight to the query's arrays.
+        DocAndScoreBuffer allResults = new DocAndScoreBuffer(sum);
+        for (TopDocs topDoc : topDocs) {
+            for (ScoreDoc scoreDoc : topDoc.scoreDocs) {
+                allResults.add(scoreDoc.doc, scoreDoc.score);
+            }
+        }
+        return queryUtils.createDocAndScoreQuery(reader, allResults).createWeight(searcher, scoreMode, boost);
     }
 
     private TopDocs[] retrieveAll(
         final IndexSearcher indexSearcher,
         final List<LeafReaderContext> leafReaderContexts,
-        final List<Map<Integer, Float>> perLeafResults
+        final List<DocAndScoreBuffer> perLeafResults
     ) throws IOException {
         // Construct query
         List<Callable<TopDocs>> nestedQueryTasks = new ArrayList<>(leafReaderContexts.size());
@@ -78,7 +84,7 @@ public class ExpandNestedDocsQuery extends Query {
                 Bits queryFilter = queryUtils.createBits(leafReaderContext, filterWeight);
                 DocIdSetIterator allSiblings = queryUtils.getAllSiblings(
                     leafReaderContext,
-                    perLeafResults.get(finalI).keySet(),
+                    perLeafResults.get(finalI),
                     internalNestedKnnVectorQuery.getParentFilter(),
                     queryFilter
                 );
@@ -22,6 +22,7 @@ import org.apache.lucene.util.Version;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.query.ApproximateSearchResult;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
 
@@ -66,7 +67,7 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
     }
 
     @Override
-    protected TopDocs doANNSearch(
+    protected ApproximateSearchResult doANNSearch(
         final LeafReaderContext context,
         final SegmentReader reader,
         final FieldInfo fieldInfo,
@@ -167,7 +168,15 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         }
     }
 
-    private TopDocs queryIndex(
+    /**
+     * Called once the graph of a segment has been searched.
+     *
+     * @param context LeafReaderContext
+     * @param visitedCount number of vectors visited, i.e. scored, during the search
+     */
+    protected void onGraphSearched(final LeafReaderContext context, final long visitedCount) {}
+
+    private ApproximateSearchResult queryIndex(
         final Object targetVector,
         final int cardinality,
         final int visitLimitWhenFilterExists,
@@ -191,20 +200,24 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         final KnnCollector knnCollector = knnCollectorManager.newCollector(visitedLimit, DEFAULT_HNSW_SEARCH_STRATEGY, context);
         final BitSet bitSet = cardinality == 0 ? null : filterIdsBitSet;
 
-        // Start searching index
+        // Start searching index. The searcher of the segment is partially loaded by its first search, unless it was warmed up.
+        final long searchStartTime = System.nanoTime();
         if (targetVector instanceof float[] floatTargetVector) {
             reader.getVectorReader().search(knnQuery.getField(), floatTargetVector, knnCollector, bitSet);
         } else {
             reader.getVectorReader().search(knnQuery.getField(), (byte[]) targetVector, knnCollector, bitSet);
         }
+        final long searchTimeNanos = System.nanoTime() - searchStartTime;
+
+        onGraphSearched(context, knnCollector.visitedCount());
 
         // Make results to return
         final TopDocs topDocs = knnCollector.topDocs();
         if (topDocs.scoreDocs.length == 0) {
             log.debug("[KNN] Query yielded 0 results");
-            return EMPTY_TOPDOCS;
+            return new ApproximateSearchResult(EMPTY_TOPDOCS, searchTimeNanos);
         }
         addExplainIfRequired(topDocs, knnEngine, spaceType);
-        return topDocs;
+        return new ApproximateSearchResult(topDocs, searchTimeNanos);
     }
 }
@@ -30,22 +30,22 @@ import org.opensearch.knn.index.query.TopDocsDISI;
 import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.ResultUtil;
 import org.opensearch.knn.index.query.common.QueryUtils;
+import org.opensearch.knn.index.query.rescore.AdaptiveOversampler;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.knn.index.query.rescore.RescoreVectorPrefetcher;
 import org.opensearch.knn.profile.KNNProfileUtil;
 import org.opensearch.knn.profile.LongMetric;
 import org.opensearch.knn.profile.query.KNNMetrics;
+import org.opensearch.knn.profile.query.KNNQueryTimingType;
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.query.QueryProfiler;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
 
 /**
  * {@link KNNQuery} executes approximate nearest neighbor search (ANN) on a segment level.
@@ -85,16 +85,42 @@ public class NativeEngineKnnVectorQuery extends Query {
         } else {
             boolean isShardLevelRescoringDisabled = KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(knnQuery.getIndexName());
             int dimension = knnQuery.getQueryVector().length;
-            int firstPassK = rescoreContext.getFirstPassK(finalK, isShardLevelRescoringDisabled, dimension);
+            // Learn the oversample factor per shard and field, unless the query provides one
+            boolean isAdaptive = rescoreContext.isUserProvided() == false
+                && KNNSettings.isAdaptiveOversamplingEnabledForDiskBasedVector(knnQuery.getIndexName());
+            AdaptiveOversampler.FieldKey fieldKey = null;
+            float oversampleFactor = 0;
+            int firstPassK;
+            if (isAdaptive) {
+                fieldKey = AdaptiveOversampler.FieldKey.of(knnQuery.getIndexName(), reader, knnQuery.getField());
+                oversampleFactor = AdaptiveOversampler.getInstance()
+                    .getOversampleFactor(fieldKey, RescoreContext.getDimensionBasedOversampleFactor(dimension));
+                firstPassK = RescoreContext.getAdaptiveFirstPassK(finalK, oversampleFactor);
+            } else {
+                firstPassK = rescoreContext.getFirstPassK(finalK, isShardLevelRescoringDisabled, dimension);
+            }
             perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, firstPassK);
             if (isShardLevelRescoringDisabled == false) {
                 ResultUtil.reduceToTopK(perLeafResults, firstPassK);
             }
+            final List<PerLeafResult> firstPassResults = perLeafResults;
 
             StopWatch stopWatch = new StopWatch().start();
             perLeafResults = doRescore(indexSearcher, leafReaderContexts, knnWeight, perLeafResults, finalK);
             long rescoreTime = stopWatch.stop().totalTime().millis();
             log.debug("Rescoring results took {} ms. oversampled k:{}, segments:{}", rescoreTime, firstPassK, leafReaderContexts.size());
+
+            if (isAdaptive) {
+                ResultUtil.reduceToTopK(perLeafResults, finalK);
+                int requiredDepth = AdaptiveOversampler.getRequiredDepth(
+                    firstPassResults,
+                    perLeafResults,
+                    KNNSettings.getAdaptiveOversamplingTargetRecallForDiskBasedVector(knnQuery.getIndexName()),
+                    isShardLevelRescoringDisabled
+                );
+                AdaptiveOversampler.getInstance().observe(fieldKey, finalK, firstPassK, requiredDepth, oversampleFactor);
+                recordRescoreMetrics(indexSearcher, leafReaderContexts, firstPassK, requiredDepth);
+            }
         }
         ResultUtil.reduceToTopK(perLeafResults, finalK);
 
@@ -171,7 +197,13 @@ public class NativeEngineKnnVectorQuery extends Query {
             QueryProfiler profiler = KNNProfileUtil.getProfiler(indexSearcher);
             int finalI = i;
             nestedQueryTasks.add(() -> {
-                PerLeafResult result = retrieveLeafResult(leafReaderContext, knnWeight, perLeafResults, useQuantizedVectors, finalI);
+                PerLeafResult result = (PerLeafResult) KNNProfileUtil.profile(
+                    profiler,
+                    this,
+                    leafReaderContext,
+                    KNNQueryTimingType.NESTED_EXPANSION,
+                    () -> retrieveLeafResult(leafReaderContext, knnWeight, perLeafResults, useQuantizedVectors, finalI)
+                );
                 if (profiler != null) {
                     AbstractProfileBreakdown profile = ((ContextualProfileBreakdown) profiler.getProfileBreakdown(this)).context(
                         leafReaderContext
@@ -206,7 +238,11 @@ public class NativeEngineKnnVectorQuery extends Query {
         if (perLeafResult.getResult().scoreDocs.length == 0) {
             return perLeafResult;
         }
-        Set<Integer> docIds = Arrays.stream(perLeafResult.getResult().scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toSet());
+        final ScoreDoc[] scoreDocs = perLeafResult.getResult().scoreDocs;
+        final int[] docIds = new int[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            docIds[i] = scoreDocs[i].doc;
+        }
         DocIdSetIterator allSiblings = queryUtils.getAllSiblings(
             leafReaderContext,
             docIds,
@@ -250,6 +286,15 @@ public class NativeEngineKnnVectorQuery extends Query {
         List<PerLeafResult> perLeafResults,
         int k
     ) throws IOException {
+        // Hint reads of candidate vectors of all segments before scoring any of them, so that the reads overlap.
+        for (int i = 0; i < perLeafResults.size(); i++) {
+            RescoreVectorPrefetcher.prefetch(
+                leafReaderContexts.get(i).reader(),
+                knnQuery.getField(),
+                perLeafResults.get(i).getResult().scoreDocs
+            );
+        }
+        QueryProfiler profiler = KNNProfileUtil.getProfiler(indexSearcher);
         List<Callable<PerLeafResult>> rescoreTasks = new ArrayList<>(leafReaderContexts.size());
         for (int i = 0; i < perLeafResults.size(); i++) {
             LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
@@ -272,13 +317,47 @@ public class NativeEngineKnnVectorQuery extends Query {
                     .byteQueryVector(knnQuery.getByteQueryVector())
                     .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
                     .build();
-                TopDocs rescoreResult = knnWeight.exactSearch(leafReaderContext, exactSearcherContext);
+                TopDocs rescoreResult = (TopDocs) KNNProfileUtil.profile(
+                    profiler,
+                    this,
+                    leafReaderContext,
+                    KNNQueryTimingType.RESCORE,
+                    () -> knnWeight.exactSearch(leafReaderContext, exactSearcherContext)
+                );
+                if (profiler != null) {
+                    // Full precision vectors of all candidates are read once
+                    long bytesRead = (long) perLeafeResult.getResult().scoreDocs.length * knnQuery.getQueryVector().length * Float.BYTES;
+                    AbstractProfileBreakdown profile = ((ContextualProfileBreakdown) profiler.getProfileBreakdown(this)).context(
+                        leafReaderContext
+                    );
+                    ((LongMetric) profile.getMetric(KNNMetrics.RESCORE_BYTES_READ)).setValue(bytesRead);
+                }
                 return new PerLeafResult(perLeafeResult.getFilterBits(), rescoreResult);
             });
         }
         return indexSearcher.getTaskExecutor().invokeAll(rescoreTasks);
     }
 
+    /**
+     * Records the first pass size and the first pass depth the final results came from in the profile of each leaf.
+     */
+    private void recordRescoreMetrics(
+        final IndexSearcher indexSearcher,
+        final List<LeafReaderContext> leafReaderContexts,
+        final int firstPassK,
+        final int requiredDepth
+    ) {
+        QueryProfiler profiler = KNNProfileUtil.getProfiler(indexSearcher);
+        if (profiler == null) {
+            return;
+        }
+        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
+            AbstractProfileBreakdown profile = ((ContextualProfileBreakdown) profiler.getProfileBreakdown(this)).context(leafReaderContext);
+            ((LongMetric) profile.getMetric(KNNMetrics.FIRST_PASS_K)).setValue((long) firstPassK);
+            ((LongMetric) profile.getMetric(KNNMetrics.RESCORE_REQUIRED_DEPTH)).setValue((long) requiredDepth);
+        }
+    }
+
     private PerLeafResult searchLeaf(LeafReaderContext ctx, KNNWeight queryWeight, int k) throws IOException {
         final PerLeafResult perLeafResult = queryWeight.searchLeaf(ctx, k);
         final Bits liveDocs = ctx.reader().getLiveDocs();
@@ -0,0 +1,224 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.rescore;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardUtils;
+import org.opensearch.knn.index.query.PerLeafResult;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Learns oversample factors of disk based rescoring from observed results, per shard and field.
+ * <p>
+ * After each rescored query, the first pass rank of every document of the final top k is looked up, and the depth of the
+ * first pass ranking needed to cover the target recall of the final top k is derived. The learned factor moves towards
+ * that depth, with some headroom, so that firstPassK is the smallest one reaching the target recall. When the final top k
+ * reaches the end of the first pass, the required depth is unknown and the factor grows instead. Until a factor is
+ * learned, the default dimension based factor is used. Factors of a shard are forgotten when the shard is closed.
+ */
+public final class AdaptiveOversampler implements IndexEventListener {
+    // Weight of a new observation in the moving average of the factor
+    static final float SMOOTHING = 0.1f;
+    // Headroom over the observed required depth, covering variance across queries
+    static final float HEADROOM = 1.2f;
+    // Growth of the factor when the final top k reaches the end of the first pass
+    static final float SATURATED_GROWTH = 1.5f;
+    private static final String UNKNOWN_SHARD = "_na";
+
+    private static final AdaptiveOversampler INSTANCE = new AdaptiveOversampler();
+
+    private final Map<FieldKey, Float> oversampleFactors = new ConcurrentHashMap<>();
+
+    AdaptiveOversampler() {}
+
+    /**
+     * @return singleton instance
+     */
+    public static AdaptiveOversampler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Identifies a field of a shard.
+     *
+     * @param indexName name of the index
+     * @param shardId id of the shard
+     * @param field name of the field
+     */
+    public record FieldKey(String indexName, String shardId, String field) {
+        /**
+         * @param indexName name of the index
+         * @param reader reader of the shard
+         * @param field name of the field
+         * @return key of the field of the shard
+         */
+        public static FieldKey of(final String indexName, final IndexReader reader, final String field) {
+            final ShardId shardId = ShardUtils.extractShardId(reader);
+            return new FieldKey(indexName, shardId == null ? UNKNOWN_SHARD : Integer.toString(shardId.id()), field);
+        }
+    }
+
+    /**
+     * @param fieldKey field of a shard
+     * @param defaultOversampleFactor factor to use if none was learned yet
+     * @return learned oversample factor of the field
+     */
+    public float getOversampleFactor(final FieldKey fieldKey, final float defaultOversampleFactor) {
+        return oversampleFactors.getOrDefault(fieldKey, defaultOversampleFactor);
+    }
+
+    /**
+     * Update the factor of a field from the results of a rescored query.
+     *
+     * @param fieldKey field of a shard
+     * @param finalK number of results of the query
+     * @param firstPassK number of first pass results the query was rescored from
+     * @param requiredDepth depth of the first pass ranking needed to reach the target recall, see {@link #getRequiredDepth}
+     * @param oversampleFactor factor the query used
+     * @return the updated factor
+     */
+    public float observe(
+        final FieldKey fieldKey,
+        final int finalK,
+        final int firstPassK,
+        final int requiredDepth,
+        final float oversampleFactor
+    ) {
+        if (finalK <= 0 || requiredDepth <= 0) {
+            return getOversampleFactor(fieldKey, oversampleFactor);
+        }
+        return oversampleFactors.compute(fieldKey, (k, current) -> {
+            final float factor = current == null ? oversampleFactor : current;
+            final float updated;
+            if (requiredDepth >= firstPassK && firstPassK < RescoreContext.MAX_FIRST_PASS_RESULTS) {
+                updated = factor * SATURATED_GROWTH;
+            } else {
+                updated = factor + SMOOTHING * (HEADROOM * requiredDepth / finalK - factor);
+            }
+            return Math.min(RescoreContext.MAX_OVERSAMPLE_FACTOR, Math.max(RescoreContext.MIN_OVERSAMPLE_FACTOR, updated));
+        });
+    }
+
+    /**
+     * Compute the depth of the first pass ranking needed to cover a fraction of the rescored results. When the first pass
+     * was reduced to the top firstPassK of the shard, ranks are taken across leaves. Otherwise every leaf returned its own
+     * top firstPassK, and ranks are taken within each leaf, so that the depth compares to the per leaf firstPassK.
+     *
+     * @param firstPassResults first pass results, per leaf
+     * @param rescoredResults rescored results reduced to the final top k, per leaf in the same order
+     * @param targetRecall fraction of rescored results to cover
+     * @param perLeaf whether the first pass results of every leaf are ranked on their own
+     * @return required depth, 0 if there is no rescored result
+     */
+    public static int getRequiredDepth(
+        final List<PerLeafResult> firstPassResults,
+        final List<PerLeafResult> rescoredResults,
+        final double targetRecall,
+        final boolean perLeaf
+    ) {
+        // Rank first pass results by score, across leaves or within each leaf
+        final int numLeaves = firstPassResults.size();
+        final int[] leafStarts = new int[numLeaves + 1];
+        for (int leaf = 0; leaf < numLeaves; leaf++) {
+            leafStarts[leaf + 1] = leafStarts[leaf] + firstPassResults.get(leaf).getResult().scoreDocs.length;
+        }
+        final Candidate[] candidates = new Candidate[leafStarts[numLeaves]];
+        for (int leaf = 0; leaf < numLeaves; leaf++) {
+            final ScoreDoc[] scoreDocs = firstPassResults.get(leaf).getResult().scoreDocs;
+            for (int i = 0; i < scoreDocs.length; i++) {
+                candidates[leafStarts[leaf] + i] = new Candidate(leaf, scoreDocs[i].doc, scoreDocs[i].score);
+            }
+        }
+        final Comparator<Candidate> byScore = (a, b) -> Float.compare(b.score(), a.score());
+        Arrays.sort(candidates, perLeaf ? Comparator.comparingInt(Candidate::leaf).thenComparing(byScore) : byScore);
+
+        // Per leaf, the doc in the high half and its rank in the low half, sorted so that ranks are looked up by doc
+        final long[][] docRanks = new long[numLeaves][];
+        final int[] filled = new int[numLeaves];
+        for (int leaf = 0; leaf < numLeaves; leaf++) {
+            docRanks[leaf] = new long[leafStarts[leaf + 1] - leafStarts[leaf]];
+        }
+        for (int position = 0; position < candidates.length; position++) {
+            final Candidate candidate = candidates[position];
+            final int rank = perLeaf ? position - leafStarts[candidate.leaf()] : position;
+            docRanks[candidate.leaf()][filled[candidate.leaf()]++] = ((long) candidate.doc() << 32) | rank;
+        }
+        for (long[] leafDocRanks : docRanks) {
+            Arrays.sort(leafDocRanks);
+        }
+
+        int numRescored = 0;
+        for (PerLeafResult rescoredResult : rescoredResults) {
+            numRescored += rescoredResult.getResult().scoreDocs.length;
+        }
+        final int[] finalRanks = new int[numRescored];
+        int numRanked = 0;
+        for (int leaf = 0; leaf < rescoredResults.size() && leaf < numLeaves; leaf++) {
+            for (ScoreDoc scoreDoc : rescoredResults.get(leaf).getResult().scoreDocs) {
+                final int rank = getRank(docRanks[leaf], scoreDoc.doc);
+                if (rank >= 0) {
+                    finalRanks[numRanked++] = rank;
+                }
+            }
+        }
+        if (numRanked == 0) {
+            return 0;
+        }
+        Arrays.sort(finalRanks, 0, numRanked);
+        final int covered = Math.max(1, (int) Math.ceil(targetRecall * numRanked));
+        return finalRanks[Math.min(covered, numRanked) - 1] + 1;
+    }
+
+    /**
+     * @return learned oversample factors per index, then per shard, then per field
+     */
+    public Map<String, Map<String, Map<String, Float>>> getOversampleFactors() {
+        final Map<String, Map<String, Map<String, Float>>> factors = new HashMap<>();
+        oversampleFactors.forEach(
+            (fieldKey, factor) -> factors.computeIfAbsent(fieldKey.indexName(), k -> new HashMap<>())
+                .computeIfAbsent(fieldKey.shardId(), k -> new HashMap<>())
+                .put(fieldKey.field(), factor)
+        );
+        return factors;
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        final String id = Integer.toString(shardId.id());
+        oversampleFactors.keySet()
+            .removeIf(fieldKey -> fieldKey.indexName().equals(shardId.getIndexName()) && fieldKey.shardId().equals(id));
+    }
+
+    /**
+     * @return the best rank of the doc, or -1 if it is not in the sorted doc ranks of the leaf
+     */
+    private static int getRank(final long[] leafDocRanks, final int doc) {
+        // The first entry not below the doc with rank 0 is the doc with its best rank, if the doc is present
+        int index = Arrays.binarySearch(leafDocRanks, (long) doc << 32);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (index == leafDocRanks.length || (int) (leafDocRanks[index] >>> 32) != doc) {
+            return -1;
+        }
+        return (int) leafDocRanks[index];
+    }
+
+    private record Candidate(int leaf, int doc, float score) {
+    }
+}
@@ -84,16 +84,38 @@ public final class RescoreContext {
         // 2. The oversample factor was not provided by the user
         if (isShardLevelRescoringDisabled && !userProvided) {
             // Apply new dimension-based oversampling logic when shard-level rescoring is disabled
-            if (dimension >= DIMENSION_THRESHOLD_1000) {
-                oversampleFactor = OVERSAMPLE_FACTOR_1000;  // No oversampling for dimensions >= 1000
-            } else if (dimension >= DIMENSION_THRESHOLD_768) {
-                oversampleFactor = OVERSAMPLE_FACTOR_768;   // 2x oversampling for dimensions >= 768 and < 1000
-            } else {
-                oversampleFactor = OVERSAMPLE_FACTOR_BELOW_768;  // 3x oversampling for dimensions < 768
-            }
+            oversampleFactor = getDimensionBasedOversampleFactor(dimension);
         }
         // The calculation for firstPassK remains the same, applying the oversample factor
         return Math.min(MAX_FIRST_PASS_RESULTS, Math.max(MIN_FIRST_PASS_RESULTS, (int) Math.ceil(finalK * oversampleFactor)));
     }
 
+    /**
+     * Returns the default oversample factor for a vector dimension.
+     *
+     * @param dimension The dimension of the vector.
+     * @return The oversample factor.
+     */
+    public static float getDimensionBasedOversampleFactor(int dimension) {
+        if (dimension >= DIMENSION_THRESHOLD_1000) {
+            return OVERSAMPLE_FACTOR_1000;  // No oversampling for dimensions >= 1000
+        } else if (dimension >= DIMENSION_THRESHOLD_768) {
+            return OVERSAMPLE_FACTOR_768;   // 2x oversampling for dimensions >= 768 and < 1000
+        }
+        return OVERSAMPLE_FACTOR_BELOW_768;  // 3x oversampling for dimensions < 768
+    }
+
+    /**
+     * Calculates firstPassK from an oversample factor learned by {@link AdaptiveOversampler}. Unlike
+     * {@link #getFirstPassK(int, boolean, int)}, it is not raised to MIN_FIRST_PASS_RESULTS, since the learned factor
+     * already is the smallest one reaching the target recall of the field.
+     *
+     * @param finalK The final number of results to return for the entire shard.
+     * @param oversampleFactor The learned oversample factor.
+     * @return The number of results to return for the first pass of rescoring.
+     */
+    public static int getAdaptiveFirstPassK(int finalK, float oversampleFactor) {
+        return Math.min(MAX_FIRST_PASS_RESULTS, Math.max(finalK, (int) Math.ceil(finalK * oversampleFactor)));
+    }
+
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.rescore;
+
+import org.apache.lucene.codecs.lucene95.HasIndexSlice;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.IndexInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Issues read ahead hints for the full precision vectors of rescoring candidates.
+ * <p>
+ * Rescoring reads the vector of each candidate one at a time, which are random reads into the flat vectors file. Hinting
+ * all of them before scoring lets the directory load them concurrently, for instance with madvise(WILLNEED) on memory
+ * mapped files, so that scoring a candidate does not wait on its own read. Hints are only issued for vector values backed
+ * by an {@link IndexInput}, and are a no-op for directories without prefetch support.
+ */
+public final class RescoreVectorPrefetcher {
+
+    private RescoreVectorPrefetcher() {}
+
+    /**
+     * Prefetch vectors of candidates of a segment. Vectors of consecutive ordinals are hinted as a single range.
+     *
+     * @param leafReader reader of the segment
+     * @param field name of the vector field
+     * @param scoreDocs candidates of the segment, in any order
+     * @return number of hinted ranges
+     * @throws IOException if vector values cannot be read
+     */
+    public static int prefetch(final LeafReader leafReader, final String field, final ScoreDoc[] scoreDocs) throws IOException {
+        if (scoreDocs.length == 0) {
+            return 0;
+        }
+        final FieldInfo fieldInfo = leafReader.getFieldInfos().fieldInfo(field);
+        if (fieldInfo == null || fieldInfo.hasVectorValues() == false || fieldInfo.getVectorEncoding() != VectorEncoding.FLOAT32) {
+            return 0;
+        }
+        final FloatVectorValues floatVectorValues = leafReader.getFloatVectorValues(field);
+        if ((floatVectorValues instanceof HasIndexSlice) == false) {
+            return 0;
+        }
+        final IndexInput slice = ((HasIndexSlice) floatVectorValues).getSlice();
+        if (slice == null) {
+            return 0;
+        }
+
+        final int[] docIds = new int[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            docIds[i] = scoreDocs[i].doc;
+        }
+        Arrays.sort(docIds);
+
+        final long vectorByteSize = (long) floatVectorValues.dimension() * Float.BYTES;
+        final KnnVectorValues.DocIndexIterator iterator = floatVectorValues.iterator();
+        int numRanges = 0;
+        long rangeStart = -1;
+        long rangeEnd = -1;
+        int lastDocId = -1;
+        for (final int docId : docIds) {
+            if (docId == lastDocId) {
+                continue;
+            }
+            lastDocId = docId;
+            int currentDocId = iterator.docID();
+            if (currentDocId < docId) {
+                currentDocId = iterator.advance(docId);
+            }
+            if (currentDocId == DocIdSetIterator.NO_MORE_DOCS) {
+                break;
+            }
+            if (currentDocId != docId) {
+                continue;
+            }
+            final long offset = iterator.index() * vectorByteSize;
+            if (offset == rangeEnd) {
+                rangeEnd += vectorByteSize;
+                continue;
+            }
+            if (rangeStart >= 0) {
+                slice.prefetch(rangeStart, rangeEnd - rangeStart);
+                numRanges++;
+            }
+            rangeStart = offset;
+            rangeEnd = offset + vectorByteSize;
+        }
+        if (rangeStart >= 0) {
+            slice.prefetch(rangeStart, rangeEnd - rangeStart);
+            numRanges++;
+        }
+        return numRanges;
+    }
+}
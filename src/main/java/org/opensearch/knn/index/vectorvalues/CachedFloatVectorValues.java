@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.vectorvalues;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.VectorScorer;
+import org.apache.lucene.util.Bits;
+
+import java.io.IOException;
+
+/**
+ * {@link FloatVectorValues} of a segment whose vectors are read through the {@link FlatVectorCache}. Everything but vectors,
+ * including iteration and ord to doc mapping, is delegated to the underlying values.
+ */
+@Getter(AccessLevel.PACKAGE)
+final class CachedFloatVectorValues extends FloatVectorValues {
+    private final FloatVectorValues delegate;
+    private final FlatVectorCache flatVectorCache;
+    private final IndexReader.CacheKey segmentKey;
+    private final String field;
+    private final int ordsPerBlock;
+    @Getter(AccessLevel.NONE)
+    private final float[] vector;
+
+    CachedFloatVectorValues(
+        final FloatVectorValues delegate,
+        final FlatVectorCache flatVectorCache,
+        final IndexReader.CacheKey segmentKey,
+        final String field
+    ) {
+        this.delegate = delegate;
+        this.flatVectorCache = flatVectorCache;
+        this.segmentKey = segmentKey;
+        this.field = field;
+        this.ordsPerBlock = FlatVectorCache.ordsPerBlock(delegate.dimension());
+        this.vector = new float[delegate.dimension()];
+    }
+
+    @Override
+    public float[] vectorValue(int ord) throws IOException {
+        return flatVectorCache.vectorValue(this, ord, vector);
+    }
+
+    @Override
+    public FloatVectorValues copy() throws IOException {
+        return new CachedFloatVectorValues(delegate.copy(), flatVectorCache, segmentKey, field);
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int ordToDoc(int ord) {
+        return delegate.ordToDoc(ord);
+    }
+
+    @Override
+    public Bits getAcceptOrds(Bits acceptDocs) {
+        return delegate.getAcceptOrds(acceptDocs);
+    }
+
+    @Override
+    public DocIndexIterator iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public VectorScorer scorer(float[] target) throws IOException {
+        return delegate.scorer(target);
+    }
+}
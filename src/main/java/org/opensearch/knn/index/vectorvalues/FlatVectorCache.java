@@ -0,0 +1,465 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.vectorvalues;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.jni.JNICommons;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.opensearch.knn.index.KNNSettings.KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT;
+
+/**
+ * A node level, size bounded cache of full precision float vectors, shared by exact search and rescoring.
+ * <p>
+ * Vectors are cached off heap in blocks of consecutive ordinals of a field of a segment, so that a block is read from the
+ * index once and then served to every query that scores one of its vectors. Blocks are weighed by their size in bytes and
+ * evicted once the size limit set by {@link KNNSettings#KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT} is reached. Blocks of a segment
+ * are invalidated when the segment is closed.
+ * <p>
+ * Blocks are allocated in native memory, outside of the direct memory of the JVM, and freed as soon as they are evicted
+ * and no reader copies from them anymore. Allocated blocks are reserved against the native memory limit of k-NN in the
+ * {@link NativeMemoryCacheManager}, next to the graphs, and are reclaimed when a graph needs their room. A block that does
+ * not fit or cannot be allocated is read from the index instead.
+ * <p>
+ * Since exact search may scan a whole segment once, a block missing from a full cache is only admitted after it was
+ * requested again recently, and is otherwise read directly from the index. This only filters out one time requests: unlike
+ * TinyLFU, the frequency of a candidate is not compared with the frequency of the block it would evict.
+ * <p>
+ * The cache is disabled when its size limit is 0, which is the default.
+ */
+@Log4j2
+public final class FlatVectorCache {
+    @VisibleForTesting
+    static final int BLOCK_SIZE_IN_BYTES = 16 * 1024;
+    // Number of recent requests of a block after which it is admitted into a full cache.
+    private static final int ADMISSION_FREQUENCY = 2;
+
+    private static volatile FlatVectorCache instance;
+
+    private final BlockAllocator blockAllocator;
+    private volatile Blocks blocks;
+    @Getter
+    private volatile long maxSizeInBytes;
+    private final Set<IndexReader.CacheKey> registeredSegments = ConcurrentHashMap.newKeySet();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @VisibleForTesting
+    FlatVectorCache(final long maxSizeInBytes, final BlockAllocator blockAllocator) {
+        this.blockAllocator = blockAllocator;
+        rebuild(maxSizeInBytes);
+    }
+
+    /**
+     * Gets the singleton instance of the cache.
+     *
+     * @return FlatVectorCache
+     */
+    public static FlatVectorCache getInstance() {
+        if (instance == null) {
+            synchronized (FlatVectorCache.class) {
+                if (instance == null) {
+                    final ByteSizeValue maxSize = KNNSettings.state().getSettingValue(KNN_FLAT_VECTOR_CACHE_SIZE_LIMIT);
+                    instance = new FlatVectorCache(maxSize.getBytes(), BlockAllocator.NATIVE);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Drop all cached blocks and apply a new size limit.
+     *
+     * @param maxSizeInBytes size limit of the cache, 0 to disable it
+     */
+    public synchronized void rebuild(final long maxSizeInBytes) {
+        final Blocks current = blocks;
+        if (current != null) {
+            current.cache.invalidateAll();
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.blocks = maxSizeInBytes > 0 ? new Blocks(maxSizeInBytes, blockAllocator) : null;
+        log.info("[KNN] Flat vector cache rebuilt with size limit of {} bytes", maxSizeInBytes);
+    }
+
+    /**
+     * Evict cached blocks until the given number of bytes was released, so that native memory can be used by graphs
+     * instead. Blocks still read are freed once their readers are done.
+     *
+     * @param sizeInBytes number of bytes to release
+     */
+    public void reclaim(final long sizeInBytes) {
+        final Blocks current = blocks;
+        if (current == null) {
+            return;
+        }
+        long released = 0;
+        final Iterator<Map.Entry<BlockKey, Blocks.Block>> iterator = current.cache.asMap().entrySet().iterator();
+        while (released < sizeInBytes && iterator.hasNext()) {
+            released += iterator.next().getValue().sizeInBytes;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @return true if vectors are cached
+     */
+    public boolean isEnabled() {
+        return blocks != null;
+    }
+
+    /**
+     * Wrap float vector values of a segment so that their vectors are read through this cache. Values are returned as is
+     * if the cache is disabled or the reader cannot be identified.
+     *
+     * @param leafReader reader of the segment
+     * @param field name of the field
+     * @param floatVectorValues vector values of the field, can be null
+     * @return vector values reading through this cache
+     */
+    public FloatVectorValues wrap(final LeafReader leafReader, final String field, final FloatVectorValues floatVectorValues) {
+        if (floatVectorValues == null || isEnabled() == false) {
+            return floatVectorValues;
+        }
+        final IndexReader.CacheHelper cacheHelper = leafReader.getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return floatVectorValues;
+        }
+        final IndexReader.CacheKey segmentKey = cacheHelper.getKey();
+        if (registeredSegments.add(segmentKey)) {
+            cacheHelper.addClosedListener(this::onSegmentClosed);
+        }
+        return new CachedFloatVectorValues(floatVectorValues, this, segmentKey, field);
+    }
+
+    /**
+     * @param dimension dimension of vectors
+     * @return number of vectors per block
+     */
+    static int ordsPerBlock(final int dimension) {
+        return Math.max(1, BLOCK_SIZE_IN_BYTES / (dimension * Float.BYTES));
+    }
+
+    /**
+     * Read a vector through the cache.
+     *
+     * @param values values the vector belongs to
+     * @param ord ordinal of the vector
+     * @param vector buffer to copy a cached vector into
+     * @return the vector, either the given buffer or the vector returned by the underlying values
+     * @throws IOException if the vector cannot be read
+     */
+    float[] vectorValue(final CachedFloatVectorValues values, final int ord, final float[] vector) throws IOException {
+        final Blocks current = blocks;
+        if (current == null) {
+            return values.getDelegate().vectorValue(ord);
+        }
+        final int ordsPerBlock = values.getOrdsPerBlock();
+        final int block = ord / ordsPerBlock;
+        final int offset = (ord - block * ordsPerBlock) * vector.length;
+        final BlockKey key = new BlockKey(values.getSegmentKey(), values.getField(), block);
+        final Blocks.Block cached = current.acquire(key);
+        if (cached != null) {
+            hitCount.increment();
+            try {
+                cached.floats.get(offset, vector);
+            } finally {
+                cached.release();
+            }
+            return vector;
+        }
+        missCount.increment();
+        if (current.admit(key, (long) ordsPerBlock * vector.length * Float.BYTES) == false) {
+            return values.getDelegate().vectorValue(ord);
+        }
+        final Blocks.Block loaded = current.load(values.getDelegate(), block, ordsPerBlock);
+        if (loaded == null) {
+            return values.getDelegate().vectorValue(ord);
+        }
+        // The block is not shared before it is published, so it cannot be freed while copying from it
+        loaded.floats.get(offset, vector);
+        current.publish(key, loaded);
+        return vector;
+    }
+
+    /**
+     * @return size of cached blocks in kilobytes
+     */
+    public long getSizeInKilobytes() {
+        final Blocks current = blocks;
+        return current == null ? 0 : current.sizeInBytes.get() / 1024;
+    }
+
+    /**
+     * @return number of vectors read from the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of vectors missing from the cache
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return ratio of vectors read from the cache, 0 if no vector was read
+     */
+    public double getHitRatio() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private void onSegmentClosed(final IndexReader.CacheKey segmentKey) {
+        registeredSegments.remove(segmentKey);
+        final Blocks current = blocks;
+        if (current != null) {
+            current.cache.asMap().keySet().removeIf(key -> key.segmentKey() == segmentKey);
+        }
+    }
+
+    private record BlockKey(IndexReader.CacheKey segmentKey, String field, int block) {
+    }
+
+    /**
+     * Allocates the native memory of blocks.
+     */
+    interface BlockAllocator {
+        /**
+         * Allocates blocks with JNI, once reserved against the native memory limit of k-NN.
+         */
+        BlockAllocator NATIVE = new BlockAllocator() {
+            @Override
+            public ByteBuffer allocate(long sizeInBytes) {
+                final NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+                if (nativeMemoryCacheManager.tryReserve(sizeInBytes) == false) {
+                    return null;
+                }
+                try {
+                    return JNICommons.allocateDirectBuffer(sizeInBytes);
+                } catch (Exception | OutOfMemoryError e) {
+                    nativeMemoryCacheManager.release(sizeInBytes);
+                    throw e;
+                }
+            }
+
+            @Override
+            public void free(ByteBuffer buffer) {
+                final long sizeInBytes = buffer.capacity();
+                JNICommons.freeDirectBuffer(buffer);
+                NativeMemoryCacheManager.getInstance().release(sizeInBytes);
+            }
+        };
+
+        /**
+         * @param sizeInBytes size of the block
+         * @return the block, or null if there is no room for it
+         */
+        ByteBuffer allocate(long sizeInBytes);
+
+        void free(ByteBuffer buffer);
+    }
+
+    /**
+     * Blocks cached under a size limit. Replaced as a whole when the cache is rebuilt, so that in flight loads into a
+     * previous cache do not account for the current one.
+     */
+    private static final class Blocks {
+        private final Cache<BlockKey, Block> cache;
+        private final FrequencySketch sketch;
+        private final AtomicLong sizeInBytes = new AtomicLong();
+        private final long maxSizeInBytes;
+        private final BlockAllocator blockAllocator;
+
+        private Blocks(final long maxSizeInBytes, final BlockAllocator blockAllocator) {
+            this.maxSizeInBytes = maxSizeInBytes;
+            this.blockAllocator = blockAllocator;
+            // A single segment, so that the size limit applies to the whole cache rather than being split across segments.
+            this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maxSizeInBytes)
+                .weigher((BlockKey k, Block v) -> (int) v.sizeInBytes)
+                .removalListener(this::onRemoval)
+                .build();
+            this.sketch = new FrequencySketch(maxSizeInBytes / BLOCK_SIZE_IN_BYTES);
+        }
+
+        private boolean admit(final BlockKey key, final long blockSizeInBytes) {
+            final int frequency = sketch.increment(key.hashCode());
+            return frequency >= ADMISSION_FREQUENCY || sizeInBytes.get() + blockSizeInBytes <= maxSizeInBytes;
+        }
+
+        /**
+         * @return the cached block, acquired so that it is not freed until it is released, or null if it is not cached
+         */
+        private Block acquire(final BlockKey key) {
+            final Block block = cache.getIfPresent(key);
+            return block != null && block.tryAcquire() ? block : null;
+        }
+
+        /**
+         * Read a block from the index into native memory.
+         *
+         * @return the block, owned by the caller, or null if there is no room for it or it cannot be allocated
+         */
+        private Block load(final FloatVectorValues floatVectorValues, final int block, final int ordsPerBlock) throws IOException {
+            final int dimension = floatVectorValues.dimension();
+            final int startOrd = block * ordsPerBlock;
+            final int endOrd = Math.min(floatVectorValues.size(), startOrd + ordsPerBlock);
+            final long blockSizeInBytes = (long) (endOrd - startOrd) * dimension * Float.BYTES;
+            final ByteBuffer buffer;
+            try {
+                buffer = blockAllocator.allocate(blockSizeInBytes);
+            } catch (Exception | OutOfMemoryError e) {
+                log.warn("[KNN] Unable to allocate flat vector cache block of {} bytes", blockSizeInBytes, e);
+                return null;
+            }
+            if (buffer == null) {
+                log.debug("[KNN] No room in native memory for flat vector cache block of {} bytes", blockSizeInBytes);
+                return null;
+            }
+            final Block loaded = new Block(buffer, blockSizeInBytes);
+            boolean success = false;
+            try {
+                for (int ord = startOrd; ord < endOrd; ord++) {
+                    loaded.floats.put((ord - startOrd) * dimension, floatVectorValues.vectorValue(ord));
+                }
+                success = true;
+                return loaded;
+            } finally {
+                if (success == false) {
+                    loaded.release();
+                }
+            }
+        }
+
+        /**
+         * Hand a loaded block over to the cache, or free it if another thread cached the same block first.
+         */
+        private void publish(final BlockKey key, final Block loaded) {
+            sizeInBytes.addAndGet(loaded.sizeInBytes);
+            if (cache.asMap().putIfAbsent(key, loaded) != null) {
+                sizeInBytes.addAndGet(-loaded.sizeInBytes);
+                loaded.release();
+            }
+        }
+
+        private void onRemoval(final RemovalNotification<BlockKey, Block> removalNotification) {
+            final Block block = removalNotification.getValue();
+            sizeInBytes.addAndGet(-block.sizeInBytes);
+            // Readers still copying from the block hold a reference, the last one frees it
+            block.release();
+        }
+
+        /**
+         * Block of vectors in native memory, freed once released by the cache and every reader. The cache holds a reference
+         * from the time the block is published until it is removed.
+         */
+        private final class Block {
+            private final ByteBuffer buffer;
+            private final FloatBuffer floats;
+            private final long sizeInBytes;
+            private final AtomicInteger references = new AtomicInteger(1);
+
+            private Block(final ByteBuffer buffer, final long sizeInBytes) {
+                this.buffer = buffer;
+                this.floats = buffer.order(ByteOrder.nativeOrder()).asFloatBuffer();
+                this.sizeInBytes = sizeInBytes;
+            }
+
+            private boolean tryAcquire() {
+                int count;
+                do {
+                    count = references.get();
+                    if (count <= 0) {
+                        return false;
+                    }
+                } while (references.compareAndSet(count, count + 1) == false);
+                return true;
+            }
+
+            private void release() {
+                if (references.decrementAndGet() == 0) {
+                    blockAllocator.free(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Approximate recent request frequency of blocks, as a count-min sketch of 4 bit counters. Counters are halved
+     * periodically so that frequencies decay. Updates are not synchronized, as the sketch only has to be approximate.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_FREQUENCY = 15;
+        private static final int[] SEEDS = { 0x97CB3127, 0xC2B2AE35, 0x85EBCA6B, 0x27D4EB2F };
+
+        private final byte[] counters;
+        private final int width;
+        private final int sampleSize;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        private FrequencySketch(final long expectedBlocks) {
+            final int entries = (int) Math.min(Math.max(expectedBlocks, 64), 1 << 22);
+            this.width = Integer.highestOneBit(entries - 1) << 1;
+            this.counters = new byte[DEPTH * width];
+            this.sampleSize = 10 * width;
+        }
+
+        /**
+         * Count a request of a block.
+         *
+         * @param hash hash of the block
+         * @return estimated number of recent requests, including this one
+         */
+        private int increment(final int hash) {
+            int frequency = MAX_FREQUENCY;
+            for (int i = 0; i < DEPTH; i++) {
+                int h = hash * SEEDS[i];
+                h ^= h >>> 17;
+                final int index = i * width + (h & (width - 1));
+                int count = counters[index];
+                if (count < MAX_FREQUENCY) {
+                    counters[index] = (byte) ++count;
+                }
+                frequency = Math.min(frequency, count);
+            }
+            if (additions.incrementAndGet() == sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions.addAndGet(-sampleSize);
+            }
+            return frequency;
+        }
+    }
+}
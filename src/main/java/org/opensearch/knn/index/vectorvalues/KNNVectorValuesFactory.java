@@ -96,7 +96,8 @@ public final class KNNVectorValuesFactory {
     }
 
     /**
-     * Returns a {@link KNNVectorValues} for the given {@link FieldInfo} and {@link LeafReader}
+     * Returns a {@link KNNVectorValues} for the given {@link FieldInfo} and {@link LeafReader}. Float vectors are read
+     * through the {@link FlatVectorCache} when it is enabled.
      *
      * @param fieldInfo {@link FieldInfo}
      * @param leafReader {@link LeafReader}
@@ -115,9 +116,11 @@ public final class KNNVectorValuesFactory {
                 new KNNVectorValuesIterator.DocIdsIteratorValues(leafReader.getByteVectorValues(fieldInfo.getName()))
             );
         } else if (fieldInfo.getVectorEncoding() == VectorEncoding.FLOAT32) {
+            final FloatVectorValues floatVectorValues = FlatVectorCache.getInstance()
+                .wrap(leafReader, fieldInfo.getName(), leafReader.getFloatVectorValues(fieldInfo.getName()));
             return getVectorValues(
                 FieldInfoExtractor.extractVectorDataType(fieldInfo),
-                new KNNVectorValuesIterator.DocIdsIteratorValues(leafReader.getFloatVectorValues(fieldInfo.getName()))
+                new KNNVectorValuesIterator.DocIdsIteratorValues(floatVectorValues)
             );
         } else {
             throw new IllegalArgumentException("Invalid Vector encoding provided, hence cannot return VectorValues");
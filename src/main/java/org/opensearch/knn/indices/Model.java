@@ -20,6 +20,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.knn.common.KNNConstants;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +34,8 @@ public class Model implements Writeable, ToXContentObject {
     private String modelID;
     private ModelMetadata modelMetadata;
     private AtomicReference<byte[]> modelBlob;
+    // Set instead of the blob when the blob is assembled into a file of the node
+    private final ModelBlobFile modelBlobFile;
 
     /**
      * Constructor
@@ -51,6 +54,21 @@ public class Model implements Writeable, ToXContentObject {
         }
 
         this.modelBlob = new AtomicReference<>(modelBlob);
+        this.modelBlobFile = null;
+        this.modelID = Objects.requireNonNull(modelID, "model id must not be null");
+    }
+
+    /**
+     * Constructor for a model whose blob is assembled into a file of the node, see {@link ModelBlobFile}.
+     *
+     * @param modelMetadata metadata about the model
+     * @param modelBlobFile file holding the binary representation of model template index
+     * @param modelID model identifier
+     */
+    Model(ModelMetadata modelMetadata, ModelBlobFile modelBlobFile, String modelID) {
+        this.modelMetadata = Objects.requireNonNull(modelMetadata, "modelMetadata must not be null");
+        this.modelBlob = new AtomicReference<>();
+        this.modelBlobFile = Objects.requireNonNull(modelBlobFile, "model blob file must not be null");
         this.modelID = Objects.requireNonNull(modelID, "model id must not be null");
     }
 
@@ -66,6 +84,7 @@ public class Model implements Writeable, ToXContentObject {
     public Model(StreamInput in) throws IOException {
         this.modelMetadata = new ModelMetadata(in);
         this.modelBlob = new AtomicReference<>(readOptionalModelBlob(in));
+        this.modelBlobFile = null;
         this.modelID = in.readString();
     }
 
@@ -88,12 +107,22 @@ public class Model implements Writeable, ToXContentObject {
     }
 
     /**
-     * getter for model's binary blob
+     * getter for model's binary blob. A blob assembled into a file is read from the file on every call, so that it is not
+     * held on heap. Callers should read it once per use. Returns null when the file was deleted because the model was
+     * evicted from the {@link ModelCache}; get the model from the cache again in that case.
      *
      * @return modelBlob
      */
     public byte[] getModelBlob() {
-        return modelBlob.get();
+        final byte[] blob = modelBlob.get();
+        if (blob != null || modelBlobFile == null) {
+            return blob;
+        }
+        try {
+            return modelBlobFile.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read model blob of \"" + modelID + "\"", e);
+        }
     }
 
     /**
@@ -102,10 +131,20 @@ public class Model implements Writeable, ToXContentObject {
      * @return length of model blob
      */
     public int getLength() {
-        if (getModelBlob() == null) {
-            return 0;
+        if (modelBlobFile != null && modelBlob.get() == null) {
+            return modelBlobFile.getLength();
+        }
+        final byte[] blob = getModelBlob();
+        return blob == null ? 0 : blob.length;
+    }
+
+    /**
+     * Delete the file of the model blob, if any, once the model is not cached anymore.
+     */
+    void deleteModelBlobFile() {
+        if (modelBlobFile != null) {
+            modelBlobFile.delete();
         }
-        return getModelBlob().length;
     }
 
     /**
@@ -137,19 +176,43 @@ public class Model implements Writeable, ToXContentObject {
      * @return model instance
      */
     public static Model getModelFromSourceMap(Map<String, Object> sourceMap) {
+        return getModelFromSourceMap(sourceMap, getModelBlobFromResponse(sourceMap));
+    }
+
+    /**
+     *  Parse source map content into {@link Model} instance, with a model blob that was not stored inline.
+     *
+     * @param sourceMap source contents
+     * @param modelBlob binary representation of model template index
+     * @return model instance
+     */
+    public static Model getModelFromSourceMap(Map<String, Object> sourceMap, @Nullable byte[] modelBlob) {
+        String modelID = getModelIDFromResponse(sourceMap);
+        ModelMetadata modelMetadata = ModelMetadata.getMetadataFromSourceMap(sourceMap);
+        return new Model(modelMetadata, modelBlob, modelID);
+    }
+
+    /**
+     *  Parse source map content into {@link Model} instance, with a model blob assembled into a file of the node.
+     *
+     * @param sourceMap source contents
+     * @param modelBlobFile file holding the binary representation of model template index
+     * @return model instance
+     */
+    static Model getModelFromSourceMapWithBlobFile(Map<String, Object> sourceMap, ModelBlobFile modelBlobFile) {
         String modelID = getModelIDFromResponse(sourceMap);
         ModelMetadata modelMetadata = ModelMetadata.getMetadataFromSourceMap(sourceMap);
-        byte[] blob = getModelBlobFromResponse(sourceMap);
-        return new Model(modelMetadata, blob, modelID);
+        return new Model(modelMetadata, modelBlobFile, modelID);
     }
 
     private void writeOptionalModelBlob(StreamOutput output) throws IOException {
-        if (getModelBlob() == null) {
+        final byte[] blob = getModelBlob();
+        if (blob == null) {
             output.writeBoolean(false);
             return;
         }
         output.writeBoolean(true);
-        output.writeByteArray(getModelBlob());
+        output.writeByteArray(blob);
     }
 
     /**
@@ -187,8 +250,9 @@ public class Model implements Writeable, ToXContentObject {
         XContentBuilder xContentBuilder = builder.startObject();
         builder.field(MODEL_ID, modelID);
         String base64Model = "";
-        if (getModelBlob() != null) {
-            base64Model = Base64.getEncoder().encodeToString(getModelBlob());
+        final byte[] blob = getModelBlob();
+        if (blob != null) {
+            base64Model = Base64.getEncoder().encodeToString(blob);
         }
         builder.field(MODEL_BLOB_PARAMETER, base64Model);
         getModelMetadata().toXContent(builder, params);
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.indices;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+
+import static org.opensearch.knn.common.KNNConstants.MODEL_BLOB_CHUNK_OF;
+import static org.opensearch.knn.common.KNNConstants.MODEL_BLOB_PARAMETER;
+
+/**
+ * Splits large model blobs into chunk documents of the model system index, and assembles them back.
+ * <p>
+ * A model blob larger than {@link #CHUNK_SIZE_IN_BYTES} is not stored inline in the model document. The model document
+ * only records the number of chunks and the blob length, and each chunk is stored in its own document with id
+ * {@link #chunkId}. Chunk documents are CBOR, so that chunks are stored as raw bytes rather than Base64 strings. Reading a
+ * model then parses one small source per chunk and hands it to a {@link Sink}, instead of parsing a single huge source
+ * into a map and decoding a full size Base64 string.
+ */
+final class ModelBlobChunks {
+    static final int CHUNK_SIZE_IN_BYTES = 1024 * 1024;
+    private static final String CHUNK_ID_SEPARATOR = "#chunk-";
+
+    private ModelBlobChunks() {}
+
+    /**
+     * Destination of the chunks of a model blob being read.
+     */
+    interface Sink {
+        /**
+         * @param offset offset of the chunk in the blob
+         * @param chunk bytes of the chunk
+         * @throws IOException if the chunk cannot be written
+         */
+        void write(long offset, byte[] chunk) throws IOException;
+    }
+
+    /**
+     * @param modelBlob blob of the model, can be null
+     * @return true if the blob is stored as chunks
+     */
+    static boolean isChunked(final byte[] modelBlob) {
+        return modelBlob != null && modelBlob.length > CHUNK_SIZE_IN_BYTES;
+    }
+
+    /**
+     * @param blobLength length of the model blob
+     * @return number of chunks the blob is split into
+     */
+    static int numChunks(final int blobLength) {
+        return (int) ((blobLength + (long) CHUNK_SIZE_IN_BYTES - 1) / CHUNK_SIZE_IN_BYTES);
+    }
+
+    /**
+     * @param modelId id of the model
+     * @param chunk chunk number
+     * @return document id of the chunk
+     */
+    static String chunkId(final String modelId, final int chunk) {
+        return modelId + CHUNK_ID_SEPARATOR + chunk;
+    }
+
+    /**
+     * @param chunk chunk number
+     * @return offset of the chunk in the blob
+     */
+    static long chunkOffset(final int chunk) {
+        return (long) chunk * CHUNK_SIZE_IN_BYTES;
+    }
+
+    /**
+     * Build the CBOR source of a chunk document. The chunk is written as raw binary without copying it out of the blob.
+     *
+     * @param modelId id of the model
+     * @param modelBlob blob of the model
+     * @param chunk chunk number
+     * @return source of the chunk document
+     * @throws IOException if the source cannot be built
+     */
+    static XContentBuilder chunkSource(final String modelId, final byte[] modelBlob, final int chunk) throws IOException {
+        final int offset = chunk * CHUNK_SIZE_IN_BYTES;
+        final int length = Math.min(CHUNK_SIZE_IN_BYTES, modelBlob.length - offset);
+        return XContentFactory.cborBuilder()
+            .startObject()
+            .field(MODEL_BLOB_CHUNK_OF, modelId)
+            .field(MODEL_BLOB_PARAMETER, modelBlob, offset, length)
+            .endObject();
+    }
+
+    /**
+     * Decode a chunk document into a sink. The source is streamed, and only the chunk field is materialized. Chunks
+     * written as JSON are still read.
+     *
+     * @param source source of the chunk document
+     * @param chunk chunk number
+     * @param blobLength length of the model blob
+     * @param sink destination of the chunk
+     * @throws IOException if the source cannot be parsed or the chunk cannot be written
+     */
+    static void readChunk(final BytesReference source, final int chunk, final int blobLength, final Sink sink) throws IOException {
+        final MediaType mediaType = MediaTypeRegistry.xContentType(source);
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                mediaType == null ? MediaTypeRegistry.JSON : mediaType
+            )
+        ) {
+            parser.nextToken();
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if (MODEL_BLOB_PARAMETER.equals(fieldName)) {
+                    final byte[] bytes = parser.binaryValue();
+                    if (chunkOffset(chunk) + bytes.length > blobLength) {
+                        throw new IllegalStateException(
+                            "Chunk [" + chunk + "] of size [" + bytes.length + "] overflows model blob of size [" + blobLength + "]"
+                        );
+                    }
+                    sink.write(chunkOffset(chunk), bytes);
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalStateException("Chunk [" + chunk + "] does not have a model blob");
+    }
+}
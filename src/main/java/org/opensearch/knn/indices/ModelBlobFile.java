@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.indices;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Model blob assembled into a file of the node, so that the {@link ModelCache} does not hold large blobs on heap. Chunks
+ * of the blob are written into the file as they are read from the model system index, and the blob is read back from
+ * the file whenever it is needed.
+ * <p>
+ * Files are created in a directory of the node temporary directory, which is emptied when the node starts.
+ */
+@Log4j2
+final class ModelBlobFile implements ModelBlobChunks.Sink {
+    static final String DIRECTORY_NAME = "knn-model-blobs";
+
+    private static volatile Path directory;
+
+    private final Path path;
+    @Getter
+    private final int length;
+    private final FileChannel channel;
+
+    private ModelBlobFile(final Path path, final int length) throws IOException {
+        this.path = path;
+        this.length = length;
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Set the directory of model blob files, dropping files left by a previous run of the node.
+     *
+     * @param tmpDir temporary directory of the node
+     * @throws IOException if the directory cannot be created or emptied
+     */
+    static void initialize(final Path tmpDir) throws IOException {
+        final Path modelBlobDirectory = tmpDir.resolve(DIRECTORY_NAME);
+        if (Files.exists(modelBlobDirectory)) {
+            IOUtils.rm(modelBlobDirectory);
+        }
+        Files.createDirectories(modelBlobDirectory);
+        directory = modelBlobDirectory;
+    }
+
+    /**
+     * @return true if model blobs can be assembled into files
+     */
+    static boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Create an empty file for a model blob, to be filled with {@link #write} and completed with {@link #complete}.
+     *
+     * @param length length of the model blob
+     * @return file of the model blob
+     * @throws IOException if the file cannot be created
+     */
+    static ModelBlobFile create(final int length) throws IOException {
+        final Path modelBlobDirectory = directory;
+        if (modelBlobDirectory == null) {
+            throw new IllegalStateException("Directory of model blob files is not initialized");
+        }
+        return new ModelBlobFile(Files.createTempFile(modelBlobDirectory, "model-", ".blob"), length);
+    }
+
+    @Override
+    public void write(final long offset, final byte[] chunk) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * Close the file once every chunk was written.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    void complete() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @return the model blob read from the file, or null if the file was deleted
+     * @throws IOException if the file cannot be read
+     */
+    @Nullable
+    byte[] read() throws IOException {
+        try {
+            return Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Delete the file. Readers that already opened it still read it completely.
+     */
+    void delete() {
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[KNN] Unable to delete model blob file {}", path, e);
+        }
+    }
+}
@@ -18,7 +18,14 @@ import com.google.common.cache.RemovalNotification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterService;
-
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.time.Instant;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -62,6 +69,22 @@ public final class ModelCache {
         ModelCache.clusterService = clusterService;
     }
 
+    /**
+     * Initialize the cache, assembling large model blobs into files of the node temporary directory rather than on heap
+     *
+     * @param modelDao modelDao used to read persistence layer for models
+     * @param clusterService used to update settings
+     * @param tmpDir temporary directory of the node
+     */
+    public static void initialize(ModelDao modelDao, ClusterService clusterService, Path tmpDir) {
+        initialize(modelDao, clusterService);
+        try {
+            ModelBlobFile.initialize(tmpDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to initialize the directory of model blob files", e);
+        }
+    }
+
     /**
      * Evict all entries and rebuild the graph
      */
@@ -95,6 +118,15 @@ public final class ModelCache {
         if (RemovalCause.SIZE == removalNotification.getCause()) {
             updateEvictedDueToSizeAt();
         }
+        removalNotification.getValue().deleteModelBlobFile();
+
+        // Drop the native copy of the template index as well. Nothing can be cached natively before the library is loaded.
+        if (KNNEngine.FAISS.isInitialized()) {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                NativeMemoryCacheManager.getInstance().evictTemplate(removalNotification.getKey());
+                return null;
+            });
+        }
 
         logger.info("[KNN] Model Cache evicted. Key {}, Reason: {}", removalNotification.getKey(), removalNotification.getCause());
     }
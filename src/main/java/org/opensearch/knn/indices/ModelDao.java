@@ -24,16 +24,23 @@ import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteAction;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetAction;
 import org.opensearch.action.get.GetRequestBuilder;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequestBuilder;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.transport.client.Client;
@@ -45,9 +52,12 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.common.exception.DeleteModelException;
 import org.opensearch.knn.index.engine.MethodComponentContext;
@@ -62,6 +72,8 @@ import org.opensearch.knn.plugin.transport.UpdateModelGraveyardAction;
 import org.opensearch.knn.plugin.transport.UpdateModelGraveyardRequest;
 import org.opensearch.knn.plugin.transport.UpdateModelMetadataAction;
 import org.opensearch.knn.plugin.transport.UpdateModelMetadataRequest;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.net.URL;
@@ -71,6 +83,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static java.util.Objects.isNull;
@@ -125,7 +138,8 @@ public interface ModelDao {
     void update(Model model, ActionListener<IndexResponse> listener) throws IOException;
 
     /**
-     * Get a model from the system index. Call blocks.
+     * Get a model from the system index. Call blocks. A model blob stored in chunks is assembled into a file of the node
+     * when {@link ModelBlobFile} is enabled, and the file is deleted once the model is evicted from the {@link ModelCache}.
      *
      * @param modelId to retrieve
      * @return model
@@ -184,8 +198,12 @@ public interface ModelDao {
 
         public static Logger logger = LogManager.getLogger(ModelDao.class);
 
+        // Number of model blob chunks fetched per request, bounding the memory of encoded chunks being read at once
+        private static final int MODEL_BLOB_CHUNKS_PER_FETCH = 16;
+
         private int numberOfShards;
         private int numberOfReplicas;
+        private final AtomicBoolean isMappingUpdated = new AtomicBoolean(false);
 
         private static OpenSearchKNNModelDao INSTANCE;
         private static Client client;
@@ -317,8 +335,12 @@ public interface ModelDao {
                 throw new IllegalArgumentException("Model binary cannot be null when model state is CREATED");
             }
 
-            // Only add model if it is not null
-            if (modelBlob != null) {
+            // Only add model if it is not null. Large models are stored as chunk documents, see ModelBlobChunks.
+            final boolean isChunked = ModelBlobChunks.isChunked(modelBlob);
+            if (isChunked) {
+                parameters.put(KNNConstants.MODEL_BLOB_CHUNKS, ModelBlobChunks.numChunks(modelBlob.length));
+                parameters.put(KNNConstants.MODEL_BLOB_LENGTH, modelBlob.length);
+            } else if (modelBlob != null) {
                 String base64Model = Base64.getEncoder().encodeToString(modelBlob);
                 parameters.put(KNNConstants.MODEL_BLOB_PARAMETER, base64Model);
             }
@@ -352,8 +374,29 @@ public interface ModelDao {
 
             ActionListener<IndexResponse> onIndexListener = getUpdateModelMetadataListener(model.getModelMetadata(), onMetaListener);
 
-            // Create the model index if it does not already exist
-            Runnable indexModelRunnable = () -> indexRequestBuilder.execute(onIndexListener);
+            // Create the model index if it does not already exist. Chunks are indexed before the model document, so that a
+            // model is never visible without its chunks.
+            // A model index created before chunks existed gets their fields mapped first.
+            Runnable indexModelRunnable = isChunked
+                ? () -> updateMapping(
+                    ActionListener.wrap(
+                        acknowledgedResponse -> ModelDao.runWithStashedThreadContext(
+                            () -> indexModelBlobChunks(
+                                model.getModelID(),
+                                modelBlob,
+                                requestOpType,
+                                ActionListener.wrap(
+                                    bulkResponse -> ModelDao.runWithStashedThreadContext(
+                                        () -> indexRequestBuilder.execute(onIndexListener)
+                                    ),
+                                    onIndexListener::onFailure
+                                )
+                            )
+                        ),
+                        onIndexListener::onFailure
+                    )
+                )
+                : () -> indexRequestBuilder.execute(onIndexListener);
             if (!isCreated()) {
                 create(
                     ActionListener.wrap(
@@ -367,6 +410,178 @@ public interface ModelDao {
             ModelDao.runWithStashedThreadContext(indexModelRunnable);
         }
 
+        private void indexModelBlobChunks(
+            String modelId,
+            byte[] modelBlob,
+            DocWriteRequest.OpType requestOpType,
+            ActionListener<BulkResponse> listener
+        ) {
+            final BulkRequestBuilder bulkRequestBuilder = client.prepareBulk();
+            try {
+                for (int chunk = 0; chunk < ModelBlobChunks.numChunks(modelBlob.length); chunk++) {
+                    bulkRequestBuilder.add(
+                        client.prepareIndex(MODEL_INDEX_NAME)
+                            .setId(ModelBlobChunks.chunkId(modelId, chunk))
+                            .setSource(ModelBlobChunks.chunkSource(modelId, modelBlob, chunk))
+                            .setOpType(requestOpType)
+                    );
+                }
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+
+            bulkRequestBuilder.execute(ActionListener.wrap(bulkResponse -> {
+                if (bulkResponse.hasFailures()) {
+                    listener.onFailure(
+                        new RuntimeException("Failed to index chunks of model \"" + modelId + "\": " + bulkResponse.buildFailureMessage())
+                    );
+                    return;
+                }
+                listener.onResponse(bulkResponse);
+            }, listener::onFailure));
+        }
+
+        /**
+         * Put the mapping of the model index, which is a no-op unless the index was created by an earlier version that did
+         * not map the fields of model blob chunks.
+         */
+        private void updateMapping(ActionListener<AcknowledgedResponse> listener) {
+            if (isMappingUpdated.get()) {
+                listener.onResponse(new AcknowledgedResponse(true));
+                return;
+            }
+            final String mapping;
+            try {
+                mapping = getMapping();
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            client.admin()
+                .indices()
+                .preparePutMapping(MODEL_INDEX_NAME)
+                .setSource(mapping, MediaTypeRegistry.JSON)
+                .execute(ActionListener.wrap(acknowledgedResponse -> {
+                    isMappingUpdated.set(true);
+                    listener.onResponse(acknowledgedResponse);
+                }, listener::onFailure));
+        }
+
+        /**
+         * Fetch the chunks of a model blob in batches, writing every batch into the sink as soon as it arrives.
+         *
+         * @param modelId id of the model
+         * @param sourceMap source of the model document
+         * @param sink destination of the chunks
+         * @param listener notified once every chunk was written
+         */
+        private void getModelBlobChunks(
+            String modelId,
+            Map<String, Object> sourceMap,
+            ModelBlobChunks.Sink sink,
+            ActionListener<Void> listener
+        ) {
+            getModelBlobChunks(modelId, getModelBlobLength(sourceMap), 0, getNumModelBlobChunks(sourceMap), sink, listener);
+        }
+
+        private void getModelBlobChunks(
+            String modelId,
+            int blobLength,
+            int fromChunk,
+            int numChunks,
+            ModelBlobChunks.Sink sink,
+            ActionListener<Void> listener
+        ) {
+            if (fromChunk >= numChunks) {
+                listener.onResponse(null);
+                return;
+            }
+
+            final int toChunk = Math.min(numChunks, fromChunk + MODEL_BLOB_CHUNKS_PER_FETCH);
+            final MultiGetRequestBuilder multiGetRequestBuilder = client.prepareMultiGet().setPreference("_local");
+            for (int chunk = fromChunk; chunk < toChunk; chunk++) {
+                multiGetRequestBuilder.add(MODEL_INDEX_NAME, ModelBlobChunks.chunkId(modelId, chunk));
+            }
+
+            // Chunks are decoded and written to their sink on a generic thread rather than on the response thread
+            final ActionListener<MultiGetResponse> chunksListener = ActionListener.wrap(multiGetResponse -> {
+                final MultiGetItemResponse[] responses = multiGetResponse.getResponses();
+                for (int i = 0; i < responses.length; i++) {
+                    final int chunk = fromChunk + i;
+                    if (responses[i].isFailed() || responses[i].getResponse().isExists() == false) {
+                        listener.onFailure(new IllegalStateException("Chunk [" + chunk + "] of model \"" + modelId + "\" is missing"));
+                        return;
+                    }
+                    ModelBlobChunks.readChunk(responses[i].getResponse().getSourceAsBytesRef(), chunk, blobLength, sink);
+                }
+                getModelBlobChunks(modelId, blobLength, toChunk, numChunks, sink, listener);
+            }, listener::onFailure);
+            ModelDao.runWithStashedThreadContext(
+                () -> multiGetRequestBuilder.execute(
+                    new ThreadedActionListener<>(logger, client.threadPool(), ThreadPool.Names.GENERIC, chunksListener, false)
+                )
+            );
+        }
+
+        /**
+         * Assemble the chunks of a model blob on heap.
+         */
+        private void getModelBlob(String modelId, Map<String, Object> sourceMap, ActionListener<byte[]> listener) {
+            final byte[] modelBlob = new byte[getModelBlobLength(sourceMap)];
+            getModelBlobChunks(
+                modelId,
+                sourceMap,
+                (offset, chunk) -> System.arraycopy(chunk, 0, modelBlob, Math.toIntExact(offset), chunk.length),
+                ActionListener.wrap(ignored -> listener.onResponse(modelBlob), listener::onFailure)
+            );
+        }
+
+        /**
+         * Assemble the chunks of a model blob into a file of the node. The file is deleted if the chunks cannot be read.
+         */
+        private void getModelBlobFile(String modelId, Map<String, Object> sourceMap, ActionListener<ModelBlobFile> listener) {
+            final ModelBlobFile modelBlobFile;
+            try {
+                modelBlobFile = ModelBlobFile.create(getModelBlobLength(sourceMap));
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            getModelBlobChunks(modelId, sourceMap, modelBlobFile, ActionListener.wrap(ignored -> {
+                modelBlobFile.complete();
+                listener.onResponse(modelBlobFile);
+            }, e -> {
+                modelBlobFile.delete();
+                listener.onFailure(e);
+            }));
+        }
+
+        private static int getNumModelBlobChunks(Map<String, Object> sourceMap) {
+            return ((Number) sourceMap.get(KNNConstants.MODEL_BLOB_CHUNKS)).intValue();
+        }
+
+        private static int getModelBlobLength(Map<String, Object> sourceMap) {
+            return ((Number) sourceMap.get(KNNConstants.MODEL_BLOB_LENGTH)).intValue();
+        }
+
+        private void deleteModelBlobChunks(String modelId, int numChunks, ActionListener<BulkResponse> listener) {
+            if (numChunks == 0) {
+                listener.onResponse(null);
+                return;
+            }
+
+            final BulkRequestBuilder bulkRequestBuilder = client.prepareBulk().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            for (int chunk = 0; chunk < numChunks; chunk++) {
+                bulkRequestBuilder.add(client.prepareDelete(MODEL_INDEX_NAME, ModelBlobChunks.chunkId(modelId, chunk)));
+            }
+            ModelDao.runWithStashedThreadContext(() -> bulkRequestBuilder.execute(listener));
+        }
+
+        private static boolean hasModelBlobChunks(Map<String, Object> sourceMap) {
+            return sourceMap != null && sourceMap.containsKey(KNNConstants.MODEL_BLOB_CHUNKS);
+        }
+
         private ActionListener<IndexResponse> getUpdateModelMetadataListener(
             ModelMetadata modelMetadata,
             ActionListener<IndexResponse> listener
@@ -400,6 +615,16 @@ public interface ModelDao {
                         throw new RuntimeException(e);
                     }
                     Map<String, Object> responseMap = getResponse.getSourceAsMap();
+                    if (hasModelBlobChunks(responseMap) && ModelBlobFile.isEnabled()) {
+                        PlainActionFuture<ModelBlobFile> modelBlobFileFuture = new PlainActionFuture<>();
+                        getModelBlobFile(modelId, responseMap, modelBlobFileFuture);
+                        return Model.getModelFromSourceMapWithBlobFile(responseMap, modelBlobFileFuture.actionGet());
+                    }
+                    if (hasModelBlobChunks(responseMap)) {
+                        PlainActionFuture<byte[]> modelBlobFuture = new PlainActionFuture<>();
+                        getModelBlob(modelId, responseMap, modelBlobFuture);
+                        return Model.getModelFromSourceMap(responseMap, modelBlobFuture.actionGet());
+                    }
                     return Model.getModelFromSourceMap(responseMap);
                 });
             } catch (RuntimeException runtimeException) {
@@ -431,6 +656,19 @@ public interface ModelDao {
                         return;
                     }
                     final Map<String, Object> responseMap = response.getSourceAsMap();
+                    if (hasModelBlobChunks(responseMap)) {
+                        getModelBlob(
+                            modelId,
+                            responseMap,
+                            ActionListener.wrap(
+                                modelBlob -> actionListener.onResponse(
+                                    new GetModelResponse(Model.getModelFromSourceMap(responseMap, modelBlob))
+                                ),
+                                actionListener::onFailure
+                            )
+                        );
+                        return;
+                    }
                     Model model = Model.getModelFromSourceMap(responseMap);
                     actionListener.onResponse(new GetModelResponse(model));
 
@@ -438,6 +676,28 @@ public interface ModelDao {
             });
         }
 
+        /**
+         * Get the source of a model document, without the chunks of its blob. Non-blocking.
+         *
+         * @param modelId to retrieve
+         * @param listener handles the source of the model document
+         */
+        private void getModelSource(String modelId, ActionListener<Map<String, Object>> listener) {
+            ModelDao.runWithStashedThreadContext(() -> {
+                GetRequestBuilder getRequestBuilder = new GetRequestBuilder(client, GetAction.INSTANCE, MODEL_INDEX_NAME).setId(modelId)
+                    .setPreference("_local");
+
+                getRequestBuilder.execute(ActionListener.wrap(response -> {
+                    if (response.isSourceEmpty()) {
+                        String errorMessage = String.format("Model \" %s \" does not exist", modelId);
+                        listener.onFailure(new ResourceNotFoundException(modelId, errorMessage));
+                        return;
+                    }
+                    listener.onResponse(response.getSourceAsMap());
+                }, listener::onFailure));
+            });
+        }
+
         /**
          * searches model from the system index.  Non-blocking.
          *
@@ -448,10 +708,25 @@ public interface ModelDao {
         public void search(SearchRequest request, ActionListener<SearchResponse> actionListener) {
             ModelDao.runWithStashedThreadContext(() -> {
                 request.indices(MODEL_INDEX_NAME);
+                excludeModelBlobChunks(request);
                 client.search(request, actionListener);
             });
         }
 
+        // Chunk documents only hold parts of model blobs, they must not show up as models.
+        private static void excludeModelBlobChunks(SearchRequest request) {
+            if (request.source() == null) {
+                request.source(new SearchSourceBuilder());
+            }
+            final QueryBuilder query = request.source().query();
+            request.source()
+                .query(
+                    QueryBuilders.boolQuery()
+                        .must(query == null ? QueryBuilders.matchAllQuery() : query)
+                        .mustNot(QueryBuilders.existsQuery(KNNConstants.MODEL_BLOB_CHUNK_OF))
+                );
+        }
+
         @Override
         public ModelMetadata getMetadata(String modelId) {
             IndexMetadata indexMetadata = clusterService.state().metadata().index(MODEL_INDEX_NAME);
@@ -514,27 +789,27 @@ public interface ModelDao {
                 return;
             }
 
-            StepListener<GetModelResponse> getModelStep = new StepListener<>();
+            StepListener<Map<String, Object>> getModelSourceStep = new StepListener<>();
             StepListener<AcknowledgedResponse> blockModelIdStep = new StepListener<>();
             StepListener<AcknowledgedResponse> clearModelMetadataStep = new StepListener<>();
             StepListener<DeleteResponse> deleteModelFromIndexStep = new StepListener<>();
             StepListener<RemoveModelFromCacheResponse> clearModelFromCacheStep = new StepListener<>();
             StepListener<AcknowledgedResponse> unblockModelIdStep = new StepListener<>();
 
-            // Get Model to check if model is in TRAINING
-            get(modelId, ActionListener.wrap(getModelStep::onResponse, exception -> {
+            // Get the model document to check if model is in TRAINING. Its chunks are not needed, they are only deleted.
+            getModelSource(modelId, ActionListener.wrap(getModelSourceStep::onResponse, exception -> {
                 if (exception instanceof ResourceNotFoundException) {
                     String errorMessage = String.format("Unable to delete model [%s]. Model does not exist", modelId);
                     ResourceNotFoundException resourceNotFoundException = new ResourceNotFoundException(errorMessage);
-                    removeModelIdFromGraveyardOnFailure(modelId, resourceNotFoundException, getModelStep);
+                    removeModelIdFromGraveyardOnFailure(modelId, resourceNotFoundException, getModelSourceStep);
                 } else {
-                    removeModelIdFromGraveyardOnFailure(modelId, exception, getModelStep);
+                    removeModelIdFromGraveyardOnFailure(modelId, exception, getModelSourceStep);
                 }
             }));
 
-            getModelStep.whenComplete(getModelResponse -> {
+            getModelSourceStep.whenComplete(modelSource -> {
                 // If model is in Training state, fail delete model request
-                if (ModelState.TRAINING == getModelResponse.getModel().getModelMetadata().getState()) {
+                if (ModelState.TRAINING == ModelMetadata.getMetadataFromSourceMap(modelSource).getState()) {
                     String errorMessage = String.format("Cannot delete model [%s]. Model is still in training", modelId);
                     listener.onFailure(new DeleteModelException(errorMessage));
                     return;
@@ -567,8 +842,17 @@ public interface ModelDao {
                     return;
                 }
 
-                // After model is deleted from the index, make sure the model is evicted from every cache in the cluster
-                removeModelFromCache(modelId, clearModelFromCacheStep);
+                // After model is deleted from the index, delete its chunks and make sure the model is evicted from every cache
+                // in the cluster. Chunks left behind are not visible as models, so a failure only needs to be logged.
+                final Map<String, Object> modelSource = getModelSourceStep.result();
+                deleteModelBlobChunks(
+                    modelId,
+                    hasModelBlobChunks(modelSource) ? getNumModelBlobChunks(modelSource) : 0,
+                    ActionListener.wrap(bulkResponse -> removeModelFromCache(modelId, clearModelFromCacheStep), exception -> {
+                        logger.warn("Failed to delete chunks of model \"" + modelId + "\"", exception);
+                        removeModelFromCache(modelId, clearModelFromCacheStep);
+                    })
+                );
             }, e -> listener.onFailure(new OpenSearchException(e)));
 
             clearModelFromCacheStep.whenComplete(removeModelFromCacheResponse -> {
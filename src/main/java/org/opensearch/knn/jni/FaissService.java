@@ -178,6 +178,42 @@ class FaissService {
         Map<String, Object> parameters
     );
 
+    /**
+     * Initialize an index for the native library from a template index, so that vectors can be inserted in batches with
+     * {@link #insertToIndex} and the index written with {@link #writeIndex}. The template cached for the model id with
+     * {@link #cacheTemplate} is used if any, templateIndex is only read otherwise.
+     *
+     * @param numDocs number of documents to be added
+     * @param dim dimension of the vector to be indexed
+     * @param modelId id of the model the template index belongs to
+     * @param templateIndex empty template index
+     * @param parameters additional build time parameters
+     * @return address of the index in memory
+     */
+    public static native long initIndexFromTemplate(
+        long numDocs,
+        int dim,
+        String modelId,
+        byte[] templateIndex,
+        Map<String, Object> parameters
+    );
+
+    /**
+     * Evict the cached template index of a model, if any.
+     *
+     * @param modelId id of the model
+     */
+    public static native void evictTemplate(String modelId);
+
+    /**
+     * Deserialize a template index and cache it for a model, unless a template of the model is cached already.
+     *
+     * @param modelId id of the model the template index belongs to
+     * @param templateIndex empty template index
+     * @return number of bytes allocated by the cached template index
+     */
+    public static native long cacheTemplate(String modelId, byte[] templateIndex);
+
     /**
      * Create a binary index for the native library with a provided template index
      *
@@ -233,6 +269,18 @@ class FaissService {
      */
     public static native long loadIndexWithStream(IndexInputWithBuffer readStream);
 
+    /**
+     * Load an index into memory via a wrapping having Lucene's IndexInput, so that vectors can be inserted with
+     * {@link #insertToIndex} and the index written with {@link #writeIndex}. The id of every vector is replaced with
+     * its entry in docIdMap.
+     *
+     * @param readStream IndexInput wrapper having a Lucene's IndexInput reference.
+     * @param docIdMap new id of every id of the loaded index, none of which may be negative
+     * @param parameters additional build time parameters
+     * @return pointer to location in memory the index resides in
+     */
+    public static native long loadIndexWithStreamForUpdate(IndexInputWithBuffer readStream, int[] docIdMap, Map<String, Object> parameters);
+
     /**
       * Load an index into memory via a wrapping having Lucene's IndexInput with ADC
       *
@@ -332,6 +380,30 @@ class FaissService {
         int[] parentIds
     );
 
+    /**
+     * Query an index with the search parameters passed as primitives. Avoids converting the method parameters map on the
+     * native side for every query.
+     *
+     * @param indexPointer pointer to index in memory
+     * @param queryVector vector to be used for query
+     * @param k neighbors to be returned
+     * @param efSearch ef_search used for HNSW indices. Value of the index is used if not positive
+     * @param nprobes nprobes used for IVF indices. Value of the index is used if not positive
+     * @param filterIds list of doc ids to include in the query result, null to search all docs
+     * @param parentIds list of parent doc ids when the knn field is a nested field
+     * @return KNNQueryResult array of k neighbors
+     */
+    public static native KNNQueryResult[] queryIndexWithSearchParams(
+        long indexPointer,
+        float[] queryVector,
+        int k,
+        int efSearch,
+        int nprobes,
+        long[] filterIds,
+        int filterIdsType,
+        int[] parentIds
+    );
+
     /**
      * Query a binary index with filter
      *
@@ -384,6 +456,23 @@ class FaissService {
      */
     public static native void freeSharedIndexState(long shareIndexStateAddr);
 
+    /**
+     * Get the number of bytes allocated by an index. The shared index state is not included.
+     *
+     * @param indexPointer address of the index
+     * @param isBinary whether the index is a binary index
+     * @return number of bytes allocated by the index
+     */
+    public static native long getIndexMemoryUsage(long indexPointer, boolean isBinary);
+
+    /**
+     * Get the number of bytes allocated by the shared index state
+     *
+     * @param shareIndexStateAddr address of shared state
+     * @return number of bytes allocated by the shared index state
+     */
+    public static native long getSharedIndexStateMemoryUsage(long shareIndexStateAddr);
+
     /**
      * Initialize library
      *
@@ -13,6 +13,7 @@ package org.opensearch.knn.jni;
 
 import org.opensearch.knn.common.KNNConstants;
 
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
@@ -189,4 +190,26 @@ public class JNICommons {
      * @param memoryAddress address to be freed.
      */
     public static native void freeByteVectorData(long memoryAddress);
+
+    /**
+     * Allocate native memory and wrap it in a direct byte buffer. Unlike {@link java.nio.ByteBuffer#allocateDirect(int)},
+     * the memory is neither bounded by the direct memory limit of the JVM nor released by the garbage collector: it has to
+     * be freed with {@link JNICommons#freeDirectBuffer(ByteBuffer)}.
+     *
+     * @param capacity size of the buffer in bytes
+     * @return direct byte buffer over the allocated memory
+     */
+    public static native ByteBuffer allocateDirectBuffer(long capacity);
+
+    /**
+     * Free up the memory of a buffer returned by {@link JNICommons#allocateDirectBuffer(long)}.
+     *
+     * <p>
+     * The function is not threadsafe. The buffer, and every view of it, must not be accessed afterwards, and freeing it
+     * twice leads to errors.
+     * </p>
+     *
+     * @param buffer buffer to be freed.
+     */
+    public static native void freeDirectBuffer(ByteBuffer buffer);
 }
@@ -146,6 +146,71 @@ public class JNIService {
         );
     }
 
+    /**
+     * Initialize an index for the native library from a template index, to be built iteratively with
+     * {@link #insertToIndex} and {@link #writeIndex}.
+     *
+     * @param numDocs       number of documents to be added
+     * @param dim           dimension of the vector to be indexed
+     * @param modelId       id of the model the template index belongs to
+     * @param templateIndex empty template index
+     * @param parameters    parameters to build index
+     * @param knnEngine     knn engine
+     * @return address of the index in memory
+     */
+    public static long initIndexFromTemplate(
+        long numDocs,
+        int dim,
+        String modelId,
+        byte[] templateIndex,
+        Map<String, Object> parameters,
+        KNNEngine knnEngine
+    ) {
+        if (KNNEngine.FAISS == knnEngine && IndexUtil.isBinaryIndex(knnEngine, parameters) == false) {
+            return FaissService.initIndexFromTemplate(numDocs, dim, modelId, templateIndex, parameters);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "initIndexFromTemplate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Evict the cached template index of a model.
+     *
+     * @param modelId   id of the model
+     * @param knnEngine knn engine
+     */
+    public static void evictTemplate(String modelId, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            FaissService.evictTemplate(modelId);
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "evictTemplate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Cache the template index of a model in the native library, to initialize indices from with
+     * {@link #initIndexFromTemplate}.
+     *
+     * @param modelId       id of the model
+     * @param templateIndex empty template index
+     * @param knnEngine     knn engine
+     * @return number of bytes allocated by the cached template index
+     */
+    public static long cacheTemplate(String modelId, byte[] templateIndex, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.cacheTemplate(modelId, templateIndex);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "cacheTemplate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Create an index for the native library with a provided template index
      *
@@ -213,6 +278,31 @@ public class JNIService {
         );
     }
 
+    /**
+     * Load an index via Lucene's IndexInput to add more vectors to it with {@link #insertToIndex} and write it with
+     * {@link #writeIndex}, the same as an index initialized with {@link #initIndex}.
+     *
+     * @param readStream A wrapper having Lucene's IndexInput to load bytes from a file.
+     * @param docIdMap   new doc id of every doc id of the loaded index
+     * @param parameters parameters to build index
+     * @param knnEngine  knn engine
+     * @return address of the index in memory
+     */
+    public static long loadIndexForUpdate(
+        IndexInputWithBuffer readStream,
+        int[] docIdMap,
+        Map<String, Object> parameters,
+        KNNEngine knnEngine
+    ) {
+        if (KNNEngine.FAISS == knnEngine && IndexUtil.isBinaryIndex(knnEngine, parameters) == false) {
+            return FaissService.loadIndexWithStreamForUpdate(readStream, docIdMap, parameters);
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "loadIndexForUpdate not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Determine if index contains shared state. Currently, we cannot do this in the plugin because we do not store the
      * model definition anywhere. Only faiss supports indices that have shared state. So for all other engines it will
@@ -295,6 +385,18 @@ public class JNIService {
             // k-NN results are already returned. Otherwise, it's a filter case and we need to run search with
             // filterIds. FilterIds is coming as empty then its the case where we need to do search with Faiss engine
             // normally.
+            if (hasOnlyPrimitiveSearchParameters(methodParameters)) {
+                return FaissService.queryIndexWithSearchParams(
+                    indexPointer,
+                    queryVector,
+                    k,
+                    getSearchParameter(methodParameters, KNNConstants.METHOD_PARAMETER_EF_SEARCH),
+                    getSearchParameter(methodParameters, KNNConstants.METHOD_PARAMETER_NPROBES),
+                    ArrayUtils.isNotEmpty(filteredIds) ? filteredIds : null,
+                    filterIdsType,
+                    parentIds
+                );
+            }
             if (ArrayUtils.isNotEmpty(filteredIds)) {
                 return FaissService.queryIndexWithFilter(
                     indexPointer,
@@ -313,6 +415,32 @@ public class JNIService {
         );
     }
 
+    /**
+     * Checks whether the method parameters of a query can be passed to faiss as primitives, that is when they only hold
+     * integer ef_search and nprobes values.
+     */
+    static boolean hasOnlyPrimitiveSearchParameters(@Nullable Map<String, ?> methodParameters) {
+        if (methodParameters == null) {
+            return true;
+        }
+        for (Map.Entry<String, ?> entry : methodParameters.entrySet()) {
+            final boolean isSearchParameter = KNNConstants.METHOD_PARAMETER_EF_SEARCH.equals(entry.getKey())
+                || KNNConstants.METHOD_PARAMETER_NPROBES.equals(entry.getKey());
+            if (isSearchParameter == false || entry.getValue() instanceof Integer == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getSearchParameter(@Nullable Map<String, ?> methodParameters, String name) {
+        // Non positive values make the native side fall back to the value of the index
+        if (methodParameters == null || methodParameters.get(name) == null) {
+            return -1;
+        }
+        return (Integer) methodParameters.get(name);
+    }
+
     /**
      * Query a binary index
      *
@@ -398,6 +526,40 @@ public class JNIService {
         );
     }
 
+    /**
+     * Get the number of bytes allocated in native memory by a loaded index. The shared index state is not included,
+     * see {@link #getSharedIndexStateMemoryUsage}.
+     *
+     * @param indexPointer  address of the index
+     * @param knnEngine     engine of the index
+     * @param isBinaryIndex indicate if it is binary index or not
+     * @return number of bytes allocated by the index
+     */
+    public static long getIndexMemoryUsage(final long indexPointer, final KNNEngine knnEngine, final boolean isBinaryIndex) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.getIndexMemoryUsage(indexPointer, isBinaryIndex);
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "GetIndexMemoryUsage not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
+    /**
+     * Get the number of bytes allocated in native memory by a shared index state
+     *
+     * @param shareIndexStateAddr address of shared state
+     * @param knnEngine           engine
+     * @return number of bytes allocated by the shared index state
+     */
+    public static long getSharedIndexStateMemoryUsage(long shareIndexStateAddr, KNNEngine knnEngine) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.getSharedIndexStateMemoryUsage(shareIndexStateAddr);
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "GetSharedIndexStateMemoryUsage not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Train an empty index
      *
@@ -51,4 +51,12 @@ public interface VectorSearcher extends Closeable {
      *     if they are all allowed to match.
      */
     void search(byte[] target, KnnCollector knnCollector, Bits acceptDocs) throws IOException;
+
+    /**
+     * Prepares optional in-memory structures that speed up searches, for example a compact copy of the graph. This is called
+     * once in the background after the searcher is opened, searches must return the same results before and after it.
+     *
+     * @throws IOException if the index cannot be read
+     */
+    default void warmUp() throws IOException {}
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.store.IndexInput;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * {@link FaissHnswGraph} reading neighbor lists from {@link FaissCompactHnswNeighbors} instead of the FAISS index file.
+ * Everything else, such as nodes per level, is still read from the FAISS index file.
+ * <p>
+ * NOTE: This is not thread safe, it should be created for every search likewise {@link FaissHnswGraph}.
+ */
+public class FaissCompactHnswGraph extends FaissHnswGraph {
+    private final FaissCompactHnswNeighbors compactNeighbors;
+    private long neighborListOffset;
+    private int numNeighbors;
+    private int nextNeighborIndex;
+
+    public FaissCompactHnswGraph(
+        final FaissHNSW faissHNSW,
+        final FaissCompactHnswNeighbors compactNeighbors,
+        final IndexInput indexInput
+    ) {
+        super(faissHNSW, indexInput);
+        this.compactNeighbors = compactNeighbors;
+    }
+
+    @Override
+    public void seek(int level, int internalVectorId) {
+        // Lists of a node are stored from level 0 upwards, skip the ones below `level`.
+        long offset = compactNeighbors.getNodeOffset(internalVectorId);
+        for (int i = 0; i < level; i++) {
+            offset = compactNeighbors.nextLevelOffset(offset);
+        }
+        neighborListOffset = offset;
+        numNeighbors = compactNeighbors.getNeighborCount(offset);
+        nextNeighborIndex = 0;
+    }
+
+    @Override
+    public int nextNeighbor() {
+        if (nextNeighborIndex < numNeighbors) {
+            return compactNeighbors.getNeighbor(neighborListOffset, nextNeighborIndex++);
+        }
+
+        // Neighbor list has been exhausted.
+        return NO_MORE_DOCS;
+    }
+
+    @Override
+    public int neighborCount() {
+        return numNeighbors;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BitUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+
+import java.io.IOException;
+
+/**
+ * Compact, on heap copy of the neighbor lists of a FAISS HNSW graph.
+ * <p>
+ * FAISS stores every neighbor list as a fixed number of int32 slots padded with -1, so for typical M most of the bytes read
+ * during traversal are padding or zero high bits. This transcodes the lists once into a packed layout: for each node, its
+ * lists from level 0 up to its top level are stored back to back, each as a neighbor count followed by the neighbor ids only.
+ * Ids take 2, 3 or 4 bytes depending on the number of vectors, and counts take 1 or 2 bytes depending on the maximum number of
+ * neighbors. Neighbor order is kept as is, so traversal visits the same nodes as on the FAISS layout.
+ * <p>
+ * The FAISS file stays the source of truth, this copy is only kept on heap for the lifetime of the searcher and its size is
+ * reported through {@link #getSizeInBytes()}. It is immutable and thread safe, and is read through a
+ * {@link FaissCompactHnswGraph} per search.
+ */
+public final class FaissCompactHnswNeighbors {
+    private final byte[] bytes;
+    // nodeOffsets[i] = offset in bytes of the level 0 neighbor list of the i-th vector.
+    private final PackedLongValues nodeOffsets;
+    @Getter
+    private final int bytesPerId;
+    @Getter
+    private final int bytesPerCount;
+
+    private FaissCompactHnswNeighbors(
+        final byte[] bytes,
+        final PackedLongValues nodeOffsets,
+        final int bytesPerId,
+        final int bytesPerCount
+    ) {
+        this.bytes = bytes;
+        this.nodeOffsets = nodeOffsets;
+        this.bytesPerId = bytesPerId;
+        this.bytesPerCount = bytesPerCount;
+    }
+
+    /**
+     * Transcode the neighbor lists of a FAISS HNSW graph. Neighbor lists are read once, in file order.
+     *
+     * @param faissHnsw graph to transcode
+     * @param indexInput input of the FAISS index file the graph was loaded from
+     * @return compact neighbor lists, or null if they do not fit into a single array
+     * @throws IOException if the graph cannot be read
+     */
+    public static FaissCompactHnswNeighbors build(final FaissHNSW faissHnsw, final IndexInput indexInput) throws IOException {
+        final int numVectors = Math.toIntExact(faissHnsw.getTotalNumberOfVectors());
+        final int bytesPerId = getBytesPerId(numVectors);
+        final int bytesPerCount = faissHnsw.getMaxNumNeighbors() <= 0xFF ? 1 : Short.BYTES;
+        final int[] cumNumberNeighborPerLevel = faissHnsw.getCumNumberNeighborPerLevel();
+        final IndexInput levelsInput = indexInput.clone();
+        final IndexInput neighborsInput = indexInput.clone();
+
+        // Start with half full level 0 lists, the array grows as needed.
+        final long estimatedSizeInBytes = (long) numVectors * (bytesPerCount + (long) bytesPerId * cumNumberNeighborPerLevel[1] / 2);
+        byte[] bytes = new byte[(int) Math.min(estimatedSizeInBytes, ArrayUtil.MAX_ARRAY_LENGTH)];
+        int size = 0;
+        int[] slots = new int[cumNumberNeighborPerLevel[1]];
+        final PackedLongValues.Builder nodeOffsets = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        levelsInput.seek(faissHnsw.getLevels().getBaseOffset());
+        for (int node = 0; node < numVectors; node++) {
+            nodeOffsets.add(size);
+            final int numLevels = levelsInput.readInt();
+            // Lists of all levels of a node are contiguous in the file, read them at once.
+            final int numSlots = cumNumberNeighborPerLevel[numLevels];
+            slots = ArrayUtil.grow(slots, numSlots);
+            neighborsInput.seek(faissHnsw.getNeighbors().getBaseOffset() + Integer.BYTES * faissHnsw.getOffsetsReader().get(node));
+            neighborsInput.readInts(slots, 0, numSlots);
+
+            for (int level = 0; level < numLevels; level++) {
+                // Lists are padded with -1 up to the maximum number of neighbors of the level.
+                final int begin = cumNumberNeighborPerLevel[level];
+                final int end = cumNumberNeighborPerLevel[level + 1];
+                int numNeighbors = 0;
+                while (begin + numNeighbors < end && slots[begin + numNeighbors] >= 0) {
+                    numNeighbors++;
+                }
+
+                final long newSize = size + bytesPerCount + (long) bytesPerId * numNeighbors;
+                if (newSize > ArrayUtil.MAX_ARRAY_LENGTH) {
+                    return null;
+                }
+                bytes = ArrayUtil.grow(bytes, (int) newSize);
+                putUnsigned(bytes, size, numNeighbors, bytesPerCount);
+                size += bytesPerCount;
+                for (int i = 0; i < numNeighbors; i++) {
+                    putUnsigned(bytes, size, slots[begin + i], bytesPerId);
+                    size += bytesPerId;
+                }
+            }
+        }
+        return new FaissCompactHnswNeighbors(
+            bytes.length == size ? bytes : ArrayUtil.copyOfSubArray(bytes, 0, size),
+            nodeOffsets.build(),
+            bytesPerId,
+            bytesPerCount
+        );
+    }
+
+    /**
+     * @param numVectors number of vectors in the graph
+     * @return number of bytes needed to store a vector id
+     */
+    public static int getBytesPerId(final int numVectors) {
+        if (numVectors <= 1 << 16) {
+            return Short.BYTES;
+        }
+        return numVectors <= 1 << 24 ? 3 : Integer.BYTES;
+    }
+
+    /**
+     * @param node internal vector id
+     * @return offset of the level 0 neighbor list of the node
+     */
+    long getNodeOffset(final int node) {
+        return nodeOffsets.get(node);
+    }
+
+    /**
+     * @param offset offset of a neighbor list
+     * @return number of neighbors in the list
+     */
+    int getNeighborCount(final long offset) {
+        return getUnsigned((int) offset, bytesPerCount);
+    }
+
+    /**
+     * @param offset offset of a neighbor list
+     * @param index index of the neighbor in the list
+     * @return id of the neighbor
+     */
+    int getNeighbor(final long offset, final int index) {
+        return getUnsigned((int) offset + bytesPerCount + index * bytesPerId, bytesPerId);
+    }
+
+    /**
+     * @param offset offset of a neighbor list
+     * @return offset of the neighbor list of the next level
+     */
+    long nextLevelOffset(final long offset) {
+        return offset + bytesPerCount + (long) getNeighborCount(offset) * bytesPerId;
+    }
+
+    /**
+     * @return heap size of the compact neighbor lists in bytes, offsets included
+     */
+    public long getSizeInBytes() {
+        return RamUsageEstimator.sizeOf(bytes) + nodeOffsets.ramBytesUsed();
+    }
+
+    private int getUnsigned(final int position, final int numBytes) {
+        return switch (numBytes) {
+            case 1 -> bytes[position] & 0xFF;
+            case Short.BYTES -> (short) BitUtil.VH_LE_SHORT.get(bytes, position) & 0xFFFF;
+            case 3 -> ((short) BitUtil.VH_LE_SHORT.get(bytes, position) & 0xFFFF) | ((bytes[position + 2] & 0xFF) << 16);
+            default -> (int) BitUtil.VH_LE_INT.get(bytes, position);
+        };
+    }
+
+    private static void putUnsigned(final byte[] bytes, final int position, final int value, final int numBytes) {
+        switch (numBytes) {
+            case 1 -> bytes[position] = (byte) value;
+            case Short.BYTES -> BitUtil.VH_LE_SHORT.set(bytes, position, (short) value);
+            case 3 -> {
+                BitUtil.VH_LE_SHORT.set(bytes, position, (short) value);
+                bytes[position + 2] = (byte) (value >>> 16);
+            }
+            default -> BitUtil.VH_LE_INT.set(bytes, position, value);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.packed.DirectMonotonicReader;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFIndex;
 
 import java.io.IOException;
 
@@ -60,6 +61,9 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         if (nestedIndex instanceof AbstractFaissHNSWIndex || nestedIndex instanceof FaissBinaryHnswIndex) {
             this.nestedIndex = nestedIndex;
             this.hnswGetter = (FaissHNSWProvider) nestedIndex;
+        } else if (nestedIndex instanceof FaissIVFIndex) {
+            // IVF indices are searched directly, there is no HNSW graph.
+            this.nestedIndex = nestedIndex;
         } else {
             throw new IllegalStateException("Invalid nested HNSW index type, got index type=" + nestedIndex.getIndexType());
         }
@@ -235,8 +239,48 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         return new SparseFloatVectorValuesImpl(vectorValues);
     }
 
+    /**
+     * Convert an internal vector id to Lucene document id.
+     *
+     * @param internalVectorId Internal vector id
+     * @return Lucene document id
+     */
+    public int ordToDoc(final int internalVectorId) {
+        if (idMappingReader == null) {
+            return internalVectorId;
+        }
+        return (int) idMappingReader.get(internalVectorId);
+    }
+
+    /**
+     * Convert accepted Lucene documents into accepted internal vector ids.
+     *
+     * @param acceptDocs Accepted documents, null if all documents are accepted.
+     * @return Accepted internal vector ids, null if all vectors are accepted.
+     */
+    public Bits getAcceptOrds(final Bits acceptDocs) {
+        if (acceptDocs == null || idMappingReader == null) {
+            return acceptDocs;
+        }
+
+        return new Bits() {
+            @Override
+            public boolean get(int internalVectorId) {
+                return acceptDocs.get((int) idMappingReader.get(internalVectorId));
+            }
+
+            @Override
+            public int length() {
+                return totalNumberOfVectors;
+            }
+        };
+    }
+
     @Override
     public FaissHNSW getFaissHnsw() {
+        if (hnswGetter == null) {
+            throw new IllegalStateException("Nested index [" + nestedIndex.getIndexType() + "] does not have HNSW graph.");
+        }
         return hnswGetter.getFaissHnsw();
     }
 }
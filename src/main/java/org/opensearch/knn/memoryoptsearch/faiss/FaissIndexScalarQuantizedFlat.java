@@ -11,6 +11,7 @@ import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.RandomAccessInput;
 import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizedValueReconstructor;
 import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizedValueReconstructorFactory;
 import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizerType;
@@ -28,7 +29,14 @@ import java.util.Map;
 @Getter
 public class FaissIndexScalarQuantizedFlat extends FaissIndex {
     private static EnumMap<FaissQuantizerType, VectorEncoding> VECTOR_DATA_TYPES = new EnumMap<>(
-        Map.of(FaissQuantizerType.QT_8BIT_DIRECT_SIGNED, VectorEncoding.BYTE, FaissQuantizerType.QT_FP16, VectorEncoding.FLOAT32)
+        Map.of(
+            FaissQuantizerType.QT_8BIT_DIRECT_SIGNED,
+            VectorEncoding.BYTE,
+            FaissQuantizerType.QT_FP16,
+            VectorEncoding.FLOAT32,
+            FaissQuantizerType.QT_BF16,
+            VectorEncoding.FLOAT32
+        )
     );
 
     public static final String IXSQ = "IxSQ";
@@ -161,6 +169,19 @@ public class FaissIndexScalarQuantizedFlat extends FaissIndex {
         return new ByteVectorValuesImpl(indexInput);
     }
 
+    /**
+     * Returns a positional accessor to the quantized codes, where the code of the `i`th vector starts at
+     * `i * oneVectorByteSize`. Unlike {@link #getFloatValues(IndexInput)}, codes are not reconstructed, so that they can be
+     * scored in the quantized domain. See {@link FaissScalarQuantizedVectorScorer}.
+     *
+     * @param indexInput Input stream to a FAISS index file.
+     * @return Random accessor to quantized codes.
+     * @throws IOException
+     */
+    public RandomAccessInput getCodes(final IndexInput indexInput) throws IOException {
+        return indexInput.randomAccessSlice(flatVectors.getBaseOffset(), flatVectors.getSectionSize());
+    }
+
     @Override
     public String getIndexType() {
         return IXSQ;
@@ -5,8 +5,11 @@
 
 package org.opensearch.knn.memoryoptsearch.faiss;
 
+import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -26,6 +29,8 @@ import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissCagraHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFIndex;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 
 import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
@@ -33,16 +38,36 @@ import java.util.concurrent.ThreadLocalRandom;
 /**
  * This searcher directly reads FAISS index file via the provided {@link IndexInput} then perform vector search on it.
  */
+@Log4j2
 public class FaissMemoryOptimizedSearcher implements VectorSearcher {
     private final IndexInput indexInput;
     private final FaissIndex faissIndex;
     private final FlatVectorsScorer flatVectorsScorer;
     private final FaissHNSW hnsw;
+    private final boolean compactGraph;
+    // Built by warmUp(), searches read neighbor lists from the index file until then.
+    private volatile FaissCompactHnswNeighbors compactNeighbors;
+    private boolean warmUpStarted;
+    private boolean closed;
+    private final FaissIVFIndex ivfIndex;
+    private final FaissIndexScalarQuantizedFlat scalarQuantizedFlat;
     private final VectorSimilarityFunction vectorSimilarityFunction;
     private final long fileSize;
     private boolean isAdc;
 
     public FaissMemoryOptimizedSearcher(final IndexInput indexInput, final FieldInfo fieldInfo) throws IOException {
+        this(indexInput, fieldInfo, false);
+    }
+
+    /**
+     * @param indexInput input of the FAISS index file
+     * @param fieldInfo field info of the vector field, can be null
+     * @param compactGraph if true, neighbor lists of the HNSW graph are transcoded into {@link FaissCompactHnswNeighbors} on
+     *                     {@link #warmUp()}
+     * @throws IOException if the index cannot be loaded
+     */
+    public FaissMemoryOptimizedSearcher(final IndexInput indexInput, final FieldInfo fieldInfo, final boolean compactGraph)
+        throws IOException {
         this.indexInput = indexInput;
         this.fileSize = indexInput.length();
         this.faissIndex = FaissIndex.load(indexInput);
@@ -65,7 +90,59 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
         this.flatVectorsScorer = FlatVectorsScorerProvider.getFlatVectorsScorer(knnVectorSimilarityFunction, isAdc, spaceType);
 
-        this.hnsw = extractFaissHnsw(faissIndex);
+        this.ivfIndex = extractFaissIVF(faissIndex);
+        this.hnsw = ivfIndex == null ? extractFaissHnsw(faissIndex) : null;
+        this.compactGraph = compactGraph && hnsw != null && hnsw.getTotalNumberOfVectors() > 0;
+        this.scalarQuantizedFlat = isAdc ? null : extractScalarQuantizedFlat(faissIndex);
+    }
+
+    private static FaissIndexScalarQuantizedFlat extractScalarQuantizedFlat(final FaissIndex faissIndex) {
+        if (faissIndex instanceof FaissIdMapIndex idMapIndex
+            && idMapIndex.getNestedIndex() instanceof AbstractFaissHNSWIndex hnswIndex
+            && hnswIndex.getFlatVectors() instanceof FaissIndexScalarQuantizedFlat sqFlat) {
+            return sqFlat;
+        }
+        return null;
+    }
+
+    /**
+     * Transcodes the neighbor lists of the HNSW graph into {@link FaissCompactHnswNeighbors} if enabled. This reads the whole
+     * neighbor section of the index file, hence it is meant to run at load or prefetch time rather than on the query path. It
+     * is done at most once, concurrent and later calls return immediately.
+     *
+     * @throws IOException if the graph cannot be read
+     */
+    @Override
+    public void warmUp() throws IOException {
+        synchronized (this) {
+            if (compactGraph == false || warmUpStarted || closed) {
+                return;
+            }
+            warmUpStarted = true;
+        }
+
+        final FaissCompactHnswNeighbors neighbors = FaissCompactHnswNeighbors.build(hnsw, indexInput);
+        if (neighbors == null) {
+            log.debug("[KNN] Neighbor lists of [{}] are too large to be compacted, reading them from the index file", indexInput);
+            return;
+        }
+
+        synchronized (this) {
+            // The searcher may have been closed while building, nothing would release the accounted size afterward.
+            if (closed) {
+                return;
+            }
+            compactNeighbors = neighbors;
+            KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.add(neighbors.getSizeInBytes());
+        }
+        log.debug("[KNN] Compacted neighbor lists of [{}] into [{}] bytes", indexInput, neighbors.getSizeInBytes());
+    }
+
+    private static FaissIVFIndex extractFaissIVF(final FaissIndex faissIndex) {
+        if (faissIndex instanceof FaissIdMapIndex idMapIndex && idMapIndex.getNestedIndex() instanceof FaissIVFIndex ivfIndex) {
+            return ivfIndex;
+        }
+        return null;
     }
 
     private static FaissHNSW extractFaissHnsw(final FaissIndex faissIndex) {
@@ -78,34 +155,70 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
     @Override
     public void search(float[] target, KnnCollector knnCollector, Bits acceptDocs) throws IOException {
-        search(
-            VectorEncoding.FLOAT32,
-            () -> flatVectorsScorer.getRandomVectorScorer(
-                vectorSimilarityFunction,
-                isAdc ? faissIndex.getByteValues(getSlicedIndexInput()) : faissIndex.getFloatValues(getSlicedIndexInput()),
-                target
-            ),
-            knnCollector,
-            acceptDocs
-        );
+        if (ivfIndex != null) {
+            searchIVF(target, knnCollector, acceptDocs);
+            return;
+        }
+
+        search(VectorEncoding.FLOAT32, () -> {
+            if (isAdc) {
+                return flatVectorsScorer.getRandomVectorScorer(
+                    vectorSimilarityFunction,
+                    faissIndex.getByteValues(getSlicedIndexInput()),
+                    target
+                );
+            }
+
+            final IndexInput slicedIndexInput = getSlicedIndexInput();
+            final FloatVectorValues values = faissIndex.getFloatValues(slicedIndexInput);
+            if (scalarQuantizedFlat != null) {
+                // Score codes directly without reconstructing float vectors.
+                final RandomVectorScorer scorer = FaissScalarQuantizedVectorScorer.create(
+                    scalarQuantizedFlat.getQuantizerType(),
+                    scalarQuantizedFlat.getCodes(slicedIndexInput),
+                    values,
+                    vectorSimilarityFunction,
+                    target
+                );
+                if (scorer != null) {
+                    return scorer;
+                }
+            }
+            return flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, values, target);
+        }, knnCollector, acceptDocs);
     }
 
     @Override
     public void search(byte[] target, KnnCollector knnCollector, Bits acceptDocs) throws IOException {
-        search(
-            VectorEncoding.BYTE,
-            () -> flatVectorsScorer.getRandomVectorScorer(
-                vectorSimilarityFunction,
-                faissIndex.getByteValues(getSlicedIndexInput()),
-                target
-            ),
-            knnCollector,
-            acceptDocs
-        );
+        search(VectorEncoding.BYTE, () -> {
+            final IndexInput slicedIndexInput = getSlicedIndexInput();
+            final ByteVectorValues values = faissIndex.getByteValues(slicedIndexInput);
+            if (scalarQuantizedFlat != null) {
+                // Score codes directly without reconstructing byte vectors.
+                final RandomVectorScorer scorer = FaissScalarQuantizedVectorScorer.create(
+                    scalarQuantizedFlat.getQuantizerType(),
+                    scalarQuantizedFlat.getCodes(slicedIndexInput),
+                    values,
+                    vectorSimilarityFunction,
+                    target
+                );
+                if (scorer != null) {
+                    return scorer;
+                }
+            }
+            return flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, values, target);
+        }, knnCollector, acceptDocs);
     }
 
     @Override
     public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            if (compactNeighbors != null) {
+                KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.add(-compactNeighbors.getSizeInBytes());
+                compactNeighbors = null;
+            }
+        }
         indexInput.close();
     }
 
@@ -137,7 +250,7 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
         if (knnCollector.k() < scorer.maxOrd()) {
             // Do ANN search with Lucene's HNSW graph searcher.
-            HnswGraphSearcher.search(scorer, collector, new FaissHnswGraph(hnsw, getSlicedIndexInput()), acceptedOrds);
+            HnswGraphSearcher.search(scorer, collector, createHnswGraph(), acceptedOrds);
         } else {
             // If k is larger than the number of vectors, we can just iterate over all vectors
             // and collect them.
@@ -154,6 +267,29 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
         }  // End if
     }
 
+    private void searchIVF(final float[] target, final KnnCollector knnCollector, final Bits acceptDocs) throws IOException {
+        if (faissIndex.getTotalNumberOfVectors() == 0 || knnCollector.k() == 0) {
+            return;
+        }
+
+        // IVF index is always nested in an id map index, which translates internal vector ids into Lucene document ids.
+        final FaissIdMapIndex idMapIndex = (FaissIdMapIndex) faissIndex;
+        ivfIndex.search(
+            getSlicedIndexInput(),
+            target,
+            new OrdinalTranslatedKnnCollector(knnCollector, idMapIndex::ordToDoc),
+            idMapIndex.getAcceptOrds(acceptDocs)
+        );
+    }
+
+    private FaissHnswGraph createHnswGraph() throws IOException {
+        final FaissCompactHnswNeighbors compactNeighbors = this.compactNeighbors;
+        if (compactNeighbors != null) {
+            return new FaissCompactHnswGraph(hnsw, compactNeighbors, getSlicedIndexInput());
+        }
+        return new FaissHnswGraph(hnsw, getSlicedIndexInput());
+    }
+
     private IndexInput getSlicedIndexInput() throws IOException {
         return indexInput.slice("FaissMemoryOptimizedSearcher", 0, fileSize);
     }
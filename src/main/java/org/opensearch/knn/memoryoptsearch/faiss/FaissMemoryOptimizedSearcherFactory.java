@@ -12,6 +12,7 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.ReadAdvice;
 import org.apache.lucene.util.IOUtils;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcherFactory;
 
@@ -35,7 +36,7 @@ public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactor
 
         try {
             // Try load it. Not all FAISS index types are currently supported at the moment.
-            return new FaissMemoryOptimizedSearcher(indexInput, fieldInfo);
+            return new FaissMemoryOptimizedSearcher(indexInput, fieldInfo, KNNSettings.isMemoryOptimizedSearchCompactGraphEnabled());
         } catch (UnsupportedFaissIndexException e) {
             // Clean up input stream.
             try {
@@ -0,0 +1,261 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.util.VectorUtil;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizerType;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+/**
+ * A vector scorer computing L2 and inner product directly on scalar quantized codes of {@link FaissIndexScalarQuantizedFlat}.
+ * Compared to scoring {@link org.apache.lucene.index.FloatVectorValues} of the index, a code is neither reconstructed into a
+ * separate float[] nor read after a seek. It is read with a positional read, then scored in a single pass against a query
+ * that was encoded once when creating the scorer.
+ * <p>
+ * Supported quantizer types are `QT_FP16`, `QT_BF16` and `QT_8BIT_DIRECT_SIGNED`. FAISS only has L2 and inner product metrics,
+ * therefore only {@link VectorSimilarityFunction#EUCLIDEAN} and {@link VectorSimilarityFunction#MAXIMUM_INNER_PRODUCT} are
+ * supported, producing the same scores as Lucene does on reconstructed vectors.
+ */
+public abstract class FaissScalarQuantizedVectorScorer extends RandomVectorScorer.AbstractRandomVectorScorer {
+    private static final boolean IS_LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private final RandomAccessInput codes;
+    private final byte[] code;
+    protected final boolean isL2;
+    protected final int dimension;
+
+    protected FaissScalarQuantizedVectorScorer(
+        final KnnVectorValues values,
+        final RandomAccessInput codes,
+        final int codeSize,
+        final boolean isL2
+    ) {
+        super(values);
+        this.codes = codes;
+        this.code = new byte[codeSize];
+        this.isL2 = isL2;
+        this.dimension = values.dimension();
+    }
+
+    /**
+     * Create a scorer for a float query.
+     *
+     * @param quantizerType Quantizer type of the codes.
+     * @param codes Positional accessor to codes, see {@link FaissIndexScalarQuantizedFlat#getCodes}.
+     * @param values Vector values of the index, used for ord to doc mapping and filtering.
+     * @param similarityFunction Similarity function.
+     * @param target Query vector.
+     * @return A scorer, or null if the given quantizer type or similarity function is not supported.
+     */
+    public static RandomVectorScorer create(
+        final FaissQuantizerType quantizerType,
+        final RandomAccessInput codes,
+        final KnnVectorValues values,
+        final VectorSimilarityFunction similarityFunction,
+        final float[] target
+    ) {
+        if (isSupported(similarityFunction) == false) {
+            return null;
+        }
+        final boolean isL2 = similarityFunction == VectorSimilarityFunction.EUCLIDEAN;
+        return switch (quantizerType) {
+            case QT_FP16 -> new FP16Scorer(values, codes, isL2, target);
+            case QT_BF16 -> new BF16Scorer(values, codes, isL2, target);
+            default -> null;
+        };
+    }
+
+    /**
+     * Create a scorer for a byte query.
+     *
+     * @param quantizerType Quantizer type of the codes.
+     * @param codes Positional accessor to codes, see {@link FaissIndexScalarQuantizedFlat#getCodes}.
+     * @param values Vector values of the index, used for ord to doc mapping and filtering.
+     * @param similarityFunction Similarity function.
+     * @param target Query vector.
+     * @return A scorer, or null if the given quantizer type or similarity function is not supported.
+     */
+    public static RandomVectorScorer create(
+        final FaissQuantizerType quantizerType,
+        final RandomAccessInput codes,
+        final KnnVectorValues values,
+        final VectorSimilarityFunction similarityFunction,
+        final byte[] target
+    ) {
+        if (isSupported(similarityFunction) == false || quantizerType != FaissQuantizerType.QT_8BIT_DIRECT_SIGNED) {
+            return null;
+        }
+        return new Int8DirectSignedScorer(values, codes, similarityFunction == VectorSimilarityFunction.EUCLIDEAN, target);
+    }
+
+    private static boolean isSupported(final VectorSimilarityFunction similarityFunction) {
+        return similarityFunction == VectorSimilarityFunction.EUCLIDEAN
+            || similarityFunction == VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT;
+    }
+
+    @Override
+    public float score(final int internalVectorId) throws IOException {
+        codes.readBytes((long) internalVectorId * code.length, code, 0, code.length);
+        final float value = compare(code);
+        if (isL2) {
+            return 1 / (1 + value);
+        }
+        return VectorUtil.scaleMaxInnerProductScore(value);
+    }
+
+    /**
+     * Compare the query against a code.
+     *
+     * @param code Quantized code of a vector.
+     * @return Squared L2 distance when {@link #isL2} is true, otherwise inner product.
+     */
+    protected abstract float compare(byte[] code);
+
+    private static final class FP16Scorer extends FaissScalarQuantizedVectorScorer {
+        private final float[] query;
+
+        private FP16Scorer(final KnnVectorValues values, final RandomAccessInput codes, final boolean isL2, final float[] query) {
+            super(values, codes, Short.BYTES * values.dimension(), isL2);
+            this.query = query;
+        }
+
+        @Override
+        protected float compare(final byte[] code) {
+            // Four accumulators to break the dependency chain of additions.
+            float acc0 = 0, acc1 = 0, acc2 = 0, acc3 = 0;
+            final int upperBound = dimension & ~3;
+            int i = 0;
+            if (isL2) {
+                for (; i < upperBound; i += 4) {
+                    final float d0 = query[i] - fp16(code, i);
+                    final float d1 = query[i + 1] - fp16(code, i + 1);
+                    final float d2 = query[i + 2] - fp16(code, i + 2);
+                    final float d3 = query[i + 3] - fp16(code, i + 3);
+                    acc0 += d0 * d0;
+                    acc1 += d1 * d1;
+                    acc2 += d2 * d2;
+                    acc3 += d3 * d3;
+                }
+                for (; i < dimension; i++) {
+                    final float d = query[i] - fp16(code, i);
+                    acc0 += d * d;
+                }
+            } else {
+                for (; i < upperBound; i += 4) {
+                    acc0 += query[i] * fp16(code, i);
+                    acc1 += query[i + 1] * fp16(code, i + 1);
+                    acc2 += query[i + 2] * fp16(code, i + 2);
+                    acc3 += query[i + 3] * fp16(code, i + 3);
+                }
+                for (; i < dimension; i++) {
+                    acc0 += query[i] * fp16(code, i);
+                }
+            }
+            return acc0 + acc1 + acc2 + acc3;
+        }
+
+        private static float fp16(final byte[] code, final int index) {
+            return Float.float16ToFloat(readUInt16(code, index));
+        }
+    }
+
+    private static final class BF16Scorer extends FaissScalarQuantizedVectorScorer {
+        private final float[] query;
+
+        private BF16Scorer(final KnnVectorValues values, final RandomAccessInput codes, final boolean isL2, final float[] query) {
+            super(values, codes, Short.BYTES * values.dimension(), isL2);
+            this.query = query;
+        }
+
+        @Override
+        protected float compare(final byte[] code) {
+            float acc0 = 0, acc1 = 0;
+            final int upperBound = dimension & ~1;
+            int i = 0;
+            if (isL2) {
+                for (; i < upperBound; i += 2) {
+                    final float d0 = query[i] - bf16(code, i);
+                    final float d1 = query[i + 1] - bf16(code, i + 1);
+                    acc0 += d0 * d0;
+                    acc1 += d1 * d1;
+                }
+                if (i < dimension) {
+                    final float d = query[i] - bf16(code, i);
+                    acc0 += d * d;
+                }
+            } else {
+                for (; i < upperBound; i += 2) {
+                    acc0 += query[i] * bf16(code, i);
+                    acc1 += query[i + 1] * bf16(code, i + 1);
+                }
+                if (i < dimension) {
+                    acc0 += query[i] * bf16(code, i);
+                }
+            }
+            return acc0 + acc1;
+        }
+
+        private static float bf16(final byte[] code, final int index) {
+            // bfloat16 is the upper 16 bits of float32.
+            return Float.intBitsToFloat(readUInt16(code, index) << 16);
+        }
+    }
+
+    private static final class Int8DirectSignedScorer extends FaissScalarQuantizedVectorScorer {
+        // For L2, the query shifted into the unsigned domain of codes. For inner product, the query as is.
+        private final int[] encodedQuery;
+        // Correction term for inner product, as a code `c` represents `c - 128`.
+        private final int innerProductCorrection;
+
+        private Int8DirectSignedScorer(
+            final KnnVectorValues values,
+            final RandomAccessInput codes,
+            final boolean isL2,
+            final byte[] query
+        ) {
+            super(values, codes, values.dimension(), isL2);
+            encodedQuery = new int[dimension];
+            int querySum = 0;
+            for (int i = 0; i < dimension; i++) {
+                encodedQuery[i] = isL2 ? query[i] + 128 : query[i];
+                querySum += query[i];
+            }
+            innerProductCorrection = 128 * querySum;
+        }
+
+        @Override
+        protected float compare(final byte[] code) {
+            // Integer reductions are auto vectorized by JIT.
+            int sum = 0;
+            if (isL2) {
+                for (int i = 0; i < dimension; i++) {
+                    final int diff = (code[i] & 0xFF) - encodedQuery[i];
+                    sum += diff * diff;
+                }
+                return sum;
+            }
+
+            for (int i = 0; i < dimension; i++) {
+                sum += (code[i] & 0xFF) * encodedQuery[i];
+            }
+            return sum - innerProductCorrection;
+        }
+    }
+
+    private static short readUInt16(final byte[] code, final int index) {
+        final int offset = index << 1;
+        if (IS_LITTLE_ENDIAN) {
+            return (short) ((code[offset] & 0xFF) | ((code[offset + 1] & 0xFF) << 8));
+        }
+        return (short) (((code[offset] & 0xFF) << 8) | (code[offset + 1] & 0xFF));
+    }
+}
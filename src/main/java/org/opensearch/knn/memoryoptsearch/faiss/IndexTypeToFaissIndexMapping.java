@@ -10,6 +10,8 @@ import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissIndexBinaryFlat;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissHNSWCagraBinaryIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissHNSWCagraIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFFlatIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFPQIndex;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +39,8 @@ public class IndexTypeToFaissIndexMapping {
         mapping.put(FaissIndexScalarQuantizedFlat.IXSQ, (indexType) -> new FaissIndexScalarQuantizedFlat());
         mapping.put(FaissHNSWCagraIndex.IHNC, FaissHNSWCagraIndex::new);
         mapping.put(FaissHNSWCagraIndex.IHNC2, FaissHNSWCagraIndex::new);
+        mapping.put(FaissIVFFlatIndex.IWFL, (indexType) -> new FaissIVFFlatIndex());
+        mapping.put(FaissIVFPQIndex.IWPQ, (indexType) -> new FaissIVFPQIndex());
 
         // Binary index
         mapping.put(FaissIndexBinaryFlat.IBXF, (indexType) -> new FaissIndexBinaryFlat());
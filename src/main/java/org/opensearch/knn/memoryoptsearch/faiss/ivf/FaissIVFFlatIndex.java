@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+
+/**
+ * An IVF index storing full precision float vectors in its inverted lists. This is the ported version of `IndexIVFFlat` from FAISS.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVFFlat.h">IndexIVFFlat.h</a>
+ */
+public class FaissIVFFlatIndex extends FaissIVFIndex {
+    public static final String IWFL = "IwFl";
+
+    public FaissIVFFlatIndex() {
+        super(IWFL);
+    }
+
+    /**
+     * Partially load IVF header and inverted lists. Codes are raw float vectors, so a code occupies `dimension * sizeof(float)` bytes.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp#L1016">...</a>
+     *
+     * @param input Input stream for FAISS index file.
+     * @throws IOException
+     */
+    @Override
+    protected void doLoad(final IndexInput input) throws IOException {
+        readIVFHeader(input);
+        invertedLists = FaissInvertedLists.load(input, numLists, (long) Float.BYTES * dimension);
+    }
+
+    @Override
+    protected InvertedListScanner createScanner(final IndexInput indexInput, final float[] query) {
+        final float[] buffer = new float[dimension];
+        final boolean isL2 = spaceType == SpaceType.L2;
+
+        return new InvertedListScanner() {
+            @Override
+            public void setList(int listNo, float[] centroid) {
+                // Codes are not encoded relative to centroids.
+            }
+
+            @Override
+            public float score(IndexInput input) throws IOException {
+                input.readFloats(buffer, 0, buffer.length);
+                return toScore(isL2 ? VectorUtil.squareDistance(query, buffer) : VectorUtil.dotProduct(query, buffer));
+            }
+        };
+    }
+}
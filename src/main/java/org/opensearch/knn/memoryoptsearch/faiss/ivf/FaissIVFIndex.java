@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.VectorUtil;
+import org.apache.lucene.util.hnsw.NeighborQueue;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexFloatFlat;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+
+/**
+ * Base class of IVF indices. An IVF index partitions vectors into `nlist` inverted lists, each list is represented by a centroid
+ * stored in a coarse quantizer. A search first picks the `nprobe` closest centroids to the query, then only scans the codes of
+ * those lists.
+ * <p>
+ * The centroids of the coarse quantizer are loaded in memory once, as every search compares the query to all of them. The
+ * inverted lists are partially loaded, only list sizes and offsets are kept in memory.
+ * <p>
+ * IVF indices only hold float vectors, and are only searched through {@link #search}. Codes of the inverted lists are not
+ * laid out as flat vectors, so the index does not expose vector values.
+ * Note that the `nprobe` saved in the index is used for searching, which is the value configured when training the model.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVF.h">IndexIVF.h</a>
+ */
+@Getter
+public abstract class FaissIVFIndex extends FaissIndex {
+    // Values of DirectMap::Type
+    private static final int DIRECT_MAP_HASHTABLE = 2;
+
+    protected int numLists;
+    protected int nprobe;
+    protected FaissIndexFloatFlat quantizer;
+    // Centroid of every inverted list, read from the coarse quantizer
+    @Getter(AccessLevel.NONE)
+    protected float[][] centroids;
+    protected FaissInvertedLists invertedLists;
+
+    public FaissIVFIndex(final String indexType) {
+        super(indexType);
+    }
+
+    /**
+     * Load the header shared by all IVF indices, including the coarse quantizer.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp#L466">read_ivf_header</a>
+     *
+     * @param input Input stream for FAISS index file.
+     * @throws IOException
+     */
+    protected void readIVFHeader(final IndexInput input) throws IOException {
+        readCommonHeader(input);
+        numLists = Math.toIntExact(input.readLong());
+        nprobe = Math.toIntExact(input.readLong());
+
+        final FaissIndex quantizerIndex = FaissIndex.load(input);
+        if (quantizerIndex instanceof FaissIndexFloatFlat flatQuantizer) {
+            quantizer = flatQuantizer;
+        } else {
+            throw new UnsupportedFaissIndexException("Coarse quantizer [" + quantizerIndex.getIndexType() + "] is not supported.");
+        }
+        centroids = readCentroids(quantizer.getFloatValues(input.clone()), numLists);
+
+        // Skip direct map. It is only used to reconstruct vectors by id, which is not required for search.
+        final int directMapType = input.readByte();
+        long size = input.readLong();
+        input.skipBytes(size * Long.BYTES);
+        if (directMapType == DIRECT_MAP_HASHTABLE) {
+            size = input.readLong();
+            input.skipBytes(size * 2 * Long.BYTES);
+        }
+    }
+
+    private static float[][] readCentroids(final FloatVectorValues quantizerVectors, final int numLists) throws IOException {
+        if (quantizerVectors.size() != numLists) {
+            throw new IllegalStateException(
+                "Coarse quantizer has [" + quantizerVectors.size() + "] centroids while the index has [" + numLists + "] lists."
+            );
+        }
+        final float[][] centroids = new float[numLists][];
+        for (int listNo = 0; listNo < numLists; listNo++) {
+            centroids[listNo] = quantizerVectors.vectorValue(listNo).clone();
+        }
+        return centroids;
+    }
+
+    @Override
+    public VectorEncoding getVectorEncoding() {
+        return VectorEncoding.FLOAT32;
+    }
+
+    /**
+     * Not supported, IVF indices are searched through {@link #search}.
+     */
+    @Override
+    public FloatVectorValues getFloatValues(final IndexInput indexInput) {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support " + FloatVectorValues.class.getSimpleName()
+        );
+    }
+
+    /**
+     * Not supported, IVF indices only hold float vectors and are searched through {@link #search}.
+     */
+    @Override
+    public ByteVectorValues getByteValues(final IndexInput indexInput) {
+        throw new UnsupportedOperationException(
+            getClass().getSimpleName() + " does not support " + ByteVectorValues.class.getSimpleName()
+        );
+    }
+
+    /**
+     * Search the `nprobe` closest inverted lists and collect internal vector ids along with their scores.
+     *
+     * @param indexInput Input stream to the FAISS index file. It must not be shared with other threads.
+     * @param query Query vector
+     * @param knnCollector Collector receiving internal vector ids.
+     * @param acceptOrds Accepted internal vector ids, null if all vectors are accepted.
+     * @throws IOException
+     */
+    public void search(final IndexInput indexInput, final float[] query, final KnnCollector knnCollector, final Bits acceptOrds)
+        throws IOException {
+        final int[] probedLists = probe(query);
+        final InvertedListScanner scanner = createScanner(indexInput, query);
+        final long codeSize = invertedLists.getCodeSize();
+        long[] ids = new long[0];
+
+        for (final int listNo : probedLists) {
+            final int listSize = invertedLists.getListSize(listNo);
+            if (listSize == 0) {
+                continue;
+            }
+
+            ids = ArrayUtil.grow(ids, listSize);
+            invertedLists.readIds(indexInput, listNo, ids);
+            scanner.setList(listNo, centroids[listNo]);
+
+            final long codesOffset = invertedLists.getCodesOffset(listNo);
+            boolean positioned = false;
+            for (int i = 0; i < listSize; i++) {
+                if (knnCollector.earlyTerminated()) {
+                    return;
+                }
+
+                final int internalVectorId = (int) ids[i];
+                if (acceptOrds != null && acceptOrds.get(internalVectorId) == false) {
+                    positioned = false;
+                    continue;
+                }
+
+                if (positioned == false) {
+                    indexInput.seek(codesOffset + i * codeSize);
+                    positioned = true;
+                }
+                knnCollector.incVisitedCount(1);
+                knnCollector.collect(internalVectorId, scanner.score(indexInput));
+            }
+        }
+    }
+
+    /**
+     * Pick the `nprobe` lists whose centroids are the closest to the query, the closest first.
+     */
+    private int[] probe(final float[] query) {
+        final int numProbes = Math.min(Math.max(1, nprobe), numLists);
+        // Min heap on similarity, so that the least similar centroid gets evicted first.
+        final NeighborQueue queue = new NeighborQueue(numProbes, false);
+        final boolean isL2 = spaceType == SpaceType.L2;
+        for (int listNo = 0; listNo < numLists; listNo++) {
+            final float[] centroid = centroids[listNo];
+            final float similarity = isL2 ? -VectorUtil.squareDistance(query, centroid) : VectorUtil.dotProduct(query, centroid);
+            queue.insertWithOverflow(listNo, similarity);
+        }
+
+        final int[] probedLists = new int[queue.size()];
+        for (int i = probedLists.length - 1; i >= 0; i--) {
+            probedLists[i] = queue.pop();
+        }
+        return probedLists;
+    }
+
+    /**
+     * Convert a raw distance (L2) or inner product computed by FAISS into a score, larger being more similar.
+     * This matches the similarity functions used by Lucene, so that scores are consistent with other memory optimized searches.
+     */
+    protected float toScore(final float distance) {
+        if (spaceType == SpaceType.L2) {
+            return 1 / (1 + distance);
+        }
+        return VectorUtil.scaleMaxInnerProductScore(distance);
+    }
+
+    /**
+     * Create a scanner computing scores for codes stored in inverted lists. A scanner is created per search.
+     *
+     * @param indexInput Input stream to the FAISS index file.
+     * @param query Query vector
+     * @return Scanner for the query
+     * @throws IOException
+     */
+    protected abstract InvertedListScanner createScanner(IndexInput indexInput, float[] query) throws IOException;
+
+    /**
+     * Scores codes of inverted lists against a query.
+     */
+    protected interface InvertedListScanner {
+        /**
+         * Prepare scanning a new inverted list.
+         *
+         * @param listNo List number
+         * @param centroid Centroid of the list. The array is shared by all searches, and must not be modified.
+         */
+        void setList(int listNo, float[] centroid) throws IOException;
+
+        /**
+         * Read the code at the current position of the input, then return its score.
+         *
+         * @param indexInput Input positioned at the code to score.
+         * @return Score of the code, larger being more similar.
+         */
+        float score(IndexInput indexInput) throws IOException;
+    }
+}
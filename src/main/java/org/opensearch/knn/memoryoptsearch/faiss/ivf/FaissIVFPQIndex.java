@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+
+/**
+ * An IVF index storing product quantized vectors in its inverted lists. This is the ported version of `IndexIVFPQ` from FAISS.
+ * When encoded by residual, each code approximates `x - centroid` of its list, therefore:
+ * <ul>
+ *   <li>For L2, the distance table is computed per probed list on the residual of the query `q - centroid`.</li>
+ *   <li>For inner product, `<q, centroid + r> = <q, centroid> + <q, r>`, so one table is computed per query and only the
+ *       inner product with the centroid is added per list.</li>
+ * </ul>
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVFPQ.h">IndexIVFPQ.h</a>
+ */
+@Getter
+public class FaissIVFPQIndex extends FaissIVFIndex {
+    public static final String IWPQ = "IwPQ";
+
+    private boolean byResidual;
+    private final FaissProductQuantizer productQuantizer = new FaissProductQuantizer();
+
+    public FaissIVFPQIndex() {
+        super(IWPQ);
+    }
+
+    /**
+     * Partially load IVF header, product quantizer and inverted lists.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp#L720">read_ivfpq</a>
+     *
+     * @param input Input stream for FAISS index file.
+     * @throws IOException
+     */
+    @Override
+    protected void doLoad(final IndexInput input) throws IOException {
+        readIVFHeader(input);
+        byResidual = input.readByte() == 1;
+        final long codeSize = input.readLong();
+        productQuantizer.load(input);
+        if (codeSize != productQuantizer.getCodeSize()) {
+            throw new IllegalStateException(
+                "Got an inconsistent code size [" + codeSize + "] while PQ code size is [" + productQuantizer.getCodeSize() + "]"
+            );
+        }
+        invertedLists = FaissInvertedLists.load(input, numLists, codeSize);
+    }
+
+    @Override
+    protected InvertedListScanner createScanner(final IndexInput indexInput, final float[] query) throws IOException {
+        final boolean isL2 = spaceType == SpaceType.L2;
+        final float[] table = new float[productQuantizer.getNumSubQuantizers() * productQuantizer.getNumCentroids()];
+        final byte[] code = new byte[Math.toIntExact(productQuantizer.getCodeSize())];
+
+        if (isL2 && byResidual) {
+            final float[] residual = new float[dimension];
+            return new InvertedListScanner() {
+                @Override
+                public void setList(int listNo, float[] centroid) {
+                    for (int i = 0; i < dimension; i++) {
+                        residual[i] = query[i] - centroid[i];
+                    }
+                    productQuantizer.computeDistanceTable(residual, true, table);
+                }
+
+                @Override
+                public float score(IndexInput input) throws IOException {
+                    input.readBytes(code, 0, code.length);
+                    return toScore(productQuantizer.distance(code, table));
+                }
+            };
+        }
+
+        // The table does not depend on the list, compute it only once.
+        productQuantizer.computeDistanceTable(query, isL2, table);
+        return new InvertedListScanner() {
+            private float listBias;
+
+            @Override
+            public void setList(int listNo, float[] centroid) {
+                listBias = byResidual ? VectorUtil.dotProduct(query, centroid) : 0;
+            }
+
+            @Override
+            public float score(IndexInput input) throws IOException {
+                input.readBytes(code, 0, code.length);
+                return toScore(listBias + productQuantizer.distance(code, table));
+            }
+        };
+    }
+}
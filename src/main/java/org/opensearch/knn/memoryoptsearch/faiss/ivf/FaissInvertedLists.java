@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexLoadUtils;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+
+/**
+ * Inverted lists of an IVF index, stored as `ArrayInvertedLists` in FAISS.
+ * Only the size and the starting offset of each list are kept in memory. Codes and ids are read through {@link IndexInput}
+ * during the search, so they can be served from page cache.
+ * <p>
+ * Layout of each non-empty list, one list after another:
+ * <pre>
+ * +----------------------------+
+ * | codes : size * codeSize    |
+ * +----------------------------+
+ * | ids   : size * int64       |
+ * +----------------------------+
+ * </pre>
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp#L280">read_InvertedLists</a>
+ */
+public class FaissInvertedLists {
+    public static final String ILAR = "ilar";
+    public static final String IL00 = "il00";
+    private static final String FULL = "full";
+    private static final String SPARSE = "sprs";
+
+    @Getter
+    private final int numLists;
+    @Getter
+    private final long codeSize;
+    private final int[] listSizes;
+    private final long[] listOffsets;
+
+    private FaissInvertedLists(final int numLists, final long codeSize) {
+        this.numLists = numLists;
+        this.codeSize = codeSize;
+        this.listSizes = new int[numLists];
+        this.listOffsets = new long[numLists];
+    }
+
+    /**
+     * Partially load inverted lists. Only the directory of lists is loaded, codes and ids are skipped.
+     *
+     * @param input Input stream positioned at the inverted lists section.
+     * @param expectedNumLists Number of lists declared in IVF header.
+     * @param expectedCodeSize Size in bytes of one code, as derived from the index type.
+     * @return Loaded inverted lists.
+     * @throws IOException
+     */
+    public static FaissInvertedLists load(final IndexInput input, final int expectedNumLists, final long expectedCodeSize)
+        throws IOException {
+        final String listsType = FaissIndexLoadUtils.readIndexType(input);
+        if (listsType.equals(IL00)) {
+            // No inverted lists were stored, which means the index is empty.
+            return new FaissInvertedLists(expectedNumLists, expectedCodeSize);
+        }
+        if (listsType.equals(ILAR) == false) {
+            throw new UnsupportedFaissIndexException("Inverted lists type [" + listsType + "] is not supported.");
+        }
+
+        final int numLists = Math.toIntExact(input.readLong());
+        final long codeSize = input.readLong();
+        if (numLists != expectedNumLists || codeSize != expectedCodeSize) {
+            throw new IllegalStateException(
+                "Got inconsistent inverted lists, numLists="
+                    + numLists
+                    + ", codeSize="
+                    + codeSize
+                    + " while expecting numLists="
+                    + expectedNumLists
+                    + ", codeSize="
+                    + expectedCodeSize
+            );
+        }
+
+        final FaissInvertedLists invertedLists = new FaissInvertedLists(numLists, codeSize);
+        invertedLists.readListSizes(input);
+
+        // Mark the offset of each list, then skip its codes and ids.
+        for (int i = 0; i < numLists; i++) {
+            final int size = invertedLists.listSizes[i];
+            if (size > 0) {
+                final long offset = input.getFilePointer();
+                invertedLists.listOffsets[i] = offset;
+                input.seek(offset + size * (codeSize + Long.BYTES));
+            }
+        }
+        return invertedLists;
+    }
+
+    private void readListSizes(final IndexInput input) throws IOException {
+        final String sizesType = FaissIndexLoadUtils.readIndexType(input);
+        final long numSizes = input.readLong();
+        if (sizesType.equals(FULL)) {
+            if (numSizes != numLists) {
+                throw new IllegalStateException("Got [" + numSizes + "] list sizes while having [" + numLists + "] lists.");
+            }
+            for (int i = 0; i < numLists; i++) {
+                listSizes[i] = Math.toIntExact(input.readLong());
+            }
+        } else if (sizesType.equals(SPARSE)) {
+            // Pairs of (list number, list size) for non-empty lists only.
+            for (long i = 0; i < numSizes; i += 2) {
+                final int listNo = Math.toIntExact(input.readLong());
+                listSizes[listNo] = Math.toIntExact(input.readLong());
+            }
+        } else {
+            throw new UnsupportedFaissIndexException("Inverted list sizes type [" + sizesType + "] is not supported.");
+        }
+    }
+
+    /**
+     * @param listNo List number
+     * @return Number of vectors in the list.
+     */
+    public int getListSize(final int listNo) {
+        return listSizes[listNo];
+    }
+
+    /**
+     * @param listNo List number
+     * @return Offset of the first code of the list.
+     */
+    public long getCodesOffset(final int listNo) {
+        return listOffsets[listNo];
+    }
+
+    /**
+     * Read the internal vector ids of a list.
+     *
+     * @param input Input stream to the FAISS index file.
+     * @param listNo List number
+     * @param buffer Buffer to reuse, must be able to hold {@link #getListSize(int)} ids.
+     * @throws IOException
+     */
+    public void readIds(final IndexInput input, final int listNo, final long[] buffer) throws IOException {
+        final int size = listSizes[listNo];
+        input.seek(listOffsets[listNo] + size * codeSize);
+        input.readLongs(buffer, 0, size);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+
+/**
+ * Product quantizer splitting a vector into `M` sub vectors of `dsub = d / M` dimensions, each encoded as the index of its closest
+ * sub centroid among `ksub = 2^nbits` centroids. Centroids are loaded in memory once, as every distance table reads all of them,
+ * and they take `d * ksub` floats at most.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/ProductQuantizer.h">ProductQuantizer.h</a>
+ */
+@Getter
+public class FaissProductQuantizer {
+    private int dimension;
+    private int numSubQuantizers;
+    private int nbits;
+    private int subDimension;
+    private int numCentroids;
+    private long codeSize;
+    // centroids[m * ksub + j] is the `j`th centroid of the `m`th sub quantizer, of `dsub` dimensions.
+    private float[][] centroids;
+
+    /**
+     * Load product quantizer.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp#L245">read_ProductQuantizer</a>
+     *
+     * @param input Input stream for FAISS index file.
+     * @throws IOException
+     */
+    public void load(final IndexInput input) throws IOException {
+        dimension = Math.toIntExact(input.readLong());
+        numSubQuantizers = Math.toIntExact(input.readLong());
+        nbits = Math.toIntExact(input.readLong());
+        if (numSubQuantizers <= 0 || dimension % numSubQuantizers != 0) {
+            throw new IllegalStateException("Dimension [" + dimension + "] is not a multiple of M [" + numSubQuantizers + "]");
+        }
+        if (nbits <= 0 || nbits > Short.SIZE) {
+            throw new UnsupportedFaissIndexException("Unsupported number of bits per sub quantizer code [" + nbits + "]");
+        }
+        subDimension = dimension / numSubQuantizers;
+        numCentroids = 1 << nbits;
+        codeSize = ((long) numSubQuantizers * nbits + 7) / 8;
+
+        final long numFloats = input.readLong();
+        if (numFloats != (long) dimension * numCentroids) {
+            throw new IllegalStateException(
+                "Got an inconsistent bytes size of PQ centroids [" + Float.BYTES * numFloats + "] for d=" + dimension + ", nbits=" + nbits
+            );
+        }
+        centroids = new float[numSubQuantizers * numCentroids][subDimension];
+        for (final float[] centroid : centroids) {
+            input.readFloats(centroid, 0, subDimension);
+        }
+    }
+
+    /**
+     * Compute the asymmetric distance table of a query : table[m * ksub + j] is the distance between the `m`th sub vector of the
+     * query and the `j`th centroid of the `m`th sub quantizer.
+     *
+     * @param query Query vector, or residual of the query.
+     * @param isL2 True to compute squared L2 distances, otherwise inner products.
+     * @param table Table to fill, of size `M * ksub`.
+     */
+    public void computeDistanceTable(final float[] query, final boolean isL2, final float[] table) {
+        final float[] subQuery = new float[subDimension];
+        for (int m = 0; m < numSubQuantizers; m++) {
+            System.arraycopy(query, m * subDimension, subQuery, 0, subDimension);
+            for (int j = 0; j < numCentroids; j++) {
+                final float[] centroid = centroids[m * numCentroids + j];
+                table[m * numCentroids + j] = isL2
+                    ? VectorUtil.squareDistance(subQuery, centroid)
+                    : VectorUtil.dotProduct(subQuery, centroid);
+            }
+        }
+    }
+
+    /**
+     * Sum the distances of each sub code from a distance table built by {@link #computeDistanceTable}.
+     * Sub codes are packed with `nbits` bits each, least significant bits first.
+     *
+     * @param code Encoded vector
+     * @param table Distance table of the query
+     * @return Distance between the query and the encoded vector.
+     */
+    public float distance(final byte[] code, final float[] table) {
+        float distance = 0;
+        if (nbits == Byte.SIZE) {
+            for (int m = 0, offset = 0; m < numSubQuantizers; m++, offset += numCentroids) {
+                distance += table[offset + (code[m] & 0xFF)];
+            }
+            return distance;
+        }
+
+        final long mask = (1L << nbits) - 1;
+        for (int m = 0, offset = 0; m < numSubQuantizers; m++, offset += numCentroids) {
+            final int bitOffset = m * nbits;
+            final int byteOffset = bitOffset >>> 3;
+            final int shift = bitOffset & 7;
+            long bits = 0;
+            for (int i = 0, s = 0; s < shift + nbits; i++, s += Byte.SIZE) {
+                bits |= (long) (code[byteOffset + i] & 0xFF) << s;
+            }
+            distance += table[offset + (int) ((bits >>> shift) & mask)];
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.reconstruct;
+
+import java.nio.ByteOrder;
+
+public class FaissBF16Reconstructor extends FaissQuantizedValueReconstructor {
+    private final boolean isLittleEndian;
+
+    public FaissBF16Reconstructor(int dimension, int oneVectorElementBits) {
+        super(dimension, oneVectorElementBits);
+        // Same as FP16, bfloat16 values are written as uint16_t in the native byte order.
+        isLittleEndian = (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void reconstruct(final byte[] quantizedBytes, final float[] floats) {
+        if (isLittleEndian) {
+            for (int i = 0, j = 0; j < dimension; i += 2, ++j) {
+                // bfloat16 is the upper 16 bits of float32.
+                floats[j] = Float.intBitsToFloat(((quantizedBytes[i] & 0xFF) << 16) | ((quantizedBytes[i + 1] & 0xFF) << 24));
+            }
+        } else {
+            for (int i = 0, j = 0; j < dimension; i += 2, ++j) {
+                floats[j] = Float.intBitsToFloat(((quantizedBytes[i] & 0xFF) << 24) | ((quantizedBytes[i + 1] & 0xFF) << 16));
+            }
+        }
+    }
+}
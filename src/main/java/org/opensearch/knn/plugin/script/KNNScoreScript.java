@@ -142,7 +142,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getScoringValue());
         }
     }
 
@@ -178,7 +178,7 @@ public abstract class KNNScoreScript<T> extends ScoreScript {
             if (scriptDocValues.isEmpty()) {
                 return 0.0;
             }
-            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getValue());
+            return this.scoringMethod.apply(this.queryValue, scriptDocValues.getScoringValue());
         }
     }
 }
@@ -420,9 +420,9 @@ public class KNNScoringUtil {
         final VectorDataType vectorDataType = docValues.getVectorDataType();
         requireNonBinaryType("l2Squared", vectorDataType);
         if (VectorDataType.FLOAT == vectorDataType) {
-            return l2Squared(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getValue());
+            return l2Squared(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getScoringValue());
         }
-        return l2Squared(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getValue());
+        return l2Squared(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getScoringValue());
     }
 
     /**
@@ -445,9 +445,9 @@ public class KNNScoringUtil {
         final VectorDataType vectorDataType = docValues.getVectorDataType();
         requireNonBinaryType("lInfNorm", vectorDataType);
         if (VectorDataType.FLOAT == vectorDataType) {
-            return lInfNorm(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getValue());
+            return lInfNorm(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getScoringValue());
         }
-        return lInfNorm(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getValue());
+        return lInfNorm(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getScoringValue());
     }
 
     /**
@@ -470,9 +470,9 @@ public class KNNScoringUtil {
         final VectorDataType vectorDataType = docValues.getVectorDataType();
         requireNonBinaryType("l1Norm", vectorDataType);
         if (VectorDataType.FLOAT == vectorDataType) {
-            return l1Norm(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getValue());
+            return l1Norm(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getScoringValue());
         }
-        return l1Norm(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getValue());
+        return l1Norm(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getScoringValue());
     }
 
     /**
@@ -495,9 +495,9 @@ public class KNNScoringUtil {
         final VectorDataType vectorDataType = docValues.getVectorDataType();
         requireNonBinaryType("innerProduct", vectorDataType);
         if (VectorDataType.FLOAT == vectorDataType) {
-            return innerProduct(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getValue());
+            return innerProduct(toFloat(queryVector, docValues.getVectorDataType()), (float[]) docValues.getScoringValue());
         }
-        return innerProduct(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getValue());
+        return innerProduct(toByte(queryVector, docValues.getVectorDataType()), (byte[]) docValues.getScoringValue());
     }
 
     /**
@@ -522,11 +522,11 @@ public class KNNScoringUtil {
         if (VectorDataType.FLOAT == vectorDataType) {
             float[] inputVector = toFloat(queryVector, docValues.getVectorDataType());
             SpaceType.COSINESIMIL.validateVector(inputVector);
-            return cosinesimil(inputVector, (float[]) docValues.getValue());
+            return cosinesimil(inputVector, (float[]) docValues.getScoringValue());
         } else {
             byte[] inputVector = toByte(queryVector, docValues.getVectorDataType());
             SpaceType.COSINESIMIL.validateVector(inputVector);
-            return cosinesimil(inputVector, (byte[]) docValues.getValue());
+            return cosinesimil(inputVector, (byte[]) docValues.getScoringValue());
         }
     }
 
@@ -553,9 +553,9 @@ public class KNNScoringUtil {
         float[] inputVector = toFloat(queryVector, docValues.getVectorDataType());
         SpaceType.COSINESIMIL.validateVector(inputVector);
         if (VectorDataType.FLOAT == vectorDataType) {
-            return cosinesimilOptimized(inputVector, (float[]) docValues.getValue(), queryVectorMagnitude.floatValue());
+            return cosinesimilOptimized(inputVector, (float[]) docValues.getScoringValue(), queryVectorMagnitude.floatValue());
         } else {
-            byte[] docVectorInByte = (byte[]) docValues.getValue();
+            byte[] docVectorInByte = (byte[]) docValues.getScoringValue();
             float[] docVectorInFloat = new float[docVectorInByte.length];
             for (int i = 0; i < docVectorInByte.length; i++) {
                 docVectorInFloat[i] = docVectorInByte[i];
@@ -583,6 +583,6 @@ public class KNNScoringUtil {
     public static float hamming(List<Number> queryVector, KNNVectorScriptDocValues<?> docValues) {
         requireBinaryType("hamming", docValues.getVectorDataType());
         byte[] queryVectorInByte = toByte(queryVector, docValues.getVectorDataType());
-        return calculateHammingBit(queryVectorInByte, (byte[]) docValues.getValue());
+        return calculateHammingBit(queryVectorInByte, (byte[]) docValues.getScoringValue());
     }
 }
@@ -10,22 +10,31 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 import org.opensearch.search.deciders.ConcurrentSearchDecision;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
+
 /**
  * Decides if the knn query uses concurrent segment search
  * As of 2.17, this is only used when
  *  - "index.search.concurrent_segment_search.mode": "auto" or
  *  - "search.concurrent_segment_search.mode": "auto"
  *
+ * By default, concurrent search is enabled for every k-NN query. When
+ * {@link KNNSettings#KNN_CONCURRENT_SEARCH_MIN_SLICE_COST} is set, the decision is based on the estimated number of vectors
+ * the query visits in every segment of the local shards, see {@link #decide}. Concurrent search is then only used when it
+ * spreads at least that many vectors on every slice, over at least two slices.
+ *
  *  Note: the class is not thread-safe and a new instance needs to be created for each request
  */
 @EqualsAndHashCode(callSuper = true)
 public class KNNConcurrentSearchRequestDecider extends ConcurrentSearchRequestDecider {
-
     private static final ConcurrentSearchDecision DEFAULT_KNN_DECISION = new ConcurrentSearchDecision(
         ConcurrentSearchDecision.DecisionStatus.NO_OP,
         "Default decision"
@@ -35,12 +44,21 @@ public class KNNConcurrentSearchRequestDecider extends ConcurrentSearchRequestDe
         "Enable concurrent search for knn as Query has k-NN query in it and index is k-nn index"
     );
 
+    private final KNNSegmentProfiler segmentProfiler;
     private ConcurrentSearchDecision knnDecision = DEFAULT_KNN_DECISION;
 
+    public KNNConcurrentSearchRequestDecider() {
+        this(KNNSegmentProfiler.getInstance());
+    }
+
+    KNNConcurrentSearchRequestDecider(final KNNSegmentProfiler segmentProfiler) {
+        this.segmentProfiler = segmentProfiler;
+    }
+
     @Override
     public void evaluateForQuery(final QueryBuilder queryBuilder, final IndexSettings indexSettings) {
         if (queryBuilder instanceof KNNQueryBuilder && indexSettings.getValue(KNNSettings.IS_KNN_INDEX_SETTING)) {
-            knnDecision = YES;
+            knnDecision = evaluate((KNNQueryBuilder) queryBuilder, indexSettings);
         } else {
             knnDecision = DEFAULT_KNN_DECISION;
         }
@@ -51,6 +69,105 @@ public class KNNConcurrentSearchRequestDecider extends ConcurrentSearchRequestDe
         return knnDecision;
     }
 
+    private ConcurrentSearchDecision evaluate(final KNNQueryBuilder knnQueryBuilder, final IndexSettings indexSettings) {
+        final long minSliceCost = KNNSettings.getConcurrentSearchMinSliceCost();
+        if (minSliceCost <= 0 || indexSettings.getIndex() == null) {
+            return YES;
+        }
+        final List<List<KNNSegmentProfiler.SegmentProfile>> shards = segmentProfiler.profile(
+            indexSettings.getIndex().getName(),
+            knnQueryBuilder.fieldName()
+        );
+        if (shards.isEmpty()) {
+            // Segments are unknown, e.g. while the shard is recovering
+            return YES;
+        }
+
+        // The request targets one of the local shards, which is not known here, so decide for the costliest one
+        final boolean filtered = knnQueryBuilder.getFilter() != null;
+        final int efSearch = Math.max(knnQueryBuilder.getK(), getEfSearch(knnQueryBuilder, indexSettings));
+        List<KNNSegmentProfiler.SegmentProfile> costliest = null;
+        long maxCost = -1;
+        for (List<KNNSegmentProfiler.SegmentProfile> segments : shards) {
+            final long shardCost = segments.stream().mapToLong(segment -> cost(segment, filtered, efSearch)).sum();
+            if (shardCost > maxCost) {
+                costliest = segments;
+                maxCost = shardCost;
+            }
+        }
+        final int slices = decide(costliest, filtered, efSearch, minSliceCost);
+        if (slices < 2) {
+            KNNCounter.CONCURRENT_SEARCH_NO_DECISIONS.increment();
+            return new ConcurrentSearchDecision(
+                ConcurrentSearchDecision.DecisionStatus.NO,
+                "Disable concurrent search for knn as the k-NN query is too cheap to be split across slices"
+            );
+        }
+        KNNCounter.CONCURRENT_SEARCH_YES_DECISIONS.increment();
+        KNNCounter.CONCURRENT_SEARCH_RECOMMENDED_SLICES.add(slices);
+        return new ConcurrentSearchDecision(
+            ConcurrentSearchDecision.DecisionStatus.YES,
+            "Enable concurrent search for knn as the k-NN query is costly enough for " + slices + " slices"
+        );
+    }
+
+    /**
+     * Recommend a number of slices for a k-NN query on the segments of a shard. Slices cannot split a segment, so a query
+     * whose cost is dominated by one segment does not benefit from more slices. Every slice should visit at least
+     * minSliceCost vectors to outweigh its overhead.
+     *
+     * @param segments segments of the shard holding the field
+     * @param filtered whether the query has a filter
+     * @param efSearch size of the candidate queue of a graph search
+     * @param minSliceCost smallest number of vectors worth a slice
+     * @return recommended number of slices, less than 2 if the query should run on one thread
+     */
+    static int decide(
+        final List<KNNSegmentProfiler.SegmentProfile> segments,
+        final boolean filtered,
+        final int efSearch,
+        final long minSliceCost
+    ) {
+        long totalCost = 0;
+        long maxSegmentCost = 0;
+        for (KNNSegmentProfiler.SegmentProfile segment : segments) {
+            final long segmentCost = cost(segment, filtered, efSearch);
+            totalCost += segmentCost;
+            maxSegmentCost = Math.max(maxSegmentCost, segmentCost);
+        }
+        if (maxSegmentCost == 0) {
+            return 0;
+        }
+        return (int) Math.min(segments.size(), Math.min(Math.ceilDiv(totalCost, maxSegmentCost), totalCost / minSliceCost));
+    }
+
+    /**
+     * Estimated number of vectors a query visits in a segment. A filter is evaluated over the segment and may lead to an
+     * exact search, and an uncached graph has to be loaded, or does not exist and the segment is searched exactly, so both
+     * cost about every vector of the segment. A search of a cached graph expands up to ef_search candidates on every level,
+     * each comparing the query to its m neighbors, and a graph of n nodes has about log_m(n) levels.
+     */
+    private static long cost(final KNNSegmentProfiler.SegmentProfile segment, final boolean filtered, final int efSearch) {
+        final long numVectors = segment.numVectors();
+        if (filtered || segment.graphCached() == false) {
+            return numVectors;
+        }
+        final int m = Math.max(2, segment.m());
+        final long levels = Math.max(1, (long) Math.ceil(Math.log(numVectors) / Math.log(m)));
+        return Math.min(numVectors, (long) efSearch * m * levels);
+    }
+
+    /**
+     * ef_search of the query, from its method parameters or else from the index setting.
+     */
+    private static int getEfSearch(final KNNQueryBuilder knnQueryBuilder, final IndexSettings indexSettings) {
+        final Map<String, ?> methodParameters = knnQueryBuilder.getMethodParameters();
+        if (methodParameters != null && methodParameters.get(METHOD_PARAMETER_EF_SEARCH) instanceof Integer efSearch) {
+            return efSearch;
+        }
+        return indexSettings.getValue(KNNSettings.INDEX_KNN_ALGO_PARAM_EF_SEARCH_SETTING);
+    }
+
     /**
      * Returns {@link KNNConcurrentSearchRequestDecider} when index.knn is true
      */
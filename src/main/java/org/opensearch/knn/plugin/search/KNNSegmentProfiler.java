@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfo;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
+import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.mapper.KNNVectorFieldType;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_M;
+
+/**
+ * Describes the segments of the local shards of k-NN indices, so that the cost of a k-NN query can be estimated before
+ * the query runs.
+ * <p>
+ * Shards of k-NN indices register themselves through {@link IndexEventListener} callbacks. A profile lists, for every
+ * segment holding the field, its number of live documents, which stands in for its number of vectors, the number of
+ * neighbors per node of the graph, and whether the graph of the field is loaded in the {@link NativeMemoryCacheManager}.
+ * <p>
+ * The segments of a field are read once per reader of the shard and cached until that reader is closed, which happens
+ * once a refresh or a merge replaced it. Only graph residency is looked up on every request, by cache key.
+ */
+@Log4j2
+public final class KNNSegmentProfiler implements IndexEventListener {
+    private static final String SEARCHER_SOURCE = "knn_segment_profile";
+    private static final KNNSegmentProfiler INSTANCE = new KNNSegmentProfiler();
+
+    private final Map<ShardId, IndexShard> shards = new ConcurrentHashMap<>();
+    private final Map<FieldKey, List<Segment>> segmentsByField = new ConcurrentHashMap<>();
+
+    KNNSegmentProfiler() {}
+
+    /**
+     * @return singleton instance
+     */
+    public static KNNSegmentProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Segment of a shard holding a k-NN field.
+     *
+     * @param numVectors number of live documents of the segment
+     * @param m number of neighbors per node of the graph
+     * @param graphCached whether the graph of the field is loaded in the cache
+     */
+    public record SegmentProfile(long numVectors, int m, boolean graphCached) {}
+
+    /**
+     * Segment of a field as read from the reader of the shard, with the cache key of its graph, null if it has none.
+     */
+    record Segment(long numVectors, int m, @Nullable String graphCacheKey) {}
+
+    private record FieldKey(ShardId shardId, String field) {}
+
+    @Override
+    public void afterIndexShardCreated(IndexShard indexShard) {
+        shards.put(indexShard.shardId(), indexShard);
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        shards.remove(shardId);
+        segmentsByField.keySet().removeIf(fieldKey -> fieldKey.shardId().equals(shardId));
+    }
+
+    /**
+     * Profile the segments of the started local shards of an index.
+     *
+     * @param indexName name of the index
+     * @param field name of the k-NN field
+     * @return segments of every local shard holding the field, empty if the index has no started local shard
+     */
+    public List<List<SegmentProfile>> profile(final String indexName, final String field) {
+        final List<List<SegmentProfile>> profiles = new ArrayList<>();
+        for (IndexShard indexShard : shards.values()) {
+            if (indexName.equals(indexShard.shardId().getIndexName()) == false || indexShard.state() != IndexShardState.STARTED) {
+                continue;
+            }
+            final List<Segment> segments = getSegments(indexShard, field);
+            if (segments != null) {
+                profiles.add(profile(segments, NativeMemoryCacheManager.getInstance()));
+            }
+        }
+        return profiles;
+    }
+
+    static List<SegmentProfile> profile(final List<Segment> segments, final NativeMemoryCacheManager cacheManager) {
+        final List<SegmentProfile> profiles = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            final boolean graphCached = segment.graphCacheKey() != null && cacheManager.isCached(segment.graphCacheKey());
+            profiles.add(new SegmentProfile(segment.numVectors(), segment.m(), graphCached));
+        }
+        return profiles;
+    }
+
+    private List<Segment> getSegments(final IndexShard indexShard, final String field) {
+        final FieldKey fieldKey = new FieldKey(indexShard.shardId(), field);
+        final List<Segment> cached = segmentsByField.get(fieldKey);
+        if (cached != null) {
+            return cached;
+        }
+        try (Engine.Searcher searcher = indexShard.acquireSearcher(SEARCHER_SOURCE)) {
+            final List<Segment> segments = readSegments(searcher.getIndexReader().leaves(), field, getM(indexShard, field));
+            final IndexReader.CacheHelper cacheHelper = searcher.getDirectoryReader().getReaderCacheHelper();
+            if (cacheHelper != null) {
+                segmentsByField.put(fieldKey, segments);
+                // The reader is closed once a refresh or a merge replaced it and its last searcher is released
+                cacheHelper.addClosedListener(key -> segmentsByField.remove(fieldKey, segments));
+            }
+            return segments;
+        } catch (Exception e) {
+            // The shard may be closing concurrently
+            log.debug("[KNN] Unable to profile the segments of shard {}", indexShard.shardId(), e);
+            return null;
+        }
+    }
+
+    static List<Segment> readSegments(final List<LeafReaderContext> leaves, final String field, final int m) {
+        final List<Segment> segments = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            final FieldInfo fieldInfo = leaf.reader().getFieldInfos().fieldInfo(field);
+            if (fieldInfo == null) {
+                continue;
+            }
+            final SegmentInfo segmentInfo = Lucene.segmentReader(leaf.reader()).getSegmentInfo().info;
+            final String vectorIndexFileName = KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, segmentInfo);
+            final String graphCacheKey = vectorIndexFileName == null
+                ? null
+                : NativeMemoryCacheKeyHelper.constructCacheKey(vectorIndexFileName, segmentInfo);
+            segments.add(new Segment(leaf.reader().numDocs(), m, graphCacheKey));
+        }
+        return segments;
+    }
+
+    private static int getM(final IndexShard indexShard, final String field) {
+        final MappedFieldType fieldType = indexShard.mapperService().fieldType(field);
+        if (fieldType instanceof KNNVectorFieldType knnVectorFieldType) {
+            final Object m = knnVectorFieldType.getKnnMappingConfig()
+                .getKnnMethodContext()
+                .map(KNNMethodContext::getMethodComponentContext)
+                .map(methodComponentContext -> methodComponentContext.getParameters().get(METHOD_PARAMETER_M))
+                .orElse(null);
+            if (m instanceof Integer mValue) {
+                return mValue;
+            }
+        }
+        return KNNSettings.INDEX_KNN_DEFAULT_ALGO_PARAM_M;
+    }
+}
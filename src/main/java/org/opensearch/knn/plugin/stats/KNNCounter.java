@@ -26,7 +26,11 @@ public enum KNNCounter {
     MIN_SCORE_QUERY_REQUESTS("min_score_query_requests"),
     MIN_SCORE_QUERY_WITH_FILTER_REQUESTS("min_score_query_with_filter_requests"),
     MAX_DISTANCE_QUERY_REQUESTS("max_distance_query_requests"),
-    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS("max_distance_query_with_filter_requests");
+    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS("max_distance_query_with_filter_requests"),
+    CONCURRENT_SEARCH_YES_DECISIONS("concurrent_search_yes_decisions"),
+    CONCURRENT_SEARCH_NO_DECISIONS("concurrent_search_no_decisions"),
+    CONCURRENT_SEARCH_RECOMMENDED_SLICES("concurrent_search_recommended_slices"),
+    COMPACT_GRAPH_MEMORY_USAGE("compact_graph_memory_usage_in_bytes");
 
     private String name;
     private AtomicLong count;
@@ -66,6 +70,15 @@ public enum KNNCounter {
         count.getAndIncrement();
     }
 
+    /**
+     * Add to the value of a counter
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        count.getAndAdd(delta);
+    }
+
     /**
      * @param value counter value
      * Set the value of a counter
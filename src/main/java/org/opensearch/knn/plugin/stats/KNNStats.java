@@ -8,18 +8,28 @@ package org.opensearch.knn.plugin.stats;
 import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 import org.opensearch.knn.common.KNNConstants;
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.opensearch.knn.index.query.FilterBitSetCache;
+import org.opensearch.knn.index.query.ParentIdsCache;
+import org.opensearch.knn.index.query.rescore.AdaptiveOversampler;
+import org.opensearch.knn.index.vectorvalues.FlatVectorCache;
 import org.opensearch.knn.indices.ModelCache;
 import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.plugin.stats.suppliers.AdaptiveOversamplerSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.EventOccurredWithinThresholdSupplier;
+import org.opensearch.knn.plugin.stats.suppliers.FilterBitSetCacheSupplier;
+import org.opensearch.knn.plugin.stats.suppliers.FlatVectorCacheSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.KNNCircuitBreakerSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.KNNCounterSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.KNNInnerCacheStatsSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.LibraryInitializedSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.ModelIndexStatusSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.ModelIndexingDegradingSupplier;
+import org.opensearch.knn.plugin.stats.suppliers.NativeIndexBuildSchedulerSupplier;
 import org.opensearch.knn.plugin.stats.suppliers.NativeMemoryCacheManagerSupplier;
+import org.opensearch.knn.plugin.stats.suppliers.ParentIdsCacheSupplier;
 
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
@@ -117,6 +127,20 @@ public class KNNStats {
                 StatNames.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName(),
                 new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS))
             );
+
+        // Concurrent Segment Search Decision Stats
+        builder.put(
+            StatNames.CONCURRENT_SEARCH_YES_DECISIONS.getName(),
+            new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.CONCURRENT_SEARCH_YES_DECISIONS))
+        )
+            .put(
+                StatNames.CONCURRENT_SEARCH_NO_DECISIONS.getName(),
+                new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.CONCURRENT_SEARCH_NO_DECISIONS))
+            )
+            .put(
+                StatNames.CONCURRENT_SEARCH_RECOMMENDED_SLICES.getName(),
+                new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.CONCURRENT_SEARCH_RECOMMENDED_SLICES))
+            );
     }
 
     private void addNativeMemoryStats(ImmutableMap.Builder<String, KNNStat<?>> builder) {
@@ -137,6 +161,18 @@ public class KNNStats {
                 StatNames.GRAPH_MEMORY_USAGE_PERCENTAGE.getName(),
                 new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesSizeAsPercentage))
             )
+            .put(
+                StatNames.GRAPH_MEMORY_USAGE_BY_ENGINE.getName(),
+                new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesSizeInKilobytesByEngine))
+            )
+            .put(
+                StatNames.GRAPH_MEMORY_USAGE_BY_FIELD.getName(),
+                new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesSizeInKilobytesByField))
+            )
+            .put(
+                StatNames.GRAPH_MEMORY_USAGE_BY_SHARD.getName(),
+                new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesSizeInKilobytesByShard))
+            )
             .put(
                 StatNames.INDICES_IN_CACHE.getName(),
                 new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getIndicesCacheStats))
@@ -145,6 +181,90 @@ public class KNNStats {
                 StatNames.CACHE_CAPACITY_REACHED.getName(),
                 new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::isCacheCapacityReached))
             )
+            .put(
+                StatNames.MODEL_TEMPLATE_CACHE_MEMORY_USAGE.getName(),
+                new KNNStat<>(false, new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getTemplateCacheSizeInKilobytes))
+            )
+            .put(
+                StatNames.FLAT_VECTOR_CACHE_MEMORY_USAGE.getName(),
+                new KNNStat<>(false, new FlatVectorCacheSupplier<>(FlatVectorCache::getSizeInKilobytes))
+            )
+            .put(
+                StatNames.FLAT_VECTOR_CACHE_HIT_COUNT.getName(),
+                new KNNStat<>(false, new FlatVectorCacheSupplier<>(FlatVectorCache::getHitCount))
+            )
+            .put(
+                StatNames.FLAT_VECTOR_CACHE_MISS_COUNT.getName(),
+                new KNNStat<>(false, new FlatVectorCacheSupplier<>(FlatVectorCache::getMissCount))
+            )
+            .put(
+                StatNames.FLAT_VECTOR_CACHE_HIT_RATIO.getName(),
+                new KNNStat<>(false, new FlatVectorCacheSupplier<>(FlatVectorCache::getHitRatio))
+            )
+            .put(
+                StatNames.COMPACT_GRAPH_MEMORY_USAGE.getName(),
+                new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.COMPACT_GRAPH_MEMORY_USAGE))
+            )
+            .put(
+                StatNames.FILTER_BITSET_CACHE_MEMORY_USAGE.getName(),
+                new KNNStat<>(false, new FilterBitSetCacheSupplier<>(FilterBitSetCache::getSizeInKilobytes))
+            )
+            .put(
+                StatNames.FILTER_BITSET_CACHE_HIT_COUNT.getName(),
+                new KNNStat<>(false, new FilterBitSetCacheSupplier<>(FilterBitSetCache::getHitCount))
+            )
+            .put(
+                StatNames.FILTER_BITSET_CACHE_MISS_COUNT.getName(),
+                new KNNStat<>(false, new FilterBitSetCacheSupplier<>(FilterBitSetCache::getMissCount))
+            )
+            .put(
+                StatNames.FILTER_BITSET_CACHE_HIT_RATIO.getName(),
+                new KNNStat<>(false, new FilterBitSetCacheSupplier<>(FilterBitSetCache::getHitRatio))
+            )
+            .put(
+                StatNames.PARENT_IDS_CACHE_MEMORY_USAGE.getName(),
+                new KNNStat<>(false, new ParentIdsCacheSupplier<>(ParentIdsCache::getSizeInKilobytes))
+            )
+            .put(
+                StatNames.PARENT_IDS_CACHE_HIT_COUNT.getName(),
+                new KNNStat<>(false, new ParentIdsCacheSupplier<>(cache -> cache.getStats().hitCount()))
+            )
+            .put(
+                StatNames.PARENT_IDS_CACHE_MISS_COUNT.getName(),
+                new KNNStat<>(false, new ParentIdsCacheSupplier<>(cache -> cache.getStats().missCount()))
+            )
+            .put(
+                StatNames.PARENT_IDS_CACHE_EVICTION_COUNT.getName(),
+                new KNNStat<>(false, new ParentIdsCacheSupplier<>(cache -> cache.getStats().evictionCount()))
+            )
+            .put(
+                StatNames.INDEX_BUILD_QUEUE_DEPTH.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getQueueDepth))
+            )
+            .put(
+                StatNames.INDEX_BUILD_ACTIVE_THREADS.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getActiveThreads))
+            )
+            .put(
+                StatNames.INDEX_BUILD_THREAD_UTILIZATION.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getUtilization))
+            )
+            .put(
+                StatNames.INDEX_BUILD_FLUSH_COUNT.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getFlushBuildCount))
+            )
+            .put(
+                StatNames.INDEX_BUILD_MERGE_COUNT.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getMergeBuildCount))
+            )
+            .put(
+                StatNames.INDEX_BUILD_WAIT_TIME.getName(),
+                new KNNStat<>(false, new NativeIndexBuildSchedulerSupplier<>(NativeIndexBuildScheduler::getWaitTimeInMillis))
+            )
+            .put(
+                StatNames.ADAPTIVE_OVERSAMPLE_FACTORS.getName(),
+                new KNNStat<>(false, new AdaptiveOversamplerSupplier<>(AdaptiveOversampler::getOversampleFactors))
+            )
             .put(StatNames.GRAPH_QUERY_ERRORS.getName(), new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_ERRORS)))
             .put(StatNames.GRAPH_QUERY_REQUESTS.getName(), new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_REQUESTS)))
             .put(StatNames.GRAPH_INDEX_ERRORS.getName(), new KNNStat<>(false, new KNNCounterSupplier(KNNCounter.GRAPH_INDEX_ERRORS)))
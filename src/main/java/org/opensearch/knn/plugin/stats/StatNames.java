@@ -20,7 +20,30 @@ public enum StatNames {
     EVICTION_COUNT("eviction_count"),
     GRAPH_MEMORY_USAGE("graph_memory_usage"),
     GRAPH_MEMORY_USAGE_PERCENTAGE("graph_memory_usage_percentage"),
+    GRAPH_MEMORY_USAGE_BY_ENGINE("graph_memory_usage_by_engine"),
+    GRAPH_MEMORY_USAGE_BY_FIELD("graph_memory_usage_by_field"),
+    GRAPH_MEMORY_USAGE_BY_SHARD("graph_memory_usage_by_shard"),
     CACHE_CAPACITY_REACHED("cache_capacity_reached"),
+    MODEL_TEMPLATE_CACHE_MEMORY_USAGE("model_template_cache_memory_usage"),
+    FLAT_VECTOR_CACHE_MEMORY_USAGE("flat_vector_cache_memory_usage"),
+    FLAT_VECTOR_CACHE_HIT_COUNT("flat_vector_cache_hit_count"),
+    FLAT_VECTOR_CACHE_MISS_COUNT("flat_vector_cache_miss_count"),
+    FLAT_VECTOR_CACHE_HIT_RATIO("flat_vector_cache_hit_ratio"),
+    FILTER_BITSET_CACHE_MEMORY_USAGE("filter_bitset_cache_memory_usage"),
+    FILTER_BITSET_CACHE_HIT_COUNT("filter_bitset_cache_hit_count"),
+    FILTER_BITSET_CACHE_MISS_COUNT("filter_bitset_cache_miss_count"),
+    FILTER_BITSET_CACHE_HIT_RATIO("filter_bitset_cache_hit_ratio"),
+    PARENT_IDS_CACHE_MEMORY_USAGE("parent_ids_cache_memory_usage"),
+    PARENT_IDS_CACHE_HIT_COUNT("parent_ids_cache_hit_count"),
+    PARENT_IDS_CACHE_MISS_COUNT("parent_ids_cache_miss_count"),
+    PARENT_IDS_CACHE_EVICTION_COUNT("parent_ids_cache_eviction_count"),
+    INDEX_BUILD_QUEUE_DEPTH("index_build_queue_depth"),
+    INDEX_BUILD_ACTIVE_THREADS("index_build_active_threads"),
+    INDEX_BUILD_THREAD_UTILIZATION("index_build_thread_utilization"),
+    INDEX_BUILD_FLUSH_COUNT("index_build_flush_count"),
+    INDEX_BUILD_MERGE_COUNT("index_build_merge_count"),
+    INDEX_BUILD_WAIT_TIME("index_build_wait_time_in_millis"),
+    ADAPTIVE_OVERSAMPLE_FACTORS("adaptive_oversample_factors"),
     INDICES_IN_CACHE("indices_in_cache"),
     CIRCUIT_BREAKER_TRIGGERED("circuit_breaker_triggered"),
     MODEL_INDEX_STATUS("model_index_status"),
@@ -52,7 +75,11 @@ public enum StatNames {
     MIN_SCORE_QUERY_REQUESTS(KNNCounter.MIN_SCORE_QUERY_REQUESTS.getName()),
     MIN_SCORE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MIN_SCORE_QUERY_WITH_FILTER_REQUESTS.getName()),
     MAX_DISTANCE_QUERY_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_REQUESTS.getName()),
-    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName());
+    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName()),
+    CONCURRENT_SEARCH_YES_DECISIONS(KNNCounter.CONCURRENT_SEARCH_YES_DECISIONS.getName()),
+    CONCURRENT_SEARCH_NO_DECISIONS(KNNCounter.CONCURRENT_SEARCH_NO_DECISIONS.getName()),
+    CONCURRENT_SEARCH_RECOMMENDED_SLICES(KNNCounter.CONCURRENT_SEARCH_RECOMMENDED_SLICES.getName()),
+    COMPACT_GRAPH_MEMORY_USAGE(KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getName());
 
     private String name;
 
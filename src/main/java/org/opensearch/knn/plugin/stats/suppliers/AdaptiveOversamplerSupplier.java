@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats.suppliers;
+
+import org.opensearch.knn.index.query.rescore.AdaptiveOversampler;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplier for stats of adaptive oversampling
+ */
+public class AdaptiveOversamplerSupplier<T> implements Supplier<T> {
+    private final Function<AdaptiveOversampler, T> getter;
+
+    /**
+     * Constructor
+     *
+     * @param getter AdaptiveOversampler method to supply a value
+     */
+    public AdaptiveOversamplerSupplier(Function<AdaptiveOversampler, T> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public T get() {
+        return getter.apply(AdaptiveOversampler.getInstance());
+    }
+}
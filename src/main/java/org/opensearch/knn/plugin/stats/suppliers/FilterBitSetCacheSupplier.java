@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats.suppliers;
+
+import org.opensearch.knn.index.query.FilterBitSetCache;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplier for stats of the filter bitset cache
+ */
+public class FilterBitSetCacheSupplier<T> implements Supplier<T> {
+    private final Function<FilterBitSetCache, T> getter;
+
+    /**
+     * Constructor
+     *
+     * @param getter FilterBitSetCache method to supply a value
+     */
+    public FilterBitSetCacheSupplier(Function<FilterBitSetCache, T> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public T get() {
+        return getter.apply(FilterBitSetCache.getInstance());
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats.suppliers;
+
+import org.opensearch.knn.index.vectorvalues.FlatVectorCache;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplier for stats of the flat vector cache
+ */
+public class FlatVectorCacheSupplier<T> implements Supplier<T> {
+    private final Function<FlatVectorCache, T> getter;
+
+    /**
+     * Constructor
+     *
+     * @param getter FlatVectorCache method to supply a value
+     */
+    public FlatVectorCacheSupplier(Function<FlatVectorCache, T> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public T get() {
+        return getter.apply(FlatVectorCache.getInstance());
+    }
+}
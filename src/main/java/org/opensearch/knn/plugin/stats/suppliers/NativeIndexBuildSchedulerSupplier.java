@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats.suppliers;
+
+import org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplier for stats of the native index build scheduler
+ */
+public class NativeIndexBuildSchedulerSupplier<T> implements Supplier<T> {
+    private final Function<NativeIndexBuildScheduler, T> getter;
+
+    /**
+     * Constructor
+     *
+     * @param getter NativeIndexBuildScheduler method to supply a value
+     */
+    public NativeIndexBuildSchedulerSupplier(Function<NativeIndexBuildScheduler, T> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public T get() {
+        return getter.apply(NativeIndexBuildScheduler.getInstance());
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats.suppliers;
+
+import org.opensearch.knn.index.query.ParentIdsCache;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Supplier for stats of the parent ids cache
+ */
+public class ParentIdsCacheSupplier<T> implements Supplier<T> {
+    private final Function<ParentIdsCache, T> getter;
+
+    /**
+     * Constructor
+     *
+     * @param getter ParentIdsCache method to supply a value
+     */
+    public ParentIdsCacheSupplier(Function<ParentIdsCache, T> getter) {
+        this.getter = getter;
+    }
+
+    @Override
+    public T get() {
+        return getter.apply(ParentIdsCache.getInstance());
+    }
+}
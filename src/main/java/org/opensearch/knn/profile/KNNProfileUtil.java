@@ -9,6 +9,9 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.IOSupplier;
+import org.opensearch.knn.index.query.ExactSearchReason;
+import org.opensearch.knn.index.query.KNNSearchCostModel.SearchCostEstimate;
+import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.Timer;
@@ -60,6 +63,46 @@ public class KNNProfileUtil {
         return action.get();
     }
 
+    /**
+     * Records the plan chosen by the cost model and its estimates in the profile breakdown of the leaf.
+     * @param profile
+     * @param leafReaderContext
+     * @param costEstimate
+     */
+    public static void profileCostEstimate(
+        ContextualProfileBreakdown profile,
+        LeafReaderContext leafReaderContext,
+        SearchCostEstimate costEstimate
+    ) {
+        if (profile == null) {
+            return;
+        }
+        LongMetric planMetric = (LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.COST_BASED_EXACT_SEARCH);
+        planMetric.setValue(costEstimate.isExactSearchPreferred() ? 1L : 0L);
+        LongMetric exactCostMetric = (LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.ESTIMATED_EXACT_SEARCH_COST);
+        exactCostMetric.setValue(costEstimate.getExactSearchCost());
+        LongMetric annCostMetric = (LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.ESTIMATED_ANN_SEARCH_COST);
+        annCostMetric.setValue(costEstimate.getAnnSearchCost());
+    }
+
+    /**
+     * Records the reason for which exact search was chosen in the profile breakdown of the leaf.
+     * @param profile
+     * @param leafReaderContext
+     * @param reason
+     */
+    public static void profileExactSearchReason(
+        ContextualProfileBreakdown profile,
+        LeafReaderContext leafReaderContext,
+        ExactSearchReason reason
+    ) {
+        if (profile == null) {
+            return;
+        }
+        LongMetric reasonMetric = (LongMetric) profile.context(leafReaderContext).getMetric(KNNMetrics.EXACT_SEARCH_REASON);
+        reasonMetric.setValue((long) reason.getCode());
+    }
+
     /**
      * Executes the action provided by the supplier and times it based on the provided timing type.
      * @param profiler
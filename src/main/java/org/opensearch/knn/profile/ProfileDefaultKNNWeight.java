@@ -5,18 +5,24 @@
 
 package org.opensearch.knn.profile;
 
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.Version;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
+import org.opensearch.knn.index.query.ApproximateSearchResult;
 import org.opensearch.knn.index.query.DefaultKNNWeight;
+import org.opensearch.knn.index.query.ExactSearchReason;
 import org.opensearch.knn.index.query.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
+import org.opensearch.knn.index.query.KNNQueryResult;
+import org.opensearch.knn.index.query.KNNSearchCostModel;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.knn.profile.query.KNNQueryTimingType;
@@ -59,9 +65,23 @@ public class ProfileDefaultKNNWeight extends DefaultKNNWeight {
     }
 
     @Override
-    protected TopDocs approximateSearch(final LeafReaderContext context, final BitSet filterIdsBitSet, final int cardinality, final int k)
-        throws IOException {
-        return (TopDocs) KNNProfileUtil.profileBreakdown(
+    protected void onSearchCostEstimated(final LeafReaderContext context, final KNNSearchCostModel.SearchCostEstimate costEstimate) {
+        KNNProfileUtil.profileCostEstimate(profile, context, costEstimate);
+    }
+
+    @Override
+    protected void onExactSearchChosen(final LeafReaderContext context, final ExactSearchReason reason) {
+        KNNProfileUtil.profileExactSearchReason(profile, context, reason);
+    }
+
+    @Override
+    protected ApproximateSearchResult approximateSearch(
+        final LeafReaderContext context,
+        final BitSet filterIdsBitSet,
+        final int cardinality,
+        final int k
+    ) throws IOException {
+        return (ApproximateSearchResult) KNNProfileUtil.profileBreakdown(
             profile,
             context,
             KNNQueryTimingType.ANN_SEARCH,
@@ -80,6 +100,40 @@ public class ProfileDefaultKNNWeight extends DefaultKNNWeight {
         );
     }
 
+    @Override
+    protected KNNQueryResult[] queryIndex(
+        final LeafReaderContext context,
+        final NativeMemoryAllocation indexAllocation,
+        final FieldInfo fieldInfo,
+        final KNNEngine knnEngine,
+        final byte[] quantizedVector,
+        final float[] transformedVector,
+        final Version segmentLuceneVersion,
+        final long[] filterIds,
+        final int filterType,
+        final int[] parentIds,
+        final int k
+    ) throws IOException {
+        return (KNNQueryResult[]) KNNProfileUtil.profileBreakdown(
+            profile,
+            context,
+            KNNQueryTimingType.NATIVE_SEARCH,
+            () -> super.queryIndex(
+                context,
+                indexAllocation,
+                fieldInfo,
+                knnEngine,
+                quantizedVector,
+                transformedVector,
+                segmentLuceneVersion,
+                filterIds,
+                filterType,
+                parentIds,
+                k
+            )
+        );
+    }
+
     @Override
     protected NativeMemoryAllocation loadGraph(
         final SegmentReader reader,
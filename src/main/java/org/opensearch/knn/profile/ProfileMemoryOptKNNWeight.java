@@ -10,8 +10,11 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
+import org.opensearch.knn.index.query.ApproximateSearchResult;
+import org.opensearch.knn.index.query.ExactSearchReason;
 import org.opensearch.knn.index.query.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
+import org.opensearch.knn.index.query.KNNSearchCostModel;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.knn.profile.query.KNNQueryTimingType;
@@ -62,9 +65,29 @@ public class ProfileMemoryOptKNNWeight extends MemoryOptimizedKNNWeight {
     }
 
     @Override
-    protected TopDocs approximateSearch(final LeafReaderContext context, final BitSet filterIdsBitSet, final int cardinality, final int k)
-        throws IOException {
-        return (TopDocs) KNNProfileUtil.profileBreakdown(
+    protected void onSearchCostEstimated(final LeafReaderContext context, final KNNSearchCostModel.SearchCostEstimate costEstimate) {
+        KNNProfileUtil.profileCostEstimate(profile, context, costEstimate);
+    }
+
+    @Override
+    protected void onExactSearchChosen(final LeafReaderContext context, final ExactSearchReason reason) {
+        KNNProfileUtil.profileExactSearchReason(profile, context, reason);
+    }
+
+    @Override
+    protected void onGraphSearched(final LeafReaderContext context, final long visitedCount) {
+        LongMetric visitedMetric = (LongMetric) profile.context(context).getMetric(KNNMetrics.VISITED_NODES);
+        visitedMetric.setValue(visitedCount);
+    }
+
+    @Override
+    protected ApproximateSearchResult approximateSearch(
+        final LeafReaderContext context,
+        final BitSet filterIdsBitSet,
+        final int cardinality,
+        final int k
+    ) throws IOException {
+        return (ApproximateSearchResult) KNNProfileUtil.profileBreakdown(
             profile,
             context,
             KNNQueryTimingType.ANN_SEARCH,
@@ -20,11 +20,22 @@ import java.util.function.Supplier;
 public class KNNMetrics {
 
     public static final String NUM_NESTED_DOCS = "num_nested_docs";
+    public static final String FIRST_PASS_K = "first_pass_k";
+    public static final String RESCORE_REQUIRED_DEPTH = "rescore_required_depth";
+    public static final String RESCORE_BYTES_READ = "rescore_bytes_read";
     public static final String CARDINALITY = "cardinality";
+    public static final String COST_BASED_EXACT_SEARCH = "cost_based_exact_search";
+    public static final String ESTIMATED_EXACT_SEARCH_COST = "estimated_exact_search_cost";
+    public static final String ESTIMATED_ANN_SEARCH_COST = "estimated_ann_search_cost";
+    public static final String EXACT_SEARCH_REASON = "exact_search_reason";
+    public static final String VISITED_NODES = "visited_nodes";
 
     /**
      * Contains profile metric information for KNN Queries based on {@link KNNQueryTimingType} timers. Additionally, it
-     * contains a metric for filter cardinality.
+     * contains a metric for filter cardinality and the plan chosen by {@link org.opensearch.knn.index.query.KNNSearchCostModel}
+     * along with its estimated costs in nanoseconds. The plan metric is 1 when exact search was chosen by the cost model.
+     * The exact search reason is the code of {@link org.opensearch.knn.index.query.ExactSearchReason}, 0 if the segment was
+     * only searched approximately, and visited nodes are the number of vectors scored by memory optimized graph search.
      * @return list of {@link org.opensearch.search.profile.ProfileMetric} for KNNQueries
      *
      */
@@ -35,19 +46,28 @@ public class KNNMetrics {
         }
 
         metrics.add(() -> new LongMetric(CARDINALITY));
+        metrics.add(() -> new LongMetric(COST_BASED_EXACT_SEARCH));
+        metrics.add(() -> new LongMetric(ESTIMATED_EXACT_SEARCH_COST));
+        metrics.add(() -> new LongMetric(ESTIMATED_ANN_SEARCH_COST));
+        metrics.add(() -> new LongMetric(EXACT_SEARCH_REASON));
+        metrics.add(() -> new LongMetric(VISITED_NODES));
 
         return metrics;
     }
 
     /**
      * Contains profile metric information for KNN queries. Additionally, contains a metric on the number
-     * of nested docs for {@link NativeEngineKnnVectorQuery} queries.
+     * of nested docs for {@link NativeEngineKnnVectorQuery} queries, the bytes of full precision vectors read by rescoring,
+     * and with adaptive oversampling, the first pass size and the first pass depth needed to reach the target recall.
      * @return list of {@link org.opensearch.search.profile.ProfileMetric} for NativeEngineQueries
      */
     public static Collection<Supplier<ProfileMetric>> getNativeMetrics() {
         Collection<Supplier<ProfileMetric>> metrics = getKNNQueryMetrics();
 
         metrics.add(() -> new LongMetric(NUM_NESTED_DOCS));
+        metrics.add(() -> new LongMetric(FIRST_PASS_K));
+        metrics.add(() -> new LongMetric(RESCORE_REQUIRED_DEPTH));
+        metrics.add(() -> new LongMetric(RESCORE_BYTES_READ));
 
         return metrics;
     }
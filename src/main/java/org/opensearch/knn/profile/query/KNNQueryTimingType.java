@@ -14,7 +14,10 @@ public enum KNNQueryTimingType {
     ANN_SEARCH,
     EXACT_SEARCH,
     GRAPH_LOAD,
-    BITSET_CREATION;
+    NATIVE_SEARCH,
+    BITSET_CREATION,
+    RESCORE,
+    NESTED_EXPANSION;
 
     @Override
     public String toString() {
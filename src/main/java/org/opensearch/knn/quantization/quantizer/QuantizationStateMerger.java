@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import lombok.experimental.UtilityClass;
+import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Derives the scalar quantization state of a merged segment from the states of the merged segments, weighted by their number
+ * of live vectors, so that merges do not sample vectors again.
+ * <p>
+ * Multi-bit thresholds are {@code mean + coefficient * stdDev} for each bit, so the mean and standard deviation of every
+ * segment are recovered from its first and last thresholds and pooled exactly. One-bit states only keep the mean, which is
+ * pooled exactly, while the below and above threshold means are averaged. The spread between the below and above threshold
+ * means stands in for the standard deviation.
+ * <p>
+ * When the means of the segments are too far apart, in standard deviations averaged over dimensions and vectors, the pooled
+ * thresholds would not fit any of the segments well and no state is derived.
+ */
+@UtilityClass
+public class QuantizationStateMerger {
+
+    /**
+     * Merge the states of the merged segments.
+     *
+     * @param quantizationParams quantization parameters of the merged segment
+     * @param states states of the merged segments
+     * @param liveVectors number of live vectors of every merged segment
+     * @param maxDrift largest drift of the segment means allowed, in standard deviations
+     * @return state of the merged segment, or null if it has to be trained
+     */
+    public static QuantizationState merge(
+        final ScalarQuantizationParams quantizationParams,
+        final List<QuantizationState> states,
+        final long[] liveVectors,
+        final double maxDrift
+    ) {
+        if (states.isEmpty() || isMergeable(quantizationParams, states) == false) {
+            return null;
+        }
+        if (states.get(0) instanceof OneBitScalarQuantizationState) {
+            return mergeOneBit(quantizationParams, states, liveVectors, maxDrift);
+        }
+        if (states.get(0) instanceof MultiBitScalarQuantizationState) {
+            return mergeMultiBit(quantizationParams, states, liveVectors, maxDrift);
+        }
+        return null;
+    }
+
+    private static boolean isMergeable(final ScalarQuantizationParams quantizationParams, final List<QuantizationState> states) {
+        final Class<?> stateClass = states.get(0).getClass();
+        // Rotations are seeded, so segments of the same field share the same rotation.
+        final float[][] rotationMatrix = rotationMatrix(states.get(0));
+        for (QuantizationState state : states) {
+            if (state.getClass() != stateClass
+                || quantizationParams.equals(state.getQuantizationParams()) == false
+                || Arrays.deepEquals(rotationMatrix, rotationMatrix(state)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static float[][] rotationMatrix(final QuantizationState state) {
+        if (state instanceof OneBitScalarQuantizationState oneBitState) {
+            return oneBitState.getRotationMatrix();
+        }
+        if (state instanceof MultiBitScalarQuantizationState multiBitState) {
+            return multiBitState.getRotationMatrix();
+        }
+        return null;
+    }
+
+    private static QuantizationState mergeOneBit(
+        final ScalarQuantizationParams quantizationParams,
+        final List<QuantizationState> states,
+        final long[] liveVectors,
+        final double maxDrift
+    ) {
+        final int numStates = states.size();
+        final float[][] means = new float[numStates][];
+        final float[][] below = new float[numStates][];
+        final float[][] above = new float[numStates][];
+        for (int i = 0; i < numStates; i++) {
+            final OneBitScalarQuantizationState state = (OneBitScalarQuantizationState) states.get(i);
+            means[i] = state.getMeanThresholds();
+            below[i] = state.getBelowThresholdMeans();
+            above[i] = state.getAboveThresholdMeans();
+            // States written before below and above threshold means were kept have no spread to measure drift with.
+            if (below[i] == null || above[i] == null) {
+                return null;
+            }
+        }
+
+        final float[] mergedBelow = weightedMean(below, liveVectors);
+        final float[] mergedAbove = weightedMean(above, liveVectors);
+        final float[] mergedMeans = weightedMean(means, liveVectors);
+        final float[] spread = new float[mergedMeans.length];
+        for (int d = 0; d < spread.length; d++) {
+            spread[d] = (mergedAbove[d] - mergedBelow[d]) / 2;
+        }
+        if (drift(means, mergedMeans, spread, liveVectors) > maxDrift) {
+            return null;
+        }
+
+        return OneBitScalarQuantizationState.builder()
+            .quantizationParams(quantizationParams)
+            .meanThresholds(mergedMeans)
+            .belowThresholdMeans(mergedBelow)
+            .aboveThresholdMeans(mergedAbove)
+            .rotationMatrix(((OneBitScalarQuantizationState) states.get(0)).getRotationMatrix())
+            .build();
+    }
+
+    private static QuantizationState mergeMultiBit(
+        final ScalarQuantizationParams quantizationParams,
+        final List<QuantizationState> states,
+        final long[] liveVectors,
+        final double maxDrift
+    ) {
+        final int numStates = states.size();
+        final int bitsPerCoordinate = ((MultiBitScalarQuantizationState) states.get(0)).getThresholds().length;
+        final float firstCoef = -1 + 2f / (bitsPerCoordinate + 1);
+        final float lastCoef = -1 + 2f * bitsPerCoordinate / (bitsPerCoordinate + 1);
+
+        final float[][] means = new float[numStates][];
+        final float[][] stdDevs = new float[numStates][];
+        for (int i = 0; i < numStates; i++) {
+            final float[][] thresholds = ((MultiBitScalarQuantizationState) states.get(i)).getThresholds();
+            if (thresholds.length != bitsPerCoordinate) {
+                return null;
+            }
+            final int dim = thresholds[0].length;
+            means[i] = new float[dim];
+            stdDevs[i] = new float[dim];
+            for (int d = 0; d < dim; d++) {
+                stdDevs[i][d] = (thresholds[bitsPerCoordinate - 1][d] - thresholds[0][d]) / (lastCoef - firstCoef);
+                means[i][d] = thresholds[0][d] - firstCoef * stdDevs[i][d];
+            }
+        }
+
+        // Pooled variance is the weighted mean of the variances plus the variance of the means.
+        final float[] mergedMeans = weightedMean(means, liveVectors);
+        final long totalVectors = Arrays.stream(liveVectors).sum();
+        final float[] mergedStdDevs = new float[mergedMeans.length];
+        for (int d = 0; d < mergedStdDevs.length; d++) {
+            double variance = 0;
+            for (int i = 0; i < numStates; i++) {
+                final double delta = means[i][d] - mergedMeans[d];
+                variance += liveVectors[i] * ((double) stdDevs[i][d] * stdDevs[i][d] + delta * delta);
+            }
+            mergedStdDevs[d] = (float) Math.sqrt(variance / totalVectors);
+        }
+        if (drift(means, mergedMeans, mergedStdDevs, liveVectors) > maxDrift) {
+            return null;
+        }
+
+        return MultiBitScalarQuantizationState.builder()
+            .quantizationParams(quantizationParams)
+            .thresholds(QuantizerHelper.calculateThresholds(mergedMeans, mergedStdDevs, bitsPerCoordinate))
+            .rotationMatrix(((MultiBitScalarQuantizationState) states.get(0)).getRotationMatrix())
+            .build();
+    }
+
+    private static float[] weightedMean(final float[][] values, final long[] weights) {
+        final int dim = values[0].length;
+        final double[] sums = new double[dim];
+        long totalWeight = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].length != dim) {
+                throw new IllegalArgumentException("Quantization states of different dimensions cannot be merged");
+            }
+            for (int d = 0; d < dim; d++) {
+                sums[d] += (double) weights[i] * values[i][d];
+            }
+            totalWeight += weights[i];
+        }
+        final float[] mean = new float[dim];
+        for (int d = 0; d < dim; d++) {
+            mean[d] = (float) (sums[d] / totalWeight);
+        }
+        return mean;
+    }
+
+    /**
+     * Root mean square distance between the means of the segments and the merged means, in standard deviations, over
+     * dimensions and vectors.
+     */
+    static double drift(final float[][] means, final float[] mergedMeans, final float[] stdDevs, final long[] weights) {
+        double sum = 0;
+        long totalWeight = 0;
+        for (int i = 0; i < means.length; i++) {
+            for (int d = 0; d < mergedMeans.length; d++) {
+                final double delta = means[i][d] - mergedMeans[d];
+                if (delta == 0) {
+                    continue;
+                }
+                if (stdDevs[d] <= 0) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                sum += weights[i] * (delta / stdDevs[d]) * (delta / stdDevs[d]);
+            }
+            totalWeight += weights[i];
+        }
+        return Math.sqrt(sum / ((double) totalWeight * mergedMeans.length));
+    }
+}
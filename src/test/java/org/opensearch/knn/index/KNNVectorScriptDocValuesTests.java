@@ -103,6 +103,41 @@ public class KNNVectorScriptDocValuesTests extends KNNTestCase {
         Assert.assertNotNull(scriptDocValues.getValue());  // Just checking it's non-null
     }
 
+    /** Test that scoring values of Binary Doc Values are deserialized into a reused buffer */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBinaryDocValues_whenGetScoringValue_thenReuseBuffer() throws IOException {
+        final float[] otherVector = new float[] { 3.0f, 4.0f };
+        IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        for (float[] vector : new float[][] { SAMPLE_VECTOR_DATA, otherVector }) {
+            Document document = new Document();
+            byte[] vectorBinary = KNNVectorAsCollectionOfFloatsSerializer.INSTANCE.floatToByteArray(vector);
+            document.add(new BinaryDocValuesField(MOCK_INDEX_FIELD_NAME, new BytesRef(vectorBinary)));
+            writer.addDocument(document);
+        }
+        writer.forceMerge(1);
+        writer.commit();
+        writer.close();
+        reader = DirectoryReader.open(directory);
+        LeafReader leafReader = reader.leaves().get(0).reader();
+
+        KNNVectorScriptDocValues<float[]> scriptDocValues = (KNNVectorScriptDocValues<float[]>) KNNVectorScriptDocValues.create(
+            leafReader.getBinaryDocValues(MOCK_INDEX_FIELD_NAME),
+            MOCK_INDEX_FIELD_NAME,
+            VectorDataType.FLOAT
+        );
+
+        scriptDocValues.setNextDocId(0);
+        final float[] first = scriptDocValues.getScoringValue();
+        Assert.assertArrayEquals(SAMPLE_VECTOR_DATA, first, 0.0f);
+        Assert.assertArrayEquals(SAMPLE_VECTOR_DATA, scriptDocValues.getValue(), 0.0f);
+
+        scriptDocValues.setNextDocId(1);
+        Assert.assertSame(first, scriptDocValues.getScoringValue());
+        Assert.assertArrayEquals(otherVector, first, 0.0f);
+        Assert.assertNotSame(first, scriptDocValues.getValue());
+    }
+
     /** Ensure getValue() fails without setNextDocId */
     @Test
     public void testGetValueFails() throws IOException {
@@ -14,10 +14,13 @@ import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
+import org.opensearch.index.mapper.MapperService;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.codec.KNNCodecTestUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeIndexPrefetcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcherFactory;
 
@@ -26,11 +29,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
 import static org.opensearch.knn.index.mapper.KNNVectorFieldMapper.KNN_FIELD;
@@ -142,6 +149,33 @@ public class NativeEngines990KnnVectorsReaderTests extends KNNTestCase {
         assertTrue(vectorSearchers.isEmpty());
     }
 
+    @SneakyThrows
+    public void testClose_whenPrefetchScheduled_thenCancelPrefetch() {
+        final FieldInfos fieldInfos = new FieldInfos(new FieldInfo[] { createFieldInfo("field1", KNNEngine.FAISS, 0) });
+        final NativeIndexPrefetcher prefetcher = mock(NativeIndexPrefetcher.class);
+        final MapperService mapperService = mock(MapperService.class);
+        when(prefetcher.getShardContextIfEnabled(any())).thenReturn(new NativeIndexPrefetcher.ShardContext("test-index", mapperService));
+        final Future<?> future = mock(Future.class);
+        final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(future).when(prefetcher).submit(taskCaptor.capture());
+
+        try (MockedStatic<NativeIndexPrefetcher> mockedStatic = mockStatic(NativeIndexPrefetcher.class)) {
+            mockedStatic.when(NativeIndexPrefetcher::getInstance).thenReturn(prefetcher);
+
+            // A background load is scheduled for the k-NN field when the reader is opened
+            final NativeEngines990KnnVectorsReader reader = createReader(fieldInfos, Collections.emptySet());
+            verify(prefetcher).submit(any(Runnable.class));
+
+            // Closing the reader cancels the load if it did not start yet
+            reader.close();
+            verify(future).cancel(false);
+
+            // A load that already left the queue does nothing once the reader is closed
+            taskCaptor.getValue().run();
+            verifyNoInteractions(mapperService);
+        }
+    }
+
     private static FieldInfo createFieldInfo(final String fieldName, final KNNEngine engine, final int fieldNo) {
         final KNNCodecTestUtil.FieldInfoBuilder builder = KNNCodecTestUtil.FieldInfoBuilder.builder(fieldName);
         builder.fieldNumber(fieldNo);
@@ -6,6 +6,8 @@
 package org.opensearch.knn.index.codec.nativeindex;
 
 import lombok.SneakyThrows;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.FixedBitSet;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -14,6 +16,7 @@ import org.opensearch.knn.index.codec.nativeindex.model.BuildIndexParams;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer;
 import org.opensearch.knn.index.codec.transfer.OffHeapVectorTransferFactory;
 import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.store.IndexOutputWithBuffer;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -27,7 +30,12 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.opensearch.knn.common.KNNConstants.MODEL_BLOB_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -130,6 +138,142 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
         }
     }
 
+    @SneakyThrows
+    public void testBuildAndWrite_withTemplate() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        final byte[] modelBlob = new byte[] { 1, 2, 3 };
+        final Map<String, Object> parameters = Map.of(MODEL_ID, "test-model", MODEL_BLOB_PARAMETER, modelBlob);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<NativeMemoryCacheManager> mockedNativeMemoryCacheManager = Mockito.mockStatic(NativeMemoryCacheManager.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.initIndexFromTemplate(3, 2, "test-model", modelBlob, parameters, KNNEngine.FAISS))
+                .thenReturn(100L);
+            NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+            mockedNativeMemoryCacheManager.when(NativeMemoryCacheManager::getInstance).thenReturn(nativeMemoryCacheManager);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 3))
+                .thenReturn(offHeapVectorTransfer);
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(3);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(false);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(parameters)
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then
+            verify(nativeMemoryCacheManager).cacheTemplate("test-model", modelBlob, KNNEngine.FAISS);
+            mockedJNIService.verify(
+                () -> JNIService.initIndexFromTemplate(3, 2, "test-model", modelBlob, parameters, KNNEngine.FAISS),
+                times(1)
+            );
+            mockedJNIService.verify(() -> JNIService.initIndex(anyLong(), anyInt(), any(), any()), times(0));
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 0, 1, 2 }),
+                    eq(200L),
+                    eq(knnVectorValues.dimension()),
+                    eq(parameters),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(parameters))
+            );
+        }
+    }
+
+    @SneakyThrows
+    public void testBuildAndWrite_withMergeBaseGraph() {
+        // Given
+        List<float[]> vectorValues = List.of(new float[] { 1, 2 }, new float[] { 2, 3 }, new float[] { 3, 4 }, new float[] { 4, 5 });
+        final TestVectorValues.PreDefinedFloatVectorValues randomVectorValues = new TestVectorValues.PreDefinedFloatVectorValues(
+            vectorValues
+        );
+        final KNNVectorValues<byte[]> knnVectorValues = KNNVectorValuesFactory.getVectorValues(VectorDataType.FLOAT, randomVectorValues);
+        final Map<String, Object> parameters = Map.of("index", "param");
+
+        // Docs 0 and 1 of the merged segment come from the reused graph
+        final int[] docIdMap = new int[] { 0, 1 };
+        final FixedBitSet docsInGraph = new FixedBitSet(4);
+        docsInGraph.set(0);
+        docsInGraph.set(1);
+        final MergeBaseGraph mergeBaseGraph = new MergeBaseGraph(mock(IndexInput.class), docIdMap, docsInGraph, 2);
+
+        try (
+            MockedStatic<JNIService> mockedJNIService = Mockito.mockStatic(JNIService.class);
+            MockedStatic<OffHeapVectorTransferFactory> mockedOffHeapVectorTransferFactory = Mockito.mockStatic(
+                OffHeapVectorTransferFactory.class
+            )
+        ) {
+            mockedJNIService.when(() -> JNIService.loadIndexForUpdate(any(), eq(docIdMap), eq(parameters), eq(KNNEngine.FAISS)))
+                .thenReturn(100L);
+
+            OffHeapVectorTransfer offHeapVectorTransfer = mock(OffHeapVectorTransfer.class);
+            mockedOffHeapVectorTransferFactory.when(() -> OffHeapVectorTransferFactory.getVectorTransfer(VectorDataType.FLOAT, 8, 2))
+                .thenReturn(offHeapVectorTransfer);
+            IndexOutputWithBuffer indexOutputWithBuffer = Mockito.mock(IndexOutputWithBuffer.class);
+
+            when(offHeapVectorTransfer.getTransferLimit()).thenReturn(2);
+            when(offHeapVectorTransfer.transfer(any(), eq(false))).thenReturn(false);
+            when(offHeapVectorTransfer.flush(false)).thenReturn(true);
+            when(offHeapVectorTransfer.getVectorAddress()).thenReturn(200L);
+
+            BuildIndexParams buildIndexParams = BuildIndexParams.builder()
+                .indexOutputWithBuffer(indexOutputWithBuffer)
+                .knnEngine(KNNEngine.FAISS)
+                .vectorDataType(VectorDataType.FLOAT)
+                .parameters(parameters)
+                .knnVectorValuesSupplier(() -> knnVectorValues)
+                .totalLiveDocs((int) knnVectorValues.totalLiveDocs())
+                .mergeBaseGraph(mergeBaseGraph)
+                .build();
+
+            // When
+            MemOptimizedNativeIndexBuildStrategy.getInstance().buildAndWriteIndex(buildIndexParams);
+
+            // Then only the vectors of the other segments are inserted
+            mockedJNIService.verify(() -> JNIService.initIndex(anyLong(), anyInt(), any(), any()), times(0));
+            verify(offHeapVectorTransfer, times(2)).transfer(any(), eq(false));
+            mockedJNIService.verify(
+                () -> JNIService.insertToIndex(
+                    eq(new int[] { 2, 3 }),
+                    eq(200L),
+                    eq(knnVectorValues.dimension()),
+                    eq(parameters),
+                    eq(100L),
+                    eq(KNNEngine.FAISS)
+                )
+            );
+            mockedJNIService.verify(
+                () -> JNIService.writeIndex(eq(indexOutputWithBuffer), eq(100L), eq(KNNEngine.FAISS), eq(parameters))
+            );
+        }
+    }
+
     @SneakyThrows
     public void testBuildAndWrite_withQuantization() {
         // Given
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.MergeState;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsReader;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MergeBaseGraphTests extends KNNTestCase {
+    private static final String FIELD = "test-field";
+
+    // Segment 0 has no vector, segment 1 holds 60 vectors and segment 2 holds 40 vectors
+    private final KnnVectorsReader[] readers = new KnnVectorsReader[] { mock(KnnVectorsReader.class), nativeReader(60), nativeReader(40) };
+    private final FieldInfos[] fieldInfos = new FieldInfos[] { fieldInfos(false), fieldInfos(true), fieldInfos(true) };
+    private final MergeState.DocMap[] docMaps = new MergeState.DocMap[] { shift(0), shift(3), shift(63) };
+    private final int[] maxDocs = new int[] { 3, 60, 40 };
+
+    @SneakyThrows
+    public void testSelect_thenRemapDocsOfFirstSegmentWithField() {
+        try (MergeBaseGraph mergeBaseGraph = select(new Bits[3], false, 0.5)) {
+            assertNotNull(mergeBaseGraph);
+            assertEquals(60, mergeBaseGraph.getNumVectors());
+            assertEquals(60, mergeBaseGraph.getDocIdMap().length);
+            for (int doc = 0; doc < 60; doc++) {
+                assertEquals(doc + 3, mergeBaseGraph.getDocIdMap()[doc]);
+            }
+            assertEquals(60, mergeBaseGraph.getDocsInGraph().cardinality());
+
+            // The id map stays sorted: ids of the graph are increasing, and every inserted doc comes after them
+            final int lastDocInGraph = mergeBaseGraph.getDocIdMap()[59];
+            for (int doc = 1; doc < 60; doc++) {
+                assertTrue(mergeBaseGraph.getDocIdMap()[doc] > mergeBaseGraph.getDocIdMap()[doc - 1]);
+            }
+            for (int doc = 0; doc < 40; doc++) {
+                assertFalse(mergeBaseGraph.getDocsInGraph().get(docMaps[2].get(doc)));
+                assertTrue(docMaps[2].get(doc) > lastDocInGraph);
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testSelect_whenBelowMinRatio_thenBuild() {
+        assertNull(select(new Bits[3], false, 0.7));
+    }
+
+    @SneakyThrows
+    public void testSelect_whenDeletedDocs_thenBuild() {
+        assertNull(select(new Bits[] { null, new Bits.MatchAllBits(60), null }, false, 0.5));
+    }
+
+    @SneakyThrows
+    public void testSelect_whenIndexSorted_thenBuild() {
+        assertNull(select(new Bits[3], true, 0.5));
+    }
+
+    @SneakyThrows
+    public void testSelect_whenLargerSegmentIsNotFirst_thenBuild() {
+        // The largest segment comes second, so its docs are not the first of the merged segment
+        readers[1] = nativeReader(40);
+        readers[2] = nativeReader(60);
+        docMaps[2] = shift(43);
+        assertNull(select(new Bits[3], false, 0.5));
+    }
+
+    @SneakyThrows
+    public void testSelect_whenDocsInterleaved_thenBuild() {
+        docMaps[1] = new MergeState.DocMap() {
+            @Override
+            public int get(int docID) {
+                // Swaps every pair of docs
+                return 3 + (docID % 2 == 0 ? docID + 1 : docID - 1);
+            }
+        };
+        assertNull(select(new Bits[3], false, 0.5));
+    }
+
+    private MergeBaseGraph select(final Bits[] liveDocs, final boolean indexSorted, final double minRatio) throws Exception {
+        return MergeBaseGraph.select(FIELD, readers, fieldInfos, liveDocs, docMaps, maxDocs, 103, indexSorted, minRatio, 100);
+    }
+
+    @SneakyThrows
+    private static NativeEngines990KnnVectorsReader nativeReader(final int numVectors) {
+        final NativeEngines990KnnVectorsReader reader = mock(NativeEngines990KnnVectorsReader.class);
+        final FloatVectorValues vectorValues = mock(FloatVectorValues.class);
+        when(vectorValues.size()).thenReturn(numVectors);
+        when(reader.getFloatVectorValues(FIELD)).thenReturn(vectorValues);
+        when(reader.openNativeEngineFile(FIELD)).thenReturn(mock(IndexInput.class));
+        return reader;
+    }
+
+    private static FieldInfos fieldInfos(final boolean hasField) {
+        final FieldInfos fieldInfos = mock(FieldInfos.class);
+        when(fieldInfos.fieldInfo(FIELD)).thenReturn(hasField ? mock(FieldInfo.class) : null);
+        return fieldInfos;
+    }
+
+    private static MergeState.DocMap shift(final int docBase) {
+        return new MergeState.DocMap() {
+            @Override
+            public int get(int docID) {
+                return docBase + docID;
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler.Priority.FLUSH;
+import static org.opensearch.knn.index.codec.nativeindex.NativeIndexBuildScheduler.Priority.MERGE;
+
+public class NativeIndexBuildSchedulerTests extends KNNTestCase {
+
+    @SneakyThrows
+    public void testAcquire_whenPoolNotLimited_thenAdmitRightAway() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(0);
+        try (
+            NativeIndexBuildScheduler.Permit flush = scheduler.acquire(8, FLUSH);
+            NativeIndexBuildScheduler.Permit merge = scheduler.acquire(8, MERGE)
+        ) {
+            assertEquals(8, flush.getThreads());
+            assertEquals(8, merge.getThreads());
+            assertEquals(16, scheduler.getActiveThreads());
+            assertEquals(0, scheduler.getUtilization(), 0);
+        }
+        assertEquals(0, scheduler.getActiveThreads());
+        assertEquals(1, scheduler.getFlushBuildCount());
+        assertEquals(1, scheduler.getMergeBuildCount());
+    }
+
+    @SneakyThrows
+    public void testAcquire_whenPoolLimited_thenAdmitFlushesBeforeMerges() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(4);
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            // Builds never get more threads than the pool has
+            final NativeIndexBuildScheduler.Permit running = scheduler.acquire(8, MERGE);
+            assertEquals(4, running.getThreads());
+            assertEquals(1.0, scheduler.getUtilization(), 0);
+
+            final Future<NativeIndexBuildScheduler.Permit> merge = executorService.submit(() -> scheduler.acquire(2, MERGE));
+            assertBusy(() -> assertEquals(1, scheduler.getQueueDepth()));
+            final Future<NativeIndexBuildScheduler.Permit> flush = executorService.submit(() -> scheduler.acquire(3, FLUSH));
+            assertBusy(() -> assertEquals(2, scheduler.getQueueDepth()));
+
+            // The flush arrived last but goes first, and the merge does not fit next to it
+            running.close();
+            final NativeIndexBuildScheduler.Permit flushPermit = flush.get(10, TimeUnit.SECONDS);
+            assertEquals(3, flushPermit.getThreads());
+            assertEquals(1, scheduler.getQueueDepth());
+            assertFalse(merge.isDone());
+
+            flushPermit.close();
+            final NativeIndexBuildScheduler.Permit mergePermit = merge.get(10, TimeUnit.SECONDS);
+            assertEquals(2, mergePermit.getThreads());
+            assertEquals(0, scheduler.getQueueDepth());
+            assertEquals(0.5, scheduler.getUtilization(), 0);
+
+            // Closing twice releases the threads once
+            mergePermit.close();
+            mergePermit.close();
+            assertEquals(0, scheduler.getActiveThreads());
+        } finally {
+            executorService.shutdownNow();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @SneakyThrows
+    public void testSetPoolSize_thenAdmitWaitingBuilds() {
+        final NativeIndexBuildScheduler scheduler = new NativeIndexBuildScheduler(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try (NativeIndexBuildScheduler.Permit running = scheduler.acquire(1, FLUSH)) {
+            final Future<NativeIndexBuildScheduler.Permit> waiting = executorService.submit(() -> scheduler.acquire(1, FLUSH));
+            assertBusy(() -> assertEquals(1, scheduler.getQueueDepth()));
+
+            scheduler.setPoolSize(2);
+            try (NativeIndexBuildScheduler.Permit admitted = waiting.get(10, TimeUnit.SECONDS)) {
+                assertEquals(1, admitted.getThreads());
+                assertEquals(2, scheduler.getActiveThreads());
+            }
+        } finally {
+            executorService.shutdownNow();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -55,6 +55,16 @@ public class KNNCodecUtilTests extends TestCase {
         assertTrue(engineFiles.get(0).equals("_0_2011_target_field.faissc"));
     }
 
+    public void testExtractFieldName() {
+        assertEquals("target_field", KNNCodecUtil.extractFieldName("_0_2011_target_field.faissc"));
+        assertEquals(
+            "my_field",
+            KNNCodecUtil.extractFieldName(KNNCodecUtil.buildEngineFileName("_1a", "165", "my_field", KNNEngine.FAISS.getExtension()))
+        );
+        // Not an engine file name
+        assertEquals("test1", KNNCodecUtil.extractFieldName("test1.faiss"));
+    }
+
     @SneakyThrows
     public void testInitializeVectorValues_whenValidVectorValues_thenSuccess() {
         // Give
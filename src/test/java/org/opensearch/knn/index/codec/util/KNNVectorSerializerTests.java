@@ -54,6 +54,23 @@ public class KNNVectorSerializerTests extends KNNTestCase {
         assertArrayEquals(vector, deserializedVector, 0.1f);
     }
 
+    public void testVectorSerializer_whenReuse_thenDeserializeInPlace() {
+        final float[] vector = getArrayOfRandomFloats(20);
+        final KNNVectorSerializer vectorSerializer = KNNVectorAsCollectionOfFloatsSerializer.INSTANCE;
+        final BytesRef serializedVector = new BytesRef(vectorSerializer.floatToByteArray(vector));
+
+        // Array with the right length is reused
+        final float[] reuse = new float[vector.length];
+        assertSame(reuse, vectorSerializer.byteToFloatArray(serializedVector, reuse));
+        assertArrayEquals(vector, reuse, 0.0f);
+
+        // Otherwise a new array is allocated
+        final float[] deserializedVector = vectorSerializer.byteToFloatArray(serializedVector, new float[vector.length - 1]);
+        assertEquals(vector.length, deserializedVector.length);
+        assertArrayEquals(vector, deserializedVector, 0.0f);
+        assertArrayEquals(vector, vectorSerializer.byteToFloatArray(serializedVector, null), 0.0f);
+    }
+
     private float[] getArrayOfRandomFloats(int arrayLength) {
         float[] vector = new float[arrayLength];
         IntStream.range(0, arrayLength).forEach(index -> vector[index] = random.nextFloat());
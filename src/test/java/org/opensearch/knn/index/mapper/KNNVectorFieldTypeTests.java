@@ -5,16 +5,25 @@
 
 package org.opensearch.knn.index.mapper;
 
+import org.mockito.MockedStatic;
 import org.opensearch.index.mapper.ArraySourceValueFetcher;
 import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.KNNMethodContext;
+import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.knn.indices.ModelUtil;
 
 import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
 
 public class KNNVectorFieldTypeTests extends KNNTestCase {
     private static final String FIELD_NAME = "test-field";
@@ -31,4 +40,40 @@ public class KNNVectorFieldTypeTests extends KNNTestCase {
         ValueFetcher valueFetcher = knnVectorFieldType.valueFetcher(mockQueryShardContext, null, null);
         assertTrue(valueFetcher instanceof ArraySourceValueFetcher);
     }
+
+    public void testIsModelMemoryOptimizedSearchSupported() {
+        final String modelId = "test-model";
+        final KNNVectorFieldType knnVectorFieldType = new KNNVectorFieldType(
+            FIELD_NAME,
+            Collections.emptyMap(),
+            VectorDataType.FLOAT,
+            getMappingConfigForModelMapping(modelId, 3)
+        );
+        final ModelMetadata modelMetadata = mock(ModelMetadata.class);
+        when(modelMetadata.getKnnEngine()).thenReturn(KNNEngine.FAISS);
+        when(modelMetadata.getVectorDataType()).thenReturn(VectorDataType.FLOAT);
+        when(modelMetadata.getMethodComponentContext()).thenReturn(new MethodComponentContext(METHOD_IVF, Collections.emptyMap()));
+
+        try (MockedStatic<ModelUtil> modelUtilMockedStatic = mockStatic(ModelUtil.class)) {
+            // Fails closed while the model cannot be resolved, and retries on the next call.
+            modelUtilMockedStatic.when(() -> ModelUtil.getModelMetadata(modelId)).thenThrow(new IllegalArgumentException("not created"));
+            assertFalse(knnVectorFieldType.isModelMemoryOptimizedSearchSupported());
+
+            // Once resolved, the model is not looked up anymore.
+            modelUtilMockedStatic.when(() -> ModelUtil.getModelMetadata(modelId)).thenReturn(modelMetadata);
+            assertTrue(knnVectorFieldType.isModelMemoryOptimizedSearchSupported());
+            assertTrue(knnVectorFieldType.isModelMemoryOptimizedSearchSupported());
+            modelUtilMockedStatic.verify(() -> ModelUtil.getModelMetadata(modelId), times(2));
+        }
+    }
+
+    public void testIsModelMemoryOptimizedSearchSupported_whenNoModel_thenFalse() {
+        final KNNVectorFieldType knnVectorFieldType = new KNNVectorFieldType(
+            FIELD_NAME,
+            Collections.emptyMap(),
+            VectorDataType.FLOAT,
+            getMappingConfigForMethodMapping(getDefaultKNNMethodContext(), 3)
+        );
+        assertFalse(knnVectorFieldType.isModelMemoryOptimizedSearchSupported());
+    }
 }
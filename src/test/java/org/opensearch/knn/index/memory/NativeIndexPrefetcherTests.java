@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.junit.After;
+import org.mockito.MockedStatic;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.Store;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.codec.KNNCodecTestUtil;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.PREFETCH_THREAD_POOL;
+
+public class NativeIndexPrefetcherTests extends KNNTestCase {
+    private static final String INDEX_NAME = "test-index";
+
+    @After
+    public void resetThreadPool() {
+        NativeIndexPrefetcher.setThreadPool(null);
+    }
+
+    public void testGetShardContextIfEnabled_whenShardRegistered_thenResolveBySegmentDirectory() {
+        NativeIndexPrefetcher.setThreadPool(mock(ThreadPool.class));
+        final NativeIndexPrefetcher prefetcher = new NativeIndexPrefetcher();
+        final Directory directory = mock(Directory.class);
+        final IndexShard indexShard = mockIndexShard(new FilterDirectory(directory) {
+        });
+        final SegmentInfo segmentInfo = KNNCodecTestUtil.segmentInfoBuilder()
+            .directory(directory)
+            .segmentName("_0")
+            .docsInSegment(10)
+            .build();
+
+        // Not registered yet
+        assertNull(prefetcher.getShardContextIfEnabled(segmentInfo));
+
+        prefetcher.afterIndexShardCreated(indexShard);
+        try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+            knnSettingsMockedStatic.when(() -> KNNSettings.isAutoWarmupEnabled(INDEX_NAME)).thenReturn(true);
+            final NativeIndexPrefetcher.ShardContext shardContext = prefetcher.getShardContextIfEnabled(segmentInfo);
+            assertNotNull(shardContext);
+            assertEquals(INDEX_NAME, shardContext.getIndexName());
+            assertSame(indexShard.mapperService(), shardContext.getMapperService());
+
+            // Disabled for the index
+            knnSettingsMockedStatic.when(() -> KNNSettings.isAutoWarmupEnabled(INDEX_NAME)).thenReturn(false);
+            assertNull(prefetcher.getShardContextIfEnabled(segmentInfo));
+
+            // Closed shard
+            knnSettingsMockedStatic.when(() -> KNNSettings.isAutoWarmupEnabled(INDEX_NAME)).thenReturn(true);
+            prefetcher.beforeIndexShardClosed(indexShard.shardId(), indexShard, Settings.EMPTY);
+            assertNull(prefetcher.getShardContextIfEnabled(segmentInfo));
+        }
+    }
+
+    public void testGetShardContextIfEnabled_whenNoThreadPool_thenNull() {
+        final NativeIndexPrefetcher prefetcher = new NativeIndexPrefetcher();
+        final Directory directory = mock(Directory.class);
+        prefetcher.afterIndexShardCreated(mockIndexShard(directory));
+        final SegmentInfo segmentInfo = KNNCodecTestUtil.segmentInfoBuilder()
+            .directory(directory)
+            .segmentName("_0")
+            .docsInSegment(10)
+            .build();
+
+        assertNull(prefetcher.getShardContextIfEnabled(segmentInfo));
+        assertNull(prefetcher.submit(() -> {}));
+    }
+
+    public void testSubmit_whenQueueIsFull_thenNull() {
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        final ExecutorService executorService = mock(ExecutorService.class);
+        when(threadPool.executor(PREFETCH_THREAD_POOL)).thenReturn(executorService);
+        NativeIndexPrefetcher.setThreadPool(threadPool);
+        final NativeIndexPrefetcher prefetcher = new NativeIndexPrefetcher();
+
+        final Future<?> future = mock(Future.class);
+        doReturn(future).when(executorService).submit(any(Runnable.class));
+        assertSame(future, prefetcher.submit(() -> {}));
+
+        doThrow(new RejectedExecutionException()).when(executorService).submit(any(Runnable.class));
+        assertNull(prefetcher.submit(() -> {}));
+    }
+
+    private static IndexShard mockIndexShard(final Directory directory) {
+        final IndexShard indexShard = mock(IndexShard.class);
+        final Store store = mock(Store.class);
+        when(store.directory()).thenReturn(directory);
+        when(indexShard.store()).thenReturn(store);
+        when(indexShard.shardId()).thenReturn(new ShardId(INDEX_NAME, "uuid", 0));
+        when(indexShard.mapperService()).thenReturn(mock(MapperService.class));
+        return indexShard;
+    }
+}
@@ -17,6 +17,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.knn.KNNTestCase;
@@ -42,6 +43,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.featureflags.KNNFeatureFlags.KNN_FORCE_EVICT_CACHE_ENABLED_SETTING;
 
@@ -294,6 +296,73 @@ public class NativeMemoryAllocationTests extends KNNTestCase {
         executorService.shutdown();
     }
 
+    public void testIndexAllocation_closeBlocking_whenPinned_thenClosesOnExecutor() throws InterruptedException, ExecutionException {
+        ExecutorService pinningExecutor = Executors.newSingleThreadExecutor();
+        ExecutorService closingExecutor = Executors.newSingleThreadExecutor();
+        when(clusterSettings.get(KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        NativeMemoryAllocation.IndexAllocation indexAllocation = new NativeMemoryAllocation.IndexAllocation(
+            executorService,
+            0,
+            0,
+            null,
+            "test",
+            "test"
+        );
+
+        // Nested pins from the same thread, the allocation stays pinned until the outermost unpin.
+        assertTrue(pinningExecutor.submit(indexAllocation::tryPin).get());
+        assertTrue(pinningExecutor.submit(indexAllocation::tryPin).get());
+        pinningExecutor.submit(indexAllocation::unpin).get();
+
+        // The evicting thread only waits for the search for a bounded time, then leaves the close to the executor.
+        indexAllocation.close();
+        assertFalse(indexAllocation.isClosed());
+
+        // Once closing started, the allocation cannot be pinned anymore.
+        assertFalse(indexAllocation.tryPin());
+
+        ArgumentCaptor<Runnable> onClose = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(onClose.capture());
+        Future<?> closingThread = closingExecutor.submit(onClose.getValue());
+        try {
+            closingThread.get(1, TimeUnit.SECONDS);
+            fail("Closing should be blocked. We are still pinning the allocation.");
+        } catch (TimeoutException ignored) {}
+        assertFalse(indexAllocation.isClosed());
+
+        pinningExecutor.submit(indexAllocation::unpin).get();
+        closingThread.get();
+        assertTrue(indexAllocation.isClosed());
+        pinningExecutor.shutdown();
+        closingExecutor.shutdown();
+    }
+
+    public void testIndexAllocation_closeBlocking_whenPinnedByClosingThread_thenClosesOnExecutor() {
+        when(clusterSettings.get(KNN_FORCE_EVICT_CACHE_ENABLED_SETTING)).thenReturn(true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        NativeMemoryAllocation.IndexAllocation indexAllocation = new NativeMemoryAllocation.IndexAllocation(
+            executorService,
+            0,
+            0,
+            null,
+            "test",
+            "test"
+        );
+
+        // Evicting an allocation from inside a search of it must not wait for the search to exit.
+        assertTrue(indexAllocation.tryPin());
+        indexAllocation.close();
+        assertFalse(indexAllocation.isClosed());
+        assertFalse(indexAllocation.tryPin());
+
+        ArgumentCaptor<Runnable> onClose = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(onClose.capture());
+        indexAllocation.unpin();
+        onClose.getValue().run();
+        assertTrue(indexAllocation.isClosed());
+    }
+
     public void testIndexAllocation_writeLock() throws InterruptedException {
         // To test the writeLock, we first grab the writeLock in the main thread. Then we start another thread that
         // grabs the readLock and asserts testLockValue2 has been updated. Next in the main thread, we update the value
@@ -21,6 +21,7 @@ import org.junit.Before;
 import lombok.SneakyThrows;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.admin.cluster.settings.ClusterUpdateSettingsRequest;
 import org.opensearch.cluster.service.ClusterService;
@@ -32,6 +33,8 @@ import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.engine.KNNEngine;
+import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.plugin.KNNPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
@@ -47,11 +50,13 @@ import java.util.ArrayList;
 import java.util.Set;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doAnswer;
@@ -157,6 +162,49 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         nativeMemoryCacheManager.close();
     }
 
+    public void testTryReserve() throws ExecutionException {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        long maxWeight = nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
+
+        TestNativeMemoryEntryContent testNativeMemoryEntryContent = new TestNativeMemoryEntryContent("test-1", (int) (maxWeight / 2));
+        nativeMemoryCacheManager.get(testNativeMemoryEntryContent, true);
+
+        // Reserved memory is limited by the room left next to the entries of the cache
+        assertTrue(nativeMemoryCacheManager.tryReserve(1024 * 10));
+        assertEquals(10, nativeMemoryCacheManager.getReservedSizeInKilobytes());
+        assertEquals(maxWeight / 2 + 10, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        assertFalse(nativeMemoryCacheManager.tryReserve(1024 * maxWeight));
+        assertEquals(10, nativeMemoryCacheManager.getReservedSizeInKilobytes());
+
+        nativeMemoryCacheManager.release(1024 * 10);
+        assertEquals(0, nativeMemoryCacheManager.getReservedSizeInKilobytes());
+        assertEquals(maxWeight / 2, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        nativeMemoryCacheManager.close();
+    }
+
+    public void testCacheTemplate() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        String modelId = "test-model";
+        byte[] templateIndex = new byte[1024];
+
+        try (MockedStatic<JNIService> jniServiceMockedStatic = mockStatic(JNIService.class)) {
+            jniServiceMockedStatic.when(() -> JNIService.cacheTemplate(modelId, templateIndex, KNNEngine.FAISS)).thenReturn(2048L);
+
+            // The cached template is weighed as other entries and accounted without calling the native library
+            nativeMemoryCacheManager.cacheTemplate(modelId, templateIndex, KNNEngine.FAISS);
+            nativeMemoryCacheManager.cacheTemplate(modelId, templateIndex, KNNEngine.FAISS);
+            jniServiceMockedStatic.verify(() -> JNIService.cacheTemplate(modelId, templateIndex, KNNEngine.FAISS), times(1));
+            assertEquals(2, nativeMemoryCacheManager.getTemplateCacheSizeInKilobytes());
+            assertEquals(2, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+
+            nativeMemoryCacheManager.evictTemplate(modelId);
+            jniServiceMockedStatic.verify(() -> JNIService.evictTemplate(modelId, KNNEngine.FAISS), times(1));
+            assertEquals(0, nativeMemoryCacheManager.getTemplateCacheSizeInKilobytes());
+            assertEquals(0, nativeMemoryCacheManager.getCacheSizeInKilobytes());
+        }
+        nativeMemoryCacheManager.close();
+    }
+
     public void testGetCacheSizeAsPercentage() throws ExecutionException {
         NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
         long maxWeight = nativeMemoryCacheManager.getMaxCacheSizeInKilobytes();
@@ -536,6 +584,65 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
         nativeMemoryCacheManager.close();
     }
 
+    public void testGetIndicesSizeInKilobytesBreakdown() throws IOException, ExecutionException {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        assertTrue(nativeMemoryCacheManager.getIndicesSizeInKilobytesByEngine().isEmpty());
+
+        String indexName = "test-index";
+        NativeMemoryAllocation.IndexAllocation fieldAShard0 = new NativeMemoryAllocation.IndexAllocation(
+            mock(ExecutorService.class),
+            0,
+            3,
+            KNNEngine.FAISS,
+            "_0_165_field_a.faiss",
+            indexName,
+            null,
+            false,
+            "0"
+        );
+        NativeMemoryAllocation.IndexAllocation fieldBShard1 = new NativeMemoryAllocation.IndexAllocation(
+            mock(ExecutorService.class),
+            0,
+            5,
+            KNNEngine.FAISS,
+            "_1_165_field_b.faiss",
+            indexName,
+            null,
+            false,
+            "1"
+        );
+
+        NativeMemoryEntryContext.IndexEntryContext indexEntryContext1 = mock(NativeMemoryEntryContext.IndexEntryContext.class);
+        when(indexEntryContext1.load()).thenReturn(fieldAShard0);
+        when(indexEntryContext1.getKey()).thenReturn("test-1");
+        NativeMemoryEntryContext.IndexEntryContext indexEntryContext2 = mock(NativeMemoryEntryContext.IndexEntryContext.class);
+        when(indexEntryContext2.load()).thenReturn(fieldBShard1);
+        when(indexEntryContext2.getKey()).thenReturn("test-2");
+
+        nativeMemoryCacheManager.get(indexEntryContext1, true);
+        nativeMemoryCacheManager.get(indexEntryContext2, true);
+        // Cache hit is not accounted twice
+        nativeMemoryCacheManager.get(indexEntryContext1, true);
+
+        assertEquals(Map.of(KNNEngine.FAISS.getName(), 8L), nativeMemoryCacheManager.getIndicesSizeInKilobytesByEngine());
+        assertEquals(
+            Map.of(indexName, Map.of("field_a", 3L, "field_b", 5L)),
+            nativeMemoryCacheManager.getIndicesSizeInKilobytesByField()
+        );
+        assertEquals(Map.of(indexName, Map.of("0", 3L, "1", 5L)), nativeMemoryCacheManager.getIndicesSizeInKilobytesByShard());
+
+        nativeMemoryCacheManager.invalidate("test-2");
+        assertEquals(Map.of(KNNEngine.FAISS.getName(), 3L), nativeMemoryCacheManager.getIndicesSizeInKilobytesByEngine());
+        assertEquals(Map.of(indexName, Map.of("field_a", 3L)), nativeMemoryCacheManager.getIndicesSizeInKilobytesByField());
+
+        nativeMemoryCacheManager.invalidateAll();
+        assertTrue(nativeMemoryCacheManager.getIndicesSizeInKilobytesByEngine().isEmpty());
+        assertTrue(nativeMemoryCacheManager.getIndicesSizeInKilobytesByField().isEmpty());
+        assertTrue(nativeMemoryCacheManager.getIndicesSizeInKilobytesByShard().isEmpty());
+
+        nativeMemoryCacheManager.close();
+    }
+
     public void testMaintenanceScheduled() {
         NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
         Cancellable maintenanceTask = nativeMemoryCacheManager.getMaintenanceTask();
@@ -12,6 +12,7 @@
 package org.opensearch.knn.index.memory;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchResponse;
@@ -122,6 +123,8 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
 
             // Verify
             assertTrue(indexAllocation.isBinaryIndex());
+            // Size is reported by the engine, while the file is smaller than a kilobyte
+            assertTrue(indexAllocation.getSizeInKB() > 0);
 
             // Confirm that the file was loaded by querying
             byte[] query = { 1 };
@@ -139,6 +142,16 @@ public class NativeMemoryLoadStrategyTests extends KNNTestCase {
         }
     }
 
+    public void testExtractShardId() throws IOException {
+        Path shardPath = createTempDir().resolve("3");
+        try (Directory luceneDirectory = newFSDirectory(shardPath.resolve("index"))) {
+            assertEquals("3", NativeMemoryLoadStrategy.IndexLoadStrategy.extractShardId(luceneDirectory));
+        }
+        try (Directory luceneDirectory = new ByteBuffersDirectory()) {
+            assertNull(NativeMemoryLoadStrategy.IndexLoadStrategy.extractShardId(luceneDirectory));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public void testTrainingLoadStrategy_load() {
         // Mock the vector reader so that on read, it waits 2 seconds, transfers vectors to the consumer, and then calls
@@ -59,4 +59,26 @@ public class SharedIndexStateManagerTests extends KNNTestCase {
         sharedIndexStateManager.release(secondSharedIndexStateRetrieved);
         jniServiceMockedStatic.verify(() -> JNIService.freeSharedIndexState(TEST_SHARED_TABLE_ADDRESS, TEST_KNN_ENGINE), Mockito.times(1));
     }
+
+    public void testGetSizeInKilobytes_whenSharedByAllocations_thenAccountedOnce() {
+        // Separate addresses, so that frees are not counted against the other tests
+        final long indexAddress = 4321;
+        final long sharedTableAddress = 321;
+        jniServiceMockedStatic.when(() -> JNIService.initSharedIndexState(indexAddress, TEST_KNN_ENGINE)).thenReturn(sharedTableAddress);
+        jniServiceMockedStatic.when(() -> JNIService.getSharedIndexStateMemoryUsage(sharedTableAddress, TEST_KNN_ENGINE))
+            .thenReturn(3 * 1024L + 1);
+
+        SharedIndexStateManager sharedIndexStateManager = new SharedIndexStateManager();
+        assertEquals(0, sharedIndexStateManager.getSizeInKilobytes());
+
+        SharedIndexState firstSharedIndexStateRetrieved = sharedIndexStateManager.get(indexAddress, TEST_MODEL_ID, TEST_KNN_ENGINE);
+        assertEquals(4, sharedIndexStateManager.getSizeInKilobytes());
+        SharedIndexState secondSharedIndexStateRetrieved = sharedIndexStateManager.get(indexAddress, TEST_MODEL_ID, TEST_KNN_ENGINE);
+        assertEquals(4, sharedIndexStateManager.getSizeInKilobytes());
+
+        sharedIndexStateManager.release(firstSharedIndexStateRetrieved);
+        assertEquals(4, sharedIndexStateManager.getSizeInKilobytes());
+        sharedIndexStateManager.release(secondSharedIndexStateRetrieved);
+        assertEquals(0, sharedIndexStateManager.getSizeInKilobytes());
+    }
 }
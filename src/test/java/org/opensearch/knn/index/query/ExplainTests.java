@@ -682,6 +682,149 @@ public class ExplainTests extends KNNWeightTestCase {
         assertTrue(Comparators.isInOrder(actualDocIds, Comparator.naturalOrder()));
     }
 
+    @SneakyThrows
+    public void testANNWithFilterQuery_whenCostModelPrefersExactSearch() {
+        ModelDao modelDao = mock(ModelDao.class);
+        KNNWeight.initialize(modelDao);
+        knnSettingsMockedStatic.when(() -> KNNSettings.getFilteredExactSearchThreshold(INDEX_NAME)).thenReturn(-1);
+        knnSettingsMockedStatic.when(() -> KNNSettings.isCostBasedExactSearchEnabled(INDEX_NAME)).thenReturn(true);
+        float[] vector = new float[] { 0.1f, 0.3f };
+        int k = 1;
+        final int[] filterDocIds = new int[] { 0, 1, 2, 3, 4, 5 };
+        final Map<String, String> attributesMap = ImmutableMap.of(
+            KNN_ENGINE,
+            KNNEngine.FAISS.getName(),
+            SPACE_TYPE,
+            SpaceType.L2.name(),
+            PARAMETERS,
+            String.format(Locale.ROOT, "{\"%s\":\"%s\"}", INDEX_DESCRIPTION_PARAMETER, "HNSW32")
+        );
+
+        setupTest(filterDocIds, attributesMap, 100, SpaceType.L2, true, null, vector, null);
+
+        final KNNQuery query = new KNNQuery(FIELD_NAME, QUERY_VECTOR, k, INDEX_NAME, FILTER_QUERY, null, null);
+        query.setExplain(true);
+
+        final float boost = (float) randomDoubleBetween(0, 10, true);
+        final KNNWeight knnWeight = new DefaultKNNWeight(query, boost, filterQueryWeight);
+
+        try (MockedStatic<KNNSearchCostModel> costModelMockedStatic = mockCostModel(true, 100, 200)) {
+            final KNNScorer knnScorer = (KNNScorer) knnWeight.scorer(leafReaderContext);
+            assertNotNull(knnScorer);
+            knnWeight.getKnnExplanation().addKnnScorer(leafReaderContext, knnScorer);
+            final DocIdSetIterator docIdSetIterator = knnScorer.iterator();
+            assertNotNull(docIdSetIterator);
+            assertEquals(EXACT_SEARCH_DOC_ID_TO_SCORES.size(), docIdSetIterator.cost());
+
+            final List<Integer> actualDocIds = new ArrayList<>();
+            for (int docId = docIdSetIterator.nextDoc(); docId != NO_MORE_DOCS; docId = docIdSetIterator.nextDoc()) {
+                actualDocIds.add(docId);
+                float score = EXACT_SEARCH_DOC_ID_TO_SCORES.get(docId) * boost;
+                assertEquals(score, knnScorer.score(), 0.01f);
+                Explanation explanation = knnWeight.explain(leafReaderContext, docId, score);
+                assertExplanation(
+                    explanation,
+                    score,
+                    ANN_SEARCH,
+                    EXACT_SEARCH,
+                    VectorDataType.FLOAT.name(),
+                    SpaceType.L2.getValue(),
+                    "since estimated exact search cost = 100ns",
+                    "is less than or equal to estimated ANN search cost = 200ns"
+                );
+            }
+            assertEquals(docIdSetIterator.cost(), actualDocIds.size());
+        } finally {
+            knnSettingsMockedStatic.when(() -> KNNSettings.isCostBasedExactSearchEnabled(INDEX_NAME)).thenReturn(false);
+        }
+    }
+
+    @SneakyThrows
+    public void testANNWithFilterQuery_whenCostModelPrefersANNSearch() {
+        KNNWeight.initialize(null);
+        knnSettingsMockedStatic.when(() -> KNNSettings.getFilteredExactSearchThreshold(INDEX_NAME)).thenReturn(-1);
+        knnSettingsMockedStatic.when(() -> KNNSettings.isCostBasedExactSearchEnabled(INDEX_NAME)).thenReturn(true);
+        int k = 3;
+        jniServiceMockedStatic.when(
+            () -> JNIService.queryIndex(anyLong(), eq(QUERY_VECTOR), eq(k), eq(HNSW_METHOD_PARAMETERS), any(), eq(null), anyInt(), any())
+        ).thenReturn(getFilteredKNNQueryResults());
+
+        final int[] filterDocIds = new int[] { 0, 1, 2, 3, 4, 5 };
+        final Map<String, String> attributesMap = ImmutableMap.of(
+            KNN_ENGINE,
+            KNNEngine.FAISS.getName(),
+            SPACE_TYPE,
+            SpaceType.L2.getValue()
+        );
+
+        setupTest(filterDocIds, attributesMap);
+
+        final KNNQuery query = KNNQuery.builder()
+            .field(FIELD_NAME)
+            .queryVector(QUERY_VECTOR)
+            .k(k)
+            .indexName(INDEX_NAME)
+            .filterQuery(FILTER_QUERY)
+            .methodParameters(HNSW_METHOD_PARAMETERS)
+            .vectorDataType(VectorDataType.FLOAT)
+            .explain(true)
+            .build();
+        query.setExplain(true);
+
+        final float boost = 1;
+        final KNNWeight knnWeight = new DefaultKNNWeight(query, boost, filterQueryWeight);
+
+        try (MockedStatic<KNNSearchCostModel> costModelMockedStatic = mockCostModel(false, 200, 100)) {
+            final KNNScorer knnScorer = (KNNScorer) knnWeight.scorer(leafReaderContext);
+            assertNotNull(knnScorer);
+            knnWeight.getKnnExplanation().addKnnScorer(leafReaderContext, knnScorer);
+            final DocIdSetIterator docIdSetIterator = knnScorer.iterator();
+            assertNotNull(docIdSetIterator);
+            assertEquals(FILTERED_DOC_ID_TO_SCORES.size(), docIdSetIterator.cost());
+
+            jniServiceMockedStatic.verify(
+                () -> JNIService.queryIndex(anyLong(), eq(QUERY_VECTOR), eq(k), eq(HNSW_METHOD_PARAMETERS), any(), any(), anyInt(), any()),
+                times(1)
+            );
+
+            final List<Integer> actualDocIds = new ArrayList<>();
+            final Map<Integer, Float> translatedScores = getTranslatedScores(SpaceType.L2::scoreTranslation);
+            for (int docId = docIdSetIterator.nextDoc(); docId != NO_MORE_DOCS; docId = docIdSetIterator.nextDoc()) {
+                actualDocIds.add(docId);
+                float score = translatedScores.get(docId) * boost;
+                Explanation explanation = knnWeight.explain(leafReaderContext, docId, score);
+                assertExplanation(
+                    explanation,
+                    score,
+                    ANN_SEARCH,
+                    ANN_SEARCH,
+                    VectorDataType.FLOAT.name(),
+                    SpaceType.L2.getValue(),
+                    "since estimated ANN search cost = 100ns",
+                    "is less than estimated exact search cost = 200ns"
+                );
+                assertFalse(explanation.getDetails()[0].getDescription().contains(EXACT_SEARCH));
+            }
+            assertEquals(docIdSetIterator.cost(), actualDocIds.size());
+        } finally {
+            knnSettingsMockedStatic.when(() -> KNNSettings.isCostBasedExactSearchEnabled(INDEX_NAME)).thenReturn(false);
+        }
+    }
+
+    private static MockedStatic<KNNSearchCostModel> mockCostModel(
+        final boolean exactSearchPreferred,
+        final long exactSearchCost,
+        final long annSearchCost
+    ) {
+        final KNNSearchCostModel costModel = mock(KNNSearchCostModel.class);
+        when(costModel.estimate(anyInt(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(
+            new KNNSearchCostModel.SearchCostEstimate(exactSearchPreferred, exactSearchCost, annSearchCost, 1, 1, 0)
+        );
+        final MockedStatic<KNNSearchCostModel> costModelMockedStatic = Mockito.mockStatic(KNNSearchCostModel.class);
+        costModelMockedStatic.when(KNNSearchCostModel::getInstance).thenReturn(costModel);
+        return costModelMockedStatic;
+    }
+
     @SneakyThrows
     public void testRadialANNSearch() {
         final float[] queryVector = new float[] { 0.1f, 0.3f };
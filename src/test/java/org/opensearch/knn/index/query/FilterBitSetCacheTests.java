@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.knn.KNNTestCase;
+
+public class FilterBitSetCacheTests extends KNNTestCase {
+    private static final String FIELD_NAME = "color";
+    private static final int NUM_DOCS = 100;
+
+    @SneakyThrows
+    public void testGet_whenDisabled_thenReturnNull() {
+        final FilterBitSetCache filterBitSetCache = new FilterBitSetCache(0);
+        assertFalse(filterBitSetCache.isEnabled());
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReaderContext context = reader.leaves().get(0);
+                assertNull(filterBitSetCache.get(context, createFilterWeight(reader, "red")));
+                assertEquals(0, filterBitSetCache.getMissCount());
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testGet_whenFilterRepeated_thenRunFilterOnce() {
+        final FilterBitSetCache filterBitSetCache = new FilterBitSetCache(1024 * 1024);
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory);
+            final DirectoryReader reader = DirectoryReader.open(directory);
+            final LeafReaderContext context = reader.leaves().get(0);
+
+            final FilterBitSetCache.CachedFilter cachedFilter = filterBitSetCache.get(context, createFilterWeight(reader, "red"));
+            assertNotNull(cachedFilter);
+            assertEquals(NUM_DOCS / 2, cachedFilter.getCardinality());
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                assertEquals(doc % 2 == 0, cachedFilter.getBitSet().get(doc));
+            }
+            assertEquals(1, filterBitSetCache.getMissCount());
+
+            // A new weight of an equal query hits the cache
+            assertSame(cachedFilter, filterBitSetCache.get(context, createFilterWeight(reader, "red")));
+            assertEquals(1, filterBitSetCache.getHitCount());
+            assertEquals(0.5, filterBitSetCache.getHitRatio(), 1e-9);
+
+            // Another filter is cached separately
+            assertNotSame(cachedFilter, filterBitSetCache.get(context, createFilterWeight(reader, "blue")));
+            assertEquals(2, filterBitSetCache.getMissCount());
+            assertSame(cachedFilter, filterBitSetCache.getIfPresent(context, createFilterWeight(reader, "red")));
+            assertEquals(1, filterBitSetCache.getHitCount());
+
+            // The selector is computed once
+            final FilterIdsSelector filterIdsSelector = cachedFilter.getFilterIdsSelector();
+            assertSame(filterIdsSelector, cachedFilter.getFilterIdsSelector());
+
+            // Closing the segment drops its filters
+            reader.close();
+            assertNull(filterBitSetCache.getIfPresent(context, createFilterWeight(reader, "red")));
+            assertEquals(0, filterBitSetCache.getSizeInKilobytes());
+        }
+    }
+
+    @SneakyThrows
+    public void testRebuild_thenDropCachedFilters() {
+        final FilterBitSetCache filterBitSetCache = new FilterBitSetCache(1024 * 1024);
+        try (Directory directory = newDirectory()) {
+            indexDocs(directory);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReaderContext context = reader.leaves().get(0);
+                assertNotNull(filterBitSetCache.get(context, createFilterWeight(reader, "red")));
+
+                filterBitSetCache.rebuild(0);
+                assertNull(filterBitSetCache.getIfPresent(context, createFilterWeight(reader, "red")));
+                assertNull(filterBitSetCache.get(context, createFilterWeight(reader, "red")));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testCachedFilter_whenSparse_thenUseBatchSelector() {
+        final BitSet bitSet = new SparseFixedBitSet(100_000);
+        bitSet.set(10);
+        bitSet.set(99_999);
+        final FilterBitSetCache.CachedFilter cachedFilter = new FilterBitSetCache.CachedFilter(
+            bitSet,
+            new TermQuery(new Term(FIELD_NAME, "red"))
+        );
+        assertEquals(2, cachedFilter.getCardinality());
+        final FilterIdsSelector filterIdsSelector = cachedFilter.getFilterIdsSelector();
+        assertEquals(FilterIdsSelector.FilterIdsSelectorType.BATCH, filterIdsSelector.getFilterType());
+        assertArrayEquals(new long[] { 10, 99_999 }, filterIdsSelector.getFilterIds());
+
+        final FixedBitSet fixedBitSet = new FixedBitSet(64);
+        fixedBitSet.set(3);
+        final FilterBitSetCache.CachedFilter denseFilter = new FilterBitSetCache.CachedFilter(
+            fixedBitSet,
+            new TermQuery(new Term(FIELD_NAME, "red"))
+        );
+        assertSame(fixedBitSet.getBits(), denseFilter.getFilterIdsSelector().getFilterIds());
+    }
+
+    private static Weight createFilterWeight(final DirectoryReader reader, final String color) throws Exception {
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        return searcher.createWeight(searcher.rewrite(new TermQuery(new Term(FIELD_NAME, color))), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    }
+
+    private static void indexDocs(final Directory directory) throws Exception {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                final Document document = new Document();
+                document.add(new StringField(FIELD_NAME, i % 2 == 0 ? "red" : "blue", Field.Store.NO));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.SneakyThrows;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.util.KNNClusterUtil;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.knn.index.KNNClusterTestUtils.mockClusterService;
+
+public class KNNMaxSimQueryBuilderTests extends KNNTestCase {
+    private static final String FIELD_NAME = "tokens.vector";
+    private static final float[][] VECTORS = { { 1.0f, 2.0f }, { 3.0f, 4.0f }, { 5.0f, 6.0f } };
+
+    public void testBuild_whenInvalid_thenException() {
+        expectThrows(IllegalArgumentException.class, () -> KNNMaxSimQueryBuilder.builder().vectors(VECTORS).k(1).build());
+        expectThrows(IllegalArgumentException.class, () -> KNNMaxSimQueryBuilder.builder().fieldName(FIELD_NAME).k(1).build());
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> KNNMaxSimQueryBuilder.builder().fieldName(FIELD_NAME).vectors(new float[][] { { 1.0f }, { 1.0f, 2.0f } }).k(1).build()
+        );
+        expectThrows(IllegalArgumentException.class, () -> KNNMaxSimQueryBuilder.builder().fieldName(FIELD_NAME).vectors(VECTORS).build());
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> KNNMaxSimQueryBuilder.builder().fieldName(FIELD_NAME).vectors(VECTORS).k(10).numCandidates(5).build()
+        );
+    }
+
+    @SneakyThrows
+    public void testFromXContent() {
+        final KNNMaxSimQueryBuilder expected = KNNMaxSimQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .vectors(VECTORS)
+            .k(10)
+            .numCandidates(20)
+            .filter(QueryBuilders.termQuery("color", "red"))
+            .methodParameters(Map.of("ef_search", 100))
+            .build();
+
+        final XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        builder.startObject(FIELD_NAME);
+        builder.startArray(KNNMaxSimQueryBuilder.VECTORS_FIELD.getPreferredName());
+        for (float[] vector : VECTORS) {
+            builder.value(vector);
+        }
+        builder.endArray();
+        builder.field(KNNQueryBuilder.K_FIELD.getPreferredName(), 10);
+        builder.field(KNNMaxSimQueryBuilder.NUM_CANDIDATES_FIELD.getPreferredName(), 20);
+        builder.field(KNNQueryBuilder.FILTER_FIELD.getPreferredName(), QueryBuilders.termQuery("color", "red"));
+        builder.startObject(KNNQueryBuilder.METHOD_PARAMS_FIELD.getPreferredName());
+        builder.field("ef_search", 100);
+        builder.endObject();
+        builder.endObject();
+        builder.endObject();
+
+        final XContentParser parser = createParser(builder);
+        parser.nextToken();
+        assertEquals(expected, KNNMaxSimQueryBuilder.fromXContent(parser));
+    }
+
+    @SneakyThrows
+    public void testStreams() {
+        KNNClusterUtil.instance().initialize(mockClusterService(Version.CURRENT));
+        final KNNMaxSimQueryBuilder expected = KNNMaxSimQueryBuilder.builder()
+            .fieldName(FIELD_NAME)
+            .vectors(VECTORS)
+            .k(10)
+            .filter(QueryBuilders.termQuery("color", "red"))
+            .boost(2.0f)
+            .build();
+
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            output.writeNamedWriteable(expected);
+            try (StreamInput in = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), writableRegistry())) {
+                final QueryBuilder actual = in.readNamedWriteable(QueryBuilder.class);
+                assertEquals(expected, actual);
+                assertEquals(expected.hashCode(), actual.hashCode());
+            }
+        }
+    }
+
+    @Override
+    protected NamedWriteableRegistry writableRegistry() {
+        final List<NamedWriteableRegistry.Entry> entries = ClusterModule.getNamedWriteables();
+        entries.add(new NamedWriteableRegistry.Entry(QueryBuilder.class, KNNMaxSimQueryBuilder.NAME, KNNMaxSimQueryBuilder::new));
+        entries.add(new NamedWriteableRegistry.Entry(QueryBuilder.class, TermQueryBuilder.NAME, TermQueryBuilder::new));
+        return new NamedWriteableRegistry(entries);
+    }
+}
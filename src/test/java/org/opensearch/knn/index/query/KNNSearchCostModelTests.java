@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.query.KNNSearchCostModel.SearchCostEstimate;
+
+public class KNNSearchCostModelTests extends KNNTestCase {
+    private static final int K = 10;
+    private static final int EF_SEARCH = 100;
+    private static final int NUM_VECTORS = 100_000;
+    private static final int BYTES_PER_VECTOR = 128 * Float.BYTES;
+
+    public void testEstimate_whenNoObservedLatencies_thenUsePriors() {
+        final KNNSearchCostModel costModel = new KNNSearchCostModel();
+
+        // Very selective filter, approximate search would visit the whole graph
+        final SearchCostEstimate selectiveEstimate = costModel.estimate(K, EF_SEARCH, 100, NUM_VECTORS, BYTES_PER_VECTOR);
+        assertTrue(selectiveEstimate.isExactSearchPreferred());
+        assertEquals(100L * BYTES_PER_VECTOR, selectiveEstimate.getExactSearchBytes());
+        assertEquals((long) NUM_VECTORS * BYTES_PER_VECTOR, selectiveEstimate.getAnnSearchBytes());
+        assertTrue(selectiveEstimate.getExactSearchCost() < selectiveEstimate.getAnnSearchCost());
+
+        // Half of the documents match, approximate search only visits a small part of the graph
+        final SearchCostEstimate broadEstimate = costModel.estimate(K, EF_SEARCH, NUM_VECTORS / 2, NUM_VECTORS, BYTES_PER_VECTOR);
+        assertFalse(broadEstimate.isExactSearchPreferred());
+        assertTrue(broadEstimate.getAnnSearchCost() < broadEstimate.getExactSearchCost());
+    }
+
+    public void testEstimate_whenExactSearchObservedSlow_thenPreferApproximateSearch() {
+        final KNNSearchCostModel costModel = new KNNSearchCostModel();
+        final SearchCostEstimate estimate = costModel.estimate(K, EF_SEARCH, 5000, NUM_VECTORS, BYTES_PER_VECTOR);
+        assertTrue(estimate.isExactSearchPreferred());
+
+        // 100ns per byte, way slower than the prior
+        for (int i = 0; i < KNNSearchCostModel.MIN_SAMPLES; i++) {
+            costModel.recordExactSearch(estimate, estimate.getExactSearchBytes() * 100);
+        }
+
+        assertFalse(costModel.estimate(K, EF_SEARCH, 5000, NUM_VECTORS, BYTES_PER_VECTOR).isExactSearchPreferred());
+    }
+
+    public void testEstimate_whenApproximateSearchFallsBack_thenIncludeExactSearchCost() {
+        final KNNSearchCostModel costModel = new KNNSearchCostModel();
+        final SearchCostEstimate estimate = costModel.estimate(K, EF_SEARCH, NUM_VECTORS / 2, NUM_VECTORS, BYTES_PER_VECTOR);
+        assertFalse(estimate.isExactSearchPreferred());
+
+        // Latencies matching the prior, but every approximate search had to be followed by an exact search
+        for (int i = 0; i < KNNSearchCostModel.MIN_SAMPLES; i++) {
+            costModel.recordApproximateSearch(estimate, estimate.getAnnSearchBytes(), true);
+        }
+
+        final SearchCostEstimate newEstimate = costModel.estimate(K, EF_SEARCH, NUM_VECTORS / 2, NUM_VECTORS, BYTES_PER_VECTOR);
+        assertTrue(newEstimate.isExactSearchPreferred());
+        assertTrue(newEstimate.getAnnSearchCost() > newEstimate.getExactSearchCost());
+
+        // Other selectivities are not affected
+        assertTrue(costModel.estimate(K, EF_SEARCH, 100, NUM_VECTORS, BYTES_PER_VECTOR).isExactSearchPreferred());
+    }
+
+    public void testLatencyHistogram() {
+        final KNNSearchCostModel.LatencyHistogram histogram = new KNNSearchCostModel.LatencyHistogram(42);
+        histogram.record(1000, 0);
+        assertEquals(42, histogram.picosPerByte());
+
+        for (int i = 0; i < KNNSearchCostModel.MIN_SAMPLES; i++) {
+            // 1000 picos per byte
+            histogram.record(1000, 1000);
+        }
+        final long median = histogram.picosPerByte();
+        assertTrue(median > 940 && median < 1060);
+
+        // Counts are halved once the limit is reached, so newer latencies take over
+        for (int i = 0; i < KNNSearchCostModel.MAX_SAMPLES; i++) {
+            histogram.record(5, 1000);
+        }
+        assertEquals(5, histogram.picosPerByte());
+    }
+}
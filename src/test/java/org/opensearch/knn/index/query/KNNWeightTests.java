@@ -1349,6 +1349,9 @@ public class KNNWeightTests extends KNNWeightTestCase {
         final DocIdSetIterator docIdSetIterator = knnScorer.iterator();
         assertNotNull(docIdSetIterator);
         assertEquals(DOC_ID_TO_SCORES.size(), docIdSetIterator.cost());
+
+        // Parent ids are converted once per parent bitset
+        assertSame(knnWeight.getParentIdsArray(leafReaderContext), knnWeight.getParentIdsArray(leafReaderContext));
     }
 
     @SneakyThrows
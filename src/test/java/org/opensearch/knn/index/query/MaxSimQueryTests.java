@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.store.Directory;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MaxSimQueryTests extends KNNTestCase {
+    private static final String FIELD_NAME = "tokens.vector";
+    private static final float[][] QUERY_VECTORS = { { 1.0f, 0.0f }, { 0.0f, 1.0f } };
+    private static final BitSetProducer PARENTS_FILTER = new QueryBitSetProducer(new TermQuery(new Term("type", "parent")));
+    private static final List<Query> TOKEN_QUERIES = List.of(new TermQuery(new Term("type", "child")));
+
+    @SneakyThrows
+    public void testSearch_thenReturnTopParentsBySumOfMaxSimilarities() {
+        try (Directory directory = newDirectory()) {
+            indexParents(directory);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final TopDocs topDocs = searcher.search(
+                    new MaxSimQuery(FIELD_NAME, QUERY_VECTORS, TOKEN_QUERIES, 2, null, PARENTS_FILTER),
+                    10
+                );
+
+                // Euclidean similarity is 1 / (1 + squared distance)
+                assertEquals(2, topDocs.scoreDocs.length);
+                assertEquals(0, topDocs.scoreDocs[0].doc);
+                assertEquals(2.0f, topDocs.scoreDocs[0].score, 1e-6f);
+                assertEquals(3, topDocs.scoreDocs[1].doc);
+                assertEquals(1.0f + 1.0f / 3, topDocs.scoreDocs[1].score, 1e-6f);
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenFilter_thenScoreOnlyFilteredChildren() {
+        try (Directory directory = newDirectory()) {
+            indexParents(directory);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final Query filterQuery = new TermQuery(new Term("color", "red"));
+                final TopDocs topDocs = searcher.search(
+                    new MaxSimQuery(FIELD_NAME, QUERY_VECTORS, TOKEN_QUERIES, 3, filterQuery, PARENTS_FILTER),
+                    10
+                );
+
+                // Only the first child of the first two parents, and the only child of the last one, are red
+                assertEquals(3, topDocs.scoreDocs.length);
+                assertEquals(0, topDocs.scoreDocs[0].doc);
+                assertEquals(1.0f + 1.0f / 3, topDocs.scoreDocs[0].score, 1e-6f);
+                assertEquals(3, topDocs.scoreDocs[1].doc);
+                assertEquals(1.0f + 1.0f / 3, topDocs.scoreDocs[1].score, 1e-6f);
+                assertEquals(6, topDocs.scoreDocs[2].doc);
+                assertEquals(1.0f, topDocs.scoreDocs[2].score, 1e-6f);
+            }
+        }
+    }
+
+    public void testEquals() {
+        final MaxSimQuery query = new MaxSimQuery(FIELD_NAME, QUERY_VECTORS, TOKEN_QUERIES, 2, null, PARENTS_FILTER);
+        final float[][] queryVectors = { { 1.0f, 0.0f }, { 0.0f, 1.0f } };
+        assertEquals(query, new MaxSimQuery(FIELD_NAME, queryVectors, TOKEN_QUERIES, 2, null, PARENTS_FILTER));
+        assertEquals(query.hashCode(), new MaxSimQuery(FIELD_NAME, queryVectors, TOKEN_QUERIES, 2, null, PARENTS_FILTER).hashCode());
+        assertNotEquals(query, new MaxSimQuery(FIELD_NAME, queryVectors, TOKEN_QUERIES, 3, null, PARENTS_FILTER));
+    }
+
+    /**
+     * Parent 0 has children (1, 0) and (0, 1), parent 1 has children (1, 0) and (1, 0), parent 2 has the child (0, 0).
+     */
+    private static void indexParents(final Directory directory) throws Exception {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            writer.addDocuments(parent(new float[][] { { 1.0f, 0.0f }, { 0.0f, 1.0f } }));
+            writer.addDocuments(parent(new float[][] { { 1.0f, 0.0f }, { 1.0f, 0.0f } }));
+            writer.addDocuments(parent(new float[][] { { 0.0f, 0.0f } }));
+            writer.forceMerge(1);
+        }
+    }
+
+    private static List<Document> parent(final float[][] vectors) {
+        final List<Document> block = new ArrayList<>();
+        for (int i = 0; i < vectors.length; i++) {
+            final Document child = new Document();
+            child.add(new StringField("type", "child", Field.Store.NO));
+            child.add(new StringField("color", i == 0 ? "red" : "blue", Field.Store.NO));
+            child.add(new KnnFloatVectorField(FIELD_NAME, vectors[i], VectorSimilarityFunction.EUCLIDEAN));
+            block.add(child);
+        }
+        final Document parent = new Document();
+        parent.add(new StringField("type", "parent", Field.Store.NO));
+        block.add(parent);
+        return block;
+    }
+}
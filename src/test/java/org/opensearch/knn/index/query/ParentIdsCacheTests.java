@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.knn.KNNTestCase;
+
+public class ParentIdsCacheTests extends KNNTestCase {
+    private static final int NUM_DOCS = 100_000;
+
+    public void testGet_whenDisabled_thenConvertEveryTime() {
+        final ParentIdsCache parentIdsCache = new ParentIdsCache(0);
+        final BitSet parentBitSet = createParentBitSet(2);
+
+        final int[] parentIds = parentIdsCache.get(parentBitSet);
+        assertEquals(NUM_DOCS / 2, parentIds.length);
+        assertNotSame(parentIds, parentIdsCache.get(parentBitSet));
+        assertArrayEquals(parentIds, parentIdsCache.get(parentBitSet));
+        assertEquals(0, parentIdsCache.getSizeInKilobytes());
+        assertEquals(0, parentIdsCache.getStats().requestCount());
+    }
+
+    public void testGet_whenBitSetRepeated_thenConvertOnce() {
+        final ParentIdsCache parentIdsCache = new ParentIdsCache(1024 * 1024);
+        final BitSet parentBitSet = createParentBitSet(2);
+
+        final int[] parentIds = parentIdsCache.get(parentBitSet);
+        assertEquals(NUM_DOCS / 2, parentIds.length);
+        for (int i = 0; i < parentIds.length; i++) {
+            assertEquals(2 * i + 1, parentIds[i]);
+        }
+        assertSame(parentIds, parentIdsCache.get(parentBitSet));
+        assertEquals(1, parentIdsCache.getStats().missCount());
+        assertEquals(1, parentIdsCache.getStats().hitCount());
+        assertEquals(RamUsageEstimator.sizeOf(parentIds) / 1024, parentIdsCache.getSizeInKilobytes());
+    }
+
+    public void testGet_whenSizeLimitReached_thenEvict() {
+        // Fits a single array of NUM_DOCS / 2 ids.
+        final ParentIdsCache parentIdsCache = new ParentIdsCache(3 * NUM_DOCS);
+        final BitSet firstParentBitSet = createParentBitSet(2);
+        final BitSet secondParentBitSet = createParentBitSet(2);
+
+        final int[] firstParentIds = parentIdsCache.get(firstParentBitSet);
+        final int[] secondParentIds = parentIdsCache.get(secondParentBitSet);
+        assertEquals(1, parentIdsCache.getStats().evictionCount());
+        assertEquals(RamUsageEstimator.sizeOf(secondParentIds) / 1024, parentIdsCache.getSizeInKilobytes());
+        assertSame(secondParentIds, parentIdsCache.get(secondParentBitSet));
+        assertNotSame(firstParentIds, parentIdsCache.get(firstParentBitSet));
+    }
+
+    public void testRebuild_thenDropCachedIds() {
+        final ParentIdsCache parentIdsCache = new ParentIdsCache(1024 * 1024);
+        final BitSet parentBitSet = createParentBitSet(4);
+        final int[] parentIds = parentIdsCache.get(parentBitSet);
+        assertTrue(parentIdsCache.getSizeInKilobytes() > 0);
+
+        parentIdsCache.rebuild(2 * 1024 * 1024);
+        assertEquals(2 * 1024 * 1024, parentIdsCache.getMaxSizeInBytes());
+        assertEquals(0, parentIdsCache.getSizeInKilobytes());
+        assertNotSame(parentIds, parentIdsCache.get(parentBitSet));
+    }
+
+    private static BitSet createParentBitSet(final int numDocsPerParent) {
+        // The last doc of each block is the parent.
+        final FixedBitSet parentBitSet = new FixedBitSet(NUM_DOCS);
+        for (int doc = numDocsPerParent - 1; doc < NUM_DOCS; doc += numDocsPerParent) {
+            parentBitSet.set(doc);
+        }
+        return parentBitSet;
+    }
+}
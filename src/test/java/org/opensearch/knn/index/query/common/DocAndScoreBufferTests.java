@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.knn.KNNTestCase;
+
+public class DocAndScoreBufferTests extends KNNTestCase {
+
+    public void testAdd_whenCapacityExceeded_thenGrow() {
+        final DocAndScoreBuffer buffer = new DocAndScoreBuffer(1);
+        assertTrue(buffer.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, i * 0.5f);
+        }
+
+        assertEquals(100, buffer.size());
+        assertEquals(100, buffer.docs().length);
+        assertEquals(100, buffer.scores().length);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, buffer.getDoc(i));
+            assertEquals(i * 0.5f, buffer.getScore(i), 0.0f);
+        }
+    }
+
+    public void testKeepTop_thenKeepBestScoresAndPreferSmallerDocsOnTies() {
+        final DocAndScoreBuffer buffer = new DocAndScoreBuffer();
+        buffer.add(5, 1.0f);
+        buffer.add(1, 3.0f);
+        buffer.add(3, 2.0f);
+        buffer.add(4, 2.0f);
+        buffer.add(2, 0.5f);
+
+        // Nothing to remove
+        assertEquals(Float.NEGATIVE_INFINITY, buffer.keepTop(10), 0.0f);
+        assertEquals(5, buffer.size());
+
+        assertEquals(2.0f, buffer.keepTop(2), 0.0f);
+        final TopDocs topDocs = buffer.toTopDocs();
+        assertEquals(2, topDocs.totalHits.value());
+        assertEquals(1, topDocs.scoreDocs[0].doc);
+        assertEquals(3.0f, topDocs.scoreDocs[0].score, 0.0f);
+        assertEquals(3, topDocs.scoreDocs[1].doc);
+        assertEquals(2.0f, topDocs.scoreDocs[1].score, 0.0f);
+    }
+
+    public void testSortByDoc() {
+        final DocAndScoreBuffer buffer = new DocAndScoreBuffer();
+        buffer.add(7, 1.0f);
+        buffer.add(2, 3.0f);
+        buffer.add(5, 2.0f);
+
+        buffer.sortByDoc();
+
+        assertArrayEquals(new int[] { 2, 5, 7 }, buffer.docs());
+        assertArrayEquals(new float[] { 3.0f, 2.0f, 1.0f }, buffer.scores(), 0.0f);
+    }
+}
@@ -27,7 +27,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(1, 8);
+        int[] docIds = new int[] { 8, 1 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -55,7 +55,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(1, 8);
+        int[] docIds = new int[] { 8, 1 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -84,7 +84,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(0, 1, 3, 4, 5, 8, 9);
+        int[] docIds = new int[] { 0, 1, 3, 4, 5, 8, 9 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -99,4 +99,30 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, groupedNestedDocIdSetIterator.docID());
         assertEquals(expectedDocIds.size(), groupedNestedDocIdSetIterator.cost());
     }
+
+    public void testGroupedNestedDocIdSetIterator_whenCostIsCalledFirst_thenReturnAllSiblingsInOrder() throws Exception {
+        // 0, 1, 2(parent), 3, 4, 5, 6, 7(parent), 8, 9, 10(parent)
+        BitSet parentBitSet = new FixedBitSet(new long[1], 11);
+        parentBitSet.set(2);
+        parentBitSet.set(7);
+        parentBitSet.set(10);
+
+        FixedBitSet filterBits = new FixedBitSet(new long[1], 11);
+        filterBits.set(0, 11);
+
+        // Run
+        int[] docIds = new int[] { 9, 4, 3, 8 };
+        GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
+
+        // Verify
+        assertEquals(6, groupedNestedDocIdSetIterator.cost());
+        int[] expectedDocIds = new int[] { 3, 4, 5, 6, 8, 9 };
+        for (int expectedDocId : expectedDocIds) {
+            assertEquals(expectedDocId, groupedNestedDocIdSetIterator.nextDoc());
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, groupedNestedDocIdSetIterator.nextDoc());
+        assertEquals(6, groupedNestedDocIdSetIterator.cost());
+        // The caller's array is left as is
+        assertEquals(9, docIds[0]);
+    }
 }
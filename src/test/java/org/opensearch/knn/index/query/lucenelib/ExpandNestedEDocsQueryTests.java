@@ -24,10 +24,10 @@ import org.apache.lucene.util.Bits;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.opensearch.knn.index.query.ResultUtil;
+import org.opensearch.knn.index.query.common.DocAndScoreBuffer;
 import org.opensearch.knn.index.query.common.QueryUtils;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -107,9 +107,9 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         when(internalQuery.getField()).thenReturn("field");
         when(internalQuery.getParentFilter()).thenReturn(parentFilter);
 
-        Map<Integer, Float> initialLeaf1Results = new HashMap<>(Map.of(0, 19f, 1, 20f, 2, 17f, 3, 15f));
-        Map<Integer, Float> initialLeaf2Results = new HashMap<>(Map.of(0, 21f, 1, 18f, 2, 16f, 3, 14f));
-        List<Map<Integer, Float>> perLeafResults = Arrays.asList(initialLeaf1Results, initialLeaf2Results);
+        DocAndScoreBuffer initialLeaf1Results = buildDocAndScoreBuffer(Map.of(0, 19f, 1, 20f, 2, 17f, 3, 15f));
+        DocAndScoreBuffer initialLeaf2Results = buildDocAndScoreBuffer(Map.of(0, 21f, 1, 18f, 2, 16f, 3, 14f));
+        List<DocAndScoreBuffer> perLeafResults = Arrays.asList(initialLeaf1Results, initialLeaf2Results);
 
         Bits queryFilterBits = mock(Bits.class);
         DocIdSetIterator allSiblings = mock(DocIdSetIterator.class);
@@ -123,8 +123,8 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         QueryUtils queryUtils = mock(QueryUtils.class);
         when(queryUtils.doSearch(indexSearcher, reader.leaves(), queryWeight)).thenReturn(perLeafResults);
         when(queryUtils.createBits(any(), any())).thenReturn(queryFilterBits);
-        when(queryUtils.getAllSiblings(any(), any(), any(), any())).thenReturn(allSiblings);
-        when(queryUtils.createDocAndScoreQuery(eq(reader), any())).thenReturn(finalQuery);
+        when(queryUtils.getAllSiblings(any(), any(DocAndScoreBuffer.class), any(), any())).thenReturn(allSiblings);
+        when(queryUtils.createDocAndScoreQuery(eq(reader), any(DocAndScoreBuffer.class))).thenReturn(finalQuery);
 
         // Run
         ExpandNestedDocsQuery query = new ExpandNestedDocsQuery(internalQuery, queryUtils);
@@ -134,16 +134,15 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         assertEquals(expectedWeight, finalWeigh);
         verify(queryUtils).createBits(leaf1, filterWeight);
         verify(queryUtils).createBits(leaf2, filterWeight);
-        verify(queryUtils).getAllSiblings(leaf1, perLeafResults.get(0).keySet(), parentFilter, queryFilterBits);
-        verify(queryUtils).getAllSiblings(leaf2, perLeafResults.get(1).keySet(), parentFilter, queryFilterBits);
-        ArgumentCaptor<TopDocs> topDocsCaptor = ArgumentCaptor.forClass(TopDocs.class);
-        verify(queryUtils).createDocAndScoreQuery(eq(reader), topDocsCaptor.capture());
-        TopDocs capturedTopDocs = topDocsCaptor.getValue();
+        verify(queryUtils).getAllSiblings(leaf1, perLeafResults.get(0), parentFilter, queryFilterBits);
+        verify(queryUtils).getAllSiblings(leaf2, perLeafResults.get(1), parentFilter, queryFilterBits);
+        ArgumentCaptor<DocAndScoreBuffer> resultsCaptor = ArgumentCaptor.forClass(DocAndScoreBuffer.class);
+        verify(queryUtils).createDocAndScoreQuery(eq(reader), resultsCaptor.capture());
+        TopDocs capturedTopDocs = resultsCaptor.getValue().toTopDocs();
         assertEquals(topK.totalHits, capturedTopDocs.totalHits);
         for (int i = 0; i < topK.scoreDocs.length; i++) {
             assertEquals(topK.scoreDocs[i].doc, capturedTopDocs.scoreDocs[i].doc);
             assertEquals(topK.scoreDocs[i].score, capturedTopDocs.scoreDocs[i].score, 0.01f);
-            assertEquals(topK.scoreDocs[i].shardIndex, capturedTopDocs.scoreDocs[i].shardIndex);
         }
 
         // Verify acceptedDocIds is intersection of allSiblings and filteredDocIds
@@ -153,4 +152,10 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         assertEquals(2, iteratorCaptor.getValue().nextDoc());
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, iteratorCaptor.getValue().nextDoc());
     }
+
+    private static DocAndScoreBuffer buildDocAndScoreBuffer(final Map<Integer, Float> docScores) {
+        DocAndScoreBuffer buffer = new DocAndScoreBuffer();
+        docScores.forEach(buffer::add);
+        return buffer;
+    }
 }
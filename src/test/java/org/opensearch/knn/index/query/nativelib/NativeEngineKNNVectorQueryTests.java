@@ -48,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -503,7 +504,7 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
         when(finalQuery.createWeight(searcher, scoreMode, 1)).thenReturn(expectedWeight);
 
         QueryUtils queryUtils = mock(QueryUtils.class);
-        when(queryUtils.getAllSiblings(any(), any(), any(), any())).thenReturn(allSiblings);
+        when(queryUtils.getAllSiblings(any(), any(int[].class), any(), any())).thenReturn(allSiblings);
         when(queryUtils.createDocAndScoreQuery(eq(reader), any(), eq(knnWeight))).thenReturn(finalQuery);
 
         // Run
@@ -512,8 +513,8 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
 
         // Verify
         assertEquals(expectedWeight, finalWeigh);
-        verify(queryUtils).getAllSiblings(leaf1, perLeafResults.get(0).keySet(), parentFilter, queryFilterBits);
-        verify(queryUtils).getAllSiblings(leaf2, perLeafResults.get(1).keySet(), parentFilter, queryFilterBits);
+        verify(queryUtils).getAllSiblings(eq(leaf1), aryEq(new int[] { 1 }), eq(parentFilter), eq(queryFilterBits));
+        verify(queryUtils).getAllSiblings(eq(leaf2), aryEq(new int[] { 0 }), eq(parentFilter), eq(queryFilterBits));
         ArgumentCaptor<TopDocs> topDocsCaptor = ArgumentCaptor.forClass(TopDocs.class);
         verify(queryUtils).createDocAndScoreQuery(eq(reader), topDocsCaptor.capture(), eq(knnWeight));
         TopDocs capturedTopDocs = topDocsCaptor.getValue();
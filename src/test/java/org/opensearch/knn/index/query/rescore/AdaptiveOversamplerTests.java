@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.rescore;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.query.PerLeafResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.knn.index.query.rescore.RescoreContext.MAX_OVERSAMPLE_FACTOR;
+
+public class AdaptiveOversamplerTests extends KNNTestCase {
+    private static final String INDEX_NAME = "test-index";
+
+    public void testGetRequiredDepth() {
+        // First pass ranking across leaves: (0, 1), (1, 7), (0, 3), (1, 2), (0, 5)
+        final List<PerLeafResult> firstPass = List.of(
+            leafResult(new ScoreDoc(1, 0.9f), new ScoreDoc(3, 0.7f), new ScoreDoc(5, 0.5f)),
+            leafResult(new ScoreDoc(7, 0.8f), new ScoreDoc(2, 0.6f))
+        );
+        // Final top 2 comes from first pass ranks 1 and 4
+        final List<PerLeafResult> rescored = List.of(leafResult(new ScoreDoc(5, 2.0f)), leafResult(new ScoreDoc(7, 3.0f)));
+
+        assertEquals(5, AdaptiveOversampler.getRequiredDepth(firstPass, rescored, 1.0, false));
+        assertEquals(2, AdaptiveOversampler.getRequiredDepth(firstPass, rescored, 0.5, false));
+        assertEquals(0, AdaptiveOversampler.getRequiredDepth(firstPass, List.of(leafResult(), leafResult()), 1.0, false));
+    }
+
+    public void testGetRequiredDepth_whenPerLeaf_thenRanksWithinLeaves() {
+        // First pass ranking within leaves: leaf 0 is (1, 3, 5), leaf 1 is (7, 2), each leaf returned its own top k
+        final List<PerLeafResult> firstPass = List.of(
+            leafResult(new ScoreDoc(5, 0.5f), new ScoreDoc(1, 0.9f), new ScoreDoc(3, 0.7f)),
+            leafResult(new ScoreDoc(7, 0.8f), new ScoreDoc(2, 0.6f))
+        );
+        // Final top 2 comes from rank 2 of leaf 0 and rank 0 of leaf 1
+        final List<PerLeafResult> rescored = List.of(leafResult(new ScoreDoc(5, 2.0f)), leafResult(new ScoreDoc(7, 3.0f)));
+
+        assertEquals(3, AdaptiveOversampler.getRequiredDepth(firstPass, rescored, 1.0, true));
+        assertEquals(1, AdaptiveOversampler.getRequiredDepth(firstPass, rescored, 0.5, true));
+        // A rescored doc missing from the first pass is not ranked
+        final List<PerLeafResult> partiallyRanked = List.of(leafResult(new ScoreDoc(4, 1.0f)), rescored.get(1));
+        assertEquals(1, AdaptiveOversampler.getRequiredDepth(firstPass, partiallyRanked, 1.0, true));
+    }
+
+    public void testObserve() {
+        final AdaptiveOversampler adaptiveOversampler = new AdaptiveOversampler();
+        final AdaptiveOversampler.FieldKey fieldKey = new AdaptiveOversampler.FieldKey(INDEX_NAME, "0", "field");
+        assertEquals(3.0f, adaptiveOversampler.getOversampleFactor(fieldKey, 3.0f), 0.0f);
+
+        // Final results come from the top of the first pass, the factor shrinks
+        float factor = adaptiveOversampler.observe(fieldKey, 10, 30, 10, 3.0f);
+        assertEquals(3.0f + AdaptiveOversampler.SMOOTHING * (AdaptiveOversampler.HEADROOM - 3.0f), factor, 1e-6f);
+        assertEquals(factor, adaptiveOversampler.getOversampleFactor(fieldKey, 3.0f), 0.0f);
+        for (int i = 0; i < 100; i++) {
+            factor = adaptiveOversampler.observe(fieldKey, 10, 30, 10, factor);
+        }
+        assertEquals(AdaptiveOversampler.HEADROOM, factor, 1e-3f);
+
+        // Final results reach the end of the first pass, the factor grows
+        final float saturated = adaptiveOversampler.observe(fieldKey, 10, 12, 12, factor);
+        assertEquals(factor * AdaptiveOversampler.SATURATED_GROWTH, saturated, 1e-6f);
+        for (int i = 0; i < 100; i++) {
+            factor = adaptiveOversampler.observe(fieldKey, 10, 12, 12, factor);
+        }
+        assertEquals(MAX_OVERSAMPLE_FACTOR, factor, 0.0f);
+
+        // No result, nothing learned
+        final AdaptiveOversampler.FieldKey otherKey = new AdaptiveOversampler.FieldKey(INDEX_NAME, "0", "other");
+        assertEquals(2.0f, adaptiveOversampler.observe(otherKey, 10, 20, 0, 2.0f), 0.0f);
+        assertEquals(Map.of(INDEX_NAME, Map.of("0", Map.of("field", MAX_OVERSAMPLE_FACTOR))), adaptiveOversampler.getOversampleFactors());
+
+        // Factors are forgotten when the shard is closed
+        adaptiveOversampler.beforeIndexShardClosed(new ShardId(INDEX_NAME, "_uuid", 1), null, Settings.EMPTY);
+        assertFalse(adaptiveOversampler.getOversampleFactors().isEmpty());
+        adaptiveOversampler.beforeIndexShardClosed(new ShardId(INDEX_NAME, "_uuid", 0), null, Settings.EMPTY);
+        assertTrue(adaptiveOversampler.getOversampleFactors().isEmpty());
+    }
+
+    private static PerLeafResult leafResult(final ScoreDoc... scoreDocs) {
+        return new PerLeafResult(null, new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs));
+    }
+}
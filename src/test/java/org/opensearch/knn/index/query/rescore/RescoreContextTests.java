@@ -82,4 +82,15 @@ public class RescoreContextTests extends KNNTestCase {
         rescoreContext = RescoreContext.builder().oversampleFactor(oversample).userProvided(true).build();  // User provided
         assertEquals(MIN_FIRST_PASS_RESULTS, rescoreContext.getFirstPassK(finalK, isShardLevelRescoringDisabled, dimension));
     }
+
+    public void testGetAdaptiveFirstPassK() {
+        assertEquals(3.0f, RescoreContext.getDimensionBasedOversampleFactor(128), 0.0f);
+        assertEquals(2.0f, RescoreContext.getDimensionBasedOversampleFactor(768), 0.0f);
+        assertEquals(1.0f, RescoreContext.getDimensionBasedOversampleFactor(1024), 0.0f);
+
+        // Not raised to MIN_FIRST_PASS_RESULTS, but never below finalK
+        assertEquals(13, RescoreContext.getAdaptiveFirstPassK(10, 1.25f));
+        assertEquals(10, RescoreContext.getAdaptiveFirstPassK(10, 0.5f));
+        assertEquals(MAX_FIRST_PASS_RESULTS, RescoreContext.getAdaptiveFirstPassK(MAX_FIRST_PASS_RESULTS, 2.0f));
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.rescore;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnByteVectorField;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.TestUtil;
+import org.opensearch.knn.KNNTestCase;
+
+public class RescoreVectorPrefetcherTests extends KNNTestCase {
+    private static final String FLOAT_FIELD = "float-field";
+    private static final String BYTE_FIELD = "byte-field";
+
+    @SneakyThrows
+    public void testPrefetch() {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            indexDocuments(directory);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+
+                assertEquals(0, RescoreVectorPrefetcher.prefetch(leafReader, FLOAT_FIELD, new ScoreDoc[0]));
+                // Docs 1, 2, 4 and 5 have consecutive ordinals 0, 1, 2 and 3, docs 0 and 3 have no vector
+                assertEquals(1, RescoreVectorPrefetcher.prefetch(leafReader, FLOAT_FIELD, scoreDocs(5, 1, 4, 2)));
+                assertEquals(1, RescoreVectorPrefetcher.prefetch(leafReader, FLOAT_FIELD, scoreDocs(0, 2, 3, 4, 4)));
+                // Docs 1, 5 and 10 have ordinals 0, 3 and 6
+                assertEquals(3, RescoreVectorPrefetcher.prefetch(leafReader, FLOAT_FIELD, scoreDocs(10, 1, 5)));
+                assertEquals(0, RescoreVectorPrefetcher.prefetch(leafReader, FLOAT_FIELD, scoreDocs(0, 3)));
+
+                // Only float vectors are prefetched
+                assertEquals(0, RescoreVectorPrefetcher.prefetch(leafReader, BYTE_FIELD, scoreDocs(1, 2)));
+                assertEquals(0, RescoreVectorPrefetcher.prefetch(leafReader, "unknown", scoreDocs(1, 2)));
+            }
+        }
+    }
+
+    private static ScoreDoc[] scoreDocs(final int... docIds) {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            scoreDocs[i] = new ScoreDoc(docIds[i], 1.0f);
+        }
+        return scoreDocs;
+    }
+
+    /**
+     * Index documents into a single segment, every third document without a vector.
+     */
+    @SneakyThrows
+    private void indexDocuments(final Directory directory) {
+        final IndexWriterConfig config = new IndexWriterConfig().setCodec(TestUtil.getDefaultCodec());
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int doc = 0; doc < 12; doc++) {
+                final Document document = new Document();
+                document.add(new StringField("id", Integer.toString(doc), Field.Store.NO));
+                if (doc % 3 != 0) {
+                    document.add(new KnnFloatVectorField(FLOAT_FIELD, new float[] { doc, doc + 1, doc + 2 }));
+                    document.add(new KnnByteVectorField(BYTE_FIELD, new byte[] { (byte) doc, 1, 2 }));
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+    }
+}
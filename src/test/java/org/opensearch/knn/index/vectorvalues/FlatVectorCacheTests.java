@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.vectorvalues;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.Directory;
+import org.opensearch.knn.KNNTestCase;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.knn.index.vectorvalues.FlatVectorCache.BLOCK_SIZE_IN_BYTES;
+
+public class FlatVectorCacheTests extends KNNTestCase {
+    private static final String FIELD_NAME = "test-field";
+
+    private final Map<Integer, float[]> vectors = new HashMap<>();
+    private final CountingBlockAllocator allocator = new CountingBlockAllocator();
+
+    public void testOrdsPerBlock() {
+        assertEquals(BLOCK_SIZE_IN_BYTES / 32, FlatVectorCache.ordsPerBlock(8));
+        assertEquals(1, FlatVectorCache.ordsPerBlock(BLOCK_SIZE_IN_BYTES));
+    }
+
+    @SneakyThrows
+    public void testWrap_whenDisabled_thenReturnValuesAsIs() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(0, allocator);
+        assertFalse(flatVectorCache.isEnabled());
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 10, 8);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = leafReader.getFloatVectorValues(FIELD_NAME);
+                assertSame(values, flatVectorCache.wrap(leafReader, FIELD_NAME, values));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testVectorValue_whenCacheHasRoom_thenServeFromCache() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(1024 * 1024, allocator);
+        try (Directory directory = newDirectory()) {
+            final int numVectors = indexVectors(directory, 100, 8);
+            final DirectoryReader reader = DirectoryReader.open(directory);
+            final LeafReader leafReader = reader.leaves().get(0).reader();
+            final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+            assertTrue(values instanceof CachedFloatVectorValues);
+
+            // All vectors fit into a single block, loaded on the first read
+            assertVectors(values);
+            assertEquals(1, flatVectorCache.getMissCount());
+            assertEquals(numVectors - 1, flatVectorCache.getHitCount());
+            assertVectors(values.copy());
+            assertEquals(2 * numVectors - 1, flatVectorCache.getHitCount());
+            assertEquals((double) (2 * numVectors - 1) / (2 * numVectors), flatVectorCache.getHitRatio(), 1e-9);
+            assertEquals(numVectors * 8 * Float.BYTES / 1024, flatVectorCache.getSizeInKilobytes());
+
+            assertEquals(numVectors * 8 * Float.BYTES, allocator.allocatedBytes.get());
+
+            // Closing the segment drops and frees its blocks
+            reader.close();
+            assertEquals(0, flatVectorCache.getSizeInKilobytes());
+            assertEquals(0, allocator.allocatedBytes.get());
+        }
+    }
+
+    @SneakyThrows
+    public void testVectorValue_whenCacheIsFull_thenAdmitOnlyFrequentBlocks() {
+        // A single block fits into the cache
+        final int dimension = BLOCK_SIZE_IN_BYTES / Float.BYTES / 4;
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(BLOCK_SIZE_IN_BYTES, allocator);
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 12, dimension);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+
+                // The first block is admitted as the cache has room
+                assertArrayEquals(vectors.get(values.ordToDoc(0)), values.vectorValue(0), 0.0f);
+                assertEquals(BLOCK_SIZE_IN_BYTES / 1024, flatVectorCache.getSizeInKilobytes());
+
+                // The second block is read from the index on its first request, then admitted
+                final int ord = 4;
+                final float[] expected = vectors.get(values.ordToDoc(ord));
+                assertArrayEquals(expected, values.vectorValue(ord), 0.0f);
+                assertArrayEquals(expected, values.vectorValue(ord), 0.0f);
+                assertEquals(0, flatVectorCache.getHitCount());
+                assertArrayEquals(expected, values.vectorValue(ord), 0.0f);
+                assertEquals(1, flatVectorCache.getHitCount());
+                assertEquals(BLOCK_SIZE_IN_BYTES / 1024, flatVectorCache.getSizeInKilobytes());
+
+                // The evicted block was freed
+                assertEquals(BLOCK_SIZE_IN_BYTES, allocator.allocatedBytes.get());
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testRebuild() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(1024 * 1024, allocator);
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 100, 8);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+                assertVectors(values);
+                assertTrue(flatVectorCache.getSizeInKilobytes() > 0);
+
+                // Values wrapped before disabling the cache read from the index
+                flatVectorCache.rebuild(0);
+                assertFalse(flatVectorCache.isEnabled());
+                assertEquals(0, flatVectorCache.getSizeInKilobytes());
+                assertEquals(0, allocator.allocatedBytes.get());
+                assertVectors(values);
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testVectorValue_whenNoRoomInNativeMemory_thenReadFromIndex() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(1024 * 1024, new FlatVectorCache.BlockAllocator() {
+            @Override
+            public ByteBuffer allocate(long sizeInBytes) {
+                return null;
+            }
+
+            @Override
+            public void free(ByteBuffer buffer) {
+                fail("Nothing was allocated");
+            }
+        });
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 100, 8);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+                assertVectors(values);
+                assertEquals(0, flatVectorCache.getHitCount());
+                assertEquals(0, flatVectorCache.getSizeInKilobytes());
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testVectorValue_whenAllocationFails_thenReadFromIndex() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(1024 * 1024, new FlatVectorCache.BlockAllocator() {
+            @Override
+            public ByteBuffer allocate(long sizeInBytes) {
+                throw new OutOfMemoryError("test");
+            }
+
+            @Override
+            public void free(ByteBuffer buffer) {
+                fail("Nothing was allocated");
+            }
+        });
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 100, 8);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+                assertVectors(values);
+                assertEquals(0, flatVectorCache.getSizeInKilobytes());
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testReclaim_thenFreeBlocks() {
+        final FlatVectorCache flatVectorCache = new FlatVectorCache(1024 * 1024, allocator);
+        try (Directory directory = newDirectory()) {
+            indexVectors(directory, 100, 8);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final LeafReader leafReader = reader.leaves().get(0).reader();
+                final FloatVectorValues values = flatVectorCache.wrap(leafReader, FIELD_NAME, leafReader.getFloatVectorValues(FIELD_NAME));
+                assertVectors(values);
+                assertTrue(allocator.allocatedBytes.get() > 0);
+
+                flatVectorCache.reclaim(1);
+                assertEquals(0, flatVectorCache.getSizeInKilobytes());
+                assertEquals(0, allocator.allocatedBytes.get());
+
+                // Reclaimed blocks are loaded again
+                assertVectors(values);
+                assertTrue(allocator.allocatedBytes.get() > 0);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private void assertVectors(final FloatVectorValues values) {
+        final KnnVectorValues.DocIndexIterator iterator = values.iterator();
+        int count = 0;
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            assertArrayEquals(vectors.get(doc), values.vectorValue(iterator.index()), 0.0f);
+            count++;
+        }
+        assertEquals(vectors.size(), count);
+    }
+
+    /**
+     * Index documents into a single segment, every third document without a vector.
+     *
+     * @return number of indexed vectors
+     */
+    @SneakyThrows
+    private int indexVectors(final Directory directory, final int numDocs, final int dimension) {
+        vectors.clear();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int doc = 0; doc < numDocs; doc++) {
+                final Document document = new Document();
+                document.add(new StringField("id", Integer.toString(doc), Field.Store.NO));
+                if (doc % 3 != 0) {
+                    final float[] vector = new float[dimension];
+                    for (int i = 0; i < dimension; i++) {
+                        vector[i] = random().nextFloat();
+                    }
+                    document.add(new KnnFloatVectorField(FIELD_NAME, vector));
+                    vectors.put(doc, vector);
+                }
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        return vectors.size();
+    }
+
+    private static final class CountingBlockAllocator implements FlatVectorCache.BlockAllocator {
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        @Override
+        public ByteBuffer allocate(long sizeInBytes) {
+            allocatedBytes.addAndGet(sizeInBytes);
+            return ByteBuffer.allocateDirect((int) sizeInBytes);
+        }
+
+        @Override
+        public void free(ByteBuffer buffer) {
+            allocatedBytes.addAndGet(-buffer.capacity());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.indices;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+
+import static org.opensearch.knn.indices.ModelBlobChunks.CHUNK_SIZE_IN_BYTES;
+
+public class ModelBlobChunksTests extends KNNTestCase {
+
+    public void testIsChunked() {
+        assertFalse(ModelBlobChunks.isChunked(null));
+        assertFalse(ModelBlobChunks.isChunked(new byte[CHUNK_SIZE_IN_BYTES]));
+        assertTrue(ModelBlobChunks.isChunked(new byte[CHUNK_SIZE_IN_BYTES + 1]));
+    }
+
+    public void testNumChunks() {
+        assertEquals(1, ModelBlobChunks.numChunks(1));
+        assertEquals(1, ModelBlobChunks.numChunks(CHUNK_SIZE_IN_BYTES));
+        assertEquals(2, ModelBlobChunks.numChunks(CHUNK_SIZE_IN_BYTES + 1));
+        assertEquals(3, ModelBlobChunks.numChunks(CHUNK_SIZE_IN_BYTES * 3));
+    }
+
+    public void testChunkSourceRoundTrip() throws IOException {
+        final byte[] modelBlob = new byte[CHUNK_SIZE_IN_BYTES * 2 + 7];
+        random().nextBytes(modelBlob);
+
+        final byte[] assembled = new byte[modelBlob.length];
+        for (int chunk = ModelBlobChunks.numChunks(modelBlob.length) - 1; chunk >= 0; chunk--) {
+            final BytesReference source = BytesReference.bytes(ModelBlobChunks.chunkSource("model", modelBlob, chunk));
+            ModelBlobChunks.readChunk(
+                source,
+                chunk,
+                assembled.length,
+                (offset, bytes) -> System.arraycopy(bytes, 0, assembled, (int) offset, bytes.length)
+            );
+        }
+        assertArrayEquals(modelBlob, assembled);
+    }
+
+    public void testReadChunk_invalid() throws IOException {
+        final byte[] modelBlob = new byte[CHUNK_SIZE_IN_BYTES + 1];
+        final BytesReference source = BytesReference.bytes(ModelBlobChunks.chunkSource("model", modelBlob, 0));
+        final ModelBlobChunks.Sink sink = (offset, bytes) -> fail("Nothing should be written");
+
+        // Chunk does not fit into the blob
+        expectThrows(IllegalStateException.class, () -> ModelBlobChunks.readChunk(source, 0, CHUNK_SIZE_IN_BYTES - 1, sink));
+        // Source without a blob
+        expectThrows(IllegalStateException.class, () -> ModelBlobChunks.readChunk(new BytesArray("{\"a\":1}"), 0, modelBlob.length, sink));
+    }
+
+    public void testModelBlobFile() throws IOException {
+        ModelBlobFile.initialize(createTempDir());
+        assertTrue(ModelBlobFile.isEnabled());
+
+        final byte[] modelBlob = new byte[CHUNK_SIZE_IN_BYTES + 11];
+        random().nextBytes(modelBlob);
+        final ModelBlobFile modelBlobFile = ModelBlobFile.create(modelBlob.length);
+        for (int chunk = ModelBlobChunks.numChunks(modelBlob.length) - 1; chunk >= 0; chunk--) {
+            final BytesReference source = BytesReference.bytes(ModelBlobChunks.chunkSource("model", modelBlob, chunk));
+            ModelBlobChunks.readChunk(source, chunk, modelBlob.length, modelBlobFile);
+        }
+        modelBlobFile.complete();
+
+        assertEquals(modelBlob.length, modelBlobFile.getLength());
+        assertArrayEquals(modelBlob, modelBlobFile.read());
+        modelBlobFile.delete();
+        assertNull(modelBlobFile.read());
+    }
+}
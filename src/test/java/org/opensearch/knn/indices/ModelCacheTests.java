@@ -24,12 +24,17 @@ import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
+import org.mockito.MockedStatic;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.concurrent.ExecutionException;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.index.KNNSettings.MODEL_CACHE_SIZE_LIMIT_SETTING;
 import static org.opensearch.knn.common.KNNConstants.BYTES_PER_KILOBYTES;
@@ -279,6 +284,53 @@ public class ModelCacheTests extends KNNTestCase {
         assertEquals(0, modelCache.getTotalWeightInKB());
     }
 
+    public void testRemove_evictsNativeTemplate() throws ExecutionException, InterruptedException {
+        String modelId = "test-model-id";
+        Model mockModel = new Model(
+            new ModelMetadata(
+                KNNEngine.FAISS,
+                SpaceType.DEFAULT,
+                2,
+                ModelState.CREATED,
+                ZonedDateTime.now(ZoneOffset.UTC).toString(),
+                "",
+                "",
+                "",
+                MethodComponentContext.EMPTY,
+                VectorDataType.DEFAULT,
+                Mode.NOT_CONFIGURED,
+                CompressionLevel.NOT_CONFIGURED,
+                Version.V_EMPTY
+            ),
+            new byte[BYTES_PER_KILOBYTES],
+            modelId
+        );
+
+        ModelDao modelDao = mock(ModelDao.class);
+        when(modelDao.get(modelId)).thenReturn(mockModel);
+
+        Settings settings = Settings.builder().put(MODEL_CACHE_SIZE_LIMIT_SETTING.getKey(), "10%").build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ImmutableSet.of(MODEL_CACHE_SIZE_LIMIT_SETTING));
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.getSettings()).thenReturn(settings);
+
+        ModelCache.initialize(modelDao, clusterService);
+        ModelCache modelCache = new ModelCache();
+
+        final Boolean initialized = KNNEngine.FAISS.isInitialized();
+        try (MockedStatic<NativeMemoryCacheManager> nativeMemoryCacheManagerMockedStatic = mockStatic(NativeMemoryCacheManager.class)) {
+            NativeMemoryCacheManager nativeMemoryCacheManager = mock(NativeMemoryCacheManager.class);
+            nativeMemoryCacheManagerMockedStatic.when(NativeMemoryCacheManager::getInstance).thenReturn(nativeMemoryCacheManager);
+            KNNEngine.FAISS.setInitialized(true);
+            modelCache.get(modelId);
+            modelCache.remove(modelId);
+            verify(nativeMemoryCacheManager, times(1)).evictTemplate(modelId);
+        } finally {
+            KNNEngine.FAISS.setInitialized(initialized);
+        }
+    }
+
     public void testRebuild_normal() throws ExecutionException, InterruptedException {
         String modelId = "test-model-id";
         int dimension = 2;
@@ -28,11 +28,13 @@ import org.opensearch.action.delete.DeleteAction;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.knn.KNNSingleNodeTestCase;
+import org.opensearch.knn.common.KNNConstants;
 import org.opensearch.knn.common.exception.DeleteModelException;
 import org.opensearch.knn.index.engine.MethodComponentContext;
 import org.opensearch.knn.index.SpaceType;
@@ -55,6 +57,7 @@ import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -246,6 +249,88 @@ public class ModelDaoTests extends KNNSingleNodeTestCase {
         assertTrue(inProgressLatch2.await(100, TimeUnit.SECONDS));
     }
 
+    public void testPut_chunkedModel() throws InterruptedException, IOException, ExecutionException {
+        createIndex(MODEL_INDEX_NAME);
+
+        ModelDao modelDao = ModelDao.OpenSearchKNNModelDao.getInstance();
+        String modelId = "chunked-model";
+        byte[] modelBlob = new byte[ModelBlobChunks.CHUNK_SIZE_IN_BYTES * 2 + 3];
+        random().nextBytes(modelBlob);
+        int dimension = 2;
+
+        Model model = new Model(
+            new ModelMetadata(
+                KNNEngine.DEFAULT,
+                SpaceType.DEFAULT,
+                dimension,
+                ModelState.CREATED,
+                ZonedDateTime.now(ZoneOffset.UTC).toString(),
+                "",
+                "",
+                "",
+                MethodComponentContext.EMPTY,
+                VectorDataType.DEFAULT,
+                Mode.NOT_CONFIGURED,
+                CompressionLevel.NOT_CONFIGURED,
+                Version.CURRENT
+            ),
+            modelBlob,
+            modelId
+        );
+
+        final CountDownLatch inProgressLatch1 = new CountDownLatch(1);
+        modelDao.put(model, ActionListener.wrap(response -> {
+            assertEquals(modelId, response.getId());
+            inProgressLatch1.countDown();
+        }, exception -> fail("Unable to put the model: " + exception)));
+        assertTrue(inProgressLatch1.await(100, TimeUnit.SECONDS));
+
+        // The blob is stored in chunk documents
+        for (int chunk = 0; chunk < 3; chunk++) {
+            assertTrue(client().prepareGet(MODEL_INDEX_NAME, ModelBlobChunks.chunkId(modelId, chunk)).get().isExists());
+        }
+        Map<String, Object> source = client().prepareGet(MODEL_INDEX_NAME, modelId).get().getSourceAsMap();
+        assertFalse(source.containsKey(KNNConstants.MODEL_BLOB_PARAMETER));
+        assertEquals(3, source.get(KNNConstants.MODEL_BLOB_CHUNKS));
+
+        // Blocking get assembles the chunks
+        assertArrayEquals(modelBlob, modelDao.get(modelId).getModelBlob());
+
+        // Non-blocking get assembles the chunks
+        final CountDownLatch inProgressLatch2 = new CountDownLatch(1);
+        modelDao.get(modelId, ActionListener.wrap(response -> {
+            assertArrayEquals(modelBlob, response.getModel().getModelBlob());
+            inProgressLatch2.countDown();
+        }, exception -> fail("Unable to get the model: " + exception)));
+        assertTrue(inProgressLatch2.await(100, TimeUnit.SECONDS));
+
+        // The blocking get used by the cache assembles the chunks into a file
+        final Model loadedModel = modelDao.get(modelId);
+        assertEquals(modelBlob.length, loadedModel.getLength());
+        assertArrayEquals(modelBlob, loadedModel.getModelBlob());
+        loadedModel.deleteModelBlobFile();
+
+        // Chunks do not show up as models
+        final CountDownLatch inProgressLatch3 = new CountDownLatch(1);
+        modelDao.search(new SearchRequest(), ActionListener.wrap(response -> {
+            assertEquals(1, response.getHits().getHits().length);
+            assertEquals(modelId, response.getHits().getHits()[0].getId());
+            inProgressLatch3.countDown();
+        }, exception -> fail("Unable to search models: " + exception)));
+        assertTrue(inProgressLatch3.await(100, TimeUnit.SECONDS));
+
+        // Chunks are deleted with the model
+        final CountDownLatch inProgressLatch4 = new CountDownLatch(1);
+        modelDao.delete(modelId, ActionListener.wrap(response -> {
+            assertEquals(modelId, response.getModelID());
+            inProgressLatch4.countDown();
+        }, exception -> fail("Unable to delete model: " + exception)));
+        assertTrue(inProgressLatch4.await(100, TimeUnit.SECONDS));
+        for (int chunk = 0; chunk < 3; chunk++) {
+            assertFalse(client().prepareGet(MODEL_INDEX_NAME, ModelBlobChunks.chunkId(modelId, chunk)).get().isExists());
+        }
+    }
+
     public void testPut_withoutModel() throws InterruptedException, IOException {
         createIndex(MODEL_INDEX_NAME);
 
@@ -1087,6 +1087,18 @@ public class JNIServiceTests extends KNNTestCase {
         }
     }
 
+    public void testHasOnlyPrimitiveSearchParameters() {
+        assertTrue(JNIService.hasOnlyPrimitiveSearchParameters(null));
+        assertTrue(JNIService.hasOnlyPrimitiveSearchParameters(Collections.emptyMap()));
+        assertTrue(
+            JNIService.hasOnlyPrimitiveSearchParameters(
+                ImmutableMap.of(KNNConstants.METHOD_PARAMETER_EF_SEARCH, 100, KNNConstants.METHOD_PARAMETER_NPROBES, 10)
+            )
+        );
+        assertFalse(JNIService.hasOnlyPrimitiveSearchParameters(ImmutableMap.of(KNNConstants.METHOD_PARAMETER_EF_SEARCH, "100")));
+        assertFalse(JNIService.hasOnlyPrimitiveSearchParameters(ImmutableMap.of("unknown", 100)));
+    }
+
     public void testQueryIndex_faiss_invalid_badPointer() {
 
         expectThrows(Exception.class, () -> JNIService.queryIndex(0L, new float[] {}, 0, null, KNNEngine.FAISS, null, 0, null));
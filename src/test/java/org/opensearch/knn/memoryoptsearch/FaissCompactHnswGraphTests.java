@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.hnsw.HnswGraph;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissCompactHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissCompactHnswNeighbors;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissMemoryOptimizedSearcher;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.knn.memoryoptsearch.FaissHNSWTests.loadHnswBinary;
+
+public class FaissCompactHnswGraphTests extends KNNTestCase {
+    private static final String HNSW_BINARY = "data/memoryoptsearch/faiss_hnsw_100_vectors.bin";
+    private static final int NUM_VECTORS = 100;
+    private static final String FAISS_INDEX_BINARY = "data/memoryoptsearch/faiss_cagra_flat_float_300_vectors_768_dims.bin";
+    private static final int DIMENSION = 768;
+
+    @SneakyThrows
+    public void testTraverseHnswGraph_thenSameNeighborsAsFaissLayout() {
+        final FaissHNSW faissHNSW = new FaissHNSW();
+        faissHNSW.load(loadHnswBinary(HNSW_BINARY), NUM_VECTORS);
+        final IndexInput indexInput = loadHnswBinary(HNSW_BINARY);
+        final FaissCompactHnswNeighbors compactNeighbors = FaissCompactHnswNeighbors.build(faissHNSW, indexInput);
+        assertNotNull(compactNeighbors);
+        assertEquals(Short.BYTES, compactNeighbors.getBytesPerId());
+        assertEquals(1, compactNeighbors.getBytesPerCount());
+
+        final FaissHnswGraph graph = new FaissHnswGraph(faissHNSW, indexInput.clone());
+        final FaissCompactHnswGraph compactGraph = new FaissCompactHnswGraph(faissHNSW, compactNeighbors, indexInput.clone());
+        assertEquals(graph.size(), compactGraph.size());
+        assertEquals(graph.entryNode(), compactGraph.entryNode());
+        assertEquals(graph.numLevels(), compactGraph.numLevels());
+        assertEquals(graph.maxConn(), compactGraph.maxConn());
+
+        long faissNeighborBytes = 0;
+        for (int level = 0; level < graph.numLevels(); level++) {
+            final HnswGraph.NodesIterator nodes = graph.getNodesOnLevel(level);
+            assertEquals(nodes.size(), compactGraph.getNodesOnLevel(level).size());
+            final int[] cumNumberNeighborPerLevel = faissHNSW.getCumNumberNeighborPerLevel();
+            final int maxNumNeighbors = cumNumberNeighborPerLevel[level + 1] - cumNumberNeighborPerLevel[level];
+            while (nodes.hasNext()) {
+                final int node = nodes.nextInt();
+                graph.seek(level, node);
+                compactGraph.seek(level, node);
+                assertEquals(graph.neighborCount(), compactGraph.neighborCount());
+                assertArrayEquals(getNeighborIdList(graph), getNeighborIdList(compactGraph));
+                faissNeighborBytes += (long) maxNumNeighbors * Integer.BYTES;
+            }
+        }
+
+        // Seeking back to an earlier node resets the neighbor list.
+        graph.seek(1, 0);
+        compactGraph.seek(1, 0);
+        assertArrayEquals(getNeighborIdList(graph), getNeighborIdList(compactGraph));
+        assertTrue(compactNeighbors.getSizeInBytes() < faissNeighborBytes);
+    }
+
+    @SneakyThrows
+    public void testWarmUp_thenCompactNeighborsAccountedUntilClose() {
+        final float[] query = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            query[i] = random().nextFloat();
+        }
+
+        // Disabled, warming up is a no-op.
+        try (FaissMemoryOptimizedSearcher searcher = new FaissMemoryOptimizedSearcher(loadHnswBinary(FAISS_INDEX_BINARY), null, false)) {
+            searcher.warmUp();
+            assertEquals(0L, (long) KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getCount());
+        }
+
+        final FaissMemoryOptimizedSearcher searcher = new FaissMemoryOptimizedSearcher(loadHnswBinary(FAISS_INDEX_BINARY), null, true);
+        // Nothing is built until warm up, searches read the FAISS layout.
+        assertEquals(0L, (long) KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getCount());
+        final TopKnnCollector beforeWarmUp = new TopKnnCollector(10, Integer.MAX_VALUE);
+        searcher.search(query, beforeWarmUp, null);
+        assertEquals(10, beforeWarmUp.topDocs().scoreDocs.length);
+
+        searcher.warmUp();
+        final long sizeInBytes = KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getCount();
+        assertTrue(sizeInBytes > 0);
+        // Built once only.
+        searcher.warmUp();
+        assertEquals(sizeInBytes, (long) KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getCount());
+
+        final TopKnnCollector afterWarmUp = new TopKnnCollector(10, Integer.MAX_VALUE);
+        searcher.search(query, afterWarmUp, null);
+        assertEquals(10, afterWarmUp.topDocs().scoreDocs.length);
+
+        searcher.close();
+        assertEquals(0L, (long) KNNCounter.COMPACT_GRAPH_MEMORY_USAGE.getCount());
+    }
+
+    public void testGetBytesPerId() {
+        assertEquals(Short.BYTES, FaissCompactHnswNeighbors.getBytesPerId(1 << 16));
+        assertEquals(3, FaissCompactHnswNeighbors.getBytesPerId((1 << 16) + 1));
+        assertEquals(3, FaissCompactHnswNeighbors.getBytesPerId(1 << 24));
+        assertEquals(Integer.BYTES, FaissCompactHnswNeighbors.getBytesPerId((1 << 24) + 1));
+    }
+
+    private static int[] getNeighborIdList(final HnswGraph graph) throws Exception {
+        final List<Integer> neighborIds = new ArrayList<>();
+        for (int id = graph.nextNeighbor(); id != DocIdSetIterator.NO_MORE_DOCS; id = graph.nextNeighbor()) {
+            neighborIds.add(id);
+        }
+        return neighborIds.stream().mapToInt(i -> i).toArray();
+    }
+}
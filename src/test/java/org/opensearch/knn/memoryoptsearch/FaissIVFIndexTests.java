@@ -0,0 +1,456 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexFloatFlat;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissMemoryOptimizedSearcher;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFFlatIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFPQIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissInvertedLists;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissProductQuantizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class FaissIVFIndexTests extends KNNTestCase {
+    private static final int DIMENSION = 8;
+    private static final int NUM_VECTORS = 200;
+    private static final int NUM_LISTS = 4;
+    private static final int K = 10;
+    // Document id of i-th vector, making id mapping non-identical.
+    private static final int DOC_ID_STRIDE = 3;
+
+    @SneakyThrows
+    public void testLoadIVFFlat() {
+        final IndexData data = IndexData.random(true);
+        final FaissIndex faissIndex = FaissIndex.load(toIndexInput(data.buildIVFFlat()));
+
+        assertTrue(faissIndex instanceof FaissIdMapIndex);
+        final FaissIndex nestedIndex = ((FaissIdMapIndex) faissIndex).getNestedIndex();
+        assertTrue(nestedIndex instanceof FaissIVFFlatIndex);
+        final FaissIVFFlatIndex ivfIndex = (FaissIVFFlatIndex) nestedIndex;
+        assertEquals(NUM_LISTS, ivfIndex.getNumLists());
+        assertEquals(NUM_LISTS, ivfIndex.getNprobe());
+        assertEquals(NUM_VECTORS, ivfIndex.getTotalNumberOfVectors());
+        int totalListSize = 0;
+        for (int i = 0; i < NUM_LISTS; i++) {
+            totalListSize += ivfIndex.getInvertedLists().getListSize(i);
+        }
+        assertEquals(NUM_VECTORS, totalListSize);
+
+        // IVF indices are only searched through search, they do not expose vector values
+        expectThrows(UnsupportedOperationException.class, () -> ivfIndex.getFloatValues(null));
+        expectThrows(UnsupportedOperationException.class, () -> ivfIndex.getByteValues(null));
+    }
+
+    @SneakyThrows
+    public void testIVFFlatSearchL2() {
+        doTestIVFFlatSearch(true);
+    }
+
+    @SneakyThrows
+    public void testIVFFlatSearchInnerProduct() {
+        doTestIVFFlatSearch(false);
+    }
+
+    @SneakyThrows
+    public void testIVFFlatSearchWithFilter() {
+        final IndexData data = IndexData.random(true);
+        final FixedBitSet acceptDocs = new FixedBitSet(NUM_VECTORS * DOC_ID_STRIDE);
+        for (int i = 0; i < NUM_VECTORS; i += 2) {
+            acceptDocs.set(i * DOC_ID_STRIDE);
+        }
+
+        final float[] query = randomVector();
+        final TopDocs topDocs = search(data.buildIVFFlat(), query, acceptDocs);
+        assertEquals(data.bruteForce(query, data.vectors, acceptDocs), docIds(topDocs));
+    }
+
+    @SneakyThrows
+    public void testIVFPQSearch() {
+        for (final boolean isL2 : new boolean[] { true, false }) {
+            for (final boolean byResidual : new boolean[] { true, false }) {
+                for (final int nbits : new int[] { 4, 8 }) {
+                    final IndexData data = IndexData.random(isL2);
+                    final byte[] bytes = data.buildIVFPQ(byResidual, nbits);
+                    final FaissIndex faissIndex = FaissIndex.load(toIndexInput(bytes));
+                    assertTrue(((FaissIdMapIndex) faissIndex).getNestedIndex() instanceof FaissIVFPQIndex);
+
+                    // ADC distances are exact with respect to the reconstructed vectors.
+                    final float[] query = randomVector();
+                    final TopDocs topDocs = search(bytes, query, null);
+                    assertEquals(data.bruteForce(query, data.reconstructed, null), docIds(topDocs));
+                    for (final ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                        final float[] vector = data.reconstructed[scoreDoc.doc / DOC_ID_STRIDE];
+                        assertEquals(data.score(query, vector), scoreDoc.score, 1e-3);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testProductQuantizerDistance() {
+        // M = 3, nbits = 4 -> 2 bytes per code, sub codes are packed with least significant bits first.
+        final FaissProductQuantizer pq4 = loadProductQuantizer(6, 3, 4);
+        final float[] table4 = new float[3 * 16];
+        for (int i = 0; i < table4.length; i++) {
+            table4[i] = i;
+        }
+        // Sub codes = [5, 10, 3]
+        final byte[] code4 = new byte[] { (byte) (5 | (10 << 4)), 3 };
+        assertEquals(5 + (16 + 10) + (32 + 3), pq4.distance(code4, table4), 0);
+
+        // M = 2, nbits = 8 -> 2 bytes per code.
+        final FaissProductQuantizer pq8 = loadProductQuantizer(4, 2, 8);
+        final float[] table8 = new float[2 * 256];
+        for (int i = 0; i < table8.length; i++) {
+            table8[i] = i;
+        }
+        final byte[] code8 = new byte[] { (byte) 200, 7 };
+        assertEquals(200 + (256 + 7), pq8.distance(code8, table8), 0);
+    }
+
+    public void testProductQuantizerDistanceTable() {
+        // M = 2, nbits = 4 -> dsub = 2, ksub = 16.
+        final FaissProductQuantizer pq = loadProductQuantizer(4, 2, 4);
+        final float[] query = new float[] { 1, -2, 3, 0.5f };
+        for (final boolean isL2 : new boolean[] { true, false }) {
+            final float[] table = new float[2 * 16];
+            pq.computeDistanceTable(query, isL2, table);
+            for (int m = 0; m < 2; m++) {
+                final float[] subQuery = new float[] { query[2 * m], query[2 * m + 1] };
+                for (int j = 0; j < 16; j++) {
+                    final float[] centroid = new float[] { (m * 16 + j) * 2, (m * 16 + j) * 2 + 1 };
+                    final float expected = isL2 ? VectorUtil.squareDistance(subQuery, centroid) : VectorUtil.dotProduct(subQuery, centroid);
+                    assertEquals(expected, table[m * 16 + j], 1e-5);
+                }
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testUnsupportedInvertedLists() {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        output.writeBytes("ilmm".getBytes(StandardCharsets.UTF_8));
+        expectThrows(
+            UnsupportedFaissIndexException.class,
+            () -> FaissInvertedLists.load(toIndexInput(output.toArrayCopy()), NUM_LISTS, Float.BYTES * DIMENSION)
+        );
+    }
+
+    @SneakyThrows
+    private void doTestIVFFlatSearch(final boolean isL2) {
+        final IndexData data = IndexData.random(isL2);
+        final float[] query = randomVector();
+        final TopDocs topDocs = search(data.buildIVFFlat(), query, null);
+
+        assertEquals(data.bruteForce(query, data.vectors, null), docIds(topDocs));
+        for (final ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            assertEquals(data.score(query, data.vectors[scoreDoc.doc / DOC_ID_STRIDE]), scoreDoc.score, 1e-5);
+        }
+    }
+
+    @SneakyThrows
+    private static TopDocs search(final byte[] bytes, final float[] query, final FixedBitSet acceptDocs) {
+        try (FaissMemoryOptimizedSearcher searcher = new FaissMemoryOptimizedSearcher(toIndexInput(bytes), null)) {
+            final KnnCollector knnCollector = new TopKnnCollector(K, Integer.MAX_VALUE);
+            searcher.search(query, knnCollector, acceptDocs);
+            return knnCollector.topDocs();
+        }
+    }
+
+    private static Set<Integer> docIds(final TopDocs topDocs) {
+        final Set<Integer> docIds = new HashSet<>();
+        for (final ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            docIds.add(scoreDoc.doc);
+        }
+        return docIds;
+    }
+
+    @SneakyThrows
+    private static FaissProductQuantizer loadProductQuantizer(final int dimension, final int m, final int nbits) {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        output.writeLong(dimension);
+        output.writeLong(m);
+        output.writeLong(nbits);
+        final int numFloats = dimension * (1 << nbits);
+        output.writeLong(numFloats);
+        // Layout : centroids[(m * ksub + j) * dsub + k] = (m * ksub + j) * dsub + k
+        for (int i = 0; i < numFloats; i++) {
+            output.writeInt(Float.floatToIntBits(i));
+        }
+
+        final FaissProductQuantizer productQuantizer = new FaissProductQuantizer();
+        productQuantizer.load(toIndexInput(output.toArrayCopy()));
+        assertEquals(dimension / m, productQuantizer.getSubDimension());
+        assertEquals((m * nbits + 7) / 8, productQuantizer.getCodeSize());
+        return productQuantizer;
+    }
+
+    private static IndexInput toIndexInput(final byte[] bytes) {
+        return new ByteArrayIndexInput("FaissIVFIndexTests", bytes);
+    }
+
+    private static float[] randomVector() {
+        final float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random().nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+
+    /**
+     * Synthetic IVF data laid out the same way as FAISS serializes it.
+     */
+    private static class IndexData {
+        final boolean isL2;
+        final float[][] vectors;
+        final float[][] centroids;
+        final int[] assignments;
+        // Vectors decoded from PQ codes, filled when building IVF-PQ.
+        float[][] reconstructed;
+
+        private IndexData(final boolean isL2, final float[][] vectors, final float[][] centroids) {
+            this.isL2 = isL2;
+            this.vectors = vectors;
+            this.centroids = centroids;
+            this.assignments = new int[vectors.length];
+            for (int i = 0; i < vectors.length; i++) {
+                assignments[i] = nearestCentroid(centroids, vectors[i]);
+            }
+        }
+
+        static IndexData random(final boolean isL2) {
+            final float[][] vectors = new float[NUM_VECTORS][];
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                vectors[i] = randomVector();
+            }
+            final float[][] centroids = new float[NUM_LISTS][];
+            for (int i = 0; i < NUM_LISTS; i++) {
+                centroids[i] = vectors[i].clone();
+            }
+            return new IndexData(isL2, vectors, centroids);
+        }
+
+        float score(final float[] query, final float[] vector) {
+            if (isL2) {
+                return 1 / (1 + VectorUtil.squareDistance(query, vector));
+            }
+            return VectorUtil.scaleMaxInnerProductScore(VectorUtil.dotProduct(query, vector));
+        }
+
+        Set<Integer> bruteForce(final float[] query, final float[][] candidates, final FixedBitSet acceptDocs) {
+            final List<Integer> docIds = new ArrayList<>();
+            for (int i = 0; i < candidates.length; i++) {
+                if (acceptDocs == null || acceptDocs.get(i * DOC_ID_STRIDE)) {
+                    docIds.add(i);
+                }
+            }
+            docIds.sort(Comparator.comparingDouble((Integer i) -> score(query, candidates[i])).reversed());
+            final Set<Integer> topK = new HashSet<>();
+            for (int i = 0; i < Math.min(K, docIds.size()); i++) {
+                topK.add(docIds.get(i) * DOC_ID_STRIDE);
+            }
+            return topK;
+        }
+
+        byte[] buildIVFFlat() {
+            final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+            writeIdMapHeader(output);
+            output.writeBytes(FaissIVFFlatIndex.IWFL.getBytes(StandardCharsets.UTF_8));
+            writeIVFHeader(output);
+            writeInvertedLists(output, Float.BYTES * DIMENSION, (vectorId, out) -> {
+                for (final float value : vectors[vectorId]) {
+                    out.writeInt(Float.floatToIntBits(value));
+                }
+            });
+            writeIdMap(output);
+            return output.toArrayCopy();
+        }
+
+        byte[] buildIVFPQ(final boolean byResidual, final int nbits) {
+            final int m = DIMENSION / 2;
+            final int subDimension = DIMENSION / m;
+            final int numCentroids = 1 << nbits;
+            final int codeSize = (m * nbits + 7) / 8;
+
+            // Sub centroids are picked from vectors, so that codes are not trivial.
+            final float[][] pqCentroids = new float[m][numCentroids * subDimension];
+            for (int sub = 0; sub < m; sub++) {
+                for (int j = 0; j < numCentroids; j++) {
+                    final float[] source = residual(j % NUM_VECTORS, byResidual);
+                    for (int k = 0; k < subDimension; k++) {
+                        pqCentroids[sub][j * subDimension + k] = source[sub * subDimension + k] + (j / NUM_VECTORS) * 0.01f;
+                    }
+                }
+            }
+
+            // Encode vectors and keep their reconstructions for validation.
+            final byte[][] codes = new byte[NUM_VECTORS][codeSize];
+            reconstructed = new float[NUM_VECTORS][DIMENSION];
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                final float[] target = residual(i, byResidual);
+                for (int sub = 0; sub < m; sub++) {
+                    final int subCode = nearest(pqCentroids[sub], target, sub * subDimension, subDimension);
+                    final int bitOffset = sub * nbits;
+                    for (int b = 0; b < nbits; b++) {
+                        if ((subCode & (1 << b)) != 0) {
+                            codes[i][(bitOffset + b) >>> 3] |= (byte) (1 << ((bitOffset + b) & 7));
+                        }
+                    }
+                    for (int k = 0; k < subDimension; k++) {
+                        final float base = byResidual ? centroids[assignments[i]][sub * subDimension + k] : 0;
+                        reconstructed[i][sub * subDimension + k] = base + pqCentroids[sub][subCode * subDimension + k];
+                    }
+                }
+            }
+
+            final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+            writeIdMapHeader(output);
+            output.writeBytes(FaissIVFPQIndex.IWPQ.getBytes(StandardCharsets.UTF_8));
+            writeIVFHeader(output);
+            output.writeByte((byte) (byResidual ? 1 : 0));
+            output.writeLong(codeSize);
+            // Product quantizer
+            output.writeLong(DIMENSION);
+            output.writeLong(m);
+            output.writeLong(nbits);
+            output.writeLong((long) DIMENSION * numCentroids);
+            for (int sub = 0; sub < m; sub++) {
+                for (final float value : pqCentroids[sub]) {
+                    output.writeInt(Float.floatToIntBits(value));
+                }
+            }
+            writeInvertedLists(output, codeSize, (vectorId, out) -> out.writeBytes(codes[vectorId]));
+            writeIdMap(output);
+            return output.toArrayCopy();
+        }
+
+        private float[] residual(final int vectorId, final boolean byResidual) {
+            if (byResidual == false) {
+                return vectors[vectorId];
+            }
+            final float[] residual = new float[DIMENSION];
+            final float[] centroid = centroids[assignments[vectorId]];
+            for (int i = 0; i < DIMENSION; i++) {
+                residual[i] = vectors[vectorId][i] - centroid[i];
+            }
+            return residual;
+        }
+
+        private void writeIdMapHeader(final ByteBuffersDataOutput output) {
+            output.writeBytes(FaissIdMapIndex.IXMP.getBytes(StandardCharsets.UTF_8));
+            output.writeBytes(FaissIndexTestUtils.makeCommonHeader(DIMENSION, NUM_VECTORS, isL2));
+        }
+
+        private void writeIdMap(final ByteBuffersDataOutput output) {
+            output.writeLong(NUM_VECTORS);
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                output.writeLong((long) i * DOC_ID_STRIDE);
+            }
+        }
+
+        private void writeIVFHeader(final ByteBuffersDataOutput output) {
+            output.writeBytes(FaissIndexTestUtils.makeCommonHeader(DIMENSION, NUM_VECTORS, isL2));
+            // nlist, nprobe
+            output.writeLong(NUM_LISTS);
+            output.writeLong(NUM_LISTS);
+
+            // Coarse quantizer
+            output.writeBytes(FaissIndexFloatFlat.IXF2.getBytes(StandardCharsets.UTF_8));
+            output.writeBytes(FaissIndexTestUtils.makeCommonHeader(DIMENSION, NUM_LISTS, isL2));
+            output.writeLong((long) NUM_LISTS * DIMENSION);
+            for (final float[] centroid : centroids) {
+                for (final float value : centroid) {
+                    output.writeInt(Float.floatToIntBits(value));
+                }
+            }
+
+            // Direct map : no map, empty array
+            output.writeByte((byte) 0);
+            output.writeLong(0);
+        }
+
+        private void writeInvertedLists(final ByteBuffersDataOutput output, final long codeSize, final CodeWriter codeWriter) {
+            output.writeBytes(FaissInvertedLists.ILAR.getBytes(StandardCharsets.UTF_8));
+            output.writeLong(NUM_LISTS);
+            output.writeLong(codeSize);
+
+            final List<List<Integer>> lists = new ArrayList<>();
+            for (int i = 0; i < NUM_LISTS; i++) {
+                lists.add(new ArrayList<>());
+            }
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                lists.get(assignments[i]).add(i);
+            }
+
+            output.writeBytes("full".getBytes(StandardCharsets.UTF_8));
+            output.writeLong(NUM_LISTS);
+            for (final List<Integer> list : lists) {
+                output.writeLong(list.size());
+            }
+            for (final List<Integer> list : lists) {
+                for (final int vectorId : list) {
+                    codeWriter.write(vectorId, output);
+                }
+                for (final int vectorId : list) {
+                    output.writeLong(vectorId);
+                }
+            }
+        }
+
+        private static int nearest(final float[] candidates, final float[] target, final int targetOffset, final int length) {
+            final float[] subTarget = Arrays.copyOfRange(target, targetOffset, targetOffset + length);
+            int best = -1;
+            float bestDistance = Float.MAX_VALUE;
+            for (int j = 0; j * length < candidates.length; j++) {
+                final float[] candidate = Arrays.copyOfRange(candidates, j * length, (j + 1) * length);
+                final float distance = VectorUtil.squareDistance(subTarget, candidate);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = j;
+                }
+            }
+            return best;
+        }
+
+        private static int nearestCentroid(final float[][] candidates, final float[] target) {
+            int best = -1;
+            float bestDistance = Float.MAX_VALUE;
+            for (int j = 0; j < candidates.length; j++) {
+                final float distance = VectorUtil.squareDistance(target, candidates[j]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = j;
+                }
+            }
+            return best;
+        }
+    }
+
+    private interface CodeWriter {
+        void write(int vectorId, ByteBuffersDataOutput output);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissScalarQuantizedVectorScorer;
+import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizedValueReconstructor;
+import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizedValueReconstructorFactory;
+import org.opensearch.knn.memoryoptsearch.faiss.reconstruct.FaissQuantizerType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FaissScalarQuantizedVectorScorerTests extends KNNTestCase {
+    private static final int NUM_VECTORS = 20;
+    // Not a multiple of 4, to cover the tail of unrolled loops.
+    private static final int DIMENSION = 37;
+
+    public void testFP16() {
+        doTestFloatScorer(FaissQuantizerType.QT_FP16, VectorSimilarityFunction.EUCLIDEAN);
+        doTestFloatScorer(FaissQuantizerType.QT_FP16, VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT);
+    }
+
+    public void testBF16() {
+        doTestFloatScorer(FaissQuantizerType.QT_BF16, VectorSimilarityFunction.EUCLIDEAN);
+        doTestFloatScorer(FaissQuantizerType.QT_BF16, VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT);
+    }
+
+    public void test8BitDirectSigned() {
+        doTestByteScorer(VectorSimilarityFunction.EUCLIDEAN);
+        doTestByteScorer(VectorSimilarityFunction.MAXIMUM_INNER_PRODUCT);
+    }
+
+    public void testUnsupported() {
+        final FloatVectorValues values = FloatVectorValues.fromFloats(List.of(new float[DIMENSION]), DIMENSION);
+        final RandomAccessInput codes = toCodes(new byte[Short.BYTES * DIMENSION]);
+        assertNull(
+            FaissScalarQuantizedVectorScorer.create(
+                FaissQuantizerType.QT_FP16,
+                codes,
+                values,
+                VectorSimilarityFunction.COSINE,
+                new float[DIMENSION]
+            )
+        );
+        assertNull(
+            FaissScalarQuantizedVectorScorer.create(
+                FaissQuantizerType.QT_8BIT,
+                codes,
+                values,
+                VectorSimilarityFunction.EUCLIDEAN,
+                new float[DIMENSION]
+            )
+        );
+        assertNull(
+            FaissScalarQuantizedVectorScorer.create(
+                FaissQuantizerType.QT_FP16,
+                codes,
+                values,
+                VectorSimilarityFunction.EUCLIDEAN,
+                new byte[DIMENSION]
+            )
+        );
+    }
+
+    @SneakyThrows
+    private void doTestFloatScorer(final FaissQuantizerType quantizerType, final VectorSimilarityFunction similarityFunction) {
+        // Encode random vectors
+        final ByteBuffer buffer = ByteBuffer.allocate(NUM_VECTORS * DIMENSION * Short.BYTES).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < NUM_VECTORS * DIMENSION; i++) {
+            final float value = random().nextFloat() * 2 - 1;
+            if (quantizerType == FaissQuantizerType.QT_FP16) {
+                buffer.putShort(Float.floatToFloat16(value));
+            } else {
+                buffer.putShort((short) (Float.floatToIntBits(value) >>> 16));
+            }
+        }
+        final byte[] codes = buffer.array();
+
+        // Reconstruct them as expected vectors
+        final FaissQuantizedValueReconstructor reconstructor = FaissQuantizedValueReconstructorFactory.create(
+            quantizerType,
+            DIMENSION,
+            Short.SIZE
+        );
+        final List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            final byte[] code = new byte[DIMENSION * Short.BYTES];
+            System.arraycopy(codes, i * code.length, code, 0, code.length);
+            final float[] vector = new float[DIMENSION];
+            reconstructor.reconstruct(code, vector);
+            vectors.add(vector);
+        }
+
+        final float[] query = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            query[i] = random().nextFloat() * 2 - 1;
+        }
+
+        final RandomVectorScorer scorer = FaissScalarQuantizedVectorScorer.create(
+            quantizerType,
+            toCodes(codes),
+            FloatVectorValues.fromFloats(vectors, DIMENSION),
+            similarityFunction,
+            query
+        );
+        assertNotNull(scorer);
+        assertEquals(NUM_VECTORS, scorer.maxOrd());
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            assertEquals(similarityFunction.compare(query, vectors.get(i)), scorer.score(i), 1e-5);
+        }
+    }
+
+    @SneakyThrows
+    private void doTestByteScorer(final VectorSimilarityFunction similarityFunction) {
+        final byte[] codes = new byte[NUM_VECTORS * DIMENSION];
+        random().nextBytes(codes);
+
+        final FaissQuantizedValueReconstructor reconstructor = FaissQuantizedValueReconstructorFactory.create(
+            FaissQuantizerType.QT_8BIT_DIRECT_SIGNED,
+            DIMENSION,
+            Byte.SIZE
+        );
+        final List<byte[]> vectors = new ArrayList<>();
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            final byte[] vector = new byte[DIMENSION];
+            System.arraycopy(codes, i * DIMENSION, vector, 0, DIMENSION);
+            reconstructor.reconstruct(vector, vector);
+            vectors.add(vector);
+        }
+
+        final byte[] query = new byte[DIMENSION];
+        random().nextBytes(query);
+
+        final RandomVectorScorer scorer = FaissScalarQuantizedVectorScorer.create(
+            FaissQuantizerType.QT_8BIT_DIRECT_SIGNED,
+            toCodes(codes),
+            ByteVectorValues.fromBytes(vectors, DIMENSION),
+            similarityFunction,
+            query
+        );
+        assertNotNull(scorer);
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            assertEquals(similarityFunction.compare(query, vectors.get(i)), scorer.score(i), 1e-6);
+        }
+    }
+
+    @SneakyThrows
+    private static RandomAccessInput toCodes(final byte[] codes) {
+        return new ByteArrayIndexInput("FaissScalarQuantizedVectorScorerTests", codes).randomAccessSlice(0, codes.length);
+    }
+}
@@ -10,12 +10,18 @@ import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.IndexTypeToFaissIndexMapping;
 import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFFlatIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFPQIndex;
 
 public class IndexTypeToFaissIndexMappingTests extends KNNTestCase {
     public void testSupportedIndexMapping() {
         // Try to get a supported index.
         final FaissIndex faissIndex = IndexTypeToFaissIndexMapping.getFaissIndex(FaissIdMapIndex.IXMP);
         assertNotNull(faissIndex);
+
+        // IVF indices
+        assertTrue(IndexTypeToFaissIndexMapping.getFaissIndex(FaissIVFFlatIndex.IWFL) instanceof FaissIVFFlatIndex);
+        assertTrue(IndexTypeToFaissIndexMapping.getFaissIndex(FaissIVFPQIndex.IWPQ) instanceof FaissIVFPQIndex);
     }
 
     public void testUnsupportedIndexMapping() {
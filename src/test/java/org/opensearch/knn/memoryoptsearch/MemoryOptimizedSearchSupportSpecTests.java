@@ -19,6 +19,7 @@ import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.KNNMappingConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.Collections;
@@ -31,9 +32,11 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_BINARY;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_PQ;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_SQ;
 import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
 
 public class MemoryOptimizedSearchSupportSpecTests extends KNNTestCase {
     private static final Optional<String> NO_MODEL_ID = Optional.empty();
@@ -250,6 +253,64 @@ public class MemoryOptimizedSearchSupportSpecTests extends KNNTestCase {
         );
     }
 
+    public void testIsSupportedModel() {
+        // IVF without encoder, with Flat and PQ encoder
+        assertTrue(MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.FLOAT, METHOD_IVF, null)));
+        assertTrue(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.FLOAT, METHOD_IVF, ENCODER_FLAT))
+        );
+        assertTrue(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.FLOAT, METHOD_IVF, ENCODER_PQ))
+        );
+
+        // Unsupported encoder, method, data type and engine
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.FLOAT, METHOD_IVF, ENCODER_SQ))
+        );
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.FLOAT, METHOD_HNSW, ENCODER_PQ))
+        );
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, VectorDataType.BINARY, METHOD_IVF, null))
+        );
+        assertFalse(MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.LUCENE, VectorDataType.FLOAT, METHOD_IVF, null)));
+        assertFalse(MemoryOptimizedSearchSupportSpec.isSupportedModel(null));
+    }
+
+    public void testModelFieldTypeDuringSearch() {
+        for (final boolean memoryOptSrchEnabled : new boolean[] { true, false }) {
+            try (MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class)) {
+                knnSettingsMockedStatic.when(() -> KNNSettings.isMemoryOptimizedKnnSearchModeEnabled(any()))
+                    .thenReturn(memoryOptSrchEnabled);
+
+                final KNNVectorFieldType fieldType = mock(KNNVectorFieldType.class);
+                when(fieldType.isMemoryOptimizedSearchAvailable()).thenReturn(false);
+                when(fieldType.isModelMemoryOptimizedSearchSupported()).thenReturn(true);
+                final KNNMappingConfig mappingConfig = mock(KNNMappingConfig.class);
+                when(mappingConfig.getModelId()).thenReturn(Optional.of("model_id"));
+                when(fieldType.getKnnMappingConfig()).thenReturn(mappingConfig);
+
+                assertEquals(memoryOptSrchEnabled, MemoryOptimizedSearchSupportSpec.isSupportedFieldType(fieldType, "IndexName"));
+            }
+        }
+    }
+
+    private static ModelMetadata mockModel(
+        final KNNEngine knnEngine,
+        final VectorDataType vectorDataType,
+        final String methodName,
+        final String encoderName
+    ) {
+        final ModelMetadata modelMetadata = mock(ModelMetadata.class);
+        when(modelMetadata.getKnnEngine()).thenReturn(knnEngine);
+        when(modelMetadata.getVectorDataType()).thenReturn(vectorDataType);
+        final Map<String, Object> parameters = encoderName == null
+            ? Collections.emptyMap()
+            : Map.of(METHOD_ENCODER_PARAMETER, new MethodComponentContext(encoderName, Collections.emptyMap()));
+        when(modelMetadata.getMethodComponentContext()).thenReturn(new MethodComponentContext(methodName, parameters));
+        return modelMetadata;
+    }
+
     public void testIsSupportedFieldTypeDuringSearch() {
         // |----------------------|-------------|---------------||-----------|
         // | field type supported | mem_opt_src | on_disk && 1x || supported |
@@ -376,7 +376,7 @@ public class KNNScoringUtilTests extends KNNTestCase {
         List<Number> queryVector = Arrays.asList(f1[0], f1[1], f1[2]);
         KNNVectorScriptDocValues<?> docValues = mock(KNNVectorScriptDocValues.class);
         when(docValues.getVectorDataType()).thenReturn(VectorDataType.BINARY);
-        when(docValues.getValue()).thenReturn(b2);
+        when(docValues.getScoringValue()).thenReturn(b2);
         assertEquals(KNNScoringUtil.calculateHammingBit(b1, b2), KNNScoringUtil.hamming(queryVector, docValues), 0.01f);
     }
 
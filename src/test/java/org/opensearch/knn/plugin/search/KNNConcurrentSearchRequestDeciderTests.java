@@ -5,15 +5,25 @@
 
 package org.opensearch.knn.plugin.search;
 
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.Index;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.query.KNNQueryBuilder;
+import org.opensearch.knn.plugin.search.KNNSegmentProfiler.SegmentProfile;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 import org.opensearch.search.deciders.ConcurrentSearchDecision;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
 
 public class KNNConcurrentSearchRequestDeciderTests extends KNNTestCase {
 
@@ -49,6 +59,90 @@ public class KNNConcurrentSearchRequestDeciderTests extends KNNTestCase {
         assertDecision(noop, decider.getConcurrentSearchDecision());
     }
 
+    public void testDecider_whenSegmentsProfiled_thenDecideOnCost() {
+        final KNNSegmentProfiler segmentProfiler = mock(KNNSegmentProfiler.class);
+        final IndexSettings indexSettingsMock = mock(IndexSettings.class);
+        when(indexSettingsMock.getValue(KNNSettings.IS_KNN_INDEX_SETTING)).thenReturn(Boolean.TRUE);
+        when(indexSettingsMock.getIndex()).thenReturn(new Index("decider-index", "uuid"));
+        when(indexSettingsMock.getValue(KNNSettings.INDEX_KNN_ALGO_PARAM_EF_SEARCH_SETTING)).thenReturn(100);
+        clusterService.getClusterSettings()
+            .applySettings(Settings.builder().put(KNNSettings.KNN_CONCURRENT_SEARCH_MIN_SLICE_COST, 50_000L).build());
+        final KNNConcurrentSearchRequestDecider decider = new KNNConcurrentSearchRequestDecider(segmentProfiler);
+        final KNNQueryBuilder.Builder queryBuilder = KNNQueryBuilder.builder().vector(new float[] { 1f, 2f }).fieldName("decider").k(10);
+
+        // Small shard with cached graphs
+        when(segmentProfiler.profile("decider-index", "decider")).thenReturn(
+            List.of(List.of(new SegmentProfile(100_000, 16, true), new SegmentProfile(100_000, 16, true)))
+        );
+        final long noDecisions = KNNCounter.CONCURRENT_SEARCH_NO_DECISIONS.getCount();
+        decider.evaluateForQuery(queryBuilder.build(), indexSettingsMock);
+        assertEquals(ConcurrentSearchDecision.DecisionStatus.NO, decider.getConcurrentSearchDecision().getDecisionStatus());
+        assertEquals(noDecisions + 1, (long) KNNCounter.CONCURRENT_SEARCH_NO_DECISIONS.getCount());
+
+        // The same shard searched exactly because of the filter
+        final long yesDecisions = KNNCounter.CONCURRENT_SEARCH_YES_DECISIONS.getCount();
+        final long recommendedSlices = KNNCounter.CONCURRENT_SEARCH_RECOMMENDED_SLICES.getCount();
+        decider.evaluateForQuery(queryBuilder.filter(new TermQueryBuilder("color", "red")).build(), indexSettingsMock);
+        assertEquals(ConcurrentSearchDecision.DecisionStatus.YES, decider.getConcurrentSearchDecision().getDecisionStatus());
+        assertEquals(yesDecisions + 1, (long) KNNCounter.CONCURRENT_SEARCH_YES_DECISIONS.getCount());
+        assertEquals(recommendedSlices + 2, (long) KNNCounter.CONCURRENT_SEARCH_RECOMMENDED_SLICES.getCount());
+
+        // A larger ef_search visits more candidates of the cached graphs
+        decider.evaluateForQuery(
+            queryBuilder.filter(null).methodParameters(Map.of(METHOD_PARAMETER_EF_SEARCH, 1_000)).build(),
+            indexSettingsMock
+        );
+        assertEquals(ConcurrentSearchDecision.DecisionStatus.YES, decider.getConcurrentSearchDecision().getDecisionStatus());
+
+        // No local shard to profile
+        when(segmentProfiler.profile("decider-index", "decider")).thenReturn(List.of());
+        decider.evaluateForQuery(queryBuilder.build(), indexSettingsMock);
+        assertEquals(ConcurrentSearchDecision.DecisionStatus.YES, decider.getConcurrentSearchDecision().getDecisionStatus());
+    }
+
+    public void testDecide_thenRecommendSlices() {
+        // Single segment
+        assertEquals(1, KNNConcurrentSearchRequestDecider.decide(List.of(new SegmentProfile(1_000_000, 16, false)), false, 100, 50_000));
+        // Uncached graphs are loaded, so their cost is their number of vectors
+        final List<SegmentProfile> uncached = List.of(
+            new SegmentProfile(400_000, 16, false),
+            new SegmentProfile(400_000, 16, false),
+            new SegmentProfile(400_000, 16, false)
+        );
+        assertEquals(3, KNNConcurrentSearchRequestDecider.decide(uncached, false, 100, 50_000));
+        // Every slice must visit at least the min slice cost
+        assertEquals(2, KNNConcurrentSearchRequestDecider.decide(uncached, false, 100, 500_000));
+        // One large segment dominates the cost
+        final List<SegmentProfile> skewed = List.of(
+            new SegmentProfile(1_000_000, 16, false),
+            new SegmentProfile(10_000, 16, false),
+            new SegmentProfile(10_000, 16, false)
+        );
+        assertEquals(2, KNNConcurrentSearchRequestDecider.decide(skewed, false, 100, 1_000));
+        // Searches of cached graphs only visit a few candidates per level
+        final List<SegmentProfile> cached = List.of(new SegmentProfile(400_000, 16, true), new SegmentProfile(400_000, 16, true));
+        assertEquals(0, KNNConcurrentSearchRequestDecider.decide(cached, false, 100, 50_000));
+        assertEquals(2, KNNConcurrentSearchRequestDecider.decide(cached, true, 100, 50_000));
+        assertEquals(0, KNNConcurrentSearchRequestDecider.decide(List.of(), false, 100, 50_000));
+    }
+
+    public void testProfile_thenLookUpGraphResidency() {
+        final NativeMemoryCacheManager cacheManager = mock(NativeMemoryCacheManager.class);
+        when(cacheManager.isCached("cached-graph")).thenReturn(true);
+        final List<SegmentProfile> profiles = KNNSegmentProfiler.profile(
+            List.of(
+                new KNNSegmentProfiler.Segment(10, 16, "cached-graph"),
+                new KNNSegmentProfiler.Segment(20, 16, "evicted-graph"),
+                new KNNSegmentProfiler.Segment(30, 16, null)
+            ),
+            cacheManager
+        );
+        assertEquals(
+            List.of(new SegmentProfile(10, 16, true), new SegmentProfile(20, 16, false), new SegmentProfile(30, 16, false)),
+            profiles
+        );
+    }
+
     public void testDeciderFactory_thenSucceed() {
         KNNConcurrentSearchRequestDecider.Factory factory = new KNNConcurrentSearchRequestDecider.Factory();
         IndexSettings indexSettingsMock = mock(IndexSettings.class);
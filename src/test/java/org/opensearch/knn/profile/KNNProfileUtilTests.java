@@ -10,6 +10,8 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.IOSupplier;
 import org.mockito.Mock;
+import org.opensearch.knn.index.query.ExactSearchReason;
+import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 import org.opensearch.search.profile.Timer;
@@ -105,4 +107,18 @@ public class KNNProfileUtilTests extends OpenSearchTestCase {
         verify(mockAction).get();
         assertEquals("test result", result);
     }
+
+    public void testProfileExactSearchReason() {
+        ContextualProfileBreakdown mockProfile = mock(ContextualProfileBreakdown.class);
+        LongMetric metric = new LongMetric(KNNMetrics.EXACT_SEARCH_REASON);
+        when(mockProfile.context(mockLeafContext)).thenReturn(mockProfile);
+        when(mockProfile.getMetric(KNNMetrics.EXACT_SEARCH_REASON)).thenReturn(metric);
+
+        KNNProfileUtil.profileExactSearchReason(mockProfile, mockLeafContext, ExactSearchReason.ANN_RESULTS_BELOW_K);
+        assertEquals(Long.valueOf(ExactSearchReason.ANN_RESULTS_BELOW_K.getCode()), metric.getValue());
+
+        // No-op when profiling is disabled
+        KNNProfileUtil.profileExactSearchReason(null, mockLeafContext, ExactSearchReason.COST_MODEL);
+        assertEquals(Long.valueOf(ExactSearchReason.ANN_RESULTS_BELOW_K.getCode()), metric.getValue());
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.quantizer;
+
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
+import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
+import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+
+import java.util.List;
+
+public class QuantizationStateMergerTests extends KNNTestCase {
+    private static final ScalarQuantizationParams ONE_BIT = ScalarQuantizationParams.builder()
+        .sqType(ScalarQuantizationType.ONE_BIT)
+        .build();
+    private static final ScalarQuantizationParams TWO_BIT = ScalarQuantizationParams.builder()
+        .sqType(ScalarQuantizationType.TWO_BIT)
+        .build();
+
+    public void testMerge_whenMultiBit_thenPoolMeansAndStdDevs() {
+        final MultiBitScalarQuantizationState merged = (MultiBitScalarQuantizationState) QuantizationStateMerger.merge(
+            TWO_BIT,
+            List.of(
+                multiBitState(new float[] { 1.0f, 2.0f }, new float[] { 1.0f, 2.0f }),
+                multiBitState(new float[] { 1.1f, 2.0f }, new float[] { 1.0f, 2.0f })
+            ),
+            new long[] { 100, 100 },
+            0.1
+        );
+
+        // Pooled variance is the mean of the variances plus the variance of the means
+        final float[][] expected = QuantizerHelper.calculateThresholds(
+            new float[] { 1.05f, 2.0f },
+            new float[] { (float) Math.sqrt(1.0025), 2.0f },
+            2
+        );
+        assertEquals(2, merged.getThresholds().length);
+        for (int b = 0; b < expected.length; b++) {
+            assertArrayEquals(expected[b], merged.getThresholds()[b], 1e-5f);
+        }
+    }
+
+    public void testMerge_whenMeansDriftApart_thenTrain() {
+        assertNull(
+            QuantizationStateMerger.merge(
+                TWO_BIT,
+                List.of(
+                    multiBitState(new float[] { 1.0f }, new float[] { 1.0f }),
+                    multiBitState(new float[] { 5.0f }, new float[] { 1.0f })
+                ),
+                new long[] { 100, 100 },
+                0.1
+            )
+        );
+    }
+
+    public void testMerge_whenOneBit_thenWeightByLiveVectors() {
+        final OneBitScalarQuantizationState merged = (OneBitScalarQuantizationState) QuantizationStateMerger.merge(
+            ONE_BIT,
+            List.of(oneBitState(0.0f, -1.0f, 1.0f), oneBitState(0.1f, -0.9f, 1.1f)),
+            new long[] { 300, 100 },
+            0.1
+        );
+
+        assertArrayEquals(new float[] { 0.025f }, merged.getMeanThresholds(), 1e-6f);
+        assertArrayEquals(new float[] { -0.975f }, merged.getBelowThresholdMeans(), 1e-6f);
+        assertArrayEquals(new float[] { 1.025f }, merged.getAboveThresholdMeans(), 1e-6f);
+    }
+
+    public void testMerge_whenStatesDiffer_thenTrain() {
+        // Other quantization type
+        assertNull(
+            QuantizationStateMerger.merge(
+                ONE_BIT,
+                List.of(oneBitState(0.0f, -1.0f, 1.0f), multiBitState(new float[] { 0.0f }, new float[] { 1.0f })),
+                new long[] { 100, 100 },
+                0.1
+            )
+        );
+        // No below and above threshold means
+        assertNull(
+            QuantizationStateMerger.merge(
+                ONE_BIT,
+                List.of(oneBitState(0.0f, -1.0f, 1.0f), new OneBitScalarQuantizationState(ONE_BIT, new float[] { 0.0f })),
+                new long[] { 100, 100 },
+                0.1
+            )
+        );
+        // Other rotation
+        final OneBitScalarQuantizationState rotated = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ONE_BIT)
+            .meanThresholds(new float[] { 0.0f })
+            .belowThresholdMeans(new float[] { -1.0f })
+            .aboveThresholdMeans(new float[] { 1.0f })
+            .rotationMatrix(new float[][] { { -1.0f } })
+            .build();
+        assertNull(QuantizationStateMerger.merge(ONE_BIT, List.of(oneBitState(0.0f, -1.0f, 1.0f), rotated), new long[] { 100, 100 }, 0.1));
+    }
+
+    private static MultiBitScalarQuantizationState multiBitState(final float[] mean, final float[] stdDev) {
+        return MultiBitScalarQuantizationState.builder()
+            .quantizationParams(TWO_BIT)
+            .thresholds(QuantizerHelper.calculateThresholds(mean, stdDev, 2))
+            .build();
+    }
+
+    private static OneBitScalarQuantizationState oneBitState(final float mean, final float below, final float above) {
+        return OneBitScalarQuantizationState.builder()
+            .quantizationParams(ONE_BIT)
+            .meanThresholds(new float[] { mean })
+            .belowThresholdMeans(new float[] { below })
+            .aboveThresholdMeans(new float[] { above })
+            .build();
+    }
+}